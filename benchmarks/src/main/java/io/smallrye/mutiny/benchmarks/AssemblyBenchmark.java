@@ -0,0 +1,67 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Assembly and subscription cost of common pipelines.
+ * <p>
+ * The {@code assemble*} benchmarks only build the pipelines, while the {@code assembleAndSubscribe*} benchmarks
+ * also subscribe to them with a single item, so the difference between both gives the cost of the subscription.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class AssemblyBenchmark {
+
+    @Benchmark
+    public Object assembleMulti() {
+        return multi();
+    }
+
+    @Benchmark
+    public void assembleAndSubscribeMulti(Blackhole blackhole) {
+        multi().subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public Object assembleUni() {
+        return uni();
+    }
+
+    @Benchmark
+    public void assembleAndSubscribeUni(Blackhole blackhole) {
+        uni().subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    private static Multi<Integer> multi() {
+        return Multi.createFrom().item(1)
+                .onItem().transform(i -> i + 1)
+                .select().where(i -> i > 0)
+                .onItem().transformToUniAndConcatenate(i -> Uni.createFrom().item(i))
+                .onFailure().recoverWithItem(0);
+    }
+
+    private static Uni<Integer> uni() {
+        return Uni.createFrom().item(1)
+                .onItem().transform(i -> i + 1)
+                .chain(i -> Uni.createFrom().item(i * 2))
+                .onFailure().recoverWithItem(0);
+    }
+}
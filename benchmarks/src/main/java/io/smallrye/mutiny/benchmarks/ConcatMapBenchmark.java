@@ -0,0 +1,62 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Per-item cost of {@code transformToMulti(...).concatenate()} with synchronous inner streams.
+ * <p>
+ * Each operation concatenates {@value #ITEMS} items, split into inner streams of {@code itemsPerInner} items. Small
+ * inners measure the cost of switching from one inner to the next, large inners the cost of the emission path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class ConcatMapBenchmark {
+
+    private static final int ITEMS = 100_000;
+
+    @Param({ "1", "10", "1000" })
+    public int itemsPerInner;
+
+    @Param({ "false", "true" })
+    public boolean collectFailures;
+
+    private Multi<Integer> concatenate;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Multi<Integer> inner = Multi.createFrom().range(0, itemsPerInner);
+        Multi<Integer> upstream = Multi.createFrom().range(0, ITEMS / itemsPerInner);
+        concatenate = collectFailures
+                ? upstream.onItem().transformToMulti(i -> inner).collectFailures().concatenate()
+                : upstream.onItem().transformToMulti(i -> inner).concatenate();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void concatenate(Blackhole blackhole) {
+        PerfSubscriber<Integer> subscriber = new PerfSubscriber<>(blackhole);
+        concatenate.subscribe().withSubscriber(subscriber);
+        subscriber.await();
+    }
+}
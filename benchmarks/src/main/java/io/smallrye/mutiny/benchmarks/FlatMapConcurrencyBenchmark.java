@@ -0,0 +1,75 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Scaling of {@code transformToMulti(...).merge(concurrency)} when the inner streams emit from several threads.
+ * <p>
+ * Each operation merges {@code inners} inner streams of {@code itemsPerInner} items, each inner being subscribed on
+ * a pool of {@code threads} threads. Varying {@code concurrency} and {@code threads} shows how the operator behaves
+ * when many inners are added, drained and removed concurrently.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class FlatMapConcurrencyBenchmark {
+
+    @Param({ "1", "4", "16", "64", "256" })
+    public int concurrency;
+
+    @Param({ "1", "2", "4", "8" })
+    public int threads;
+
+    @Param({ "256" })
+    public int inners;
+
+    @Param({ "100" })
+    public int itemsPerInner;
+
+    private ExecutorService executor;
+
+    private Multi<Integer> merge;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executor = Executors.newFixedThreadPool(threads);
+        Multi<Integer> inner = Multi.createFrom().range(0, itemsPerInner);
+        merge = Multi.createFrom().range(0, inners)
+                .onItem().transformToMulti(i -> inner.runSubscriptionOn(executor))
+                .merge(concurrency);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void merge(Blackhole blackhole) {
+        PerfSubscriber<Integer> subscriber = new PerfSubscriber<>(blackhole);
+        merge.subscribe().withSubscriber(subscriber);
+        subscriber.await();
+    }
+}
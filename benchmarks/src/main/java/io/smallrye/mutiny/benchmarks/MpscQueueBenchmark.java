@@ -0,0 +1,105 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.mutiny.helpers.queues.Queues;
+
+/**
+ * Throughput of the multi-producer single-consumer queues, with 3 producers and 1 consumer.
+ * <p>
+ * To keep the unbounded queues from growing without limit, each producer stops offering when it is more than
+ * {@code BACKLOG} items ahead of its share of the polled items.
+ * <p>
+ * Run with {@code -prof gc} to compare the allocation rate of the linked queue (one node per item) with the
+ * array-backed queues.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Group)
+public class MpscQueueBenchmark {
+
+    private static final Integer ITEM = 1;
+    private static final int PRODUCERS = 3;
+    private static final long BACKLOG = 1024;
+
+    @Param({ "linked", "linkedArray", "array" })
+    public String type;
+
+    private Queue<Integer> queue;
+
+    // Only written by the consumer
+    private final AtomicLong polled = new AtomicLong();
+
+    @State(Scope.Thread)
+    public static class ProducerState {
+        long offered;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            offered = 0L;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        polled.set(0L);
+        switch (type) {
+            case "linked":
+                queue = Queues.createMpscLinkedQueue();
+                break;
+            case "linkedArray":
+                queue = Queues.createMpscLinkedArrayQueue(Queues.BUFFER_XS);
+                break;
+            case "array":
+                queue = Queues.createMpscArrayQueue(1024);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown queue type: " + type);
+        }
+    }
+
+    @Benchmark
+    @Group("mpsc")
+    @GroupThreads(3)
+    public boolean offer(ProducerState producer) {
+        if (producer.offered - polled.get() / PRODUCERS >= BACKLOG) {
+            return false;
+        }
+        if (queue.offer(ITEM)) {
+            producer.offered++;
+            return true;
+        }
+        return false;
+    }
+
+    @Benchmark
+    @Group("mpsc")
+    @GroupThreads(1)
+    public Integer poll() {
+        Integer item = queue.poll();
+        if (item != null) {
+            polled.lazySet(polled.get() + 1);
+        }
+        return item;
+    }
+}
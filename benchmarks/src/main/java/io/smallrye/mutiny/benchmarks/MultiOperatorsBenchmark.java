@@ -0,0 +1,165 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Item throughput of the most common {@link Multi} operators.
+ * <p>
+ * Each benchmark pushes {@code count} items through a pre-assembled pipeline, so the score measures the per-item
+ * cost of the operators (plus one subscription). Run with {@code -prof gc} to get the per-item allocation rate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class MultiOperatorsBenchmark {
+
+    private static final int EMITTER_BATCH_SIZE = 500;
+
+    @Param({ "1", "1000", "1000000" })
+    public int count;
+
+    private ExecutorService executor;
+
+    private Multi<Integer> range;
+    private Multi<Integer> map;
+    private Multi<Integer> mapFilterMap;
+    private Multi<Integer> flatMapMerge;
+    private Multi<Integer> flatMapConcatenate;
+    private Multi<Integer> uniMerge;
+    private Multi<Integer> uniConcatenate;
+    private Multi<Integer> emitOn;
+    private Multi<Integer> emitter;
+    private Multi<Integer> emitterBatch;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executor = Executors.newSingleThreadExecutor();
+
+        range = Multi.createFrom().range(0, count);
+        map = range.onItem().transform(i -> i + 1);
+        mapFilterMap = range
+                .onItem().transform(i -> i + 1)
+                .select().where(i -> (i & 1) == 0)
+                .onItem().transform(i -> i - 1);
+        flatMapMerge = range.onItem().transformToMultiAndMerge(i -> Multi.createFrom().item(i));
+        flatMapConcatenate = range.onItem().transformToMultiAndConcatenate(i -> Multi.createFrom().item(i));
+        uniMerge = range.onItem().transformToUniAndMerge(i -> Uni.createFrom().item(i));
+        uniConcatenate = range.onItem().transformToUniAndConcatenate(i -> Uni.createFrom().item(i));
+        emitOn = range.emitOn(executor);
+
+        Integer[] items = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            items[i] = i;
+        }
+        emitter = Multi.createFrom().emitter(e -> {
+            for (Integer item : items) {
+                e.emit(item);
+            }
+            e.complete();
+        });
+        emitterBatch = Multi.createFrom().emitter(e -> {
+            // Hand the items over in batches, like a poll loop
+            for (int i = 0; i < count; i += EMITTER_BATCH_SIZE) {
+                e.emit(items, i, Math.min(EMITTER_BATCH_SIZE, count - i));
+            }
+            e.complete();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void range(Blackhole blackhole) {
+        range.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void map(Blackhole blackhole) {
+        map.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void mapFilterMap(Blackhole blackhole) {
+        mapFilterMap.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void flatMapMerge(Blackhole blackhole) {
+        flatMapMerge.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void flatMapConcatenate(Blackhole blackhole) {
+        flatMapConcatenate.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void uniMerge(Blackhole blackhole) {
+        uniMerge.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void uniConcatenate(Blackhole blackhole) {
+        uniConcatenate.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void emitOn(Blackhole blackhole) {
+        PerfSubscriber<Integer> subscriber = new PerfSubscriber<>(blackhole);
+        emitOn.subscribe().withSubscriber(subscriber);
+        subscriber.await();
+    }
+
+    @Benchmark
+    public void emitter(Blackhole blackhole) {
+        emitter.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void emitterBatch(Blackhole blackhole) {
+        emitterBatch.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void replay(Blackhole blackhole) {
+        // The replay is recorded by the first subscriber, and replayed to the second one
+        Multi<Integer> replay = Multi.createBy().replaying().ofMulti(range);
+        replay.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+        replay.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void cache(Blackhole blackhole) {
+        // The cache is filled by the first subscriber, and replayed to the second one, the score shall scale
+        // linearly with the number of items
+        Multi<Integer> cache = range.cache();
+        cache.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+        cache.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+}
@@ -0,0 +1,70 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscription;
+
+/**
+ * A subscriber sinking every signal into a JMH {@link Blackhole}.
+ * <p>
+ * The subscriber requests an unbounded number of items on subscription, and offers {@link #await()} for the
+ * benchmarks involving asynchronous boundaries.
+ *
+ * @param <T> the type of item
+ */
+public final class PerfSubscriber<T> implements MultiSubscriber<T>, UniSubscriber<T> {
+
+    private final Blackhole blackhole;
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    public PerfSubscriber(Blackhole blackhole) {
+        this.blackhole = blackhole;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onSubscribe(UniSubscription subscription) {
+        // Nothing to request, the item is delivered as soon as it is available.
+    }
+
+    @Override
+    public void onItem(T item) {
+        blackhole.consume(item);
+    }
+
+    @Override
+    public void onFailure(Throwable failure) {
+        blackhole.consume(failure);
+        latch.countDown();
+    }
+
+    @Override
+    public void onCompletion() {
+        latch.countDown();
+    }
+
+    /**
+     * Waits until the stream terminates. Only relevant for {@link io.smallrye.mutiny.Multi} pipelines, or for
+     * {@link io.smallrye.mutiny.Uni} pipelines that signal a failure.
+     */
+    public void await() {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("The stream did not terminate in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
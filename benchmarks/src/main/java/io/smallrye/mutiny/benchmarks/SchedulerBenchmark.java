@@ -0,0 +1,100 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.mutiny.infrastructure.HashedWheelScheduler;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * Cost of scheduling and cancelling a delayed task, as done by timeouts: most of them are cancelled before they
+ * expire.
+ * <p>
+ * Each thread keeps {@code inFlight} tasks scheduled, and cancels the oldest one when scheduling a new one, so the
+ * schedulers hold {@code threads * inFlight} pending tasks.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class SchedulerBenchmark {
+
+    private static final Runnable NOOP = () -> {
+    };
+
+    @Param({ "mutiny", "wheel" })
+    public String scheduler;
+
+    @Param({ "10000" })
+    public int inFlight;
+
+    private ExecutorService executor;
+    private ScheduledExecutorService pool;
+
+    @State(Scope.Thread)
+    public static class Pending {
+        ScheduledFuture<?>[] futures;
+        int index;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executor = Executors.newFixedThreadPool(2);
+        switch (scheduler) {
+            case "mutiny":
+                Infrastructure.setDefaultExecutor(executor);
+                pool = Infrastructure.getDefaultWorkerPool();
+                break;
+            case "wheel":
+                pool = new HashedWheelScheduler(executor);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown scheduler: " + scheduler);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public boolean scheduleAndCancel(Pending pending) {
+        if (pending.futures == null) {
+            pending.futures = new ScheduledFuture<?>[inFlight];
+        }
+        int index = pending.index;
+        ScheduledFuture<?> previous = pending.futures[index];
+        pending.futures[index] = pool.schedule(NOOP, 30, TimeUnit.SECONDS);
+        pending.index = index + 1 == inFlight ? 0 : index + 1;
+        return previous != null && previous.cancel(false);
+    }
+
+    @Benchmark
+    public ScheduledFuture<?> schedule() {
+        // Short delays, so the tasks expire and the number of pending tasks stays bounded
+        return pool.schedule(NOOP, 1, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,88 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Subscription throughput of the most common {@link Uni} operators, using pre-assembled pipelines.
+ * <p>
+ * Run with {@code -prof gc} to get the allocation cost of a subscription.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class UniOperatorsBenchmark {
+
+    private Uni<Integer> item;
+    private Uni<Integer> transform;
+    private Uni<Integer> transformChain;
+    private Uni<Integer> chain;
+    private Uni<Integer> failure;
+    private Uni<Integer> withContext;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        item = Uni.createFrom().item(42);
+        transform = item.onItem().transform(i -> i + 1);
+        transformChain = item
+                .onItem().transform(i -> i + 1)
+                .onItem().transform(i -> i * 2)
+                .onItem().transform(i -> i - 1)
+                .onItem().transform(i -> i / 2);
+        chain = item.chain(i -> Uni.createFrom().item(i + 1));
+        failure = Uni.createFrom().<Integer> failure(new IllegalStateException("boom"))
+                .onFailure().recoverWithItem(0);
+        withContext = item
+                .withContext((uni, ctx) -> uni.onItem().invoke(i -> ctx.put("item", i)))
+                .withContext((uni, ctx) -> uni.onItem().transform(i -> i + ctx.<Integer> get("tenant")))
+                .withContext((uni, ctx) -> uni.onItem().transform(i -> i + ctx.getOrElse("missing", () -> 0)));
+    }
+
+    @Benchmark
+    public void item(Blackhole blackhole) {
+        item.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void transform(Blackhole blackhole) {
+        transform.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void transformChain(Blackhole blackhole) {
+        transformChain.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void chain(Blackhole blackhole) {
+        chain.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void recoverFromFailure(Blackhole blackhole) {
+        failure.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void withContext(Blackhole blackhole) {
+        withContext.subscribe().with(Context.of("tenant", 1, "request", "abc"), blackhole::consume);
+    }
+}
@@ -27,8 +27,16 @@ public class FilterTest {
                 .await().indefinitely();
         // </test>
 
+        // <test-concurrently>
+        List<Integer> list3 = multi
+                .select().when(i -> Uni.createFrom().item(i > 6), 4)
+                .collect().asList()
+                .await().indefinitely();
+        // </test-concurrently>
+
         assertThat(list).containsExactly(7, 8, 9, 10);
         assertThat(list2).containsExactly(7, 8, 9, 10);
+        assertThat(list3).containsExactly(7, 8, 9, 10);
     }
 
     @Test
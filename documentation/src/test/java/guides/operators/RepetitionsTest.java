@@ -3,6 +3,7 @@ package guides.operators;
 import io.smallrye.mutiny.Multi;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,4 +29,26 @@ public class RepetitionsTest {
         assertThat(list).containsExactly(1, 2, 3, 4, 5, 6);
         assertThat(list2).containsExactly(1, 2, 3, 4, 5, 6, 1, 4);
     }
+
+    @Test
+    public void distinctBy() {
+        Multi<String> events = Multi.createFrom().items("1:created", "2:created", "1:created", "3:created", "2:created");
+        // <distinct-by>
+        List<String> list = events
+                // Only keeps the ids of the last 10 000 events, duplicates older than that are emitted again
+                .select().distinctBy(event -> event.split(":")[0], 10_000)
+                .collect().asList()
+                .await().indefinitely();
+        // </distinct-by>
+        assertThat(list).containsExactly("1:created", "2:created", "3:created");
+
+        // <distinct-by-window>
+        List<String> list2 = events
+                // Only keeps the ids seen during the last 5 minutes
+                .select().distinctBy(event -> event.split(":")[0], Duration.ofMinutes(5))
+                .collect().asList()
+                .await().indefinitely();
+        // </distinct-by-window>
+        assertThat(list2).containsExactly("1:created", "2:created", "3:created");
+    }
 }
@@ -4,6 +4,7 @@ import io.smallrye.mutiny.Multi;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 
@@ -63,6 +64,26 @@ public class ReplayTest {
         System.out.println(items_1);
     }
 
+    @Test
+    public void replayWindow() {
+        // <replay-window>
+        Multi<String> upstream = Multi.createFrom().items("a", "bb", "ccc", "dddd", "e");
+
+        Multi<String> replay = Multi.createBy().replaying()
+                .upTo(Duration.ofMinutes(5))
+                .upToWeight(6, String::length)
+                .ofMulti(upstream);
+
+        List<String> items_1 = replay.collect().asList().await().indefinitely();
+        List<String> items_2 = replay.collect().asList().await().indefinitely();
+        // </replay-window>
+
+        assertThat(items_1)
+                .isEqualTo(items_2)
+                .containsExactly("dddd", "e");
+        System.out.println(items_1);
+    }
+
     @Test
     public void errors() {
         // <replay-errors>
@@ -4,6 +4,7 @@ import guides.extension.SystemOut;
 import guides.extension.SystemOutCaptureExtension;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -39,6 +40,27 @@ public class RunSubscriptionOnTest {
         await().untilAtomic(completed, is(true));
     }
 
+    @Test
+    public void testRunSubscriptionOnVirtualThreads(SystemOut out) {
+        Assumptions.assumeTrue(Infrastructure.areVirtualThreadsSupported());
+        AtomicBoolean completed = new AtomicBoolean();
+        //<runSubscriptionOnVirtualThreads>
+        Multi.createFrom().items(() -> {
+            // called on a virtual thread, blocking is fine
+            return retrieveItemsFromSource();
+        })
+                .onItem().transform(this::applySomeOperation)
+                .runSubscriptionOn().usingVirtualThreads()
+                .subscribe().with(
+                item -> System.out.println("Item: " + item),
+                Throwable::printStackTrace,
+                () -> completed.set(true)
+        );
+        //</runSubscriptionOnVirtualThreads>
+
+        await().untilAtomic(completed, is(true));
+    }
+
     @Test
     public void testEmitOn(SystemOut out) {
         Executor executor = Infrastructure.getDefaultExecutor();
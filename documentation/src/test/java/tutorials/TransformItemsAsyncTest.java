@@ -92,6 +92,14 @@ public class TransformItemsAsyncTest {
 
         assertThat(merged.collect().asList().await().indefinitely()).containsExactly("a", "b");
         assertThat(concat.collect().asList().await().indefinitely()).containsExactly("a", "b");
+
+        // <concat-concurrently>
+        Multi<String> concatConcurrently = multi
+            .onItem().transformToUni(name -> invokeRemoteGreetingService(name))
+            .concatenate(8);
+        // </concat-concurrently>
+
+        assertThat(concatConcurrently.collect().asList().await().indefinitely()).containsExactly("a", "b");
     }
 
     @Test
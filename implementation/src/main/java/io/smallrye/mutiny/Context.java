@@ -4,8 +4,8 @@ import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 import static java.util.Objects.requireNonNull;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
@@ -20,6 +20,8 @@ import java.util.function.Supplier;
  * <p>
  * {@link Context} instances are thread-safe.
  * Internal storage is not allocated until the first entry is being added.
+ * The entries are kept in an immutable snapshot that is replaced on each update, so reading from a context never
+ * locks nor copies. Small contexts (up to 8 entries) are stored as a flat array of key / value pairs.
  * <p>
  * Contexts shall be primarily used to share transient data used for networked I/O processing such as correlation
  * identifiers, tokens, etc.
@@ -41,7 +43,7 @@ public final class Context {
      * @return the context
      */
     public static Context empty() {
-        return new Context();
+        return new Context(null);
     }
 
     /**
@@ -57,13 +59,13 @@ public final class Context {
         if (entries.length % 2 != 0) {
             throw new IllegalArgumentException("Arguments must be balanced to form (key, value) pairs");
         }
-        HashMap<String, Object> map = new HashMap<>();
+        Object snapshot = EMPTY;
         for (int i = 0; i < entries.length; i = i + 2) {
             String key = nonNull(entries[i], "key").toString();
             Object value = nonNull(entries[i + 1], "value");
-            map.put(key, value);
+            snapshot = with(snapshot, key, value);
         }
-        return new Context(map);
+        return new Context(snapshot);
     }
 
     /**
@@ -74,17 +76,38 @@ public final class Context {
      * @throws NullPointerException when {@code entries} is null
      */
     public static Context from(Map<String, ?> entries) {
-        return new Context(requireNonNull(entries, "The entries map cannot be null"));
+        requireNonNull(entries, "The entries map cannot be null");
+        Object[] array = new Object[entries.size() * 2];
+        int index = 0;
+        for (Map.Entry<String, ?> entry : entries.entrySet()) {
+            array[index++] = requireNonNull(entry.getKey());
+            array[index++] = requireNonNull(entry.getValue());
+        }
+        if (index <= MAX_ARRAY_ENTRIES * 2) {
+            return new Context(index == array.length ? array : Arrays.copyOf(array, index));
+        }
+        HashMap<String, Object> map = new HashMap<>(entries);
+        return new Context(map);
     }
 
-    private volatile ConcurrentHashMap<String, Object> entries;
+    private static final AtomicReferenceFieldUpdater<Context, Object> ENTRIES = AtomicReferenceFieldUpdater
+            .newUpdater(Context.class, Object.class, "entries");
 
-    private Context() {
-        this.entries = null;
-    }
+    private static final Object[] EMPTY = new Object[0];
 
-    private Context(Map<String, ?> initialEntries) {
-        this.entries = new ConcurrentHashMap<>(initialEntries);
+    /**
+     * The maximum number of entries stored as a flat array, larger contexts use a hash map.
+     */
+    private static final int MAX_ARRAY_ENTRIES = 8;
+
+    /*
+     * The entries snapshot: null until the first update, an Object[] of key / value pairs, or a HashMap for the larger
+     * contexts. Snapshots are never modified once published.
+     */
+    private volatile Object entries;
+
+    private Context(Object entries) {
+        this.entries = entries;
     }
 
     /**
@@ -94,11 +117,8 @@ public final class Context {
      * @return {@code true} when there is an entry for {@code key}, {@code false} otherwise
      */
     public boolean contains(String key) {
-        if (entries == null) {
-            return false;
-        } else {
-            return entries.containsKey(key);
-        }
+        Object snapshot = entries;
+        return snapshot != null && lookup(snapshot, key) != null;
     }
 
     /**
@@ -111,10 +131,11 @@ public final class Context {
      */
     @SuppressWarnings("unchecked")
     public <T> T get(String key) throws NoSuchElementException {
-        if (entries == null) {
+        Object snapshot = entries;
+        if (snapshot == null) {
             throw new NoSuchElementException("The context is empty");
         }
-        T value = (T) entries.get(key);
+        T value = (T) lookup(snapshot, key);
         if (value == null) {
             throw new NoSuchElementException("The context does not have a value for key " + key);
         }
@@ -131,8 +152,9 @@ public final class Context {
      */
     @SuppressWarnings("unchecked")
     public <T> T getOrElse(String key, Supplier<? extends T> alternativeSupplier) {
-        if (entries != null) {
-            T value = (T) entries.get(key);
+        Object snapshot = entries;
+        if (snapshot != null) {
+            T value = (T) lookup(snapshot, key);
             if (value != null) {
                 return value;
             }
@@ -148,15 +170,15 @@ public final class Context {
      * @return this context
      */
     public Context put(String key, Object value) {
-        if (entries == null) {
-            synchronized (this) {
-                if (entries == null) {
-                    this.entries = new ConcurrentHashMap<>(8);
-                }
+        requireNonNull(key);
+        requireNonNull(value);
+        for (;;) {
+            Object current = entries;
+            Object update = with(current == null ? EMPTY : current, key, value);
+            if (update == current || ENTRIES.compareAndSet(this, current, update)) {
+                return this;
             }
         }
-        entries.put(key, value);
-        return this;
     }
 
     /**
@@ -166,10 +188,16 @@ public final class Context {
      * @return this context
      */
     public Context delete(String key) {
-        if (entries != null) {
-            entries.remove(key);
+        for (;;) {
+            Object current = entries;
+            if (current == null) {
+                return this;
+            }
+            Object update = without(current, key);
+            if (update == current || ENTRIES.compareAndSet(this, current, update)) {
+                return this;
+            }
         }
-        return this;
     }
 
     /**
@@ -178,7 +206,7 @@ public final class Context {
      * @return {@code true} if the context is empty, {@code false} otherwise
      */
     public boolean isEmpty() {
-        return (this.entries == null) || (entries.isEmpty());
+        return size(entries) == 0;
     }
 
     /**
@@ -188,16 +216,125 @@ public final class Context {
      *
      * @return the set of keys
      */
+    @SuppressWarnings("unchecked")
     public Set<String> keys() {
-        if (this.entries == null) {
+        Object snapshot = entries;
+        if (snapshot == null) {
             return Collections.emptySet();
         }
-        HashSet<String> set = new HashSet<>();
-        Enumeration<String> enumeration = entries.keys();
-        while (enumeration.hasMoreElements()) {
-            set.add(enumeration.nextElement());
+        if (snapshot instanceof Object[]) {
+            Object[] array = (Object[]) snapshot;
+            HashSet<String> set = new HashSet<>();
+            for (int i = 0; i < array.length; i = i + 2) {
+                set.add((String) array[i]);
+            }
+            return set;
+        }
+        return new HashSet<>(((Map<String, Object>) snapshot).keySet());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object lookup(Object snapshot, String key) {
+        if (snapshot instanceof Object[]) {
+            Object[] array = (Object[]) snapshot;
+            for (int i = 0; i < array.length; i = i + 2) {
+                if (key.equals(array[i])) {
+                    return array[i + 1];
+                }
+            }
+            return null;
+        }
+        return ((Map<String, Object>) snapshot).get(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int size(Object snapshot) {
+        if (snapshot == null) {
+            return 0;
+        }
+        if (snapshot instanceof Object[]) {
+            return ((Object[]) snapshot).length / 2;
+        }
+        return ((Map<String, Object>) snapshot).size();
+    }
+
+    /**
+     * Computes the snapshot with the entry {@code key -> value}, or returns {@code snapshot} if it already contains it.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object with(Object snapshot, String key, Object value) {
+        if (snapshot instanceof Object[]) {
+            Object[] array = (Object[]) snapshot;
+            for (int i = 0; i < array.length; i = i + 2) {
+                if (key.equals(array[i])) {
+                    if (array[i + 1] == value) {
+                        return snapshot;
+                    }
+                    Object[] update = array.clone();
+                    update[i + 1] = value;
+                    return update;
+                }
+            }
+            if (array.length / 2 < MAX_ARRAY_ENTRIES) {
+                Object[] update = Arrays.copyOf(array, array.length + 2);
+                update[array.length] = key;
+                update[array.length + 1] = value;
+                return update;
+            }
+            HashMap<String, Object> update = new HashMap<>(array.length);
+            for (int i = 0; i < array.length; i = i + 2) {
+                update.put((String) array[i], array[i + 1]);
+            }
+            update.put(key, value);
+            return update;
+        }
+        Map<String, Object> map = (Map<String, Object>) snapshot;
+        if (map.get(key) == value) {
+            return snapshot;
         }
-        return set;
+        HashMap<String, Object> update = new HashMap<>(map);
+        update.put(key, value);
+        return update;
+    }
+
+    /**
+     * Computes the snapshot without the entry for {@code key}, or returns {@code snapshot} if it does not contain it.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object without(Object snapshot, String key) {
+        if (snapshot instanceof Object[]) {
+            Object[] array = (Object[]) snapshot;
+            for (int i = 0; i < array.length; i = i + 2) {
+                if (key.equals(array[i])) {
+                    if (array.length == 2) {
+                        return EMPTY;
+                    }
+                    Object[] update = new Object[array.length - 2];
+                    System.arraycopy(array, 0, update, 0, i);
+                    System.arraycopy(array, i + 2, update, i, array.length - i - 2);
+                    return update;
+                }
+            }
+            return snapshot;
+        }
+        Map<String, Object> map = (Map<String, Object>) snapshot;
+        if (!map.containsKey(key)) {
+            return snapshot;
+        }
+        if (map.size() - 1 <= MAX_ARRAY_ENTRIES) {
+            Object[] update = new Object[(map.size() - 1) * 2];
+            int index = 0;
+            for (Map.Entry<String, Object> entry : map.entrySet()) {
+                if (!key.equals(entry.getKey())) {
+                    update[index++] = entry.getKey();
+                    update[index++] = entry.getValue();
+                }
+            }
+            return update;
+        }
+        HashMap<String, Object> update = new HashMap<>(map);
+        update.remove(key);
+        return update;
     }
 
     @Override
@@ -208,19 +345,59 @@ public final class Context {
         if (other == null || getClass() != other.getClass()) {
             return false;
         }
-        Context context = (Context) other;
-        return Objects.equals(entries, context.entries);
+        Object snapshot = entries;
+        Object otherSnapshot = ((Context) other).entries;
+        if (snapshot == null || otherSnapshot == null) {
+            return snapshot == otherSnapshot;
+        }
+        if (size(snapshot) != size(otherSnapshot)) {
+            return false;
+        }
+        for (String key : ((Context) other).keys()) {
+            if (!Objects.equals(lookup(snapshot, key), lookup(otherSnapshot, key))) {
+                return false;
+            }
+        }
+        return true;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public int hashCode() {
-        return Objects.hash(entries);
+        Object snapshot = entries;
+        if (snapshot == null) {
+            return Objects.hash((Object) null);
+        }
+        // Same as Map.hashCode(), so it does not depend on the representation
+        int hash = 0;
+        if (snapshot instanceof Object[]) {
+            Object[] array = (Object[]) snapshot;
+            for (int i = 0; i < array.length; i = i + 2) {
+                hash += array[i].hashCode() ^ array[i + 1].hashCode();
+            }
+        } else {
+            hash = ((Map<String, Object>) snapshot).hashCode();
+        }
+        return Objects.hash(hash);
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public String toString() {
+        Object snapshot = entries;
+        String content;
+        if (snapshot instanceof Object[]) {
+            Object[] array = (Object[]) snapshot;
+            StringJoiner joiner = new StringJoiner(", ", "{", "}");
+            for (int i = 0; i < array.length; i = i + 2) {
+                joiner.add(array[i] + "=" + array[i + 1]);
+            }
+            content = joiner.toString();
+        } else {
+            content = String.valueOf(snapshot);
+        }
         return "Context{" +
-                "entries=" + entries +
+                "entries=" + content +
                 '}';
     }
 }
@@ -237,6 +237,18 @@ public interface Multi<T> extends Publisher<T> {
     @CheckReturnValue
     Multi<T> runSubscriptionOn(Executor executor);
 
+    /**
+     * Configures the executor running the subscription to the upstream {@link Multi}, for example to run it on virtual
+     * threads:
+     * <code>
+     * multi.runSubscriptionOn().usingVirtualThreads()
+     * </code>
+     *
+     * @return the object to configure the executor
+     */
+    @CheckReturnValue
+    MultiRunSubscriptionOn<T> runSubscriptionOn();
+
     /**
      * Allows configuring the actions or continuation to execute when this {@link Multi} fires the completion event.
      *
@@ -338,6 +338,18 @@ public interface Uni<T> {
     @CheckReturnValue
     Uni<T> runSubscriptionOn(Executor executor);
 
+    /**
+     * Configures the executor running the subscription to the upstream {@link Uni}, for example to run it on virtual
+     * threads:
+     * <code>
+     * uni.runSubscriptionOn().usingVirtualThreads()
+     * </code>
+     *
+     * @return the object to configure the executor
+     */
+    @CheckReturnValue
+    UniRunSubscriptionOn<T> runSubscriptionOn();
+
     /**
      * Configure memoization of the {@link Uni} item or failure.
      *
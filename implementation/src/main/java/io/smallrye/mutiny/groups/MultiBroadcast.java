@@ -1,5 +1,6 @@
 package io.smallrye.mutiny.groups;
 
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
 import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
 
@@ -9,6 +10,7 @@ import io.smallrye.common.annotation.CheckReturnValue;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.multi.MultiBroadcaster;
+import io.smallrye.mutiny.subscription.BackPressureStrategy;
 
 /**
  * Makes the upstream {@link Multi} be able to broadcast its events ({@code items}, {@code failure}, and
@@ -23,6 +25,8 @@ public class MultiBroadcast<T> {
     private final Multi<T> upstream;
     private boolean cancelWhenNoOneIsListening;
     private Duration delayAfterLastDeparture;
+    private BackPressureStrategy subscriberStrategy;
+    private int subscriberBufferSize;
 
     public MultiBroadcast(Multi<T> upstream) {
         this.upstream = upstream;
@@ -37,7 +41,8 @@ public class MultiBroadcast<T> {
     @CheckReturnValue
     public Multi<T> toAllSubscribers() {
         return Infrastructure.onMultiCreation(
-                MultiBroadcaster.publish(upstream, 0, cancelWhenNoOneIsListening, delayAfterLastDeparture));
+                MultiBroadcaster.publish(upstream, 0, cancelWhenNoOneIsListening, delayAfterLastDeparture,
+                        subscriberStrategy, subscriberBufferSize));
     }
 
     /**
@@ -53,7 +58,8 @@ public class MultiBroadcast<T> {
     public Multi<T> toAtLeast(int numberOfSubscribers) {
         positive(numberOfSubscribers, "numberOfSubscribers");
         return Infrastructure.onMultiCreation(
-                MultiBroadcaster.publish(upstream, numberOfSubscribers, cancelWhenNoOneIsListening, delayAfterLastDeparture));
+                MultiBroadcaster.publish(upstream, numberOfSubscribers, cancelWhenNoOneIsListening, delayAfterLastDeparture,
+                        subscriberStrategy, subscriberBufferSize));
     }
 
     /**
@@ -83,4 +89,51 @@ public class MultiBroadcast<T> {
         return this;
 
     }
+
+    /**
+     * Lets each subscriber consume the items at its own pace, applying the given strategy when a subscriber cannot
+     * keep up, with a buffer of {@link Infrastructure#getMultiOverflowDefaultBufferSize()} items per subscriber.
+     *
+     * @param strategy the strategy, must not be {@code null}
+     * @return this {@link MultiBroadcast}.
+     * @see #withPerSubscriberBackPressure(BackPressureStrategy, int)
+     */
+    @CheckReturnValue
+    public MultiBroadcast<T> withPerSubscriberBackPressure(BackPressureStrategy strategy) {
+        return withPerSubscriberBackPressure(strategy, Infrastructure.getMultiOverflowDefaultBufferSize());
+    }
+
+    /**
+     * Lets each subscriber consume the items at its own pace, applying the given strategy when a subscriber cannot
+     * keep up.
+     * <p>
+     * By default, the items are dispatched at the pace of the slowest subscriber. With this method, the items are
+     * dispatched as soon as one of the subscribers is ready to receive them, and the items a subscriber is not ready
+     * to receive yet are stored in its own buffer of {@code bufferSize} items. When this buffer is full:
+     * <ul>
+     * <li>{@link BackPressureStrategy#BUFFER}: the subscriber receives a
+     * {@link io.smallrye.mutiny.subscription.BackPressureFailure} and is disconnected,</li>
+     * <li>{@link BackPressureStrategy#DROP}: the new item is dropped for this subscriber,</li>
+     * <li>{@link BackPressureStrategy#LATEST}: the oldest buffered item is dropped for this subscriber,</li>
+     * <li>{@link BackPressureStrategy#ERROR}: the items are not buffered, the subscriber receives a
+     * {@link io.smallrye.mutiny.subscription.BackPressureFailure} and is disconnected as soon as it is not ready to
+     * receive an item.</li>
+     * </ul>
+     * The {@link BackPressureStrategy#IGNORE} strategy is not supported. In all cases, the slow subscribers do not
+     * impact the other subscribers.
+     *
+     * @param strategy the strategy, must not be {@code null}
+     * @param bufferSize the size of the buffer of each subscriber, must be strictly positive
+     * @return this {@link MultiBroadcast}.
+     */
+    @CheckReturnValue
+    public MultiBroadcast<T> withPerSubscriberBackPressure(BackPressureStrategy strategy, int bufferSize) {
+        nonNull(strategy, "strategy");
+        if (strategy == BackPressureStrategy.IGNORE) {
+            throw new IllegalArgumentException("The `IGNORE` strategy is not supported when broadcasting");
+        }
+        this.subscriberBufferSize = positive(bufferSize, "bufferSize");
+        this.subscriberStrategy = strategy;
+        return this;
+    }
 }
@@ -8,10 +8,13 @@ import java.util.function.Function;
 import io.smallrye.common.annotation.CheckReturnValue;
 import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.MultiConcatMapEagerOp;
 import io.smallrye.mutiny.operators.multi.MultiConcatMapOp;
 import io.smallrye.mutiny.operators.multi.MultiFlatMapOp;
+import io.smallrye.mutiny.operators.multi.MultiFlatMapUniOp;
 
 /**
  * The object to tune the <em>flatMap</em> operation
@@ -22,6 +25,8 @@ import io.smallrye.mutiny.operators.multi.MultiFlatMapOp;
 public class MultiFlatten<I, O> {
 
     private final Function<? super I, ? extends Publisher<? extends O>> mapper;
+    // The mapper producing Unis, when created by `transformToUni`, so the Unis do not need to be converted to Multis
+    private final Function<? super I, ? extends Uni<? extends O>> uniMapper;
     private final Multi<I> upstream;
 
     private final int requests;
@@ -30,8 +35,16 @@ public class MultiFlatten<I, O> {
     MultiFlatten(Multi<I> upstream,
             Function<? super I, ? extends Publisher<? extends O>> mapper,
             int requests, boolean collectFailures) {
+        this(upstream, mapper, null, requests, collectFailures);
+    }
+
+    MultiFlatten(Multi<I> upstream,
+            Function<? super I, ? extends Publisher<? extends O>> mapper,
+            Function<? super I, ? extends Uni<? extends O>> uniMapper,
+            int requests, boolean collectFailures) {
         this.upstream = upstream;
         this.mapper = mapper;
+        this.uniMapper = uniMapper;
         this.requests = requests;
         this.collectFailureUntilCompletion = collectFailures;
     }
@@ -47,7 +60,7 @@ public class MultiFlatten<I, O> {
      */
     @CheckReturnValue
     public MultiFlatten<I, O> collectFailures() {
-        return new MultiFlatten<>(upstream, mapper, requests, true);
+        return new MultiFlatten<>(upstream, mapper, uniMapper, requests, true);
     }
 
     /**
@@ -58,7 +71,8 @@ public class MultiFlatten<I, O> {
      */
     @CheckReturnValue
     public MultiFlatten<I, O> withRequests(int requests) {
-        return new MultiFlatten<>(upstream, mapper, positive(requests, "requests"), collectFailureUntilCompletion);
+        return new MultiFlatten<>(upstream, mapper, uniMapper, positive(requests, "requests"),
+                collectFailureUntilCompletion);
     }
 
     /**
@@ -99,6 +113,10 @@ public class MultiFlatten<I, O> {
      */
     @CheckReturnValue
     public Multi<O> merge(int concurrency) {
+        if (uniMapper != null) {
+            return Infrastructure.onMultiCreation(new MultiFlatMapUniOp<>(upstream, uniMapper,
+                    collectFailureUntilCompletion, concurrency, false, true));
+        }
         return Infrastructure.onMultiCreation(
                 new MultiFlatMapOp<>(upstream, mapper, collectFailureUntilCompletion, concurrency, requests));
     }
@@ -124,6 +142,10 @@ public class MultiFlatten<I, O> {
      */
     @CheckReturnValue
     public Multi<O> concatenate(boolean prefetch) {
+        if (uniMapper != null) {
+            return Infrastructure.onMultiCreation(new MultiFlatMapUniOp<>(upstream, uniMapper,
+                    collectFailureUntilCompletion, 1, true, prefetch));
+        }
         return Infrastructure
                 .onMultiCreation(prefetch ? new MultiFlatMapOp<>(upstream, mapper, collectFailureUntilCompletion, 1, requests)
                         : new MultiConcatMapOp<>(upstream, mapper, collectFailureUntilCompletion));
@@ -150,4 +172,70 @@ public class MultiFlatten<I, O> {
         return concatenate(false);
     }
 
+    /**
+     * Produces a {@link Multi} containing the items from {@link Publisher} produced by the {@code mapper} for each
+     * item emitted by this {@link Multi}.
+     * <p>
+     * The operators behaves as follows:
+     * <ul>
+     * <li>for each item emitted by this {@link Multi}, the mapper is called and produces a {@link Publisher}
+     * (potentially a {@code Multi}). The mapper must not return {@code null}</li>
+     * <li>The items contained in each of the produced {@link Publisher} are then <strong>concatenated</strong> in the
+     * produced {@link Multi}, subscribing to the {@link Publisher} one at a time.</li>
+     * <li>{@code prefetch} items are requested from the upstream in advance, and stored until the previous
+     * {@link Publisher} completes. More items are requested as they are consumed.</li>
+     * </ul>
+     * <p>
+     * Prefetching avoids requesting the upstream items one at a time, which is useful when the produced
+     * {@link Publisher} are short, at the cost of requesting upstream items that may never be consumed.
+     * The {@link Uni} produced with {@link MultiOnItem#transformToUni(Function)} are also subscribed one at a time.
+     *
+     * @param prefetch the number of upstream items requested in advance, must be strictly positive
+     * @return the object to configure the {@code concatMap} operation.
+     */
+    @CheckReturnValue
+    public Multi<O> concatenateWithPrefetch(int prefetch) {
+        positive(prefetch, "prefetch");
+        if (uniMapper != null) {
+            return Infrastructure.onMultiCreation(new MultiFlatMapUniOp<>(upstream, uniMapper,
+                    collectFailureUntilCompletion, 1, true, true, prefetch));
+        }
+        return Infrastructure.onMultiCreation(new MultiConcatMapOp<>(upstream, mapper, collectFailureUntilCompletion,
+                prefetch));
+    }
+
+    /**
+     * Produces a {@link Multi} containing the items from {@link Publisher} produced by the {@code mapper} for each
+     * item emitted by this {@link Multi}, subscribing to up to {@code concurrency} of these {@link Publisher} at the
+     * same time.
+     * <p>
+     * The operators behaves as follows:
+     * <ul>
+     * <li>for each item emitted by this {@link Multi}, the mapper is called and produces a {@link Publisher}
+     * (potentially a {@code Multi} or a {@code Uni}). The mapper must not return {@code null}</li>
+     * <li>up to {@code concurrency} {@link Publisher} are subscribed eagerly, without waiting for the completion of
+     * the previous ones</li>
+     * <li>the items contained in each of the produced {@link Publisher} are then <strong>concatenated</strong> in the
+     * produced {@link Multi}, so the items are emitted in the upstream order, as with {@link #concatenate()}.
+     * The items of a {@link Publisher} that is not the first one in the upstream order are buffered until all the
+     * previous ones have completed, up to the {@code requests} configured with {@link #withRequests(int)}</li>
+     * </ul>
+     * <p>
+     * This is typically used with {@link io.smallrye.mutiny.groups.MultiOnItem#transformToUni(Function)} to call a
+     * remote service for several items concurrently, while preserving the order of the results.
+     * This operation is often called <em>concatMapEager</em>.
+     *
+     * @param concurrency the maximum number of {@link Publisher} subscribed at the same time, must be strictly positive
+     * @return the object to configure the {@code concatMap} operation.
+     */
+    @CheckReturnValue
+    public Multi<O> concatenate(int concurrency) {
+        if (uniMapper != null) {
+            return Infrastructure.onMultiCreation(new MultiFlatMapUniOp<>(upstream, uniMapper,
+                    collectFailureUntilCompletion, positive(concurrency, "concurrency"), true, true));
+        }
+        return Infrastructure.onMultiCreation(new MultiConcatMapEagerOp<>(upstream, mapper,
+                collectFailureUntilCompletion, positive(concurrency, "concurrency"), requests));
+    }
+
 }
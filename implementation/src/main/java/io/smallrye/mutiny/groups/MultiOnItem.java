@@ -34,7 +34,7 @@ public class MultiOnItem<T> {
     @CheckReturnValue
     public <R> Multi<R> transform(Function<? super T, ? extends R> mapper) {
         Function<? super T, ? extends R> actual = Infrastructure.decorate(nonNull(mapper, "mapper"));
-        return Infrastructure.onMultiCreation(new MultiMapOp<>(upstream, actual));
+        return Infrastructure.onMultiCreation(MultiMapWhereFusedOp.map(upstream, actual));
     }
 
     /**
@@ -265,7 +265,7 @@ public class MultiOnItem<T> {
     public <O> MultiFlatten<T, O> transformToUni(Function<? super T, Uni<? extends O>> mapper) {
         Function<? super T, Uni<? extends O>> actual = Infrastructure.decorate(nonNull(mapper, "mapper"));
         Function<? super T, ? extends Publisher<? extends O>> wrapper = res -> actual.apply(res).toMulti();
-        return new MultiFlatten<>(upstream, wrapper, 1, false);
+        return new MultiFlatten<>(upstream, wrapper, actual, 1, false);
     }
 
     /**
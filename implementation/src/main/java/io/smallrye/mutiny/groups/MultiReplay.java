@@ -2,11 +2,15 @@ package io.smallrye.mutiny.groups;
 
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
 
+import java.time.Duration;
 import java.util.concurrent.Flow;
+import java.util.function.ToLongFunction;
 
 import io.smallrye.common.annotation.CheckReturnValue;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.operators.multi.replay.AppendOnlyReplayList;
 import io.smallrye.mutiny.operators.multi.replay.ReplayOperator;
 
 /**
@@ -15,6 +19,9 @@ import io.smallrye.mutiny.operators.multi.replay.ReplayOperator;
 public class MultiReplay {
 
     private long numberOfItemsToReplay = Long.MAX_VALUE;
+    private Duration maxAge;
+    private long maxWeight = Long.MAX_VALUE;
+    private ToLongFunction<Object> weigher;
 
     /**
      * Limit the number of items each new subscriber gets.
@@ -30,6 +37,56 @@ public class MultiReplay {
         return this;
     }
 
+    /**
+     * Limit the age of the items each new subscriber gets: items that have been received from the upstream more than
+     * {@code maxAge} ago are not replayed.
+     * The default is to replay all events.
+     * <p>
+     * The items are evicted from the replay log as new items are received, so the memory retained by the replay log is
+     * bounded by the upstream throughput over {@code maxAge}. The most recent item is always kept in the replay log,
+     * but a new subscriber does not get it if it has expired.
+     * <p>
+     * This limit can be combined with {@link #upTo(long)} and {@link #upToWeight(long, ToLongFunction)}, in which case an
+     * item is evicted as soon as one of the limits is exceeded.
+     *
+     * @param maxAge the maximum age of the items to replay, must not be {@code null}, must be strictly positive
+     * @return this group
+     */
+    @CheckReturnValue
+    public MultiReplay upTo(Duration maxAge) {
+        this.maxAge = validate(maxAge, "maxAge");
+        return this;
+    }
+
+    /**
+     * Limit the cumulated weight of the items each new subscriber gets, where the weight of each item is computed by
+     * {@code weigher}, for instance an estimation of its size in bytes.
+     * The default is to replay all events.
+     * <p>
+     * The oldest items are evicted from the replay log until the cumulated weight of the retained items does not exceed
+     * {@code maxWeight}. The most recent item is always kept in the replay log, even if its weight exceeds
+     * {@code maxWeight}.
+     * <p>
+     * The weigher is called once per item, when the item is received from the upstream. If it throws an exception or
+     * returns a negative weight, the upstream is cancelled and the subscribers receive the failure after the items
+     * that have been replayed so far.
+     * <p>
+     * This limit can be combined with {@link #upTo(long)} and {@link #upTo(Duration)}, in which case an item is evicted
+     * as soon as one of the limits is exceeded.
+     *
+     * @param maxWeight the maximum cumulated weight of the items to replay, must be strictly positive
+     * @param weigher the function computing the weight of an item, must not be {@code null}
+     * @param <T> the items type
+     * @return this group
+     */
+    @SuppressWarnings("unchecked")
+    @CheckReturnValue
+    public <T> MultiReplay upToWeight(long maxWeight, ToLongFunction<? super T> weigher) {
+        this.maxWeight = positive(maxWeight, "maxWeight");
+        this.weigher = (ToLongFunction<Object>) nonNull(weigher, "weigher");
+        return this;
+    }
+
     /**
      * Create a replay {@link Multi}.
      * <p>
@@ -40,8 +97,9 @@ public class MultiReplay {
      * This happens at the first subscription request. Note that {@code upstream} will never be cancelled.</li>
      * <li>Each new subscriber to this replay {@link Multi} is able to replay items at its own pace (back-pressure is
      * honored).</li>
-     * <li>When the number of items to replay is limited using {@link #upTo(long)}, then a new subscriber gets to replay
-     * starting from the current position in the upstream replay log.
+     * <li>When the items to replay are limited using {@link #upTo(long)}, {@link #upTo(Duration)} or
+     * {@link #upToWeight(long, ToLongFunction)}, then a new subscriber gets to replay starting from the current position
+     * in the upstream replay log.
      * When the number of elements to replay is unbounded, then a new subscriber replays from the start.</li>
      * <li>All current and late subscribers observe terminal completion / error signals.</li>
      * <li>Items are pushed synchronously to subscribers when they call {@link Flow.Subscription#request(long)}
@@ -62,7 +120,7 @@ public class MultiReplay {
      */
     @CheckReturnValue
     public <T> Multi<T> ofMulti(Multi<T> upstream) {
-        return new ReplayOperator<>(nonNull(upstream, "upstream"), numberOfItemsToReplay);
+        return new ReplayOperator<>(nonNull(upstream, "upstream"), newReplayList(null));
     }
 
     /**
@@ -79,6 +137,11 @@ public class MultiReplay {
      */
     @CheckReturnValue
     public <T> Multi<T> ofSeedAndMulti(Iterable<T> seed, Multi<T> upstream) {
-        return new ReplayOperator<>(nonNull(upstream, "upstream"), numberOfItemsToReplay, nonNull(seed, "seed"));
+        nonNull(upstream, "upstream");
+        return new ReplayOperator<>(upstream, newReplayList(nonNull(seed, "seed")));
+    }
+
+    private AppendOnlyReplayList newReplayList(Iterable<?> seed) {
+        return new AppendOnlyReplayList(numberOfItemsToReplay, maxAge, maxWeight, weigher, seed);
     }
 }
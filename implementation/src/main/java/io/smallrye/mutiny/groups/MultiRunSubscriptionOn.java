@@ -0,0 +1,50 @@
+package io.smallrye.mutiny.groups;
+
+import java.util.concurrent.Executor;
+
+import io.smallrye.common.annotation.CheckReturnValue;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.AbstractMulti;
+
+/**
+ * Configures the executor running the subscription to the upstream {@link Multi}.
+ *
+ * @param <T> the type of item
+ * @see Multi#runSubscriptionOn(Executor)
+ */
+public class MultiRunSubscriptionOn<T> {
+
+    private final AbstractMulti<T> upstream;
+
+    public MultiRunSubscriptionOn(AbstractMulti<T> upstream) {
+        this.upstream = upstream;
+    }
+
+    /**
+     * Runs the subscription and the requests on a thread from the given executor.
+     * This is equivalent to {@link Multi#runSubscriptionOn(Executor)}.
+     *
+     * @param executor the executor to use, must not be {@code null}
+     * @return a new {@link Multi}
+     */
+    @CheckReturnValue
+    public Multi<T> using(Executor executor) {
+        return upstream.runSubscriptionOn(executor);
+    }
+
+    /**
+     * Runs the subscription and the requests on virtual threads.
+     * <p>
+     * This is well suited to upstreams performing blocking operations at subscription or request time: the blocked
+     * virtual threads do not hold platform threads.
+     *
+     * @return a new {@link Multi}
+     * @throws UnsupportedOperationException if the Java runtime does not support virtual threads (Java 21+ is required)
+     * @see Infrastructure#getVirtualThreadExecutor()
+     */
+    @CheckReturnValue
+    public Multi<T> usingVirtualThreads() {
+        return upstream.runSubscriptionOn(Infrastructure.getVirtualThreadExecutor());
+    }
+}
@@ -1,6 +1,8 @@
 package io.smallrye.mutiny.groups;
 
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
 
 import java.time.Duration;
 import java.util.Comparator;
@@ -156,7 +158,7 @@ public class MultiSelect<T> {
     @CheckReturnValue
     public Multi<T> where(Predicate<? super T> predicate) {
         Predicate<? super T> actual = Infrastructure.decorate(nonNull(predicate, "predicate"));
-        return Infrastructure.onMultiCreation(new MultiSelectWhereOp<>(upstream, actual));
+        return Infrastructure.onMultiCreation(MultiMapWhereFusedOp.where(upstream, actual));
     }
 
     /**
@@ -197,17 +199,39 @@ public class MultiSelect<T> {
      * The produced {@link Multi} completes when the upstream completes.
      * <p>
      * This method preserves the item orders.
+     * The function is called for an item once the {@link Uni} produced for the previous item has emitted its outcome,
+     * use {@link #when(Function, int)} to test several items concurrently.
      *
      * @param predicate the function to test the items, must not be {@code null}, must not produced {@code null}
      * @return the resulting {@link Multi}
+     * @see #when(Function, int)
      */
     @CheckReturnValue
     public Multi<T> when(Function<? super T, Uni<Boolean>> predicate) {
+        return when(predicate, 1);
+    }
+
+    /**
+     * Like {@link #when(Function)}, but tests up to {@code concurrency} items at the same time.
+     * <p>
+     * The function is called for the next items without waiting for the outcome of the {@link Uni} produced for the
+     * previous items, as long as there are less than {@code concurrency} items being tested or waiting to be emitted.
+     * The items are still emitted in the upstream order: a selected item is emitted once the outcomes of all the
+     * previous items are known.
+     * <p>
+     * If the function fails, or produces a {@link Uni} emitting a failure or {@code null}, the produced {@link Multi}
+     * emits the failure, and the {@link Uni Unis} still testing items are cancelled.
+     *
+     * @param predicate the function to test the items, must not be {@code null}, must not produced {@code null}
+     * @param concurrency the maximum number of items tested at the same time, must be strictly positive
+     * @return the resulting {@link Multi}
+     * @see #when(Function)
+     */
+    @CheckReturnValue
+    public Multi<T> when(Function<? super T, Uni<Boolean>> predicate, int concurrency) {
         Function<? super T, Uni<Boolean>> actual = Infrastructure.decorate(nonNull(predicate, "predicate"));
-        return upstream.onItem().transformToMultiAndConcatenate(res -> {
-            Uni<Boolean> uni = actual.apply(res);
-            return uni.map(pass -> pass ? res : null).toMulti();
-        });
+        return Infrastructure.onMultiCreation(
+                new MultiSelectWhenOp<>(upstream, actual, true, positive(concurrency, "concurrency")));
     }
 
     /**
@@ -222,6 +246,7 @@ public class MultiSelect<T> {
      * @return the resulting {@link Multi}.
      * @see MultiSkip#repetitions()
      * @see #distinct(Comparator)
+     * @see #distinctBy(Function, int)
      */
     @CheckReturnValue
     public Multi<T> distinct() {
@@ -251,4 +276,90 @@ public class MultiSelect<T> {
         return Infrastructure.onMultiCreation(new MultiDistinctOp<>(upstream, comparator));
     }
 
+    /**
+     * Selects the items whose key has not been seen before.
+     * The key of each item is computed by the given key extractor, and compared using {@link Object#hashCode()} and
+     * {@link Object#equals(Object)}.
+     * <p>
+     * Unlike {@link #distinct()}, only the keys are retained, not the items. Still, all the keys are retained, so do NOT
+     * call this method on unbounded upstream with an unbounded number of keys, use
+     * {@link #distinctBy(Function, int)} or {@link #distinctBy(Function, Duration)} instead.
+     * <p>
+     * If the key extractor throws an exception or returns {@code null}, the produced {@link Multi} fails.
+     * The produced {@link Multi} completes when the upstream sends the completion event.
+     *
+     * @param keyExtractor the function computing the key of each item, must not be {@code null}, must not return
+     *        {@code null}
+     * @param <K> the type of key
+     * @return the resulting {@link Multi}.
+     */
+    @CheckReturnValue
+    public <K> Multi<T> distinctBy(Function<? super T, K> keyExtractor) {
+        Function<? super T, K> actual = Infrastructure.decorate(nonNull(keyExtractor, "keyExtractor"));
+        return Infrastructure.onMultiCreation(
+                new MultiDistinctByKeyOp<>(upstream, actual, Integer.MAX_VALUE, Long.MAX_VALUE));
+    }
+
+    /**
+     * Selects the items whose key is not among the {@code maxKeys} most recently seen keys.
+     * The key of each item is computed by the given key extractor, and compared using {@link Object#hashCode()} and
+     * {@link Object#equals(Object)}.
+     * <p>
+     * Only the {@code maxKeys} most recently seen keys are retained, an item whose key is seen again counts as a use
+     * of its key. When a new key would exceed the maximum, the least recently seen key is forgotten, and an item having
+     * this key would be selected again. So, this method can be called on unbounded upstream, for example to drop
+     * the redeliveries of an at-least-once stream, as long as the duplicates are close enough to the original item.
+     * <p>
+     * If the key extractor throws an exception or returns {@code null}, the produced {@link Multi} fails.
+     * The produced {@link Multi} completes when the upstream sends the completion event.
+     *
+     * @param keyExtractor the function computing the key of each item, must not be {@code null}, must not return
+     *        {@code null}
+     * @param maxKeys the maximum number of keys to retain, must be strictly positive
+     * @param <K> the type of key
+     * @return the resulting {@link Multi}.
+     */
+    @CheckReturnValue
+    public <K> Multi<T> distinctBy(Function<? super T, K> keyExtractor, int maxKeys) {
+        Function<? super T, K> actual = Infrastructure.decorate(nonNull(keyExtractor, "keyExtractor"));
+        return Infrastructure.onMultiCreation(
+                new MultiDistinctByKeyOp<>(upstream, actual, positive(maxKeys, "maxKeys"), Long.MAX_VALUE));
+    }
+
+    /**
+     * Selects the items whose key has not been seen during the given window.
+     * The key of each item is computed by the given key extractor, and compared using {@link Object#hashCode()} and
+     * {@link Object#equals(Object)}.
+     * <p>
+     * A key is retained for the given duration after the emission of the item having this key, duplicates do not
+     * extend the retention. Once the duration has elapsed, an item having this key would be selected again. So, this
+     * method can be called on unbounded upstream, the number of retained keys being bounded by the number of distinct
+     * keys seen during the window. A window too long to be expressed in nanoseconds retains the keys without limit.
+     * <p>
+     * If the key extractor throws an exception or returns {@code null}, the produced {@link Multi} fails.
+     * The produced {@link Multi} completes when the upstream sends the completion event.
+     *
+     * @param keyExtractor the function computing the key of each item, must not be {@code null}, must not return
+     *        {@code null}
+     * @param window the duration during which a key is retained, must not be {@code null}, must be strictly positive
+     * @param <K> the type of key
+     * @return the resulting {@link Multi}.
+     */
+    @CheckReturnValue
+    public <K> Multi<T> distinctBy(Function<? super T, K> keyExtractor, Duration window) {
+        Function<? super T, K> actual = Infrastructure.decorate(nonNull(keyExtractor, "keyExtractor"));
+        long windowNanos = toNanos(validate(window, "window"));
+        return Infrastructure.onMultiCreation(
+                new MultiDistinctByKeyOp<>(upstream, actual, Integer.MAX_VALUE, windowNanos));
+    }
+
+    private static long toNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            // Too long to be ever reached, the keys are retained without limit
+            return Long.MAX_VALUE;
+        }
+    }
+
 }
@@ -1,6 +1,7 @@
 package io.smallrye.mutiny.groups;
 
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
 import static io.smallrye.mutiny.helpers.ParameterValidation.positiveOrZero;
 
 import java.time.Duration;
@@ -228,16 +229,35 @@ public class MultiSkip<T> {
      * The produced {@link Multi} completes when the upstream completes.
      * <p>
      * This method preserves the item orders.
+     * The function is called for an item once the {@link Uni} produced for the previous item has emitted its outcome,
+     * use {@link #when(Function, int)} to test several items concurrently.
      *
      * @param predicate the function to test the items, must not be {@code null}, must not produced {@code null}
      * @return the resulting {@link Multi}
+     * @see #when(Function, int)
      */
     @CheckReturnValue
     public Multi<T> when(Function<? super T, Uni<Boolean>> predicate) {
+        return when(predicate, 1);
+    }
+
+    /**
+     * Like {@link #when(Function)}, but tests up to {@code concurrency} items at the same time.
+     * <p>
+     * The items are still emitted in the upstream order: an item that is not skipped is emitted once the outcomes of
+     * all the previous items are known.
+     * If the function fails, or produces a {@link Uni} emitting a failure or {@code null}, the produced {@link Multi}
+     * emits the failure, and the {@link Uni Unis} still testing items are cancelled.
+     *
+     * @param predicate the function to test the items, must not be {@code null}, must not produced {@code null}
+     * @param concurrency the maximum number of items tested at the same time, must be strictly positive
+     * @return the resulting {@link Multi}
+     * @see MultiSelect#when(Function, int)
+     */
+    @CheckReturnValue
+    public Multi<T> when(Function<? super T, Uni<Boolean>> predicate, int concurrency) {
         Function<? super T, Uni<Boolean>> actual = Infrastructure.decorate(nonNull(predicate, "predicate"));
-        return upstream.onItem().transformToMultiAndConcatenate(res -> {
-            Uni<Boolean> uni = actual.apply(res);
-            return uni.map(pass -> pass ? null : res).toMulti();
-        });
+        return Infrastructure.onMultiCreation(
+                new MultiSelectWhenOp<>(upstream, actual, false, positive(concurrency, "concurrency")));
     }
 }
@@ -0,0 +1,370 @@
+package io.smallrye.mutiny.groups;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.Function;
+import java.util.function.ToLongBiFunction;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * A bounded cache of {@link Uni} outcomes, loading the values with a {@link Uni} per key.
+ * <p>
+ * {@link #get(Object)} returns a {@link Uni} looking the key up in the cache on each subscription, the entries memoizing
+ * the outcome of the loader (see {@link Uni#memoize()}): concurrent subscribers to the {@link Uni} of a key missing from
+ * the cache share a single subscription to the loader, and the next subscribers receive the memoized item. A failure is
+ * propagated to the subscribers waiting for it, but is not cached: the next subscribers trigger a new load. As the
+ * lookup happens on subscription, re-subscribing to the same {@link Uni}, for example to retry, also follows these
+ * rules and the expiration of the entries.
+ * <p>
+ * The cache can be bounded by a number of entries, and / or a maximum weight. The least recently used entries are
+ * evicted first. To limit the contention, the cache is split in segments, each one having its own part of the bounds,
+ * so the eviction order is only approximately the least recently used order. Small caches have a single segment.
+ * <p>
+ * The entries can also expire a given duration after their value has been loaded, or be refreshed in the background
+ * as with {@link UniMemoize#refreshAfter(Duration)}.
+ *
+ * <pre>
+ * {@code
+ * UniCache<String, User> users = UniCache.<String, User> builder()
+ *         .maximumSize(10_000)
+ *         .expireAfterWrite(Duration.ofMinutes(5))
+ *         .build(id -> fetchUser(id));
+ *
+ * Uni<User> user = users.get("luke");
+ * }
+ * </pre>
+ *
+ * @param <K> the type of key
+ * @param <V> the type of value
+ */
+public final class UniCache<K, V> {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    /**
+     * Minimal bound of a segment, smaller caches have fewer segments.
+     */
+    private static final long MIN_SEGMENT_BOUND = 16;
+
+    private final Function<? super K, Uni<? extends V>> loader;
+    private final ToLongBiFunction<? super K, ? super V> weigher;
+    private final long expireAfterWriteNanos;
+    private final Duration refreshAfterWrite;
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+
+    /**
+     * Creates a new builder.
+     *
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the builder
+     */
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>();
+    }
+
+    @SuppressWarnings("unchecked")
+    private UniCache(Builder<K, V> builder, Function<? super K, Uni<? extends V>> loader) {
+        this.loader = loader;
+        this.weigher = builder.weigher;
+        this.expireAfterWriteNanos = builder.expireAfterWrite == null ? -1L : toNanos(builder.expireAfterWrite);
+        this.refreshAfterWrite = builder.refreshAfterWrite;
+
+        long bound = Math.min(builder.maximumSize, builder.maximumWeight);
+        int count = MAX_SEGMENTS;
+        while (count > 1 && bound / count < MIN_SEGMENT_BOUND) {
+            count >>= 1;
+        }
+        this.segments = new Segment[count];
+        this.segmentMask = count - 1;
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>(perSegment(builder.maximumSize, count), perSegment(builder.maximumWeight, count));
+        }
+    }
+
+    private static long toNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            // Too long to be ever reached
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static long perSegment(long bound, int count) {
+        if (bound == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(1L, bound / count);
+    }
+
+    private Segment<K, V> segmentFor(Object key) {
+        int hash = key.hashCode();
+        // Spread the high bits, like HashMap
+        hash ^= hash >>> 16;
+        return segments[hash & segmentMask];
+    }
+
+    /**
+     * Gets a {@link Uni} emitting the value associated with the given key, loading it if it's not in the cache yet.
+     * <p>
+     * The key is looked up each time the returned {@link Uni} is subscribed, and the load happens only once for the
+     * concurrent subscribers.
+     *
+     * @param key the key, must not be {@code null}
+     * @return the {@link Uni} emitting the value or the failure of the loader
+     */
+    public Uni<V> get(K key) {
+        nonNull(key, "key");
+        return Uni.createFrom().deferred(() -> lookup(key));
+    }
+
+    private Uni<V> lookup(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        long now = System.nanoTime();
+        synchronized (segment) {
+            Entry<K, V> entry = segment.map.get(key);
+            if (entry != null && isExpired(entry, now)) {
+                segment.remove(entry);
+                entry = null;
+            }
+            if (entry == null) {
+                entry = new Entry<>(key);
+                entry.uni = load(segment, entry);
+                segment.map.put(key, entry);
+                segment.evict(entry);
+            }
+            return entry.uni;
+        }
+    }
+
+    private boolean isExpired(Entry<K, V> entry, long now) {
+        return expireAfterWriteNanos >= 0 && entry.loaded && now - entry.writtenAt > expireAfterWriteNanos;
+    }
+
+    private Uni<V> load(Segment<K, V> segment, Entry<K, V> entry) {
+        Uni<V> uni = Uni.createFrom().<V> deferred(() -> loader.apply(entry.key))
+                .onItem().invoke(value -> onLoaded(segment, entry, value))
+                .onFailure().invoke(failure -> onLoadFailure(segment, entry));
+        if (refreshAfterWrite != null) {
+            return uni.memoize().refreshAfter(refreshAfterWrite);
+        } else {
+            return uni.memoize().indefinitely();
+        }
+    }
+
+    private void onLoaded(Segment<K, V> segment, Entry<K, V> entry, V value) {
+        long weight = weigher == null ? 0L : weigher.applyAsLong(entry.key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("The weight of an entry must be positive or zero, got " + weight);
+        }
+        synchronized (segment) {
+            entry.loaded = true;
+            entry.writtenAt = System.nanoTime();
+            if (entry.live) {
+                segment.weight += weight - entry.weight;
+                entry.weight = weight;
+                segment.evict(entry);
+            }
+        }
+    }
+
+    private void onLoadFailure(Segment<K, V> segment, Entry<K, V> entry) {
+        synchronized (segment) {
+            // A failed refresh keeps the previous value
+            if (entry.live && !entry.loaded) {
+                segment.remove(entry);
+            }
+        }
+    }
+
+    /**
+     * Removes the entry associated with the given key, if any.
+     * The subscribers waiting for this entry still receive its value.
+     *
+     * @param key the key, must not be {@code null}
+     */
+    public void invalidate(K key) {
+        nonNull(key, "key");
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            Entry<K, V> entry = segment.map.get(key);
+            if (entry != null) {
+                segment.remove(entry);
+            }
+        }
+    }
+
+    /**
+     * Removes all the entries.
+     */
+    public void invalidateAll() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                for (Entry<K, V> entry : segment.map.values()) {
+                    entry.live = false;
+                }
+                segment.map.clear();
+                segment.weight = 0L;
+            }
+        }
+    }
+
+    /**
+     * @return the number of entries in the cache, including the ones being loaded and the expired ones that have not
+     *         been evicted yet
+     */
+    public long size() {
+        long size = 0L;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.map.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * A part of the cache, guarded by its own monitor.
+     */
+    private static final class Segment<K, V> {
+
+        // In access order, from the least recently used entry
+        final LinkedHashMap<K, Entry<K, V>> map = new LinkedHashMap<>(16, 0.75f, true);
+        final long maximumSize;
+        final long maximumWeight;
+        long weight;
+
+        Segment(long maximumSize, long maximumWeight) {
+            this.maximumSize = maximumSize;
+            this.maximumWeight = maximumWeight;
+        }
+
+        void remove(Entry<K, V> entry) {
+            map.remove(entry.key);
+            entry.live = false;
+            weight -= entry.weight;
+        }
+
+        /**
+         * Evicts the least recently used entries while the bounds are exceeded, but keeps the given entry.
+         */
+        void evict(Entry<K, V> keep) {
+            Iterator<Entry<K, V>> iterator = map.values().iterator();
+            while ((map.size() > maximumSize || weight > maximumWeight) && iterator.hasNext()) {
+                Entry<K, V> entry = iterator.next();
+                if (entry == keep) {
+                    continue;
+                }
+                iterator.remove();
+                entry.live = false;
+                weight -= entry.weight;
+            }
+        }
+    }
+
+    /**
+     * An entry, its fields are guarded by the monitor of its segment.
+     */
+    private static final class Entry<K, V> {
+
+        final K key;
+        Uni<V> uni;
+        boolean live = true;
+        boolean loaded;
+        long writtenAt;
+        long weight;
+
+        Entry(K key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * Configures a {@link UniCache}.
+     *
+     * @param <K> the type of key
+     * @param <V> the type of value
+     */
+    public static final class Builder<K, V> {
+
+        private long maximumSize = Long.MAX_VALUE;
+        private long maximumWeight = Long.MAX_VALUE;
+        private ToLongBiFunction<? super K, ? super V> weigher;
+        private Duration expireAfterWrite;
+        private Duration refreshAfterWrite;
+
+        private Builder() {
+            // Use UniCache.builder()
+        }
+
+        /**
+         * Bounds the number of entries, including the ones being loaded.
+         *
+         * @param maximumSize the maximum number of entries, must be strictly positive
+         * @return this builder
+         */
+        public Builder<K, V> maximumSize(long maximumSize) {
+            this.maximumSize = positive(maximumSize, "maximumSize");
+            return this;
+        }
+
+        /**
+         * Bounds the cumulated weight of the entries. The weight of an entry is computed once its value has been
+         * loaded. The most recently loaded entry is kept, even if it weighs more than the maximum weight.
+         *
+         * @param maximumWeight the maximum weight, must be strictly positive
+         * @param weigher the function computing the weight of an entry, must not be {@code null}, must not return
+         *        negative weights
+         * @return this builder
+         */
+        public Builder<K, V> maximumWeight(long maximumWeight, ToLongBiFunction<? super K, ? super V> weigher) {
+            this.maximumWeight = positive(maximumWeight, "maximumWeight");
+            this.weigher = nonNull(weigher, "weigher");
+            return this;
+        }
+
+        /**
+         * Expires the entries once the given duration has elapsed after their value has been loaded. The next
+         * subscribers then wait for a new load.
+         *
+         * @param duration the duration, must not be {@code null}, must be strictly positive
+         * @return this builder
+         */
+        public Builder<K, V> expireAfterWrite(Duration duration) {
+            this.expireAfterWrite = validate(duration, "duration");
+            return this;
+        }
+
+        /**
+         * Refreshes the entries in the background once the given duration has elapsed after their value has been
+         * loaded, while still serving the previous value, see
+         * {@link UniMemoize#refreshAfter(Duration)}.
+         * A successful refresh also resets the expiration of the entry.
+         *
+         * @param duration the duration, must not be {@code null}, must be strictly positive
+         * @return this builder
+         */
+        public Builder<K, V> refreshAfterWrite(Duration duration) {
+            this.refreshAfterWrite = validate(duration, "duration");
+            return this;
+        }
+
+        /**
+         * Creates the cache.
+         *
+         * @param loader the function producing the {@link Uni} loading the value of a key, must not be {@code null}
+         * @return the new cache
+         */
+        public UniCache<K, V> build(Function<? super K, Uni<? extends V>> loader) {
+            return new UniCache<>(this, nonNull(loader, "loader"));
+        }
+    }
+}
@@ -79,6 +79,29 @@ public class UniMemoize<T> {
         });
     }
 
+    /**
+     * Memoize the received item or failure, and refresh the item in the background once it is older than
+     * {@code duration}.
+     * <p>
+     * Unlike {@link #atLeast(Duration)}, the subscribers never wait for the refresh of an item: a subscriber arriving
+     * after the duration has elapsed receives the memoized item immediately, and triggers a new upstream subscription
+     * in the background. Once it emits an item, this item is memoized for the next subscribers. If this refresh fails,
+     * the failure is dropped, the memoized item is still served, and the next subscriber triggers a new refresh.
+     * <p>
+     * A memoized failure is not served once the duration has elapsed: the next subscribers wait for a new upstream
+     * subscription.
+     *
+     * @param duration the age of the memoized item after which it is refreshed, must not be {@code null}, must be
+     *        strictly positive
+     * @return a new {@link Uni}
+     * @apiNote This is an experimental API
+     */
+    @CheckReturnValue
+    public Uni<T> refreshAfter(Duration duration) {
+        Duration validatedDuration = validate(duration, "duration");
+        return Infrastructure.onUniCreation(new UniMemoizeOp<>(upstream, validatedDuration));
+    }
+
     /**
      * Memoize the received item or failure indefinitely.
      * 
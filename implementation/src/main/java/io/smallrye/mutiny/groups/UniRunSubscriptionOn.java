@@ -0,0 +1,50 @@
+package io.smallrye.mutiny.groups;
+
+import java.util.concurrent.Executor;
+
+import io.smallrye.common.annotation.CheckReturnValue;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.AbstractUni;
+
+/**
+ * Configures the executor running the subscription to the upstream {@link Uni}.
+ *
+ * @param <T> the type of item
+ * @see Uni#runSubscriptionOn(Executor)
+ */
+public class UniRunSubscriptionOn<T> {
+
+    private final AbstractUni<T> upstream;
+
+    public UniRunSubscriptionOn(AbstractUni<T> upstream) {
+        this.upstream = upstream;
+    }
+
+    /**
+     * Runs the subscription on a thread from the given executor.
+     * This is equivalent to {@link Uni#runSubscriptionOn(Executor)}.
+     *
+     * @param executor the executor to use, must not be {@code null}
+     * @return a new {@link Uni}
+     */
+    @CheckReturnValue
+    public Uni<T> using(Executor executor) {
+        return upstream.runSubscriptionOn(executor);
+    }
+
+    /**
+     * Runs the subscription on a new virtual thread.
+     * <p>
+     * This is well suited to upstreams performing blocking operations at subscription time: the blocked virtual
+     * threads do not hold platform threads.
+     *
+     * @return a new {@link Uni}
+     * @throws UnsupportedOperationException if the Java runtime does not support virtual threads (Java 21+ is required)
+     * @see Infrastructure#getVirtualThreadExecutor()
+     */
+    @CheckReturnValue
+    public Uni<T> usingVirtualThreads() {
+        return upstream.runSubscriptionOn(Infrastructure.getVirtualThreadExecutor());
+    }
+}
@@ -0,0 +1,268 @@
+package io.smallrye.mutiny.helpers.queues;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded multi-producer single-consumer queue backed by a pre-allocated buffer.
+ * <p>
+ * The capacity is rounded to the next power of two. The producer and consumer indices are padded to live on their
+ * own cache lines, so that producers and the consumer do not invalidate each other's cache lines
+ * (false-sharing). Unlike {@link MpscLinkedQueue}, offering an item does not allocate.
+ * <p>
+ * Code inspired from https://github.com/JCTools/JCTools/blob/master/jctools-core/src/main/java/org/jctools/queues/atomic.
+ *
+ * @param <E> the element type of the queue
+ */
+public final class MpscArrayQueue<E> extends MpscArrayQueueConsumerIndexField<E> implements Queue<E> {
+
+    // Padding after the consumer index, the class layout is: fields of the super classes first.
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    private final AtomicReferenceArray<E> buffer;
+    private final int mask;
+
+    public MpscArrayQueue(int capacity) {
+        int p2capacity = SpscArrayQueue.roundToPowerOfTwo(Math.max(2, capacity));
+        this.buffer = new AtomicReferenceArray<>(p2capacity);
+        this.mask = p2capacity - 1;
+        soProducerLimit(p2capacity);
+    }
+
+    /**
+     * @return the capacity of the queue
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Offer is allowed from multiple threads. The producers claim a slot by incrementing the producer index with a
+     * CAS, then store the element in the claimed slot.
+     */
+    @Override
+    public boolean offer(E e) {
+        if (null == e) {
+            throw new NullPointerException("Null is not a valid element");
+        }
+        final int mask = this.mask;
+        long producerLimit = lvProducerLimit();
+        long index;
+        do {
+            index = lvProducerIndex();
+            if (index >= producerLimit) {
+                // The cached limit is stale, re-check with the actual consumer index
+                producerLimit = lvConsumerIndex() + mask + 1;
+                if (index >= producerLimit) {
+                    return false;
+                }
+                soProducerLimit(producerLimit);
+            }
+        } while (!casProducerIndex(index, index + 1));
+        // The slot is claimed but the element may not be visible yet, the consumer spins until it is
+        buffer.lazySet((int) index & mask, e);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Poll is allowed from a SINGLE thread.
+     */
+    @Override
+    public E poll() {
+        final long index = lpConsumerIndex();
+        final int offset = (int) index & mask;
+        E e = buffer.get(offset);
+        if (e == null) {
+            if (index == lvProducerIndex()) {
+                return null;
+            }
+            // A producer claimed the slot but did not store the element yet
+            do {
+                e = buffer.get(offset);
+            } while (e == null);
+        }
+        buffer.lazySet(offset, null);
+        soConsumerIndex(index + 1);
+        return e;
+    }
+
+    @Override
+    public E peek() {
+        final long index = lpConsumerIndex();
+        final int offset = (int) index & mask;
+        E e = buffer.get(offset);
+        if (e == null && index != lvProducerIndex()) {
+            do {
+                e = buffer.get(offset);
+            } while (e == null);
+        }
+        return e;
+    }
+
+    @Override
+    public int size() {
+        long ci = lvConsumerIndex();
+        for (;;) {
+            long pi = lvProducerIndex();
+            long ci2 = lvConsumerIndex();
+            if (ci == ci2) {
+                return (int) (pi - ci);
+            }
+            ci = ci2;
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return lvConsumerIndex() == lvProducerIndex();
+    }
+
+    @Override
+    public void clear() {
+        // we have to test isEmpty because of the weaker poll() guarantee
+        //noinspection StatementWithEmptyBody
+        while (poll() != null || !isEmpty()) {
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object[] toArray() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <R> R[] toArray(R[] a) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public E remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public E element() {
+        throw new UnsupportedOperationException();
+    }
+}
+
+/*
+ * The indices are declared in a class hierarchy separated by padding classes: the JVM lays out the fields of a super
+ * class before the fields of its sub classes, which keeps each index on its own cache line.
+ */
+
+abstract class MpscArrayQueuePad0 {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class MpscArrayQueueProducerIndexField extends MpscArrayQueuePad0 {
+    private static final AtomicLongFieldUpdater<MpscArrayQueueProducerIndexField> PRODUCER_INDEX = AtomicLongFieldUpdater
+            .newUpdater(MpscArrayQueueProducerIndexField.class, "producerIndex");
+
+    private volatile long producerIndex;
+
+    final long lvProducerIndex() {
+        return producerIndex;
+    }
+
+    final boolean casProducerIndex(long expected, long update) {
+        return PRODUCER_INDEX.compareAndSet(this, expected, update);
+    }
+}
+
+abstract class MpscArrayQueuePad1 extends MpscArrayQueueProducerIndexField {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class MpscArrayQueueProducerLimitField extends MpscArrayQueuePad1 {
+    private static final AtomicLongFieldUpdater<MpscArrayQueueProducerLimitField> PRODUCER_LIMIT = AtomicLongFieldUpdater
+            .newUpdater(MpscArrayQueueProducerLimitField.class, "producerLimit");
+
+    // First index that cannot be claimed without re-reading the consumer index
+    private volatile long producerLimit;
+
+    final long lvProducerLimit() {
+        return producerLimit;
+    }
+
+    final void soProducerLimit(long limit) {
+        PRODUCER_LIMIT.lazySet(this, limit);
+    }
+}
+
+abstract class MpscArrayQueuePad2 extends MpscArrayQueueProducerLimitField {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class MpscArrayQueueConsumerIndexField<E> extends MpscArrayQueuePad2 {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<MpscArrayQueueConsumerIndexField> CONSUMER_INDEX = AtomicLongFieldUpdater
+            .newUpdater(MpscArrayQueueConsumerIndexField.class, "consumerIndex");
+
+    private volatile long consumerIndex;
+
+    final long lvConsumerIndex() {
+        return consumerIndex;
+    }
+
+    final long lpConsumerIndex() {
+        // Only the consumer thread writes the consumer index
+        return consumerIndex;
+    }
+
+    @SuppressWarnings("unchecked")
+    final void soConsumerIndex(long index) {
+        CONSUMER_INDEX.lazySet(this, index);
+    }
+}
@@ -0,0 +1,358 @@
+package io.smallrye.mutiny.helpers.queues;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An unbounded multi-producer single-consumer queue backed by a chain of fixed-size arrays (chunks).
+ * <p>
+ * When the current chunk is full, the producer that detects it allocates a new chunk and links it from the last slot
+ * of the full chunk. Unlike {@link MpscLinkedQueue}, which allocates a node per item, this queue allocates one array
+ * per chunk of items. The producer and consumer indices are padded to live on their own cache lines.
+ * <p>
+ * The indices are incremented by 2 per element: an odd producer index indicates that a producer is allocating a new
+ * chunk, and the other producers wait until it is done.
+ * <p>
+ * Code inspired from https://github.com/JCTools/JCTools/blob/master/jctools-core/src/main/java/org/jctools/queues/atomic.
+ *
+ * @param <E> the element type of the queue
+ */
+public final class MpscLinkedArrayQueue<E> extends MpscLinkedArrayQueueConsumerFields implements Queue<E> {
+
+    // Padding after the consumer fields, the class layout is: fields of the super classes first.
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    /**
+     * Marker stored in the slot of the first element of a new chunk, telling the consumer to follow the link.
+     */
+    private static final Object JUMP = new Object();
+
+    public MpscLinkedArrayQueue(int chunkSize) {
+        int p2capacity = SpscArrayQueue.roundToPowerOfTwo(Math.max(8, chunkSize));
+        // The lower bit of the mask is left clear, as the indices are incremented by 2
+        long mask = (p2capacity - 1L) << 1;
+        // An extra slot is used to link to the next chunk
+        AtomicReferenceArray<Object> buffer = new AtomicReferenceArray<>(p2capacity + 1);
+        producerBuffer = buffer;
+        producerMask = mask;
+        consumerBuffer = buffer;
+        consumerMask = mask;
+        soProducerLimit(mask);
+    }
+
+    private static int offset(long index, long mask) {
+        return (int) ((index & mask) >> 1);
+    }
+
+    private static int nextChunkOffset(long mask) {
+        return offset(mask + 2, Long.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Offer is allowed from multiple threads.
+     */
+    @Override
+    public boolean offer(E e) {
+        if (null == e) {
+            throw new NullPointerException("Null is not a valid element");
+        }
+
+        long mask;
+        AtomicReferenceArray<Object> buffer;
+        long index;
+
+        for (;;) {
+            long producerLimit = lvProducerLimit();
+            index = lvProducerIndex();
+            if ((index & 1) == 1) {
+                // A new chunk is being allocated
+                continue;
+            }
+            // The mask and the buffer can be changed by a concurrent allocation, they are only used if the CAS
+            // below succeeds.
+            mask = producerMask;
+            buffer = producerBuffer;
+
+            if (producerLimit <= index) {
+                long consumerIndex = lvConsumerIndex();
+                if (consumerIndex + mask > index) {
+                    // The chunk is not full, the cached limit is stale
+                    if (!casProducerLimit(producerLimit, consumerIndex + mask)) {
+                        continue;
+                    }
+                } else if (casProducerIndex(index, index + 1)) {
+                    // The chunk is full, and this producer won the right to allocate the next one
+                    allocateNextChunk(mask, buffer, index, e);
+                    return true;
+                } else {
+                    continue;
+                }
+            }
+
+            if (casProducerIndex(index, index + 2)) {
+                break;
+            }
+        }
+        buffer.lazySet(offset(index, mask), e);
+        return true;
+    }
+
+    private void allocateNextChunk(long oldMask, AtomicReferenceArray<Object> oldBuffer, long index, E e) {
+        int length = oldBuffer.length();
+        AtomicReferenceArray<Object> newBuffer = new AtomicReferenceArray<>(length);
+        producerBuffer = newBuffer;
+        long newMask = (length - 2L) << 1;
+        producerMask = newMask;
+
+        newBuffer.lazySet(offset(index, newMask), e);
+        oldBuffer.lazySet(nextChunkOffset(oldMask), newBuffer);
+        soProducerLimit(index + newMask);
+        // Release the other producers
+        soProducerIndex(index + 2);
+        // Tell the consumer to follow the link once it reaches this slot
+        oldBuffer.lazySet(offset(index, oldMask), JUMP);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Poll is allowed from a SINGLE thread.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public E poll() {
+        AtomicReferenceArray<Object> buffer = consumerBuffer;
+        long index = lpConsumerIndex();
+        long mask = consumerMask;
+        int offset = offset(index, mask);
+        Object e = buffer.get(offset);
+        if (e == null) {
+            if (index == lvProducerIndex()) {
+                return null;
+            }
+            // A producer claimed the slot but did not store the element yet
+            do {
+                e = buffer.get(offset);
+            } while (e == null);
+        }
+        if (e == JUMP) {
+            AtomicReferenceArray<Object> next = nextChunk(buffer, mask);
+            int nextOffset = offset(index, consumerMask);
+            e = next.get(nextOffset);
+            next.lazySet(nextOffset, null);
+        } else {
+            buffer.lazySet(offset, null);
+        }
+        soConsumerIndex(index + 2);
+        return (E) e;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E peek() {
+        AtomicReferenceArray<Object> buffer = consumerBuffer;
+        long index = lpConsumerIndex();
+        long mask = consumerMask;
+        int offset = offset(index, mask);
+        Object e = buffer.get(offset);
+        if (e == null && index != lvProducerIndex()) {
+            do {
+                e = buffer.get(offset);
+            } while (e == null);
+        }
+        if (e == JUMP) {
+            AtomicReferenceArray<Object> next = nextChunk(buffer, mask);
+            e = next.get(offset(index, consumerMask));
+        }
+        return (E) e;
+    }
+
+    @SuppressWarnings("unchecked")
+    private AtomicReferenceArray<Object> nextChunk(AtomicReferenceArray<Object> buffer, long mask) {
+        int offset = nextChunkOffset(mask);
+        AtomicReferenceArray<Object> next = (AtomicReferenceArray<Object>) buffer.get(offset);
+        consumerBuffer = next;
+        consumerMask = (next.length() - 2L) << 1;
+        // Let the consumed chunk be garbage collected independently of the next one
+        buffer.lazySet(offset, null);
+        return next;
+    }
+
+    @Override
+    public int size() {
+        long ci = lvConsumerIndex();
+        for (;;) {
+            long pi = lvProducerIndex();
+            long ci2 = lvConsumerIndex();
+            if (ci == ci2) {
+                return (int) ((pi - ci) >> 1);
+            }
+            ci = ci2;
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return lvConsumerIndex() == lvProducerIndex();
+    }
+
+    @Override
+    public void clear() {
+        // we have to test isEmpty because of the weaker poll() guarantee
+        //noinspection StatementWithEmptyBody
+        while (poll() != null || !isEmpty()) {
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object[] toArray() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <R> R[] toArray(R[] a) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public E remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public E element() {
+        throw new UnsupportedOperationException();
+    }
+}
+
+/*
+ * The fields are declared in a class hierarchy separated by padding classes: the JVM lays out the fields of a super
+ * class before the fields of its sub classes, which keeps the producer and consumer fields on their own cache lines.
+ */
+
+abstract class MpscLinkedArrayQueuePad0 {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class MpscLinkedArrayQueueProducerFields extends MpscLinkedArrayQueuePad0 {
+    private static final AtomicLongFieldUpdater<MpscLinkedArrayQueueProducerFields> PRODUCER_INDEX = AtomicLongFieldUpdater
+            .newUpdater(MpscLinkedArrayQueueProducerFields.class, "producerIndex");
+
+    private volatile long producerIndex;
+
+    // Written by the producer allocating a chunk before it releases the producer index
+    long producerMask;
+    AtomicReferenceArray<Object> producerBuffer;
+
+    final long lvProducerIndex() {
+        return producerIndex;
+    }
+
+    final void soProducerIndex(long index) {
+        PRODUCER_INDEX.lazySet(this, index);
+    }
+
+    final boolean casProducerIndex(long expected, long update) {
+        return PRODUCER_INDEX.compareAndSet(this, expected, update);
+    }
+}
+
+abstract class MpscLinkedArrayQueuePad1 extends MpscLinkedArrayQueueProducerFields {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class MpscLinkedArrayQueueProducerLimitField extends MpscLinkedArrayQueuePad1 {
+    private static final AtomicLongFieldUpdater<MpscLinkedArrayQueueProducerLimitField> PRODUCER_LIMIT = AtomicLongFieldUpdater
+            .newUpdater(MpscLinkedArrayQueueProducerLimitField.class, "producerLimit");
+
+    // First index that cannot be claimed without re-reading the consumer index
+    private volatile long producerLimit;
+
+    final long lvProducerLimit() {
+        return producerLimit;
+    }
+
+    final void soProducerLimit(long limit) {
+        PRODUCER_LIMIT.lazySet(this, limit);
+    }
+
+    final boolean casProducerLimit(long expected, long update) {
+        return PRODUCER_LIMIT.compareAndSet(this, expected, update);
+    }
+}
+
+abstract class MpscLinkedArrayQueuePad2 extends MpscLinkedArrayQueueProducerLimitField {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class MpscLinkedArrayQueueConsumerFields extends MpscLinkedArrayQueuePad2 {
+    private static final AtomicLongFieldUpdater<MpscLinkedArrayQueueConsumerFields> CONSUMER_INDEX = AtomicLongFieldUpdater
+            .newUpdater(MpscLinkedArrayQueueConsumerFields.class, "consumerIndex");
+
+    private volatile long consumerIndex;
+
+    // Only accessed by the consumer thread
+    long consumerMask;
+    AtomicReferenceArray<Object> consumerBuffer;
+
+    final long lvConsumerIndex() {
+        return consumerIndex;
+    }
+
+    final long lpConsumerIndex() {
+        return consumerIndex;
+    }
+
+    final void soConsumerIndex(long index) {
+        CONSUMER_INDEX.lazySet(this, index);
+    }
+}
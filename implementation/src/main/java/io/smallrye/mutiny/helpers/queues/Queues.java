@@ -90,14 +90,51 @@ public class Queues {
 
     /**
      * Creates a new multi-producer single consumer unbounded queue.
+     * <p>
+     * The queue is array-backed, with chunks of {@link #BUFFER_XS} items. New chunks are allocated when the consumer is
+     * slower than the producers.
      * 
      * @param <T> the type of item
      * @return the queue
      */
     public static <T> Queue<T> createMpscQueue() {
+        return new MpscLinkedArrayQueue<>(BUFFER_XS);
+    }
+
+    /**
+     * Creates a new multi-producer single consumer unbounded queue allocating a node per item.
+     *
+     * @param <T> the type of item
+     * @return the queue
+     */
+    public static <T> Queue<T> createMpscLinkedQueue() {
         return new MpscLinkedQueue<>();
     }
 
+    /**
+     * Creates a new multi-producer single consumer unbounded queue backed by arrays of the given size.
+     * If the queue is full, new arrays are allocated.
+     *
+     * @param chunkSize the size of the arrays, rounded to the next power of two
+     * @param <T> the type of item
+     * @return the queue
+     */
+    public static <T> Queue<T> createMpscLinkedArrayQueue(int chunkSize) {
+        return new MpscLinkedArrayQueue<>(chunkSize);
+    }
+
+    /**
+     * Creates a new multi-producer single consumer bounded queue backed by a pre-allocated array.
+     * Offering an item to a full queue returns {@code false}.
+     *
+     * @param capacity the capacity of the queue, rounded to the next power of two
+     * @param <T> the type of item
+     * @return the queue
+     */
+    public static <T> Queue<T> createMpscArrayQueue(int capacity) {
+        return new MpscArrayQueue<>(capacity);
+    }
+
     /**
      * Create a queue of a strict fixed size.
      * 
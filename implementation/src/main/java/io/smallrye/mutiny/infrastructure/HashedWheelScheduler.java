@@ -0,0 +1,467 @@
+package io.smallrye.mutiny.infrastructure;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import io.smallrye.mutiny.helpers.queues.Queues;
+import io.smallrye.mutiny.helpers.queues.SpscArrayQueue;
+
+/**
+ * A {@link ScheduledExecutorService} tracking the delays with a hashed timing wheel, and delegating the execution of
+ * the tasks to a configured {@link Executor}.
+ * <p>
+ * The {@link MutinyScheduler} keeps the delayed tasks in a heap guarded by a lock, so scheduling and cancelling a task
+ * is {@code O(log n)} and contended. Here, scheduling and cancelling a task only enqueue it in a lock-free queue, in
+ * {@code O(1)}. A single timer thread advances the wheel every {@code tick}, moves the newly scheduled tasks to their
+ * bucket ({@code deadline / tick} modulo the number of buckets), and submits the expired tasks of the current bucket
+ * to the executor. The timer thread parks when there is no scheduled task.
+ * <p>
+ * The trade-off is precision: a task runs at the first tick following its deadline, so it may run up to {@code tick}
+ * late. This suits timeouts and delays, which are usually much longer than the tick.
+ * <p>
+ * {@link Executor#execute(Runnable)} and the {@code submit} methods run the tasks directly on the executor. Tasks
+ * scheduled without delay are also submitted directly. Shutting down this scheduler cancels the pending delayed tasks
+ * and stops the timer thread, but does not shut the executor down.
+ * <p>
+ * To use it as {@link Infrastructure#getDefaultWorkerPool()}, either pass an instance to
+ * {@link Infrastructure#setDefaultExecutor(java.util.concurrent.Executor)}, or set the
+ * {@code mutiny.useTimingWheelScheduler} system property to {@code true} so that the executors that are not
+ * {@link ScheduledExecutorService} are wrapped with this scheduler instead of the {@link MutinyScheduler}.
+ */
+public class HashedWheelScheduler extends AbstractExecutorService implements ScheduledExecutorService {
+
+    /**
+     * The default duration of a tick, in milliseconds.
+     */
+    public static final long DEFAULT_TICK_MILLIS = 1;
+
+    /**
+     * The default number of buckets.
+     */
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final Executor executor;
+    private final long tickNanos;
+    private final int mask;
+    private final Bucket[] wheel;
+
+    private final Queue<WheelTask<?>> scheduled = Queues.createMpscQueue();
+    private final Queue<WheelTask<?>> cancelled = Queues.createMpscQueue();
+
+    private final Thread timer;
+    private final long startTime;
+    private final CountDownLatch terminated = new CountDownLatch(1);
+
+    private volatile boolean shutdown;
+    private volatile boolean idle;
+
+    // Only accessed by the timer thread
+    private long tick;
+    private int registered;
+    private List<Runnable> remaining = Collections.emptyList();
+
+    /**
+     * Creates a new scheduler with the default tick and wheel size.
+     *
+     * @param executor the executor running the tasks, must not be {@code null}
+     */
+    public HashedWheelScheduler(Executor executor) {
+        this(executor, Duration.ofMillis(DEFAULT_TICK_MILLIS), DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * Creates a new scheduler.
+     *
+     * @param executor the executor running the tasks, must not be {@code null}
+     * @param tick the duration of a tick, must not be {@code null}, must be positive
+     * @param wheelSize the number of buckets, must be positive, rounded to the next power of 2
+     */
+    public HashedWheelScheduler(Executor executor, Duration tick, int wheelSize) {
+        this.executor = nonNull(executor, "executor");
+        this.tickNanos = validate(tick, "tick").toNanos();
+        int size = SpscArrayQueue.roundToPowerOfTwo(positive(wheelSize, "wheelSize"));
+        this.mask = size - 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.startTime = System.nanoTime();
+        this.timer = new Thread(this::runTimer, "mutiny-timing-wheel");
+        this.timer.setDaemon(true);
+        this.timer.start();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        nonNull(command, "command");
+        if (shutdown) {
+            throw new RejectedExecutionException("The scheduler has been shut down");
+        }
+        executor.execute(command);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        nonNull(command, "command");
+        return schedule(new WheelTask<Void>(command, null, deadline(delay, unit), 0L), delay);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        nonNull(callable, "callable");
+        return schedule(new WheelTask<>(callable, deadline(delay, unit)), delay);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        nonNull(command, "command");
+        positive(period, "period");
+        return schedule(new WheelTask<Void>(command, null, deadline(initialDelay, unit), unit.toNanos(period)),
+                initialDelay);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        nonNull(command, "command");
+        positive(delay, "delay");
+        return schedule(new WheelTask<Void>(command, null, deadline(initialDelay, unit), -unit.toNanos(delay)),
+                initialDelay);
+    }
+
+    private long deadline(long delay, TimeUnit unit) {
+        nonNull(unit, "unit");
+        return deadline(System.nanoTime() - startTime, unit.toNanos(Math.max(0L, delay)));
+    }
+
+    /**
+     * Deadlines are relative to the start time, so they are positive and only overflow for delays close to
+     * {@code Long.MAX_VALUE}, which are saturated, as done by {@code ScheduledThreadPoolExecutor}.
+     */
+    private static long deadline(long from, long delayNanos) {
+        long deadline = from + delayNanos;
+        return deadline < 0L ? Long.MAX_VALUE : deadline;
+    }
+
+    private <V> ScheduledFuture<V> schedule(WheelTask<V> task, long delay) {
+        if (shutdown) {
+            throw new RejectedExecutionException("The scheduler has been shut down");
+        }
+        if (delay <= 0) {
+            submitExpired(task);
+        } else {
+            enqueue(task);
+        }
+        return task;
+    }
+
+    private void enqueue(WheelTask<?> task) {
+        task.tracked = true;
+        scheduled.offer(task);
+        if (idle) {
+            LockSupport.unpark(timer);
+        }
+    }
+
+    private void submitExpired(WheelTask<?> task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.cancel(false);
+            throw e;
+        }
+    }
+
+    private void runTimer() {
+        try {
+            while (!shutdown) {
+                long now = waitForNextTick();
+                if (shutdown) {
+                    break;
+                }
+                removeCancelledTasks();
+                registerScheduledTasks();
+                wheel[(int) (tick & mask)].expire(now);
+                tick++;
+            }
+            List<Runnable> notRun = new ArrayList<>();
+            for (Bucket bucket : wheel) {
+                bucket.drainTo(notRun);
+            }
+            WheelTask<?> task;
+            while ((task = scheduled.poll()) != null) {
+                if (!task.isCancelled()) {
+                    notRun.add(task);
+                }
+            }
+            cancelled.clear();
+            for (Runnable runnable : notRun) {
+                ((WheelTask<?>) runnable).cancel(false);
+            }
+            remaining = notRun;
+        } finally {
+            terminated.countDown();
+        }
+    }
+
+    /**
+     * Waits until the beginning of the current tick, parking the thread if there is nothing to track.
+     *
+     * @return the current time, relative to the start time
+     */
+    private long waitForNextTick() {
+        if (registered == 0 && scheduled.isEmpty()) {
+            idle = true;
+            // Re-check after publishing the idle flag, a task may have been scheduled in the meantime
+            while (!shutdown && scheduled.isEmpty()) {
+                LockSupport.park(this);
+            }
+            idle = false;
+            // No task is registered in the wheel, so the ticks elapsed while parked can be skipped
+            tick = Math.max(tick, (System.nanoTime() - startTime) / tickNanos);
+        }
+        long deadline = tickNanos * (tick + 1);
+        for (;;) {
+            long now = System.nanoTime() - startTime;
+            long sleep = deadline - now;
+            if (sleep <= 0 || shutdown) {
+                return now;
+            }
+            LockSupport.parkNanos(this, sleep);
+        }
+    }
+
+    private void removeCancelledTasks() {
+        WheelTask<?> task;
+        while ((task = cancelled.poll()) != null) {
+            if (task.bucket != null) {
+                task.bucket.remove(task);
+            }
+        }
+    }
+
+    private void registerScheduledTasks() {
+        // Bound the number of transferred tasks, so a flood of scheduled tasks does not delay the expiration
+        for (int i = 0; i < 100_000; i++) {
+            WheelTask<?> task = scheduled.poll();
+            if (task == null) {
+                return;
+            }
+            if (task.isCancelled()) {
+                continue;
+            }
+            long expectedTick = task.deadline / tickNanos;
+            task.remainingRounds = (expectedTick - tick) / wheel.length;
+            // The deadline may already be in the past, it then expires in the current tick
+            long targetTick = Math.max(expectedTick, tick);
+            wheel[(int) (targetTick & mask)].add(task);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        LockSupport.unpark(timer);
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        if (Thread.currentThread() != timer) {
+            try {
+                terminated.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return remaining;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    /**
+     * Doubly-linked list of the tasks registered in a bucket. Only accessed by the timer thread.
+     */
+    private final class Bucket {
+
+        private WheelTask<?> head;
+        private WheelTask<?> tail;
+
+        void add(WheelTask<?> task) {
+            task.bucket = this;
+            if (head == null) {
+                head = tail = task;
+            } else {
+                tail.next = task;
+                task.prev = tail;
+                tail = task;
+            }
+            registered++;
+        }
+
+        void expire(long now) {
+            WheelTask<?> task = head;
+            while (task != null) {
+                WheelTask<?> next = task.next;
+                if (task.remainingRounds <= 0 && task.deadline <= now) {
+                    remove(task);
+                    if (!task.isCancelled()) {
+                        try {
+                            executor.execute(task);
+                        } catch (RejectedExecutionException e) {
+                            task.cancel(false);
+                        }
+                    }
+                } else if (task.isCancelled()) {
+                    remove(task);
+                } else if (task.remainingRounds > 0) {
+                    task.remainingRounds--;
+                }
+                task = next;
+            }
+        }
+
+        void remove(WheelTask<?> task) {
+            if (task.bucket != this) {
+                return;
+            }
+            WheelTask<?> next = task.next;
+            if (task.prev != null) {
+                task.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = task.prev;
+            }
+            if (task == head) {
+                head = next;
+            }
+            if (task == tail) {
+                tail = task.prev;
+            }
+            task.prev = null;
+            task.next = null;
+            task.bucket = null;
+            registered--;
+        }
+
+        void drainTo(List<Runnable> list) {
+            WheelTask<?> task = head;
+            while (task != null) {
+                WheelTask<?> next = task.next;
+                remove(task);
+                if (!task.isCancelled()) {
+                    list.add(task);
+                }
+                task = next;
+            }
+        }
+    }
+
+    /**
+     * A scheduled task.
+     * <p>
+     * {@code period} is {@code 0} for one-shot tasks, positive for fixed-rate tasks, and negative for fixed-delay tasks.
+     */
+    private final class WheelTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+        private final long period;
+        private volatile long deadline;
+        // Whether the task has been handed to the timer thread
+        private volatile boolean tracked;
+
+        // Only accessed by the timer thread
+        long remainingRounds;
+        Bucket bucket;
+        WheelTask<?> prev;
+        WheelTask<?> next;
+
+        WheelTask(Runnable runnable, V result, long deadline, long period) {
+            super(runnable, result);
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        WheelTask(Callable<V> callable, long deadline) {
+            super(callable);
+            this.deadline = deadline;
+            this.period = 0L;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0L;
+        }
+
+        @Override
+        public void run() {
+            if (!isPeriodic()) {
+                super.run();
+            } else if (runAndReset()) {
+                if (period > 0) {
+                    deadline = deadline(deadline, period);
+                } else {
+                    deadline = deadline(System.nanoTime() - startTime, -period);
+                }
+                if (!shutdown) {
+                    enqueue(this);
+                } else {
+                    cancel(false);
+                }
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean done = super.cancel(mayInterruptIfRunning);
+            if (done && tracked && !shutdown) {
+                // Let the timer thread unlink the task, so the bucket does not retain it until its deadline
+                cancelled.offer(this);
+            }
+            return done;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - (System.nanoTime() - startTime), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -37,6 +37,8 @@ public class Infrastructure {
 
     private static final String DISABLE_CALLBACK_DECORATORS_PROP_NAME = "mutiny.disableCallBackDecorators";
     private static final boolean DISABLE_CALLBACK_DECORATORS = Boolean.getBoolean(DISABLE_CALLBACK_DECORATORS_PROP_NAME);
+    private static final String USE_TIMING_WHEEL_PROP_NAME = "mutiny.useTimingWheelScheduler";
+    private static final boolean USE_TIMING_WHEEL = Boolean.getBoolean(USE_TIMING_WHEEL_PROP_NAME);
 
     static {
         ServiceLoader<ExecutorConfiguration> executorLoader = ServiceLoader.load(ExecutorConfiguration.class);
@@ -82,6 +84,18 @@ public class Infrastructure {
         setDefaultExecutor(scheduler);
     }
 
+    /**
+     * Configure the default executor to run each task on a new virtual thread.
+     * <p>
+     * The default worker pool ({@link #getDefaultWorkerPool()}) keeps a single platform thread to track the delays of
+     * scheduled tasks, and runs the tasks themselves on virtual threads.
+     *
+     * @throws UnsupportedOperationException if the Java runtime does not support virtual threads (Java 21+ is required)
+     */
+    public static void setDefaultExecutorUsingVirtualThreads() {
+        setDefaultExecutor(VirtualThreads.newExecutor());
+    }
+
     public static void setDefaultExecutor(Executor s) {
         if (s == DEFAULT_EXECUTOR) {
             return;
@@ -94,7 +108,13 @@ public class Infrastructure {
             DEFAULT_SCHEDULER.shutdownNow();
         }
         DEFAULT_EXECUTOR = s;
-        DEFAULT_SCHEDULER = (s instanceof ScheduledExecutorService) ? (ScheduledExecutorService) s : new MutinyScheduler(s);
+        if (s instanceof ScheduledExecutorService) {
+            DEFAULT_SCHEDULER = (ScheduledExecutorService) s;
+        } else if (USE_TIMING_WHEEL) {
+            DEFAULT_SCHEDULER = new HashedWheelScheduler(s);
+        } else {
+            DEFAULT_SCHEDULER = new MutinyScheduler(s);
+        }
     }
 
     public static ScheduledExecutorService getDefaultWorkerPool() {
@@ -105,6 +125,44 @@ public class Infrastructure {
         return DEFAULT_EXECUTOR;
     }
 
+    /**
+     * @return {@code true} if the Java runtime supports virtual threads, {@code false} otherwise
+     */
+    public static boolean areVirtualThreadsSupported() {
+        return VirtualThreads.isSupported();
+    }
+
+    /**
+     * Gets the executor running each task on a new virtual thread.
+     * <p>
+     * The executor is shared, and is not affected by the changes of the default executor.
+     *
+     * @return the virtual thread executor
+     * @throws UnsupportedOperationException if the Java runtime does not support virtual threads (Java 21+ is required)
+     */
+    public static Executor getVirtualThreadExecutor() {
+        return VirtualThreadExecutorHolder.get();
+    }
+
+    private static final class VirtualThreadExecutorHolder {
+
+        private static volatile Executor executor;
+
+        static Executor get() {
+            Executor current = executor;
+            if (current == null) {
+                synchronized (VirtualThreadExecutorHolder.class) {
+                    current = executor;
+                    if (current == null) {
+                        current = VirtualThreads.newExecutor();
+                        executor = current;
+                    }
+                }
+            }
+            return current;
+        }
+    }
+
     public static <T> Uni<T> onUniCreation(Uni<T> instance) {
         Uni<T> current = instance;
         for (UniInterceptor itcp : UNI_INTERCEPTORS) {
@@ -305,8 +363,16 @@ public class Infrastructure {
         canCallerThreadBeBlockedSupplier = supplier;
     }
 
+    /**
+     * Checks if the caller thread can be blocked.
+     * <p>
+     * Virtual threads can always be blocked, as blocking a virtual thread releases its carrier thread. For the other
+     * threads, the supplier configured with {@link #setCanCallerThreadBeBlockedSupplier(BooleanSupplier)} decides.
+     *
+     * @return {@code true} if the caller thread can be blocked
+     */
     public static boolean canCallerThreadBeBlocked() {
-        return canCallerThreadBeBlockedSupplier.getAsBoolean();
+        return VirtualThreads.isVirtual(Thread.currentThread()) || canCallerThreadBeBlockedSupplier.getAsBoolean();
     }
 
     /**
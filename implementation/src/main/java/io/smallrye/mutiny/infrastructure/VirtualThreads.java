@@ -0,0 +1,90 @@
+package io.smallrye.mutiny.infrastructure;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to the virtual threads API.
+ * <p>
+ * Mutiny is compiled for Java 11, so the virtual threads API (Java 21+) is looked up reflectively once, and invoked
+ * through method handles. On older runtimes, virtual threads are reported as not supported.
+ */
+final class VirtualThreads {
+
+    private static final MethodHandle IS_VIRTUAL;
+    private static final MethodHandle NEW_THREAD_PER_TASK_EXECUTOR;
+    private static final ThreadFactory THREAD_FACTORY;
+
+    static {
+        MethodHandle isVirtual = null;
+        MethodHandle newThreadPerTaskExecutor = null;
+        ThreadFactory factory = null;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            Class<?> ofVirtual = Class.forName("java.lang.Thread$Builder$OfVirtual");
+
+            Object virtualBuilder = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtual))
+                    .invoke();
+            virtualBuilder = lookup.findVirtual(ofVirtual, "name", MethodType.methodType(ofVirtual, String.class, long.class))
+                    .invoke(virtualBuilder, "mutiny-virtual-thread-", 0L);
+            factory = (ThreadFactory) lookup.findVirtual(builder, "factory", MethodType.methodType(ThreadFactory.class))
+                    .invoke(virtualBuilder);
+
+            newThreadPerTaskExecutor = lookup.findStatic(Executors.class, "newThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+            isVirtual = lookup.findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (Throwable ignored) {
+            // Virtual threads are not available on this runtime
+            isVirtual = null;
+            newThreadPerTaskExecutor = null;
+            factory = null;
+        }
+        IS_VIRTUAL = isVirtual;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+        THREAD_FACTORY = factory;
+    }
+
+    private VirtualThreads() {
+        // avoid direct instantiation
+    }
+
+    static boolean isSupported() {
+        return IS_VIRTUAL != null;
+    }
+
+    static boolean isVirtual(Thread thread) {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(thread);
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates a new executor starting a new virtual thread for each task.
+     *
+     * @return the executor
+     * @throws UnsupportedOperationException if the runtime does not support virtual threads
+     */
+    static ExecutorService newExecutor() {
+        if (NEW_THREAD_PER_TASK_EXECUTOR == null) {
+            throw new UnsupportedOperationException(
+                    "Virtual threads are not supported by this Java runtime (Java 21+ is required)");
+        }
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invokeExact(THREAD_FACTORY);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Unable to create the virtual thread executor", e);
+        }
+    }
+}
@@ -89,6 +89,11 @@ public abstract class AbstractMulti<T> implements Multi<T> {
         return Infrastructure.onMultiCreation(new MultiSubscribeOnOp<>(this, executor));
     }
 
+    @Override
+    public MultiRunSubscriptionOn<T> runSubscriptionOn() {
+        return new MultiRunSubscriptionOn<>(this);
+    }
+
     @Override
     public MultiOnCompletion<T> onCompletion() {
         return new MultiOnCompletion<>(this);
@@ -101,6 +101,11 @@ public abstract class AbstractUni<T> implements Uni<T> {
                 new UniRunSubscribeOn<>(this, executor));
     }
 
+    @Override
+    public UniRunSubscriptionOn<T> runSubscriptionOn() {
+        return new UniRunSubscriptionOn<>(this);
+    }
+
     @Override
     public UniMemoize<T> memoize() {
         return new UniMemoize<>(this);
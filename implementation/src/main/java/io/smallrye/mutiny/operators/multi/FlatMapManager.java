@@ -1,20 +1,19 @@
 package io.smallrye.mutiny.operators.multi;
 
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Registry of the inner subscribers of a flatMap operator.
+ * <p>
+ * The inners are stored in a copy-on-write array updated with CAS loops, so adding and removing inners never
+ * blocks, even when inner streams complete concurrently on many threads. The array only contains the active inners,
+ * so it can be iterated without {@code null} checks, and its length is the number of active inners.
+ *
+ * @param <T> the type of the inner subscribers
+ */
 abstract class FlatMapManager<T> {
 
-    protected AtomicReference<T[]> inners = new AtomicReference<>(empty());
-
-    private int[] free = FREE_EMPTY;
-
-    private long producerIndex;
-    private long consumerIndex;
-
-    private final AtomicInteger size = new AtomicInteger();
-
-    private static final int[] FREE_EMPTY = new int[0];
+    protected final AtomicReference<T[]> inners = new AtomicReference<>(empty());
 
     abstract T[] empty();
 
@@ -24,28 +23,21 @@ abstract class FlatMapManager<T> {
 
     abstract void unsubscribeEntry(T entry, boolean fromOnError);
 
-    abstract void setIndex(T entry, int index);
-
     final void unsubscribe() {
         unsubscribe(false);
     }
 
     final void unsubscribe(boolean fromOnError) {
-        T[] a;
         T[] t = terminated();
-        synchronized (this) {
-            a = inners.get();
-            if (a == t) {
-                return;
-            }
-            size.lazySet(0);
-            free = null;
-            inners.set(t);
+        if (inners.get() == t) {
+            return;
+        }
+        T[] a = inners.getAndSet(t);
+        if (a == t) {
+            return;
         }
         for (T e : a) {
-            if (e != null) {
-                unsubscribeEntry(e, fromOnError);
-            }
+            unsubscribeEntry(e, fromOnError);
         }
     }
 
@@ -53,77 +45,68 @@ abstract class FlatMapManager<T> {
         return inners.get();
     }
 
+    /**
+     * Adds an inner.
+     *
+     * @param entry the inner
+     * @return {@code false} if the registry has been terminated, {@code true} otherwise
+     */
     final boolean add(T entry) {
-        T[] a = inners.get();
-        if (a == terminated()) {
-            return false;
-        }
-        synchronized (this) {
-            a = inners.get();
+        for (;;) {
+            T[] a = inners.get();
             if (a == terminated()) {
                 return false;
             }
-
-            int idx = pollFree();
-            if (idx < 0) {
-                int n = a.length;
-                T[] b = n != 0 ? newArray(n << 1) : newArray(4);
-                System.arraycopy(a, 0, b, 0, n);
-
-                inners.set(b);
-                a = b;
-
-                int m = b.length;
-                int[] u = new int[m];
-                for (int i = n + 1; i < m; i++) {
-                    u[i] = i;
-                }
-                free = u;
-                consumerIndex = n + 1L;
-                producerIndex = m;
-
-                idx = n;
+            int n = a.length;
+            T[] b = newArray(n + 1);
+            System.arraycopy(a, 0, b, 0, n);
+            b[n] = entry;
+            if (inners.compareAndSet(a, b)) {
+                return true;
             }
-            setIndex(entry, idx);
-            a[idx] = entry;
-            size.incrementAndGet();
         }
-        return true;
     }
 
-    final void remove(int index) {
-        synchronized (this) {
+    /**
+     * Removes an inner.
+     *
+     * @param entry the inner
+     * @return {@code true} if the inner has been removed, {@code false} if it was not registered or the registry has
+     *         been terminated
+     */
+    final boolean remove(T entry) {
+        for (;;) {
             T[] a = inners.get();
-            if (a != terminated()) {
-                a[index] = null;
-                offerFree(index);
-                size.decrementAndGet();
+            int n = a.length;
+            if (n == 0) {
+                // empty or terminated
+                return false;
+            }
+            int index = -1;
+            for (int i = 0; i < n; i++) {
+                if (a[i] == entry) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return false;
+            }
+            T[] b;
+            if (n == 1) {
+                b = empty();
+            } else {
+                b = newArray(n - 1);
+                System.arraycopy(a, 0, b, 0, index);
+                System.arraycopy(a, index + 1, b, index, n - index - 1);
+            }
+            if (inners.compareAndSet(a, b)) {
+                return true;
             }
         }
     }
 
-    private int pollFree() {
-        int[] a = free;
-        int m = a.length - 1;
-        long ci = consumerIndex;
-        if (producerIndex == ci) {
-            return -1;
-        }
-        int offset = (int) ci & m;
-        consumerIndex = ci + 1;
-        return a[offset];
-    }
-
-    private void offerFree(int index) {
-        int[] a = free;
-        int m = a.length - 1;
-        long pi = producerIndex;
-        int offset = (int) pi & m;
-        a[offset] = index;
-        producerIndex = pi + 1;
-    }
-
     final boolean isEmpty() {
-        return size.get() == 0;
+        return inners.get().length == 0;
     }
 }
@@ -4,48 +4,55 @@ import java.time.Duration;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.multicast.ConnectableMulti;
 import io.smallrye.mutiny.operators.multi.multicast.MultiPublishOp;
+import io.smallrye.mutiny.subscription.BackPressureStrategy;
 
 public class MultiBroadcaster {
 
     public static <T> Multi<T> publish(Multi<T> upstream, int numberOfSubscribers, boolean cancelWhenNoOneIsListening,
             Duration delayAfterLastDeparture) {
+        return publish(upstream, numberOfSubscribers, cancelWhenNoOneIsListening, delayAfterLastDeparture, null, 0);
+    }
 
+    public static <T> Multi<T> publish(Multi<T> upstream, int numberOfSubscribers, boolean cancelWhenNoOneIsListening,
+            Duration delayAfterLastDeparture, BackPressureStrategy subscriberStrategy, int subscriberBufferSize) {
+        ConnectableMulti<T> connectable = MultiPublishOp.create(upstream, subscriberStrategy, subscriberBufferSize);
         if (numberOfSubscribers > 0) {
-            return createPublishWithSubscribersThreshold(upstream, numberOfSubscribers, cancelWhenNoOneIsListening,
+            return createPublishWithSubscribersThreshold(connectable, numberOfSubscribers, cancelWhenNoOneIsListening,
                     delayAfterLastDeparture);
         } else {
-            return createPublishImmediate(upstream, cancelWhenNoOneIsListening, delayAfterLastDeparture);
+            return createPublishImmediate(connectable, cancelWhenNoOneIsListening, delayAfterLastDeparture);
         }
     }
 
-    private static <T> Multi<T> createPublishImmediate(Multi<T> upstream, boolean cancelWhenNoOneIsListening,
-            Duration delayAfterLastDeparture) {
+    private static <T> Multi<T> createPublishImmediate(ConnectableMulti<T> connectable,
+            boolean cancelWhenNoOneIsListening, Duration delayAfterLastDeparture) {
         if (cancelWhenNoOneIsListening) {
             if (delayAfterLastDeparture != null) {
                 return Infrastructure
-                        .onMultiCreation(MultiPublishOp.create(upstream).referenceCount(1, delayAfterLastDeparture));
+                        .onMultiCreation(connectable.referenceCount(1, delayAfterLastDeparture));
             } else {
-                return Infrastructure.onMultiCreation(MultiPublishOp.create(upstream).referenceCount());
+                return Infrastructure.onMultiCreation(connectable.referenceCount());
             }
         } else {
-            return Infrastructure.onMultiCreation(MultiPublishOp.create(upstream).connectAfter(1));
+            return Infrastructure.onMultiCreation(connectable.connectAfter(1));
         }
     }
 
-    private static <T> Multi<T> createPublishWithSubscribersThreshold(Multi<T> upstream, int numberOfSubscribers,
-            boolean cancelWhenNoOneIsListening, Duration delayAfterLastDeparture) {
+    private static <T> Multi<T> createPublishWithSubscribersThreshold(ConnectableMulti<T> connectable,
+            int numberOfSubscribers, boolean cancelWhenNoOneIsListening, Duration delayAfterLastDeparture) {
         if (cancelWhenNoOneIsListening) {
             if (delayAfterLastDeparture != null) {
                 return Infrastructure.onMultiCreation(
-                        MultiPublishOp.create(upstream).referenceCount(numberOfSubscribers, delayAfterLastDeparture));
+                        connectable.referenceCount(numberOfSubscribers, delayAfterLastDeparture));
             } else {
                 // the duration can be `null`, it will be validated if not `null`.
                 return Infrastructure
-                        .onMultiCreation(MultiPublishOp.create(upstream).referenceCount(numberOfSubscribers, null));
+                        .onMultiCreation(connectable.referenceCount(numberOfSubscribers, null));
             }
         } else {
-            return Infrastructure.onMultiCreation(MultiPublishOp.create(upstream).connectAfter(numberOfSubscribers));
+            return Infrastructure.onMultiCreation(connectable.connectAfter(numberOfSubscribers));
         }
     }
 
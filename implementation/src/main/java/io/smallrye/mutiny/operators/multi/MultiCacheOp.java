@@ -6,6 +6,7 @@ import java.util.concurrent.Flow.Subscriber;
 import java.util.concurrent.Flow.Subscription;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
 
 import io.smallrye.mutiny.Context;
@@ -17,6 +18,10 @@ import io.smallrye.mutiny.subscription.MultiSubscriber;
 /**
  * A {@code multi} caching the events emitted from upstreams and replaying it to subscribers.
  * This multi can have several subscribers.
+ * <p>
+ * The history is stored in an append-only linked list of array segments, written only by the upstream (serial)
+ * events, and published to the subscribers by the ordered write of its size. Each subscriber walks the segments with
+ * its own cursor, so appending an item and replaying it do not require any lock or copy.
  *
  * @param <T> the type of item
  */
@@ -34,7 +39,28 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
     private final List<CacheSubscription<T>> subscribers = new CopyOnWriteArrayList<>();
     private volatile boolean terminated;
 
-    private final CopyOnWriteArrayList<Node<T>> history = new CopyOnWriteArrayList<>();
+    private static final int INITIAL_SEGMENT_SIZE = 16;
+    private static final int MAX_SEGMENT_SIZE = 1024;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<MultiCacheOp> SIZE = AtomicIntegerFieldUpdater
+            .newUpdater(MultiCacheOp.class, "size");
+
+    /**
+     * The first segment of the history, the cursors start from there.
+     */
+    private final Segment head = new Segment(INITIAL_SEGMENT_SIZE);
+
+    /**
+     * The number of items visible to the subscribers.
+     */
+    private volatile int size;
+
+    /**
+     * The segment receiving the next items and the position in this segment, only accessed from the upstream events.
+     */
+    private Segment tail = head;
+    private int tailOffset;
 
     private volatile Context context;
 
@@ -88,8 +114,16 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
     }
 
     @Override
-    public synchronized void onNext(T item) {
-        history.add(new Node<>(item));
+    public void onNext(T item) {
+        Segment segment = tail;
+        if (tailOffset == segment.items.length) {
+            Segment next = new Segment(Math.min(tailOffset * 2, MAX_SEGMENT_SIZE));
+            segment.next = next;
+            tail = segment = next;
+            tailOffset = 0;
+        }
+        segment.items[tailOffset++] = item;
+        SIZE.lazySet(this, size + 1);
         for (CacheSubscription<T> consumer : subscribers) {
             // replay
             consumer.replay();
@@ -135,12 +169,16 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
         private final MultiCacheOp<T> cache;
         private final AtomicLong requested = new AtomicLong();
         private final AtomicInteger wip = new AtomicInteger();
-        private int lastIndex;
+
+        // The cursor: number of items already replayed, and position of the next item in the history
+        private int index;
+        private Segment segment;
+        private int offset;
 
         CacheSubscription(MultiSubscriber<? super T> downstream, MultiCacheOp<T> cache) {
             this.downstream = downstream;
             this.cache = cache;
-            this.lastIndex = -1;
+            this.segment = cache.head;
         }
 
         @Override
@@ -156,7 +194,6 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
                 return;
             }
             int missed = 1;
-            CopyOnWriteArrayList<Node<T>> history = cache.history;
 
             for (;;) {
 
@@ -175,9 +212,7 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
                 }
 
                 if (consumerRequested > 0L && hasNext()) {
-                    lastIndex = lastIndex + 1;
-                    Node<T> node = history.get(lastIndex);
-                    downstream.onItem(node.item);
+                    downstream.onItem(next());
                     Subscriptions.subtract(requested, 1);
                     continue;
                 }
@@ -198,21 +233,31 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
         }
 
         boolean hasNext() {
-            return lastIndex < cache.history.size() - 1;
+            return index < cache.size;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T next() {
+            if (offset == segment.items.length) {
+                // The link to the next segment is written before the size, so it is visible here
+                segment = segment.next;
+                offset = 0;
+            }
+            index++;
+            return (T) segment.items[offset++];
         }
     }
 
     /**
-     * Node stored in the list.
-     *
-     * @param <T> the type of item.
+     * A chunk of the history.
      */
-    static final class Node<T> {
+    private static final class Segment {
 
-        private final T item;
+        final Object[] items;
+        volatile Segment next;
 
-        Node(T item) {
-            this.item = item;
+        Segment(int capacity) {
+            this.items = new Object[capacity];
         }
     }
 }
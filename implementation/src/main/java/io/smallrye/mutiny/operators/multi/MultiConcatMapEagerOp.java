@@ -0,0 +1,353 @@
+package io.smallrye.mutiny.operators.multi;
+
+import java.util.Queue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Function;
+
+import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.helpers.queues.Queues;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.subscription.ContextSupport;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Concatenates the {@link Flow.Publisher publishers} produced by the mapper, while subscribing to up to
+ * {@code concurrency} of them at the same time (often called <em>concatMapEager</em>).
+ * <p>
+ * Each inner publisher gets a slot in a queue following the upstream order, with its own buffer receiving up to
+ * {@code requests} items in advance. The items of the publisher at the head of the queue are emitted downstream, while
+ * the next publishers fill their buffer. When the head publisher completes, the next one becomes the head, and one
+ * more item is requested from the upstream. So the items are emitted in the same order as with
+ * {@link MultiConcatMapOp}, but the next publishers (typically {@link io.smallrye.mutiny.Uni Unis} doing I/O) do not
+ * wait for the previous ones to complete to start.
+ *
+ * @param <I> the type of upstream items
+ * @param <O> the type of items emitted by the inner publishers
+ */
+public final class MultiConcatMapEagerOp<I, O> extends AbstractMultiOperator<I, O> {
+
+    private final Function<? super I, ? extends Flow.Publisher<? extends O>> mapper;
+    private final boolean postponeFailurePropagation;
+    private final int concurrency;
+    private final int requests;
+
+    public MultiConcatMapEagerOp(Multi<? extends I> upstream,
+            Function<? super I, ? extends Flow.Publisher<? extends O>> mapper,
+            boolean postponeFailurePropagation,
+            int concurrency,
+            int requests) {
+        super(upstream);
+        this.mapper = ParameterValidation.nonNull(mapper, "mapper");
+        this.postponeFailurePropagation = postponeFailurePropagation;
+        this.concurrency = ParameterValidation.positive(concurrency, "concurrency");
+        this.requests = ParameterValidation.positive(requests, "requests");
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super O> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("The subscriber must not be `null`");
+        }
+        ConcatMapEagerMainSubscriber<I, O> sub = new ConcatMapEagerMainSubscriber<>(subscriber, mapper,
+                postponeFailurePropagation, concurrency, requests);
+        upstream.subscribe(Infrastructure.onMultiSubscription(upstream, sub));
+    }
+
+    static final class ConcatMapEagerMainSubscriber<I, O> extends MultiOperatorProcessor<I, O> {
+
+        private final Function<? super I, ? extends Flow.Publisher<? extends O>> mapper;
+        private final boolean delayError;
+        private final int concurrency;
+        private final int requests;
+        // The subscribed inners in the upstream order, written by the upstream, read by the drain loop
+        private final Queue<ConcatMapEagerInner<O>> inners;
+
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicReference<Throwable> failures = new AtomicReference<>();
+        private volatile boolean upstreamDone;
+        // Set when a failure must be propagated immediately, even when the failures are postponed
+        private volatile boolean failFast;
+
+        ConcatMapEagerMainSubscriber(MultiSubscriber<? super O> downstream,
+                Function<? super I, ? extends Flow.Publisher<? extends O>> mapper,
+                boolean delayError, int concurrency, int requests) {
+            super(downstream);
+            this.mapper = mapper;
+            this.delayError = delayError;
+            this.concurrency = concurrency;
+            this.requests = requests;
+            this.inners = Queues.<ConcatMapEagerInner<O>> get(concurrency).get();
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (compareAndSetUpstreamSubscription(null, subscription)) {
+                downstream.onSubscribe(this);
+                subscription.request(Subscriptions.unboundedOrRequests(concurrency));
+            } else {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(I item) {
+            if (upstreamDone || isCancelled()) {
+                return;
+            }
+            Flow.Publisher<? extends O> publisher;
+            try {
+                publisher = mapper.apply(item);
+                if (publisher == null) {
+                    throw new NullPointerException(ParameterValidation.MAPPER_RETURNED_NULL);
+                }
+            } catch (Throwable e) {
+                failImmediately(e);
+                return;
+            }
+            ConcatMapEagerInner<O> inner = new ConcatMapEagerInner<>(this, requests);
+            if (!inners.offer(inner)) {
+                failImmediately(new BackPressureFailure("Buffer full, cannot subscribe to the next inner stream"));
+                return;
+            }
+            publisher.subscribe(inner);
+            // The drain loop may have cancelled the inners before this one got queued
+            if (isCancelled() || failFast || (!delayError && failures.get() != null)) {
+                inner.cancel();
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (upstreamDone) {
+                Infrastructure.handleDroppedException(failure);
+                return;
+            }
+            Subscriptions.addFailure(failures, failure);
+            upstreamDone = true;
+            drain();
+        }
+
+        @Override
+        public void onCompletion() {
+            upstreamDone = true;
+            drain();
+        }
+
+        @Override
+        public void request(long numberOfItems) {
+            if (numberOfItems <= 0) {
+                failImmediately(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            Subscriptions.add(requested, numberOfItems);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (compareAndSwapDownstreamCancellationRequest()) {
+                cancelUpstream();
+                drain();
+            }
+        }
+
+        private void failImmediately(Throwable failure) {
+            upstreamDone = true;
+            failFast = true;
+            if (Subscriptions.addFailure(failures, failure)) {
+                cancelUpstreamSubscription();
+                drain();
+            } else {
+                Infrastructure.handleDroppedException(failure);
+            }
+        }
+
+        private void cancelUpstreamSubscription() {
+            Subscription subscription = getAndSetUpstreamSubscription(Subscriptions.CANCELLED);
+            if (subscription != null && subscription != Subscriptions.CANCELLED) {
+                subscription.cancel();
+            }
+        }
+
+        void innerFailure(ConcatMapEagerInner<O> inner, Throwable failure) {
+            if (!Subscriptions.addFailure(failures, failure)) {
+                Infrastructure.handleDroppedException(failure);
+                return;
+            }
+            inner.done = true;
+            if (!delayError) {
+                cancelUpstreamSubscription();
+            }
+            drain();
+        }
+
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            for (;;) {
+                long req = requested.get();
+                long emitted = 0L;
+                long completedInners = 0L;
+                for (;;) {
+                    if (isCancelled()) {
+                        cancelInners();
+                        return;
+                    }
+                    if (failures.get() != null && (!delayError || failFast)) {
+                        cancelUpstreamSubscription();
+                        cancelInners();
+                        downstream.onFailure(failures.getAndSet(Subscriptions.TERMINATED));
+                        return;
+                    }
+                    // Read before checking the inners, as the last inner is queued before the completion
+                    boolean completed = upstreamDone;
+                    ConcatMapEagerInner<O> head = inners.peek();
+                    if (head == null) {
+                        if (completed) {
+                            Throwable failure = failures.getAndSet(Subscriptions.TERMINATED);
+                            if (failure != null) {
+                                downstream.onFailure(failure);
+                            } else {
+                                downstream.onCompletion();
+                            }
+                            return;
+                        }
+                        break;
+                    }
+                    // Read before polling, as the last item is queued before the completion
+                    boolean innerCompleted = head.done;
+                    if (emitted == req) {
+                        if (innerCompleted && head.queue.isEmpty()) {
+                            inners.poll();
+                            completedInners++;
+                            continue;
+                        }
+                        break;
+                    }
+                    O item = head.queue.poll();
+                    if (item == null) {
+                        if (innerCompleted) {
+                            inners.poll();
+                            completedInners++;
+                            continue;
+                        }
+                        break;
+                    }
+                    downstream.onItem(item);
+                    emitted++;
+                    head.request(1L);
+                }
+                if (emitted != 0L && req != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                if (completedInners != 0L && !upstreamDone) {
+                    Subscription subscription = getUpstreamSubscription();
+                    if (subscription != Subscriptions.CANCELLED) {
+                        subscription.request(completedInners);
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private void cancelInners() {
+            ConcatMapEagerInner<O> inner;
+            while ((inner = inners.poll()) != null) {
+                inner.cancel();
+                inner.queue.clear();
+            }
+        }
+    }
+
+    static final class ConcatMapEagerInner<O> implements MultiSubscriber<O>, ContextSupport {
+
+        private static final AtomicReferenceFieldUpdater<ConcatMapEagerInner, Subscription> SUBSCRIPTION_UPDATER = AtomicReferenceFieldUpdater
+                .newUpdater(ConcatMapEagerInner.class, Subscription.class, "subscription");
+
+        final ConcatMapEagerMainSubscriber<?, O> parent;
+        final int requests;
+        final int limit;
+        final Queue<O> queue;
+
+        volatile Subscription subscription;
+        volatile boolean done;
+        // Only accessed by the drain loop
+        long produced;
+
+        ConcatMapEagerInner(ConcatMapEagerMainSubscriber<?, O> parent, int requests) {
+            this.parent = parent;
+            this.requests = requests;
+            this.limit = Subscriptions.unboundedOrLimit(requests);
+            this.queue = Queues.<O> get(requests).get();
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (SUBSCRIPTION_UPDATER.compareAndSet(this, null, s)) {
+                s.request(Subscriptions.unboundedOrRequests(requests));
+            } else {
+                s.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(O item) {
+            if (!queue.offer(item)) {
+                parent.innerFailure(this, new BackPressureFailure("Buffer full, cannot emit item"));
+                return;
+            }
+            parent.drain();
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            parent.innerFailure(this, failure);
+        }
+
+        @Override
+        public void onCompletion() {
+            done = true;
+            parent.drain();
+        }
+
+        void request(long n) {
+            if (done || limit == Integer.MAX_VALUE) {
+                return;
+            }
+            long p = produced + n;
+            if (p >= limit) {
+                produced = 0L;
+                subscription.request(p);
+            } else {
+                produced = p;
+            }
+        }
+
+        void cancel() {
+            Subscription last = SUBSCRIPTION_UPDATER.getAndSet(this, Subscriptions.CANCELLED);
+            if (last != null && last != Subscriptions.CANCELLED) {
+                last.cancel();
+            }
+        }
+
+        @Override
+        public Context context() {
+            return parent.context();
+        }
+    }
+}
@@ -1,30 +1,41 @@
 package io.smallrye.mutiny.operators.multi;
 
+import java.util.Queue;
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscription;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Function;
 
 import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.HalfSerializer;
 import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
-import io.smallrye.mutiny.subscription.ContextSupport;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
 import io.smallrye.mutiny.subscription.SwitchableSubscriptionSubscriber;
 
 /**
- * ConcatMap operator without prefetching items from the upstream.
- * Requests are forwarded lazily to the upstream when:
+ * ConcatMap operator, subscribing to the inner publishers one at a time.
+ * <p>
+ * The upstream items are mapped on reception, and the inner publishers produced while an inner publisher is active are
+ * stored in a queue. A drain loop subscribes to the next inner publisher once the previous one has completed. The downstream requests are passed to the
+ * current inner publisher, and its items are emitted directly, without locking.
+ * <p>
+ * Without prefetch ({@code prefetch} set to 0), requests are forwarded lazily to the upstream, one item at a time,
+ * when:
  * <ul>
  * <li>First downstream request.</li>
- * <li>The inner has no more outstanding requests.</li>
- * <li>The inner completed without emitting items or with outstanding requests.</li>
+ * <li>The inner completed with outstanding requests, or without emitting items.</li>
+ * <li>The downstream requests more items after the inner completed without outstanding requests.</li>
  * </ul>
- *
+ * With prefetch, {@code prefetch} items are requested from the upstream on subscription, and more items are requested
+ * as they are consumed.
+ * <p>
  * This operator can collect failures and postpone them until termination.
  *
  * @param <I> the upstream value type / input type
@@ -36,12 +47,25 @@ public class MultiConcatMapOp<I, O> extends AbstractMultiOperator<I, O> {
 
     private final boolean postponeFailurePropagation;
 
+    private final int prefetch;
+
     public MultiConcatMapOp(Multi<? extends I> upstream,
             Function<? super I, ? extends Publisher<? extends O>> mapper,
             boolean postponeFailurePropagation) {
+        this(upstream, mapper, postponeFailurePropagation, 0);
+    }
+
+    public MultiConcatMapOp(Multi<? extends I> upstream,
+            Function<? super I, ? extends Publisher<? extends O>> mapper,
+            boolean postponeFailurePropagation,
+            int prefetch) {
         super(upstream);
         this.mapper = mapper;
         this.postponeFailurePropagation = postponeFailurePropagation;
+        if (prefetch < 0) {
+            throw new IllegalArgumentException("`prefetch` must be positive or zero");
+        }
+        this.prefetch = prefetch;
     }
 
     @Override
@@ -51,216 +75,245 @@ public class MultiConcatMapOp<I, O> extends AbstractMultiOperator<I, O> {
         }
         ConcatMapMainSubscriber<I, O> sub = new ConcatMapMainSubscriber<>(subscriber,
                 mapper,
-                postponeFailurePropagation);
+                postponeFailurePropagation,
+                prefetch);
 
         upstream.subscribe(Infrastructure.onMultiSubscription(upstream, sub));
     }
 
-    public static final class ConcatMapMainSubscriber<I, O> implements MultiSubscriber<I>, Subscription, ContextSupport {
-
-        private static final int STATE_NEW = 0; // no request yet -- send first upstream request at this state
-        private static final int STATE_READY = 1; // first upstream request done, ready to receive items
-        private static final int STATE_EMITTING = 2; // received item from the upstream, subscribed to the inner
-        private static final int STATE_OUTER_TERMINATED = 3; // outer terminated, waiting for the inner to terminate
-        private static final int STATE_TERMINATED = 4; // inner and outer terminated
-        private static final int STATE_CANCELLED = 5; // cancelled
-        final AtomicInteger state = new AtomicInteger(STATE_NEW);
+    static final class ConcatMapMainSubscriber<I, O> extends MultiOperatorProcessor<I, O> {
 
-        final MultiSubscriber<? super O> downstream;
-        final Function<? super I, ? extends Publisher<? extends O>> mapper;
+        private final Function<? super I, ? extends Publisher<? extends O>> mapper;
         private final boolean delayError;
-
-        final AtomicReference<Throwable> failures = new AtomicReference<>();
-
-        volatile Subscription upstream = null;
-        private static final AtomicReferenceFieldUpdater<ConcatMapMainSubscriber, Subscription> UPSTREAM_UPDATER = AtomicReferenceFieldUpdater
-                .newUpdater(ConcatMapMainSubscriber.class, Subscription.class, "upstream");
-
-        final ConcatMapInner<O> inner;
+        private final int prefetch;
+        private final int limit;
+        // The inner publishers waiting for the completion of the current inner
+        private final Queue<Publisher<? extends O>> queue;
+        private final ConcatMapInner<O> inner;
+
+        // The downstream requests not yet consumed by a completed inner, only used to request items lazily
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        // Serializes the items of the inners and the terminal events, see HalfSerializer
+        private final AtomicInteger emitting = new AtomicInteger();
+        private final AtomicReference<Throwable> failures = new AtomicReference<>();
+        private volatile boolean upstreamDone;
+        private volatile boolean active;
+
+        // Only accessed by the drain loop
+        private boolean pending;
+        private int consumed;
 
         ConcatMapMainSubscriber(
                 MultiSubscriber<? super O> downstream,
                 Function<? super I, ? extends Publisher<? extends O>> mapper,
-                boolean delayError) {
-            this.downstream = downstream;
+                boolean delayError,
+                int prefetch) {
+            super(downstream);
             this.mapper = mapper;
             this.delayError = delayError;
+            this.prefetch = prefetch;
+            this.limit = prefetch == 0 ? 0 : Subscriptions.unboundedOrLimit(prefetch);
+            this.queue = Queues.<Publisher<? extends O>> get(Math.max(prefetch, 1)).get();
             this.inner = new ConcatMapInner<>(this);
         }
 
         @Override
-        public void request(long n) {
-            if (n > 0) {
-                if (state.compareAndSet(STATE_NEW, STATE_READY)) {
-                    upstream.request(1);
-                    // No outstanding requests from inner, forward the request to upstream
-                } else if (state.get() == STATE_READY && inner.requested() == 0) {
-                    upstream.request(1);
+        public void onSubscribe(Subscription subscription) {
+            if (compareAndSetUpstreamSubscription(null, subscription)) {
+                downstream.onSubscribe(this);
+                if (prefetch != 0) {
+                    subscription.request(Subscriptions.unboundedOrRequests(prefetch));
                 }
-                inner.request(n);
             } else {
-                downstream.onFailure(new IllegalArgumentException("Invalid requests, must be greater than 0"));
+                subscription.cancel();
             }
         }
 
         @Override
-        public void cancel() {
-            while (true) {
-                int state = this.state.get();
-                if (state == STATE_CANCELLED) {
-                    return;
-                }
-                if (this.state.compareAndSet(state, STATE_CANCELLED)) {
-                    if (state == STATE_OUTER_TERMINATED) {
-                        inner.cancel();
-                    } else {
-                        inner.cancel();
-                        upstream.cancel();
-                    }
-                    return;
-                }
+        public void request(long n) {
+            if (n <= 0) {
+                failImmediately(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            if (prefetch == 0) {
+                Subscriptions.add(requested, n);
+                inner.request(n);
+                // Requests the next upstream item if there is no inner
+                drain();
+            } else {
+                inner.request(n);
             }
         }
 
         @Override
-        public void onSubscribe(Subscription s) {
-            if (UPSTREAM_UPDATER.compareAndSet(this, null, s)) {
-                downstream.onSubscribe(this);
+        public void cancel() {
+            if (compareAndSwapDownstreamCancellationRequest()) {
+                cancelUpstream();
+                inner.cancel();
+                drain();
             }
         }
 
         @Override
         public void onItem(I item) {
-            if (!state.compareAndSet(STATE_READY, STATE_EMITTING)) {
+            if (upstreamDone || isCancelled()) {
                 return;
             }
-
+            // The item is mapped on reception, so the mapper is not called once the upstream has terminated
+            Publisher<? extends O> publisher;
             try {
-                Publisher<? extends O> p = mapper.apply(item);
-                if (p == null) {
+                publisher = mapper.apply(item);
+                if (publisher == null) {
                     throw new NullPointerException(ParameterValidation.MAPPER_RETURNED_NULL);
                 }
-
-                p.subscribe(inner);
             } catch (Throwable e) {
-                if (postponeFailure(e, upstream)) {
-                    innerComplete(0L);
+                if (!delayError) {
+                    failImmediately(e);
+                    upstreamDone = true;
+                    return;
                 }
+                Subscriptions.addFailure(failures, e);
+                // Continues with the next item as if the inner had completed without items
+                publisher = Multi.createFrom().empty();
             }
+            if (wip.compareAndSet(0, 1)) {
+                // Fast path: no drain in progress, the inner can be subscribed without queueing it, so synchronous
+                // upstreams and inners stay in the upstream emission loop
+                if (!active && queue.isEmpty()) {
+                    subscribeToInner(publisher);
+                } else if (!queue.offer(publisher)) {
+                    onOverflow();
+                }
+                drainLoop();
+                return;
+            }
+            if (!queue.offer(publisher)) {
+                onOverflow();
+                return;
+            }
+            drain();
+        }
+
+        private void onOverflow() {
+            failImmediately(new BackPressureFailure("Buffer full, cannot concatenate the next inner stream"));
+            upstreamDone = true;
         }
 
         @Override
-        public void onFailure(Throwable t) {
-            if (postponeFailure(t, inner)) {
-                onCompletion();
+        public void onFailure(Throwable failure) {
+            if (upstreamDone) {
+                Infrastructure.handleDroppedException(failure);
+                return;
+            }
+            // The failure is recorded before marking the upstream as done, otherwise a concurrent drain loop could
+            // complete the downstream and the failure would be dropped
+            if (delayError) {
+                Subscriptions.addFailure(failures, failure);
+                upstreamDone = true;
+                drain();
+            } else {
+                failImmediately(failure);
+                upstreamDone = true;
             }
         }
 
         @Override
         public void onCompletion() {
-            while (true) {
-                int state = this.state.get();
-                if (state == STATE_NEW || state == STATE_READY) {
-                    if (this.state.compareAndSet(state, STATE_TERMINATED)) {
-                        terminateDownstream();
-                        return;
-                    }
-                } else if (state == STATE_EMITTING) {
-                    if (this.state.compareAndSet(state, STATE_OUTER_TERMINATED)) {
-                        return;
-                    }
-                } else {
-                    return;
-                }
-            }
+            upstreamDone = true;
+            drain();
         }
 
-        public synchronized void tryEmit(O value) {
-            switch (state.get()) {
-                case STATE_EMITTING:
-                case STATE_OUTER_TERMINATED:
-                    downstream.onItem(value);
-                    break;
-                default:
-                    break;
-            }
+        void innerItem(O item) {
+            // Even when the failures are collected, an invalid request fails the downstream immediately
+            HalfSerializer.onNext(downstream, item, emitting, failures);
         }
 
-        public void innerComplete(long emitted) {
-            while (true) {
-                int state = this.state.get();
-                if (state == STATE_EMITTING) {
-                    if (this.state.compareAndSet(state, STATE_READY)) {
-                        // Inner completed but there are outstanding requests from inner,
-                        // Or the inner completed without producing any items
-                        // Request new item from upstream
-                        if (inner.requested() != 0L || emitted == 0) {
-                            upstream.request(1);
-                        }
-                        return;
-                    }
-                } else if (state == STATE_OUTER_TERMINATED) {
-                    if (this.state.compareAndSet(state, STATE_TERMINATED)) {
-                        terminateDownstream();
-                        return;
-                    }
-                } else {
-                    return;
-                }
+        void innerComplete(long emitted) {
+            if (emitted != 0L && prefetch == 0) {
+                Subscriptions.produced(requested, emitted);
             }
+            active = false;
+            drain();
         }
 
-        public void innerFailure(Throwable e, long emitted) {
-            if (postponeFailure(e, upstream)) {
+        void innerFailure(Throwable failure, long emitted) {
+            if (delayError) {
+                Subscriptions.addFailure(failures, failure);
                 innerComplete(emitted);
+            } else {
+                failImmediately(failure);
             }
         }
 
-        private boolean postponeFailure(Throwable e, Subscription subscription) {
-            if (e == null) {
-                return true;
+        private void failImmediately(Throwable failure) {
+            Subscription subscription = getAndSetUpstreamSubscription(Subscriptions.CANCELLED);
+            if (subscription != null && subscription != Subscriptions.CANCELLED) {
+                subscription.cancel();
             }
+            inner.cancel();
+            HalfSerializer.onError(downstream, failure, emitting, failures);
+            drain();
+        }
 
-            Subscriptions.addFailure(failures, e);
-
-            if (delayError) {
-                return true;
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
             }
+            drainLoop();
+        }
 
-            while (true) {
-                int state = this.state.get();
-                if (state == STATE_CANCELLED || state == STATE_TERMINATED) {
-                    return false;
-                } else {
-                    if (this.state.compareAndSet(state, STATE_TERMINATED)) {
-                        subscription.cancel();
-                        synchronized (this) {
-                            downstream.onFailure(failures.get());
+        private void drainLoop() {
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    if (isCancelled() || failures.get() == Subscriptions.TERMINATED) {
+                        queue.clear();
+                        return;
+                    }
+                    if (active) {
+                        break;
+                    }
+                    // Read before polling, as the last item is queued before the completion
+                    boolean completed = upstreamDone;
+                    Publisher<? extends O> publisher = queue.poll();
+                    if (publisher == null) {
+                        if (completed) {
+                            HalfSerializer.onComplete(downstream, emitting, failures);
+                            return;
+                        }
+                        if (prefetch == 0 && !pending && requested.get() != 0L) {
+                            pending = true;
+                            getUpstreamSubscription().request(1L);
+                            continue;
                         }
-                        return false;
+                        break;
                     }
+                    subscribeToInner(publisher);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
                 }
             }
         }
 
-        private void terminateDownstream() {
-            Throwable ex = failures.get();
-            if (ex != null) {
-                downstream.onFailure(ex);
-                return;
-            }
-            downstream.onCompletion();
-        }
-
-        @Override
-        public Context context() {
-            if (downstream instanceof ContextSupport) {
-                return ((ContextSupport) downstream).context();
-            } else {
-                return Context.empty();
+        /**
+         * Subscribes to the given inner publisher, must be called from the drain loop.
+         *
+         * @param publisher the inner publisher
+         */
+        private void subscribeToInner(Publisher<? extends O> publisher) {
+            if (prefetch == 0) {
+                pending = false;
+            } else if (limit != Integer.MAX_VALUE && ++consumed == limit) {
+                consumed = 0;
+                getUpstreamSubscription().request(limit);
             }
+            active = true;
+            // The inner may complete synchronously, then the drain loop continues with the next item
+            publisher.subscribe(inner);
         }
-
     }
 
     static final class ConcatMapInner<O> extends SwitchableSubscriptionSubscriber<O> {
@@ -271,7 +324,7 @@ public class MultiConcatMapOp<I, O> extends AbstractMultiOperator<I, O> {
         /**
          * Downstream passed as {@code null} to {@link SwitchableSubscriptionSubscriber} as accessors are not reachable.
          * Effective downstream is {@code parent}.
-         * 
+         *
          * @param parent parent as downstream
          */
         ConcatMapInner(ConcatMapMainSubscriber<?, O> parent) {
@@ -282,7 +335,7 @@ public class MultiConcatMapOp<I, O> extends AbstractMultiOperator<I, O> {
         @Override
         public void onItem(O item) {
             emitted++;
-            parent.tryEmit(item);
+            parent.innerItem(item);
         }
 
         @Override
@@ -0,0 +1,208 @@
+package io.smallrye.mutiny.operators.multi;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Eliminates the items whose key, computed by a key extractor, has already been seen.
+ * <p>
+ * Only the keys are retained. They can be retained forever, or only the most recently seen keys up to a maximum
+ * number of keys, or only for a given duration after the emission of the item having the key. In the last two cases,
+ * an item whose key has been forgotten is emitted again.
+ *
+ * @param <T> the type of items
+ * @param <K> the type of keys
+ */
+public final class MultiDistinctByKeyOp<T, K> extends AbstractMultiOperator<T, T> {
+
+    private final Function<? super T, ? extends K> keyExtractor;
+    private final int maxKeys;
+    private final long windowNanos;
+
+    /**
+     * Creates a new operator.
+     *
+     * @param upstream the upstream
+     * @param keyExtractor the key extractor
+     * @param maxKeys the maximum number of keys to retain, {@code Integer.MAX_VALUE} for no limit
+     * @param windowNanos the duration during which a key is retained, {@code Long.MAX_VALUE} for no limit
+     */
+    public MultiDistinctByKeyOp(Multi<? extends T> upstream, Function<? super T, ? extends K> keyExtractor,
+            int maxKeys, long windowNanos) {
+        super(upstream);
+        this.keyExtractor = keyExtractor;
+        this.maxKeys = maxKeys;
+        this.windowNanos = windowNanos;
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super T> subscriber) {
+        KeyStore<K> keys;
+        if (windowNanos != Long.MAX_VALUE) {
+            keys = new WindowedKeyStore<>(windowNanos);
+        } else if (maxKeys != Integer.MAX_VALUE) {
+            keys = new LruKeyStore<>(maxKeys);
+        } else {
+            keys = new UnboundedKeyStore<>();
+        }
+        upstream.subscribe(
+                new DistinctByKeyProcessor<>(ParameterValidation.nonNullNpe(subscriber, "subscriber"), keyExtractor, keys));
+    }
+
+    static final class DistinctByKeyProcessor<T, K> extends MultiOperatorProcessor<T, T> {
+
+        private final Function<? super T, ? extends K> keyExtractor;
+        private final KeyStore<K> keys;
+
+        DistinctByKeyProcessor(MultiSubscriber<? super T> downstream, Function<? super T, ? extends K> keyExtractor,
+                KeyStore<K> keys) {
+            super(downstream);
+            this.keyExtractor = keyExtractor;
+            this.keys = keys;
+        }
+
+        @Override
+        public void onItem(T t) {
+            if (isDone()) {
+                return;
+            }
+
+            boolean added;
+            try {
+                K key = keyExtractor.apply(t);
+                if (key == null) {
+                    throw new NullPointerException("The key extractor returned `null`");
+                }
+                added = keys.add(key);
+            } catch (Throwable e) {
+                // catch exception thrown by the key extractor or the hashCode / equals methods
+                failAndCancel(e);
+                return;
+            }
+
+            if (added) {
+                downstream.onItem(t);
+            } else {
+                request(1);
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable t) {
+            super.onFailure(t);
+            keys.clear();
+        }
+
+        @Override
+        public void onCompletion() {
+            super.onCompletion();
+            keys.clear();
+        }
+
+        @Override
+        public void cancel() {
+            super.cancel();
+            keys.clear();
+        }
+    }
+
+    private interface KeyStore<K> {
+
+        /**
+         * Records the key.
+         *
+         * @param key the key
+         * @return {@code true} if the key was not known yet
+         */
+        boolean add(K key);
+
+        void clear();
+    }
+
+    private static final class UnboundedKeyStore<K> implements KeyStore<K> {
+
+        private final Set<K> keys = new HashSet<>();
+
+        @Override
+        public boolean add(K key) {
+            return keys.add(key);
+        }
+
+        @Override
+        public void clear() {
+            keys.clear();
+        }
+    }
+
+    /**
+     * Retains the most recently seen keys, a duplicate counts as a use of its key.
+     */
+    private static final class LruKeyStore<K> implements KeyStore<K> {
+
+        private final LinkedHashMap<K, Boolean> keys;
+
+        LruKeyStore(int maxKeys) {
+            this.keys = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Boolean> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+        }
+
+        @Override
+        public boolean add(K key) {
+            return keys.put(key, Boolean.TRUE) == null;
+        }
+
+        @Override
+        public void clear() {
+            keys.clear();
+        }
+    }
+
+    /**
+     * Retains the keys for a given duration after the emission of the item having the key. A duplicate does not
+     * extend the retention of its key.
+     */
+    private static final class WindowedKeyStore<K> implements KeyStore<K> {
+
+        // In emission order, so the expired keys are at the head
+        private final LinkedHashMap<K, Long> keys = new LinkedHashMap<>();
+        private final long windowNanos;
+
+        WindowedKeyStore(long windowNanos) {
+            this.windowNanos = windowNanos;
+        }
+
+        @Override
+        public boolean add(K key) {
+            long now = System.nanoTime();
+            Iterator<Long> iterator = keys.values().iterator();
+            while (iterator.hasNext()) {
+                if (now - iterator.next() < windowNanos) {
+                    break;
+                }
+                iterator.remove();
+            }
+            if (keys.containsKey(key)) {
+                return false;
+            }
+            keys.put(key, now);
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            keys.clear();
+        }
+    }
+}
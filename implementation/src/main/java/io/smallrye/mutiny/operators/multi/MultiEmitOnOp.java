@@ -17,9 +17,13 @@ import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.subscription.BackPressureFailure;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.QueueSubscription;
 
 /**
  * Emits events from upstream on a thread managed by the given scheduler.
+ * <p>
+ * If the upstream subscription is a {@link QueueSubscription}, the items are polled directly from the upstream
+ * instead of being stored in a queue owned by this operator.
  *
  * @param <T> the type of item
  */
@@ -47,10 +51,17 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
 
         // State variables
 
+        private final Supplier<? extends Queue<T>> queueSupplier;
+
+        /**
+         * Store the items, or the upstream subscription when fused
+         */
+        private volatile Queue<T> queue;
+
         /**
-         * Store the items
+         * The fusion mode negotiated with the upstream, see {@link QueueSubscription}
          */
-        private final Queue<T> queue;
+        private int sourceMode;
 
         /**
          * {@code true} if the subscription has been cancelled.
@@ -78,12 +89,33 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
             super(downstream);
             this.executor = executor;
             this.limit = 16;
-            this.queue = queueSupplier.get();
+            this.queueSupplier = queueSupplier;
         }
 
+        @SuppressWarnings("unchecked")
         @Override
         public void onSubscribe(Flow.Subscription subscription) {
             if (compareAndSetUpstreamSubscription(null, subscription)) {
+                if (subscription instanceof QueueSubscription) {
+                    QueueSubscription<T> qs = (QueueSubscription<T>) subscription;
+                    int mode = qs.requestFusion(this, QueueSubscription.ANY);
+                    if (mode == QueueSubscription.SYNC) {
+                        // All the items are already available, the upstream won't send any signal
+                        sourceMode = mode;
+                        queue = qs;
+                        done = true;
+                        downstream.onSubscribe(this);
+                        return;
+                    }
+                    if (mode == QueueSubscription.ASYNC) {
+                        sourceMode = mode;
+                        queue = qs;
+                        downstream.onSubscribe(this);
+                        subscription.request(16);
+                        return;
+                    }
+                }
+                queue = queueSupplier.get();
                 downstream.onSubscribe(this);
                 subscription.request(16);
             } else {
@@ -98,6 +130,12 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
                 return;
             }
 
+            if (sourceMode == QueueSubscription.ASYNC) {
+                // the item is already in the upstream queue
+                schedule();
+                return;
+            }
+
             if (!queue.offer(t)) {
                 // queue full, this is a failure.
                 // onError will schedule.
@@ -173,6 +211,68 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
 
         @Override
         public void run() {
+            if (sourceMode == QueueSubscription.SYNC) {
+                runSync();
+            } else {
+                runAsync();
+            }
+        }
+
+        private void runSync() {
+            int missed = 1;
+            final Queue<T> q = queue;
+            long emitted = produced;
+
+            for (;;) {
+                long requests = requested.get();
+                while (emitted != requests) {
+                    T item;
+                    try {
+                        item = q.poll();
+                    } catch (Throwable err) {
+                        cancelUpstream();
+                        downstream.onFailure(err);
+                        return;
+                    }
+
+                    if (cancelled) {
+                        q.clear();
+                        return;
+                    }
+
+                    if (item == null) {
+                        downstream.onCompletion();
+                        return;
+                    }
+
+                    downstream.onItem(item);
+                    emitted++;
+                }
+
+                if (cancelled) {
+                    q.clear();
+                    return;
+                }
+
+                if (q.isEmpty()) {
+                    downstream.onCompletion();
+                    return;
+                }
+
+                int w = wip.get();
+                if (missed == w) {
+                    produced = emitted;
+                    missed = wip.addAndGet(-missed);
+                    if (missed == 0) {
+                        break;
+                    }
+                } else {
+                    missed = w;
+                }
+            }
+        }
+
+        private void runAsync() {
             int missed = 1;
             final Queue<T> q = queue;
             long emitted = produced;
@@ -17,6 +17,7 @@ import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.subscription.BackPressureFailure;
 import io.smallrye.mutiny.subscription.ContextSupport;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.QueueSubscription;
 
 public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
     private final Function<? super I, ? extends Flow.Publisher<? extends O>> mapper;
@@ -115,11 +116,6 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
             return new FlatMapInner[size];
         }
 
-        @Override
-        void setIndex(FlatMapInner<O> entry, int index) {
-            entry.index = index;
-        }
-
         @Override
         void unsubscribeEntry(FlatMapInner<O> entry, boolean fromOnError) {
             entry.cancel(fromOnError);
@@ -285,6 +281,10 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                 if (r != 0L && !noSources) {
 
                     int j = lastIndex;
+                    if (j >= n) {
+                        // inners have been removed since the last pass
+                        j = 0;
+                    }
                     for (int i = 0; i < n; i++) {
                         if (cancelled) {
                             cancelUpstream(false);
@@ -296,9 +296,10 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                             d = inner.done;
                             Queue<O> q = inner.queue;
                             if (d && q == null) {
-                                remove(inner.index);
+                                if (remove(inner)) {
+                                    replenishMain++;
+                                }
                                 again = true;
-                                replenishMain++;
                             } else if (q != null) {
                                 while (e != r) {
                                     d = inner.done;
@@ -320,9 +321,10 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                                     }
 
                                     if (d && empty) {
-                                        remove(inner.index);
+                                        if (remove(inner)) {
+                                            replenishMain++;
+                                        }
                                         again = true;
-                                        replenishMain++;
                                         break;
                                     }
 
@@ -339,9 +341,10 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                                     d = inner.done;
                                     boolean empty = q.isEmpty();
                                     if (d && empty) {
-                                        remove(inner.index);
+                                        if (remove(inner)) {
+                                            replenishMain++;
+                                        }
                                         again = true;
-                                        replenishMain++;
                                     }
                                 }
 
@@ -397,9 +400,10 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                         }
 
                         if (d && empty) {
-                            remove(inner.index);
+                            if (remove(inner)) {
+                                replenishMain++;
+                            }
                             again = true;
-                            replenishMain++;
                         }
                     }
                 }
@@ -533,18 +537,27 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
 
         volatile boolean done;
 
-        int index;
-
         FlatMapInner(FlatMapMainSubscriber<?, O> parent, int requests) {
             this.parent = parent;
             this.requests = requests;
             this.limit = Subscriptions.unboundedOrLimit(requests);
         }
 
+        @SuppressWarnings("unchecked")
         @Override
         public void onSubscribe(Subscription s) {
             Objects.requireNonNull(s);
             if (SUBSCRIPTION_UPDATER.compareAndSet(this, null, s)) {
+                if (s instanceof QueueSubscription) {
+                    QueueSubscription<O> qs = (QueueSubscription<O>) s;
+                    if (qs.requestFusion(this, QueueSubscription.SYNC) == QueueSubscription.SYNC) {
+                        // The items are polled directly from the inner source by the drain loop
+                        queue = qs;
+                        done = true;
+                        parent.drain();
+                        return;
+                    }
+                }
                 s.request(Subscriptions.unboundedOrRequests(requests));
             }
         }
@@ -0,0 +1,533 @@
+package io.smallrye.mutiny.operators.multi;
+
+import java.util.Queue;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Function;
+
+import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.helpers.queues.Queues;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.AbstractUni;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscription;
+
+/**
+ * FlatMap operator specialized for mappers producing {@link Uni Unis}.
+ * <p>
+ * Unlike {@link MultiFlatMapOp} and {@link MultiConcatMapOp}, the {@link Uni Unis} are not converted to
+ * {@link Multi}: the operator subscribes a {@link UniSubscriber} holding at most one result to each of them, so there is
+ * no inner queue, and no inner subscription to request items from.
+ * <ul>
+ * <li>When <em>ordered</em>, the inners are kept in a queue in the upstream order, and the result of the head is emitted
+ * once known (<em>concatMapEager</em>). With a concurrency of 1, this is <em>concatMap</em>.</li>
+ * <li>Otherwise, the results are emitted as they come (<em>flatMap</em>): a result is emitted directly if there are
+ * downstream requests and no other result is waiting, otherwise the inner is queued until there are requests.</li>
+ * </ul>
+ * Up to {@code concurrency} upstream items are requested, the inners waiting for downstream requests counting as
+ * in-flight. Without prefetch, the upstream items are also only requested when there are downstream requests for them,
+ * as done by {@link MultiConcatMapOp}. When ordered with a concurrency of 1, more upstream items can be requested in
+ * advance: their {@link Uni Unis} are then subscribed one at a time, once they reach the head of the queue.
+ * <p>
+ * {@link Uni Unis} emitting {@code null} do not emit any item. A failure of the mapper cancels the upstream, even when
+ * the failures are collected, as done by {@link MultiFlatMapOp}. The only exception is the concatenation without
+ * prefetch: like {@link MultiConcatMapOp}, it collects the failures of the mapper as if the mapper had produced a failed
+ * {@link Uni}.
+ *
+ * @param <I> the upstream value type / input type
+ * @param <O> the output value type / produced type
+ */
+public final class MultiFlatMapUniOp<I, O> extends AbstractMultiOperator<I, O> {
+
+    private final Function<? super I, ? extends Uni<? extends O>> mapper;
+    private final boolean postponeFailurePropagation;
+    private final int concurrency;
+    private final boolean ordered;
+    private final boolean prefetch;
+    private final int requests;
+
+    public MultiFlatMapUniOp(Multi<? extends I> upstream,
+            Function<? super I, ? extends Uni<? extends O>> mapper,
+            boolean postponeFailurePropagation,
+            int concurrency,
+            boolean ordered,
+            boolean prefetch) {
+        this(upstream, mapper, postponeFailurePropagation, concurrency, ordered, prefetch, concurrency);
+    }
+
+    /**
+     * Creates an operator requesting more upstream items than the number of subscribed {@link Uni Unis}, which is only
+     * supported when ordered, with a concurrency of 1.
+     *
+     * @param upstream the upstream
+     * @param mapper the mapper producing the {@link Uni Unis}
+     * @param postponeFailurePropagation whether the failures are collected until the completion
+     * @param concurrency the maximum number of subscribed {@link Uni Unis}
+     * @param ordered whether the results are emitted in the upstream order
+     * @param prefetch whether the upstream items are requested before the downstream requests them
+     * @param requests the maximum number of upstream items requested and not consumed yet, at least
+     *        {@code concurrency}
+     */
+    public MultiFlatMapUniOp(Multi<? extends I> upstream,
+            Function<? super I, ? extends Uni<? extends O>> mapper,
+            boolean postponeFailurePropagation,
+            int concurrency,
+            boolean ordered,
+            boolean prefetch,
+            int requests) {
+        super(upstream);
+        this.mapper = ParameterValidation.nonNull(mapper, "mapper");
+        this.postponeFailurePropagation = postponeFailurePropagation;
+        this.concurrency = ParameterValidation.positive(concurrency, "concurrency");
+        this.ordered = ordered;
+        this.prefetch = prefetch;
+        if (requests < concurrency || (requests != concurrency && (!ordered || concurrency != 1))) {
+            throw new IllegalArgumentException("`requests` must be equal to `concurrency`, or greater when ordered "
+                    + "with a concurrency of 1");
+        }
+        this.requests = requests;
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super O> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("The subscriber must not be `null`");
+        }
+        FlatMapUniMainSubscriber<I, O> sub = new FlatMapUniMainSubscriber<>(subscriber, mapper,
+                postponeFailurePropagation, concurrency, ordered, prefetch, requests);
+        upstream.subscribe(Infrastructure.onMultiSubscription(upstream, sub));
+    }
+
+    static final class FlatMapUniMainSubscriber<I, O> extends MultiOperatorProcessor<I, O> {
+
+        private static final int INITIAL_SLOTS = 16;
+
+        private final Function<? super I, ? extends Uni<? extends O>> mapper;
+        private final boolean delayError;
+        private final long maxRequests;
+        private final boolean ordered;
+        private final boolean prefetch;
+        // Whether the Unis are subscribed once they reach the head of the queue, instead of on reception
+        private final boolean lazySubscription;
+
+        // Ordered: the inners in the upstream order. Unordered: the inners having a result, in completion order.
+        private final Queue<UniInner<O>> inners;
+
+        // Unordered only: the subscribed inners, to cancel them. A slot is free when empty or holding a released inner.
+        private volatile AtomicReferenceArray<UniInner<O>> slots;
+        // Only accessed by the upstream
+        private int cursor;
+
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicReference<Throwable> failures = new AtomicReference<>();
+        private volatile boolean upstreamDone;
+        // Set when a failure must be propagated immediately, even when the failures are postponed
+        private volatile boolean failFast;
+        // Only written by the upstream
+        private volatile long received;
+
+        // Only accessed while holding the wip
+        private long upstreamRequested;
+        private long consumed;
+
+        FlatMapUniMainSubscriber(MultiSubscriber<? super O> downstream,
+                Function<? super I, ? extends Uni<? extends O>> mapper,
+                boolean delayError, int concurrency, boolean ordered, boolean prefetch, int requests) {
+            super(downstream);
+            this.mapper = mapper;
+            this.delayError = delayError;
+            this.maxRequests = Subscriptions.unboundedOrRequests(requests);
+            this.ordered = ordered;
+            this.prefetch = prefetch;
+            this.lazySubscription = requests != concurrency;
+            if (ordered) {
+                this.inners = Queues.<UniInner<O>> get(requests).get();
+            } else {
+                this.inners = Queues.createMpscQueue();
+                this.slots = new AtomicReferenceArray<>(Math.min(concurrency, INITIAL_SLOTS));
+            }
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (compareAndSetUpstreamSubscription(null, subscription)) {
+                downstream.onSubscribe(this);
+                // Sends the first upstream request
+                drain();
+            } else {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(I item) {
+            if (upstreamDone || isCancelled()) {
+                return;
+            }
+            Uni<? extends O> uni;
+            try {
+                uni = mapper.apply(item);
+                if (uni == null) {
+                    throw new NullPointerException(ParameterValidation.MAPPER_RETURNED_NULL);
+                }
+            } catch (Throwable e) {
+                if (!delayError || !ordered || prefetch) {
+                    failImmediately(e);
+                    return;
+                }
+                // Collected as the failure of the Uni produced for this item, as done by MultiConcatMapOp
+                uni = Uni.createFrom().failure(e);
+            }
+            UniInner<O> inner = new UniInner<>(this);
+            if (lazySubscription) {
+                // Subscribed by the drain loop
+                inner.uni = uni;
+                if (!inners.offer(inner)) {
+                    failImmediately(new BackPressureFailure("Buffer full, cannot subscribe to the next Uni"));
+                    return;
+                }
+                received = received + 1;
+                drain();
+                return;
+            }
+            if (ordered) {
+                if (!inners.offer(inner)) {
+                    failImmediately(new BackPressureFailure("Buffer full, cannot subscribe to the next Uni"));
+                    return;
+                }
+            } else {
+                register(inner);
+            }
+            received = received + 1;
+            AbstractUni.subscribe(uni, inner);
+            // The drain loop may have cancelled the inners before this one got registered
+            if (isCancelled() || failFast || (!delayError && failures.get() != null)) {
+                inner.cancel();
+            }
+        }
+
+        private void register(UniInner<O> inner) {
+            AtomicReferenceArray<UniInner<O>> array = slots;
+            int length = array.length();
+            int index = cursor;
+            for (int i = 0; i < length; i++) {
+                if (index >= length) {
+                    index = 0;
+                }
+                UniInner<O> current = array.get(index);
+                if (current == null || current.released) {
+                    array.set(index, inner);
+                    cursor = index + 1;
+                    return;
+                }
+                index++;
+            }
+            // All the slots are in use, the released inners are copied but their slots will be reused
+            AtomicReferenceArray<UniInner<O>> grown = new AtomicReferenceArray<>(length * 2);
+            for (int i = 0; i < length; i++) {
+                grown.lazySet(i, array.get(i));
+            }
+            grown.set(length, inner);
+            cursor = length + 1;
+            slots = grown;
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (upstreamDone) {
+                Infrastructure.handleDroppedException(failure);
+                return;
+            }
+            Subscriptions.addFailure(failures, failure);
+            upstreamDone = true;
+            drain();
+        }
+
+        @Override
+        public void onCompletion() {
+            upstreamDone = true;
+            drain();
+        }
+
+        @Override
+        public void request(long numberOfItems) {
+            if (numberOfItems <= 0) {
+                failImmediately(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            Subscriptions.add(requested, numberOfItems);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (compareAndSwapDownstreamCancellationRequest()) {
+                cancelUpstream();
+                drain();
+            }
+        }
+
+        private void failImmediately(Throwable failure) {
+            upstreamDone = true;
+            failFast = true;
+            if (Subscriptions.addFailure(failures, failure)) {
+                cancelUpstreamSubscription();
+                drain();
+            } else {
+                Infrastructure.handleDroppedException(failure);
+            }
+        }
+
+        private void cancelUpstreamSubscription() {
+            Subscription subscription = getAndSetUpstreamSubscription(Subscriptions.CANCELLED);
+            if (subscription != null && subscription != Subscriptions.CANCELLED) {
+                subscription.cancel();
+            }
+        }
+
+        void onInnerResult(UniInner<O> inner) {
+            if (ordered) {
+                drain();
+                return;
+            }
+            if (wip.compareAndSet(0, 1)) {
+                // Fast path: emits the result directly if nothing is waiting
+                if (inners.isEmpty() && requested.get() != 0L && !isCancelled()
+                        && (delayError || failures.get() == null)) {
+                    consume(inner);
+                } else {
+                    inners.offer(inner);
+                }
+                // Checks the termination and requests the next items
+                drainLoop();
+            } else {
+                inners.offer(inner);
+                drain();
+            }
+        }
+
+        void onInnerFailure(UniInner<O> inner, Throwable failure) {
+            if (!Subscriptions.addFailure(failures, failure)) {
+                Infrastructure.handleDroppedException(failure);
+                return;
+            }
+            if (delayError) {
+                // Consumed as an inner without result
+                inner.done = true;
+                onInnerResult(inner);
+            } else {
+                cancelUpstreamSubscription();
+                drain();
+            }
+        }
+
+        /**
+         * Emits the result of the given inner, if any, and releases it. Must be called while holding the wip, with
+         * outstanding downstream requests if the inner has a result.
+         */
+        private void consume(UniInner<O> inner) {
+            O result = inner.result;
+            // The registry may keep the inner until its slot is reused
+            inner.result = null;
+            inner.released = true;
+            consumed++;
+            if (result != null) {
+                if (requested.get() != Long.MAX_VALUE) {
+                    requested.decrementAndGet();
+                }
+                downstream.onItem(result);
+            }
+        }
+
+        /**
+         * Requests more items from the upstream, up to the maximum number of requests, and without prefetch, up to the
+         * downstream requests. Must be called while holding the wip.
+         */
+        private void requestUpstream() {
+            if (upstreamDone || upstreamRequested == Long.MAX_VALUE) {
+                return;
+            }
+            long limit = maxRequests;
+            if (!prefetch) {
+                limit = Math.min(limit, requested.get());
+            }
+            long outstanding = upstreamRequested - consumed;
+            if (outstanding >= limit) {
+                return;
+            }
+            long n;
+            if (limit == Long.MAX_VALUE) {
+                n = Long.MAX_VALUE;
+                upstreamRequested = Long.MAX_VALUE;
+            } else {
+                n = limit - outstanding;
+                upstreamRequested += n;
+            }
+            Subscription subscription = getUpstreamSubscription();
+            if (subscription != null && subscription != Subscriptions.CANCELLED) {
+                subscription.request(n);
+            }
+        }
+
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            drainLoop();
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    if (isCancelled()) {
+                        cancelInners();
+                        return;
+                    }
+                    if (failures.get() != null && (!delayError || failFast)) {
+                        cancelUpstreamSubscription();
+                        // The results received before the failure are emitted first, as long as there are requests
+                        if (emitReadyResults()) {
+                            cancelInners();
+                            downstream.onFailure(failures.getAndSet(Subscriptions.TERMINATED));
+                        } else {
+                            cancelInners();
+                        }
+                        return;
+                    }
+                    // Read before counting the inners, as the last item is received before the completion
+                    boolean completed = upstreamDone;
+                    UniInner<O> inner = inners.peek();
+                    if (inner != null && inner.uni != null) {
+                        Uni<? extends O> uni = inner.uni;
+                        inner.uni = null;
+                        // May complete synchronously, the loop then continues with the next inner
+                        AbstractUni.subscribe(uni, inner);
+                        continue;
+                    }
+                    if (inner == null || !inner.done) {
+                        if (completed && consumed == received) {
+                            Throwable failure = failures.getAndSet(Subscriptions.TERMINATED);
+                            if (failure != null) {
+                                downstream.onFailure(failure);
+                            } else {
+                                downstream.onCompletion();
+                            }
+                            return;
+                        }
+                        break;
+                    }
+                    if (inner.result != null && requested.get() == 0L) {
+                        break;
+                    }
+                    inners.poll();
+                    consume(inner);
+                }
+                requestUpstream();
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        /**
+         * Emits the results of the inners at the head of the queue which have already been received, while there are
+         * downstream requests. Must be called while holding the wip.
+         *
+         * @return {@code false} if the downstream cancelled in the meantime, {@code true} otherwise
+         */
+        private boolean emitReadyResults() {
+            for (;;) {
+                UniInner<O> inner = inners.peek();
+                if (inner == null || !inner.done || (inner.result != null && requested.get() == 0L)) {
+                    return true;
+                }
+                inners.poll();
+                consume(inner);
+                if (isCancelled()) {
+                    return false;
+                }
+            }
+        }
+
+        private void cancelInners() {
+            UniInner<O> inner;
+            while ((inner = inners.poll()) != null) {
+                inner.cancel();
+            }
+            if (!ordered) {
+                AtomicReferenceArray<UniInner<O>> array = slots;
+                for (int i = 0; i < array.length(); i++) {
+                    UniInner<O> current = array.get(i);
+                    if (current != null) {
+                        current.cancel();
+                    }
+                }
+            }
+        }
+    }
+
+    static final class UniInner<O> implements UniSubscriber<O> {
+
+        private static final AtomicReferenceFieldUpdater<UniInner, UniSubscription> SUBSCRIPTION_UPDATER = AtomicReferenceFieldUpdater
+                .newUpdater(UniInner.class, UniSubscription.class, "subscription");
+
+        final FlatMapUniMainSubscriber<?, O> parent;
+
+        volatile UniSubscription subscription;
+        // The Uni to subscribe to when lazily subscribed, written before the inner is queued
+        Uni<? extends O> uni;
+        // Written before done
+        O result;
+        volatile boolean done;
+        // Set once the result has been consumed
+        volatile boolean released;
+
+        UniInner(FlatMapUniMainSubscriber<?, O> parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public Context context() {
+            return parent.context();
+        }
+
+        @Override
+        public void onSubscribe(UniSubscription subscription) {
+            if (!SUBSCRIPTION_UPDATER.compareAndSet(this, null, subscription)) {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(O item) {
+            result = item;
+            done = true;
+            parent.onInnerResult(this);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            parent.onInnerFailure(this, failure);
+        }
+
+        void cancel() {
+            UniSubscription previous = SUBSCRIPTION_UPDATER.getAndSet(this, Subscriptions.CANCELLED);
+            if (previous != null && previous != Subscriptions.CANCELLED) {
+                previous.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package io.smallrye.mutiny.operators.multi;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.MAPPER_RETURNED_NULL;
+import static io.smallrye.mutiny.helpers.Subscriptions.CANCELLED;
+
+import java.util.Arrays;
+import java.util.concurrent.Flow.Subscription;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Operator fusing a chain of consecutive synchronous {@code transform} ({@link MultiMapOp}) and {@code where}
+ * ({@link MultiSelectWhereOp}) stages into a single processor.
+ * <p>
+ * Each stage is either a mapper or a predicate, applied in assembly order on every item. The behavior is the same
+ * as the chain of individual operators (a mapper returning {@code null} or a callback throwing an exception fails the
+ * stream, a rejected item triggers a request for a new item), but the items go through a single
+ * {@link MultiOperatorProcessor}, so each subscription allocates one processor and each item pays one
+ * {@code onItem} hop regardless of the number of stages.
+ * <p>
+ * Fusion happens at assembly time, see {@link #map(Multi, Function)} and {@link #where(Multi, Predicate)}. The
+ * upstream operators are left untouched, so they can still be subscribed to independently.
+ *
+ * @param <I> the type of item received from the upstream
+ * @param <O> the type of item emitted downstream
+ */
+public final class MultiMapWhereFusedOp<I, O> extends AbstractMultiOperator<I, O> {
+
+    /*
+     * Stages are stored in two parallel arrays: at index i, exactly one of mappers[i] and predicates[i] is not null.
+     */
+    @SuppressWarnings("rawtypes")
+    private final Function[] mappers;
+    @SuppressWarnings("rawtypes")
+    private final Predicate[] predicates;
+
+    @SuppressWarnings("rawtypes")
+    private MultiMapWhereFusedOp(Multi<? extends I> upstream, Function[] mappers, Predicate[] predicates) {
+        super(upstream);
+        this.mappers = mappers;
+        this.predicates = predicates;
+    }
+
+    /**
+     * Creates the operator applying the given mapper on the items emitted by {@code upstream}.
+     * If {@code upstream} is itself a synchronous {@code transform} or {@code where} stage, the mapper is fused into
+     * a single operator with it.
+     *
+     * @param upstream the upstream, must not be {@code null}
+     * @param mapper the mapper, must not be {@code null}
+     * @param <T> the type of item received from the upstream
+     * @param <R> the type of item produced by the mapper
+     * @return the new {@link Multi}
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static <T, R> Multi<R> map(Multi<T> upstream, Function<? super T, ? extends R> mapper) {
+        ParameterValidation.nonNull(mapper, "mapper");
+        if (!isFusable(upstream)) {
+            return new MultiMapOp<>(upstream, mapper);
+        }
+        return (Multi<R>) fuse((AbstractMultiOperator) upstream, mapper, null);
+    }
+
+    /**
+     * Creates the operator selecting the items emitted by {@code upstream} passing the given predicate.
+     * If {@code upstream} is itself a synchronous {@code transform} or {@code where} stage, the predicate is fused
+     * into a single operator with it.
+     *
+     * @param upstream the upstream, must not be {@code null}
+     * @param predicate the predicate, must not be {@code null}
+     * @param <T> the type of item
+     * @return the new {@link Multi}
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static <T> Multi<T> where(Multi<T> upstream, Predicate<? super T> predicate) {
+        ParameterValidation.nonNull(predicate, "predicate");
+        if (!isFusable(upstream)) {
+            return new MultiSelectWhereOp<>(upstream, predicate);
+        }
+        return (Multi<T>) fuse((AbstractMultiOperator) upstream, null, predicate);
+    }
+
+    private static boolean isFusable(Multi<?> upstream) {
+        // Exact class checks: MultiSelectWhereOp is not final, and subclasses may alter its behavior
+        Class<?> clazz = upstream.getClass();
+        return clazz == MultiMapOp.class || clazz == MultiSelectWhereOp.class || clazz == MultiMapWhereFusedOp.class;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static MultiMapWhereFusedOp<?, ?> fuse(AbstractMultiOperator<?, ?> operator, Function mapper,
+            Predicate predicate) {
+        Function[] mappers;
+        Predicate[] predicates;
+        if (operator instanceof MultiMapWhereFusedOp) {
+            MultiMapWhereFusedOp<?, ?> fused = (MultiMapWhereFusedOp<?, ?>) operator;
+            mappers = Arrays.copyOf(fused.mappers, fused.mappers.length + 1);
+            predicates = Arrays.copyOf(fused.predicates, fused.predicates.length + 1);
+        } else {
+            mappers = new Function[2];
+            predicates = new Predicate[2];
+            if (operator instanceof MultiMapOp) {
+                mappers[0] = ((MultiMapOp) operator).mapper();
+            } else {
+                predicates[0] = ((MultiSelectWhereOp) operator).predicate();
+            }
+        }
+        mappers[mappers.length - 1] = mapper;
+        predicates[predicates.length - 1] = predicate;
+        return new MultiMapWhereFusedOp<>(operator.upstream(), mappers, predicates);
+    }
+
+    /**
+     * @return the number of fused stages
+     */
+    int stages() {
+        return mappers.length;
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super O> subscriber) {
+        ParameterValidation.nonNullNpe(subscriber, "subscriber");
+        upstream.subscribe().withSubscriber(new MapWhereFusedProcessor<>(subscriber, mappers, predicates));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static final class MapWhereFusedProcessor<I, O> extends MultiOperatorProcessor<I, O> {
+
+        private final Function[] mappers;
+        private final Predicate[] predicates;
+        private boolean requestedMax = false;
+
+        MapWhereFusedProcessor(MultiSubscriber<? super O> downstream, Function[] mappers, Predicate[] predicates) {
+            super(downstream);
+            this.mappers = mappers;
+            this.predicates = predicates;
+        }
+
+        @Override
+        public void onItem(I item) {
+            if (isDone()) {
+                return;
+            }
+
+            Object current = item;
+            for (int i = 0; i < mappers.length; i++) {
+                Function mapper = mappers[i];
+                if (mapper != null) {
+                    try {
+                        current = mapper.apply(current);
+                    } catch (Throwable failure) {
+                        failAndCancel(failure);
+                        return;
+                    }
+                    if (current == null) {
+                        failAndCancel(new NullPointerException(MAPPER_RETURNED_NULL));
+                        return;
+                    }
+                } else {
+                    boolean passed;
+                    try {
+                        passed = predicates[i].test(current);
+                    } catch (Throwable failure) {
+                        failAndCancel(failure);
+                        return;
+                    }
+                    if (!passed) {
+                        if (!requestedMax) {
+                            request(1);
+                        }
+                        return;
+                    }
+                }
+            }
+            downstream.onItem((O) current);
+        }
+
+        @Override
+        public void request(long numberOfItems) {
+            Subscription subscription = getUpstreamSubscription();
+            if (subscription != CANCELLED) {
+                if (numberOfItems <= 0) {
+                    onFailure(new IllegalArgumentException("Invalid number of request, must be greater than 0"));
+                    return;
+                }
+                if (numberOfItems == Long.MAX_VALUE) {
+                    requestedMax = true;
+                }
+                subscription.request(numberOfItems);
+            }
+        }
+    }
+}
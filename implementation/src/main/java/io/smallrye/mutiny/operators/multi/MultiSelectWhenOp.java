@@ -0,0 +1,297 @@
+package io.smallrye.mutiny.operators.multi;
+
+import java.util.Queue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Function;
+
+import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.helpers.queues.Queues;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscription;
+
+/**
+ * Selects the items for which an asynchronous predicate produced an expected outcome, evaluating the predicate of up
+ * to {@code concurrency} items at the same time.
+ * <p>
+ * The items waiting for the outcome of their predicate, or for the downstream demand, are kept in a queue in the
+ * upstream order. The head of the queue is emitted or dropped once its outcome is known, so the items are emitted in
+ * the upstream order, even if the predicates of the next items complete first. The upstream is requested
+ * {@code concurrency} items first, and one more item each time an item leaves the queue.
+ * <p>
+ * If the predicate throws an exception, produces a {@code null} {@link Uni}, or produces a {@link Uni} emitting a
+ * failure or {@code null}, the failure is propagated downstream, and the pending evaluations are cancelled.
+ *
+ * @param <T> the type of items
+ */
+public final class MultiSelectWhenOp<T> extends AbstractMultiOperator<T, T> {
+
+    private final Function<? super T, Uni<Boolean>> predicate;
+    private final boolean expected;
+    private final int concurrency;
+
+    /**
+     * Creates a new operator.
+     *
+     * @param upstream the upstream
+     * @param predicate the function producing the {@link Uni} testing an item
+     * @param expected the outcome for which an item is emitted, {@code true} to select items, {@code false} to skip them
+     * @param concurrency the maximum number of predicates evaluated at the same time
+     */
+    public MultiSelectWhenOp(Multi<? extends T> upstream, Function<? super T, Uni<Boolean>> predicate,
+            boolean expected, int concurrency) {
+        super(upstream);
+        this.predicate = predicate;
+        this.expected = expected;
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super T> subscriber) {
+        upstream.subscribe(new SelectWhenProcessor<>(ParameterValidation.nonNullNpe(subscriber, "subscriber"),
+                predicate, expected, concurrency));
+    }
+
+    static final class SelectWhenProcessor<T> extends MultiOperatorProcessor<T, T> {
+
+        private final Function<? super T, Uni<Boolean>> predicate;
+        private final boolean expected;
+        private final int concurrency;
+        // Written by the upstream, read by the drain loop
+        private final Queue<Evaluation<T>> evaluations;
+
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private volatile boolean upstreamCompleted;
+
+        SelectWhenProcessor(MultiSubscriber<? super T> downstream, Function<? super T, Uni<Boolean>> predicate,
+                boolean expected, int concurrency) {
+            super(downstream);
+            this.predicate = predicate;
+            this.expected = expected;
+            this.concurrency = concurrency;
+            this.evaluations = Queues.<Evaluation<T>> get(concurrency).get();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            if (compareAndSetUpstreamSubscription(null, subscription)) {
+                downstream.onSubscribe(this);
+                subscription.request(concurrency);
+            } else {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(T item) {
+            if (upstreamCompleted || failure.get() != null || isCancelled()) {
+                return;
+            }
+            Uni<Boolean> uni;
+            try {
+                uni = predicate.apply(item);
+                if (uni == null) {
+                    throw new NullPointerException("The predicate returned `null`");
+                }
+            } catch (Throwable e) {
+                fail(e);
+                return;
+            }
+            Evaluation<T> evaluation = new Evaluation<>(this, item);
+            if (!evaluations.offer(evaluation)) {
+                fail(new BackPressureFailure("Unable to enqueue the item, the upstream emitted more items than requested"));
+                return;
+            }
+            uni.subscribe().withSubscriber(evaluation);
+            // The drain loop may have cancelled the queued evaluations before this one got queued
+            if (failure.get() != null || isCancelled()) {
+                evaluation.cancel();
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable throwable) {
+            if (upstreamCompleted || !failure.compareAndSet(null, throwable)) {
+                Infrastructure.handleDroppedException(throwable);
+                return;
+            }
+            upstreamCompleted = true;
+            drain();
+        }
+
+        @Override
+        public void onCompletion() {
+            upstreamCompleted = true;
+            drain();
+        }
+
+        @Override
+        public void request(long numberOfItems) {
+            if (numberOfItems <= 0) {
+                fail(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            Subscriptions.add(requested, numberOfItems);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (compareAndSwapDownstreamCancellationRequest()) {
+                cancelUpstream();
+                drain();
+            }
+        }
+
+        void fail(Throwable throwable) {
+            if (failure.compareAndSet(null, throwable)) {
+                Flow.Subscription subscription = getAndSetUpstreamSubscription(Subscriptions.CANCELLED);
+                if (subscription != null && subscription != Subscriptions.CANCELLED) {
+                    subscription.cancel();
+                }
+                drain();
+            } else {
+                Infrastructure.handleDroppedException(throwable);
+            }
+        }
+
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            for (;;) {
+                long req = requested.get();
+                long emitted = 0L;
+                long consumed = 0L;
+                for (;;) {
+                    if (isCancelled()) {
+                        cancelEvaluations();
+                        return;
+                    }
+                    Throwable throwable = failure.get();
+                    if (throwable != null) {
+                        cancelEvaluations();
+                        downstream.onFailure(throwable);
+                        return;
+                    }
+                    // Read before checking the queue, as the last item is queued before the completion
+                    boolean completed = upstreamCompleted;
+                    Evaluation<T> head = evaluations.peek();
+                    if (head == null) {
+                        if (completed) {
+                            downstream.onCompletion();
+                            return;
+                        }
+                        break;
+                    }
+                    int state = head.state;
+                    if (state == Evaluation.PENDING || (state == Evaluation.SELECTED && emitted == req)) {
+                        break;
+                    }
+                    evaluations.poll();
+                    consumed++;
+                    if (state == Evaluation.SELECTED) {
+                        downstream.onItem(head.item);
+                        emitted++;
+                    }
+                }
+                if (emitted != 0L && req != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                if (consumed != 0L) {
+                    Flow.Subscription subscription = getUpstreamSubscription();
+                    if (subscription != Subscriptions.CANCELLED) {
+                        subscription.request(consumed);
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private void cancelEvaluations() {
+            Evaluation<T> evaluation;
+            while ((evaluation = evaluations.poll()) != null) {
+                evaluation.cancel();
+            }
+        }
+
+        void onOutcome(Evaluation<T> evaluation, Boolean outcome) {
+            if (outcome == null) {
+                fail(new NullPointerException("The predicate produced a `null` outcome"));
+                return;
+            }
+            evaluation.state = outcome == expected ? Evaluation.SELECTED : Evaluation.DROPPED;
+            drain();
+        }
+    }
+
+    /**
+     * The evaluation of the predicate for an item.
+     *
+     * @param <T> the type of items
+     */
+    static final class Evaluation<T> implements UniSubscriber<Boolean> {
+
+        static final int PENDING = 0;
+        static final int SELECTED = 1;
+        static final int DROPPED = 2;
+
+        private static final AtomicReferenceFieldUpdater<Evaluation, UniSubscription> SUBSCRIPTION_UPDATER = AtomicReferenceFieldUpdater
+                .newUpdater(Evaluation.class, UniSubscription.class, "subscription");
+
+        final SelectWhenProcessor<T> parent;
+        final T item;
+        volatile int state = PENDING;
+        volatile UniSubscription subscription;
+
+        Evaluation(SelectWhenProcessor<T> parent, T item) {
+            this.parent = parent;
+            this.item = item;
+        }
+
+        @Override
+        public Context context() {
+            return parent.context();
+        }
+
+        @Override
+        public void onSubscribe(UniSubscription subscription) {
+            if (!SUBSCRIPTION_UPDATER.compareAndSet(this, null, subscription)) {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(Boolean outcome) {
+            parent.onOutcome(this, outcome);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            parent.fail(failure);
+        }
+
+        void cancel() {
+            UniSubscription previous = SUBSCRIPTION_UPDATER.getAndSet(this, Subscriptions.CANCELLED);
+            if (previous != null && previous != Subscriptions.CANCELLED) {
+                previous.cancel();
+            }
+        }
+    }
+}
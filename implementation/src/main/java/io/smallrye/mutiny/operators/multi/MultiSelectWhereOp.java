@@ -23,6 +23,10 @@ public class MultiSelectWhereOp<T> extends AbstractMultiOperator<T, T> {
         this.predicate = ParameterValidation.nonNull(predicate, "predicate");
     }
 
+    Predicate<? super T> predicate() {
+        return predicate;
+    }
+
     @Override
     public void subscribe(MultiSubscriber<? super T> subscriber) {
         ParameterValidation.nonNullNpe(subscriber, "subscriber");
@@ -1,5 +1,7 @@
 package io.smallrye.mutiny.operators.multi.builders;
 
+import java.util.Collection;
+import java.util.Objects;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -60,6 +62,41 @@ abstract class BaseMultiEmitter<T>
         }
     }
 
+    @Override
+    public MultiEmitter<T> emitAll(Collection<? extends T> items) {
+        ParameterValidation.nonNull(items, "items");
+        for (T item : items) {
+            if (!emitBatchItem(item)) {
+                break;
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public MultiEmitter<T> emit(T[] items, int offset, int length) {
+        ParameterValidation.nonNull(items, "items");
+        Objects.checkFromIndexSize(offset, length, items.length);
+        for (int i = offset; i < offset + length; i++) {
+            if (!emitBatchItem(items[i])) {
+                break;
+            }
+        }
+        return this;
+    }
+
+    private boolean emitBatchItem(T item) {
+        if (isCancelled()) {
+            return false;
+        }
+        if (item == null) {
+            fail(new NullPointerException("`emit` called with `null`."));
+            return false;
+        }
+        emit(item);
+        return true;
+    }
+
     @Override
     public boolean isCancelled() {
         return onTermination.get() == CLEARED;
@@ -1,9 +1,12 @@
 package io.smallrye.mutiny.operators.multi.builders;
 
 import java.nio.BufferOverflowException;
+import java.util.Collection;
+import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.subscription.MultiEmitter;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
@@ -26,16 +29,61 @@ public class BufferItemMultiEmitter<T> extends BaseMultiEmitter<T> {
             return this;
         }
 
+        if (enqueue(t)) {
+            drain();
+        }
+        return this;
+    }
+
+    @Override
+    public MultiEmitter<T> emitAll(Collection<? extends T> items) {
+        ParameterValidation.nonNull(items, "items");
+        if (done || isCancelled()) {
+            return this;
+        }
+
+        for (T t : items) {
+            if (!enqueue(t)) {
+                return this;
+            }
+        }
+        drain();
+        return this;
+    }
+
+    @Override
+    public MultiEmitter<T> emit(T[] items, int offset, int length) {
+        ParameterValidation.nonNull(items, "items");
+        Objects.checkFromIndexSize(offset, length, items.length);
+        if (done || isCancelled()) {
+            return this;
+        }
+
+        for (int i = offset; i < offset + length; i++) {
+            if (!enqueue(items[i])) {
+                return this;
+            }
+        }
+        drain();
+        return this;
+    }
+
+    /**
+     * Enqueues an item without draining, failing the emitter if the item is {@code null} or the queue is full.
+     *
+     * @param t the item
+     * @return {@code true} if the item has been enqueued
+     */
+    private boolean enqueue(T t) {
         if (t == null) {
             fail(new NullPointerException("`emit` called with `null`."));
-            return this;
+            return false;
         }
-        if (queue.offer(t)) {
-            drain();
-        } else {
+        if (!queue.offer(t)) {
             fail(new EmitterBufferOverflowException());
+            return false;
         }
-        return this;
+        return true;
     }
 
     @Override
@@ -8,6 +8,7 @@ import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.operators.AbstractMulti;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.QueueSubscription;
 
 public class CollectionBasedMulti<T> extends AbstractMulti<T> {
 
@@ -36,12 +37,17 @@ public class CollectionBasedMulti<T> extends AbstractMulti<T> {
         actual.onSubscribe(new CollectionSubscription<>(actual, collection));
     }
 
-    private static final class CollectionSubscription<T> implements Flow.Subscription {
+    private static final class CollectionSubscription<T> implements QueueSubscription<T> {
 
         private final MultiSubscriber<? super T> downstream;
         private final List<T> collection; // Immutable
         private int index;
 
+        /**
+         * {@code true} if the downstream pulls the items using {@link #poll()}
+         */
+        private boolean fused;
+
         private volatile boolean cancelled;
         AtomicLong requested = new AtomicLong();
 
@@ -58,8 +64,46 @@ public class CollectionBasedMulti<T> extends AbstractMulti<T> {
             }
         }
 
+        @Override
+        public int requestFusion(Flow.Subscriber<?> requester, int mode) {
+            if (requester == downstream && (mode & SYNC) != 0) {
+                fused = true;
+                return SYNC;
+            }
+            return NONE;
+        }
+
+        @Override
+        public T poll() {
+            int current = index;
+            if (current == collection.size()) {
+                return null;
+            }
+            index = current + 1;
+            return collection.get(current);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return index == collection.size();
+        }
+
+        @Override
+        public int size() {
+            return collection.size() - index;
+        }
+
+        @Override
+        public void clear() {
+            index = collection.size();
+        }
+
         @Override
         public void request(long n) {
+            if (fused) {
+                // The downstream pulls the items
+                return;
+            }
             if (n > 0) {
                 if (Subscriptions.add(requested, n) == 0) {
                     if (n == Long.MAX_VALUE) {
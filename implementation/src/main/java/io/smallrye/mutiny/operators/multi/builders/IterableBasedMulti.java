@@ -1,13 +1,14 @@
 package io.smallrye.mutiny.operators.multi.builders;
 
 import java.util.Iterator;
-import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicLong;
 
 import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.operators.AbstractMulti;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.QueueSubscription;
 
 public class IterableBasedMulti<T> extends AbstractMulti<T> {
 
@@ -48,7 +49,7 @@ public class IterableBasedMulti<T> extends AbstractMulti<T> {
         downstream.onSubscribe(new IteratorSubscription<T>(downstream, iterator));
     }
 
-    private static final class IteratorSubscription<T> implements Subscription {
+    private static final class IteratorSubscription<T> implements QueueSubscription<T> {
 
         private final Iterator<? extends T> iterator;
         private final MultiSubscriber<? super T> downstream;
@@ -56,13 +57,110 @@ public class IterableBasedMulti<T> extends AbstractMulti<T> {
         private volatile boolean cancelled;
         private final AtomicLong requested = new AtomicLong();
 
+        // Fusion state, only accessed by the downstream pulling the items
+
+        /**
+         * {@code true} if the downstream pulls the items using {@link #poll()}
+         */
+        private boolean fused;
+
+        /**
+         * {@code true} if {@code iterator.hasNext()} returned {@code true} and the item has not been pulled yet.
+         * It starts as {@code true} as the iterator is checked before creating the subscription.
+         */
+        private boolean hasNextChecked = true;
+
+        /**
+         * {@code true} if the iterator has no more items, or if the subscription has been cleared
+         */
+        private boolean exhausted;
+
+        /**
+         * Failure thrown by {@code iterator.hasNext()} in {@link #isEmpty()}, and rethrown by the next {@link #poll()}
+         */
+        private Throwable pendingFailure;
+
         IteratorSubscription(MultiSubscriber<? super T> downstream, Iterator<? extends T> iterator) {
             this.downstream = downstream;
             this.iterator = iterator;
         }
 
+        @Override
+        public int requestFusion(Flow.Subscriber<?> requester, int mode) {
+            if (requester == downstream && (mode & SYNC) != 0) {
+                fused = true;
+                return SYNC;
+            }
+            return NONE;
+        }
+
+        @Override
+        public T poll() {
+            Throwable failure = pendingFailure;
+            if (failure != null) {
+                pendingFailure = null;
+                exhausted = true;
+                throw IteratorSubscription.<RuntimeException> propagate(failure);
+            }
+            if (exhausted) {
+                return null;
+            }
+            if (!hasNextChecked && !iterator.hasNext()) {
+                exhausted = true;
+                return null;
+            }
+            hasNextChecked = false;
+            T item = iterator.next();
+            if (item == null) {
+                exhausted = true;
+                throw new NullPointerException("Iterator.next() returned a null value");
+            }
+            return item;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <E extends Throwable> E propagate(Throwable failure) throws E {
+            throw (E) failure;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            if (pendingFailure != null) {
+                return false;
+            }
+            if (exhausted) {
+                return true;
+            }
+            if (hasNextChecked) {
+                return false;
+            }
+            try {
+                hasNextChecked = iterator.hasNext();
+            } catch (Throwable failure) {
+                // Reported by the next poll
+                pendingFailure = failure;
+                return false;
+            }
+            exhausted = !hasNextChecked;
+            return exhausted;
+        }
+
+        @Override
+        public int size() {
+            return isEmpty() ? 0 : 1;
+        }
+
+        @Override
+        public void clear() {
+            exhausted = true;
+        }
+
         @Override
         public void request(long n) {
+            if (fused) {
+                // The downstream pulls the items
+                return;
+            }
             if (n > 0) {
                 if (Subscriptions.add(requested, n) == 0L) {
                     if (n == Long.MAX_VALUE) {
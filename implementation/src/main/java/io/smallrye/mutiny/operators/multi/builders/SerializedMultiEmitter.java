@@ -2,12 +2,16 @@ package io.smallrye.mutiny.operators.multi.builders;
 
 import static io.smallrye.mutiny.helpers.Subscriptions.TERMINATED;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.subscription.ContextSupport;
@@ -26,6 +30,8 @@ public class SerializedMultiEmitter<T> implements MultiEmitter<T>, MultiSubscrib
     private final AtomicReference<Throwable> failure = new AtomicReference<>();
     private final Queue<T> queue = Queues.createMpscQueue();
 
+    // A failure propagated once the queued items have been emitted, written before done
+    private Throwable failureAfterQueuedItems;
     private volatile boolean done;
 
     SerializedMultiEmitter(BaseMultiEmitter<T> downstream) {
@@ -63,6 +69,49 @@ public class SerializedMultiEmitter<T> implements MultiEmitter<T>, MultiSubscrib
         drainLoop();
     }
 
+    void onItems(Collection<? extends T> items) {
+        if (downstream.isCancelled() || done) {
+            return;
+        }
+        if (wip.compareAndSet(0, 1)) {
+            downstream.emitAll(items);
+            if (wip.decrementAndGet() == 0) {
+                return;
+            }
+        } else {
+            boolean containsNull = false;
+            Queue<T> q = queue;
+            synchronized (q) {
+                for (T item : items) {
+                    if (item == null) {
+                        containsNull = true;
+                        break;
+                    }
+                    q.offer(item);
+                }
+            }
+            if (containsNull) {
+                // The items preceding the null item are emitted before the failure
+                failAfterQueuedItems(new NullPointerException("`emit` called with `null`."));
+                return;
+            }
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+        }
+        drainLoop();
+    }
+
+    private void failAfterQueuedItems(Throwable failure) {
+        if (downstream.isCancelled() || done) {
+            Infrastructure.handleDroppedException(failure);
+            return;
+        }
+        failureAfterQueuedItems = failure;
+        done = true;
+        drain();
+    }
+
     @Override
     public void onFailure(Throwable failure) {
         if (downstream.isCancelled() || done) {
@@ -114,7 +163,12 @@ public class SerializedMultiEmitter<T> implements MultiEmitter<T>, MultiSubscrib
                 T item = q.poll();
                 boolean isEmpty = item == null;
                 if (isDone && isEmpty) {
-                    emitter.complete();
+                    Throwable failure = failureAfterQueuedItems;
+                    if (failure != null) {
+                        emitter.fail(failure);
+                    } else {
+                        emitter.complete();
+                    }
                     return;
                 }
 
@@ -141,6 +195,22 @@ public class SerializedMultiEmitter<T> implements MultiEmitter<T>, MultiSubscrib
         return this;
     }
 
+    @Override
+    public MultiEmitter<T> emitAll(Collection<? extends T> items) {
+        ParameterValidation.nonNull(items, "items");
+        onItems(items);
+        return this;
+    }
+
+    @Override
+    public MultiEmitter<T> emit(T[] items, int offset, int length) {
+        ParameterValidation.nonNull(items, "items");
+        Objects.checkFromIndexSize(offset, length, items.length);
+        // The sub-list is a view, the items are not copied
+        onItems(Arrays.asList(items).subList(offset, offset + length));
+        return this;
+    }
+
     @Override
     public void fail(Throwable failure) {
         if (failure == null) {
@@ -15,13 +15,19 @@ import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.subscription.BackPressureStrategy;
 import io.smallrye.mutiny.subscription.Cancellable;
 import io.smallrye.mutiny.subscription.ContextSupport;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.QueueSubscription;
 
 /**
  * A connectable observable which shares an underlying source and dispatches source values to subscribers in a
  * back-pressure-aware manner.
+ * <p>
+ * By default, the items are dispatched at the pace of the slowest subscriber. When created with a per-subscriber
+ * {@link BackPressureStrategy}, the items are dispatched at the pace of the fastest subscriber, and each subscriber
+ * gets its own bounded buffer: the strategy decides what happens when a slower subscriber's buffer is full.
  *
  * @param <T> the value type
  */
@@ -42,20 +48,43 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
      */
     private final int bufferSize;
 
+    /**
+     * The per-subscriber back-pressure strategy, {@code null} if the subscribers are not buffered.
+     */
+    private final BackPressureStrategy strategy;
+
     private final Publisher<T> onSubscribe;
 
     public static <T> ConnectableMulti<T> create(Multi<T> upstream) {
+        return create(upstream, null, 0);
+    }
+
+    /**
+     * Creates a new publish operator giving each subscriber its own buffer.
+     *
+     * @param upstream the upstream
+     * @param strategy the strategy applied when the buffer of a subscriber is full, {@code null} to dispatch the
+     *        items at the pace of the slowest subscriber
+     * @param subscriberBufferSize the size of the buffer of each subscriber, ignored with the
+     *        {@link BackPressureStrategy#ERROR} strategy
+     * @param <T> the type of item
+     * @return the connectable multi
+     */
+    public static <T> ConnectableMulti<T> create(Multi<T> upstream, BackPressureStrategy strategy,
+            int subscriberBufferSize) {
         final AtomicReference<PublishSubscriber<T>> curr = new AtomicReference<>();
-        Publisher<T> onSubscribe = new InnerPublisher<>(curr, 128);
-        return new MultiPublishOp<>(onSubscribe, upstream, curr, 128);
+        int actualSubscriberBufferSize = strategy == BackPressureStrategy.ERROR ? 0 : subscriberBufferSize;
+        Publisher<T> onSubscribe = new InnerPublisher<>(curr, 128, strategy, actualSubscriberBufferSize);
+        return new MultiPublishOp<>(onSubscribe, upstream, curr, 128, strategy);
     }
 
     private MultiPublishOp(Publisher<T> onSubscribe, Multi<T> upstream,
-            final AtomicReference<PublishSubscriber<T>> current, int bufferSize) {
+            final AtomicReference<PublishSubscriber<T>> current, int bufferSize, BackPressureStrategy strategy) {
         super(upstream);
         this.onSubscribe = onSubscribe;
         this.current = current;
         this.bufferSize = bufferSize;
+        this.strategy = strategy;
     }
 
     @Override
@@ -81,7 +110,7 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
                 } else {
                     context = Context.empty();
                 }
-                PublishSubscriber<T> u = new PublishSubscriber<>(current, bufferSize, context);
+                PublishSubscriber<T> u = new PublishSubscriber<>(current, bufferSize, strategy != null, context);
                 // try setting it as the current subscriber-to-source
                 if (!current.compareAndSet(ps, u)) {
                     // did not work, perhaps a new subscriber arrived
@@ -126,6 +155,11 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
          */
         final int bufferSize;
 
+        /**
+         * Whether the subscribers are {@link BufferedInnerSubscriber}s, receiving the items at their own pace.
+         */
+        final boolean perSubscriber;
+
         /**
          * Tracks the subscribed InnerSubscribers.
          */
@@ -145,7 +179,10 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
 
         private static final Throwable COMPLETED = new Exception();
 
-        private final Queue<T> queue;
+        /**
+         * The prefetch queue, created on subscription, or the upstream subscription when fused.
+         */
+        private volatile Queue<T> queue;
 
         private final AtomicBoolean cancelled = new AtomicBoolean();
 
@@ -155,13 +192,13 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
 
         @SuppressWarnings("unchecked")
         PublishSubscriber(AtomicReference<PublishSubscriber<T>> current,
-                int bufferSize, Context context) {
+                int bufferSize, boolean perSubscriber, Context context) {
             this.context = context;
             this.subscribers = new AtomicReference<>(EMPTY);
             this.current = current;
             this.shouldConnect = new AtomicBoolean();
             this.bufferSize = bufferSize;
-            this.queue = (Queue<T>) Queues.get(bufferSize).get();
+            this.perSubscriber = perSubscriber;
         }
 
         @Override
@@ -177,9 +214,22 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
             }
         }
 
+        @SuppressWarnings("unchecked")
         @Override
         public void onSubscribe(Subscription s) {
             if (this.upstream.compareAndSet(null, s)) {
+                if (s instanceof QueueSubscription) {
+                    QueueSubscription<T> qs = (QueueSubscription<T>) s;
+                    if (qs.requestFusion(this, QueueSubscription.SYNC) == QueueSubscription.SYNC) {
+                        // The items are polled directly from the upstream, which is already completed as
+                        // the completion is signalled by the end of the queue.
+                        queue = qs;
+                        failureOrCompletion.compareAndSet(null, COMPLETED);
+                        drain();
+                        return;
+                    }
+                }
+                queue = (Queue<T>) Queues.get(bufferSize).get();
                 s.request(bufferSize);
             }
         }
@@ -323,7 +373,7 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
                          * creation of subscriber-to-source.
                          */
                         for (InnerSubscriber<?> actual : subscribers.getAndSet(TERMINATED)) {
-                            actual.downstream.onComplete();
+                            actual.onTermination(null);
                         }
                         // indicate we reached the terminal state
                         return true;
@@ -338,7 +388,7 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
                     // child subscribers to associate themselves with a terminated and thus
                     // never again emitting chain
                     for (InnerSubscriber<?> actual : subscribers.getAndSet(TERMINATED)) {
-                        actual.downstream.onError(term);
+                        actual.onTermination(term);
                     }
                     // indicate we reached the terminal state
                     return true;
@@ -387,7 +437,8 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
                  * detect it through the missing flag and will do another iteration.
                  */
                 Queue<T> q = queue;
-                boolean isEmpty = q.isEmpty();
+                // the queue is not created until the upstream subscription is received
+                boolean isEmpty = q == null || q.isEmpty();
                 // if the queue is empty and the terminal event was received, quit.
                 if (isEmptyOrCompleted(term, isEmpty)) {
                     return;
@@ -400,21 +451,25 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
 
                     int len = ps.length;
                     // Let's assume everyone requested the maximum value.
-                    long maxRequested = Long.MAX_VALUE;
+                    long maxRequested = perSubscriber ? 0L : Long.MAX_VALUE;
                     // count how many have triggered cancellation
                     int cancelled = 0;
 
                     // Now find the minimum amount each child-subscriber requested
                     // since we can only emit that much to all of them without violating
-                    // backpressure constraints
+                    // backpressure constraints.
+                    // When the subscribers are buffered, find the maximum instead, the slower subscribers buffer
+                    // the items they are not ready to receive.
                     for (InnerSubscriber<T> ip : ps) {
                         long r = ip.requested.get();
                         // if there is one child subscriber that hasn't requested yet
                         // we can't emit anything to anyone
-                        if (r != Long.MIN_VALUE) {
-                            maxRequested = Math.min(maxRequested, r - ip.emitted);
-                        } else {
+                        if (r == Long.MIN_VALUE) {
                             cancelled++;
+                        } else if (perSubscriber) {
+                            maxRequested = Math.max(maxRequested, ((BufferedInnerSubscriber<T>) ip).demand(r));
+                        } else {
+                            maxRequested = Math.min(maxRequested, r - ip.emitted);
                         }
                     }
 
@@ -478,7 +533,9 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
                             // this eager behavior will skip cancelled children in case
                             // multiple values are available in the queue
                             long ipr = ip.requested.get();
-                            if (ipr != Long.MIN_VALUE) {
+                            if (ipr != Long.MIN_VALUE && perSubscriber) {
+                                ((BufferedInnerSubscriber<T>) ip).dispatch(value);
+                            } else if (ipr != Long.MIN_VALUE) {
                                 if (ipr != Long.MAX_VALUE) {
                                     // indicate this child has received 1 element
                                     ip.emitted++;
@@ -540,22 +597,22 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
      *
      * @param <T> the value type
      */
-    static final class InnerSubscriber<T> implements Subscription {
+    static class InnerSubscriber<T> implements Subscription {
 
         /**
          * Requested number of items.
          */
-        private final AtomicLong requested = new AtomicLong();
+        final AtomicLong requested = new AtomicLong();
 
         /**
          * The actual child subscriber.
          */
-        private final Subscriber<? super T> downstream;
+        final Subscriber<? super T> downstream;
         /**
          * The parent subscriber-to-source used to allow removing the child in case of
          * child cancellation.
          */
-        private final AtomicReference<PublishSubscriber<T>> parent = new AtomicReference<>();
+        final AtomicReference<PublishSubscriber<T>> parent = new AtomicReference<>();
 
         /**
          * Track the number of emitted items (avoids decrementing the request counter).
@@ -566,6 +623,19 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
             this.downstream = child;
         }
 
+        /**
+         * Called with the terminal event of the upstream, once the items have been dispatched.
+         *
+         * @param failure the failure, {@code null} on completion
+         */
+        void onTermination(Throwable failure) {
+            if (failure == null) {
+                downstream.onComplete();
+            } else {
+                downstream.onError(failure);
+            }
+        }
+
         @Override
         public void request(long n) {
             if (n > 0) {
@@ -573,6 +643,7 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
                 if (r != Long.MIN_VALUE && r != Long.MAX_VALUE) {
                     Subscriptions.add(requested, n);
                 }
+                onRequest();
                 PublishSubscriber<T> p = parent.get();
                 if (p != null) {
                     p.drain();
@@ -580,6 +651,10 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
             }
         }
 
+        void onRequest() {
+            // Nothing to do by default
+        }
+
         @Override
         public void cancel() {
             long requests = requested.get();
@@ -601,14 +676,223 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
         }
     }
 
+    /**
+     * A child subscriber receiving the items at its own pace: the items it is not ready to receive are stored in a
+     * bounded buffer, and the strategy decides what to do when this buffer is full.
+     * <p>
+     * The items are dispatched by the (serialized) drain loop of the parent, while the buffer is drained when the
+     * child requests more items: the emissions to the child are serialized by the {@code wip} counter.
+     * The buffer is a lock-free queue: the parent only offers items, the overflow of the
+     * {@link BackPressureStrategy#LATEST} strategy is applied by the drain loop.
+     *
+     * @param <T> the value type
+     */
+    static final class BufferedInnerSubscriber<T> extends InnerSubscriber<T> {
+
+        private final BackPressureStrategy strategy;
+        private final int bufferSize;
+
+        private final Queue<T> queue = Queues.createMpscQueue();
+
+        /**
+         * The number of items offered to the queue, only written by the parent.
+         */
+        private volatile long enqueued;
+
+        /**
+         * The number of items polled from the queue (emitted or dropped), only written when holding the {@code wip}
+         * counter, before {@code delivered}.
+         */
+        private volatile long dequeued;
+
+        /**
+         * The number of items emitted to the child, only written when holding the {@code wip} counter.
+         */
+        private volatile long delivered;
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        /**
+         * The failure to propagate, written before {@code done}.
+         */
+        private Throwable failure;
+        private boolean overflowed;
+        private volatile boolean done;
+
+        BufferedInnerSubscriber(Subscriber<? super T> child, BackPressureStrategy strategy, int bufferSize) {
+            super(child);
+            this.strategy = strategy;
+            this.bufferSize = bufferSize;
+        }
+
+        /**
+         * @param r the current requests
+         * @return the number of items the child is ready to receive right now
+         */
+        long demand(long r) {
+            if (r == Long.MAX_VALUE) {
+                return Long.MAX_VALUE;
+            }
+            // delivered is read first, as dequeued is written first
+            long emitted = delivered;
+            return Math.max(0L, r - emitted - (enqueued - dequeued));
+        }
+
+        void dispatch(T item) {
+            if (done) {
+                return;
+            }
+            long r = requested.get();
+            if (r == CANCELLED) {
+                return;
+            }
+            if (strategy != BackPressureStrategy.LATEST && r != Long.MAX_VALUE) {
+                // delivered is read first, as dequeued is written first
+                long emitted = delivered;
+                // The queued items exceeding the outstanding requests fill the buffer
+                if (enqueued - dequeued - (r - emitted) >= bufferSize) {
+                    if (strategy != BackPressureStrategy.DROP) {
+                        overflow();
+                        drain();
+                    }
+                    return;
+                }
+            }
+            if (wip.get() == 0 && wip.compareAndSet(0, 1)) {
+                // Fast path: nothing is queued, and the child is ready
+                long emitted = delivered;
+                if ((r == Long.MAX_VALUE || emitted != r) && enqueued == dequeued) {
+                    downstream.onNext(item);
+                    delivered = emitted + 1;
+                    if (wip.decrementAndGet() == 0) {
+                        return;
+                    }
+                } else {
+                    offer(item);
+                }
+            } else {
+                offer(item);
+                if (wip.getAndIncrement() != 0) {
+                    return;
+                }
+            }
+            drainLoop();
+        }
+
+        private void offer(T item) {
+            queue.offer(item);
+            enqueued++;
+        }
+
+        private void overflow() {
+            // The child is too slow, disconnect it
+            PublishSubscriber<T> p = parent.get();
+            if (p != null) {
+                p.remove(this);
+            }
+            if (bufferSize == 0) {
+                failure = new BackPressureFailure("Could not emit item downstream due to lack of requests");
+            } else {
+                failure = new BackPressureFailure(
+                        "Could not emit item downstream due to lack of requests, the buffer is full");
+            }
+            overflowed = true;
+            done = true;
+        }
+
+        @Override
+        void onTermination(Throwable failure) {
+            if (done) {
+                return;
+            }
+            this.failure = failure;
+            done = true;
+            drain();
+        }
+
+        @Override
+        void onRequest() {
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() == 0) {
+                drainLoop();
+            }
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            Queue<T> q = queue;
+            for (;;) {
+                long r = requested.get();
+                long emitted = delivered;
+                long polled = dequeued;
+                while (r == Long.MAX_VALUE || emitted != r) {
+                    boolean d = done;
+                    T item = q.poll();
+                    boolean empty = item == null;
+                    if (isTerminated(d, empty)) {
+                        return;
+                    }
+                    if (empty) {
+                        break;
+                    }
+                    downstream.onNext(item);
+                    emitted++;
+                    polled++;
+                }
+                if (r != Long.MAX_VALUE && emitted == r && isTerminated(done, q.isEmpty())) {
+                    return;
+                }
+                if (strategy == BackPressureStrategy.LATEST) {
+                    // The queued items exceed the demand, only keep the most recent ones
+                    while (enqueued - polled > bufferSize && q.poll() != null) {
+                        polled++;
+                    }
+                }
+                dequeued = polled;
+                delivered = emitted;
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private boolean isTerminated(boolean d, boolean empty) {
+            if (requested.get() == CANCELLED) {
+                queue.clear();
+                return true;
+            }
+            if (d && (empty || overflowed)) {
+                // An overflow is reported immediately, the other terminal events once the buffer has been drained
+                queue.clear();
+                requested.set(CANCELLED);
+                if (failure != null) {
+                    downstream.onError(failure);
+                } else {
+                    downstream.onComplete();
+                }
+                return true;
+            }
+            return false;
+        }
+    }
+
     @SuppressWarnings("PublisherImplementation")
     static final class InnerPublisher<T> implements Publisher<T> {
         private final AtomicReference<PublishSubscriber<T>> curr;
         private final int bufferSize;
+        private final BackPressureStrategy strategy;
+        private final int subscriberBufferSize;
 
-        InnerPublisher(AtomicReference<PublishSubscriber<T>> curr, int bufferSize) {
+        InnerPublisher(AtomicReference<PublishSubscriber<T>> curr, int bufferSize, BackPressureStrategy strategy,
+                int subscriberBufferSize) {
             this.curr = curr;
             this.bufferSize = bufferSize;
+            this.strategy = strategy;
+            this.subscriberBufferSize = subscriberBufferSize;
         }
 
         @Override
@@ -619,7 +903,12 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
             } else {
                 context = Context.empty();
             }
-            InnerSubscriber<T> inner = new InnerSubscriber<>(child);
+            InnerSubscriber<T> inner;
+            if (strategy == null) {
+                inner = new InnerSubscriber<>(child);
+            } else {
+                inner = new BufferedInnerSubscriber<>(child, strategy, subscriberBufferSize);
+            }
             child.onSubscribe(inner);
             // concurrent connection/disconnection may change the state,
             // we loop to be atomic while the child subscribes
@@ -629,7 +918,7 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
                 // if there isn't one or it is cancelled/disposed
                 if (r == null || r.cancelled.get()) {
                     // create a new subscriber to source
-                    PublishSubscriber<T> u = new PublishSubscriber<>(curr, bufferSize, context);
+                    PublishSubscriber<T> u = new PublishSubscriber<>(curr, bufferSize, strategy != null, context);
                     // let's try setting it as the current subscriber-to-source
                     if (!curr.compareAndSet(r, u)) {
                         // didn't work, maybe someone else did it or the current subscriber
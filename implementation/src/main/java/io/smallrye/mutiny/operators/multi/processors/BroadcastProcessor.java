@@ -1,16 +1,18 @@
 package io.smallrye.mutiny.operators.multi.processors;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+
+import java.util.Queue;
 import java.util.concurrent.Flow.Processor;
 import java.util.concurrent.Flow.Subscriber;
 import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.helpers.queues.SpscArrayQueue;
 import io.smallrye.mutiny.operators.AbstractMulti;
 import io.smallrye.mutiny.subscription.BackPressureFailure;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
@@ -22,6 +24,9 @@ import io.smallrye.mutiny.subscription.MultiSubscriber;
  * This processor does not coordinate back-pressure between different subscribers and between the upstream source and a
  * subscriber. If an upstream item is received via {@link #onNext(Object)}, if a subscriber is not ready to receive that
  * item, that subscriber is terminated via a {@link io.smallrye.mutiny.subscription.BackPressureFailure}.
+ * A processor created with {@link #create(int)} gives each subscriber a bounded buffer instead, so a subscriber
+ * that is temporarily not ready receives the buffered items when it requests more, and is only terminated with a
+ * {@link io.smallrye.mutiny.subscription.BackPressureFailure} when its buffer is full.
  * <p>
  * The {@code BroadcastProcessor}'s {@link Subscriber}-side consumes items in an unbounded manner.
  * <p>
@@ -38,15 +43,28 @@ import io.smallrye.mutiny.subscription.MultiSubscriber;
  */
 public class BroadcastProcessor<T> extends AbstractMulti<T> implements Processor<T, T> {
 
+    /**
+     * Value indicating that there are no subscribers.
+     */
+    @SuppressWarnings("rawtypes")
+    static final BroadcastSubscription[] EMPTY = new BroadcastSubscription[0];
+
     /**
      * Value indicating that the upstream has been cancelled.
      */
-    static final List<?> TERMINATED = new ArrayList<>(0);
+    @SuppressWarnings("rawtypes")
+    static final BroadcastSubscription[] TERMINATED = new BroadcastSubscription[0];
 
     /**
-     * The array of currently subscribed subscribers.
+     * The array of currently subscribed subscribers, replaced atomically (never modified) when a subscriber is added
+     * or removed.
      */
-    final AtomicReference<List<BroadcastSubscription<T>>> subscribers;
+    final AtomicReference<BroadcastSubscription<T>[]> subscribers;
+
+    /**
+     * The size of the per-subscriber buffer, {@code 0} if the subscribers are not buffered.
+     */
+    final int bufferSize;
 
     /**
      * The failure, write before terminating and read after checking subscribers.
@@ -60,14 +78,31 @@ public class BroadcastProcessor<T> extends AbstractMulti<T> implements Processor
      * @return the new {@code BroadcastProcessor}
      */
     public static <T> BroadcastProcessor<T> create() {
-        return new BroadcastProcessor<>();
+        return new BroadcastProcessor<>(0);
+    }
+
+    /**
+     * Creates a new {@code BroadcastProcessor} giving each subscriber a buffer of {@code bufferSize} items.
+     * <p>
+     * When a subscriber has no outstanding requests, the items are stored in its buffer and emitted when it requests
+     * more. If the buffer is full, the subscriber is terminated with a
+     * {@link io.smallrye.mutiny.subscription.BackPressureFailure}. The other subscribers are not impacted.
+     *
+     * @param bufferSize the size of the buffer of each subscriber, must be strictly positive
+     * @param <T> the type of item
+     * @return the new {@code BroadcastProcessor}
+     */
+    public static <T> BroadcastProcessor<T> create(int bufferSize) {
+        return new BroadcastProcessor<>(positive(bufferSize, "bufferSize"));
     }
 
     /**
      * Constructs a BroadcastProcessor.
      */
-    private BroadcastProcessor() {
-        subscribers = new AtomicReference<>(new CopyOnWriteArrayList<>());
+    @SuppressWarnings("unchecked")
+    private BroadcastProcessor(int bufferSize) {
+        this.subscribers = new AtomicReference<>(EMPTY);
+        this.bufferSize = bufferSize;
     }
 
     public SerializedProcessor<T, T> serialized() {
@@ -81,12 +116,21 @@ public class BroadcastProcessor<T> extends AbstractMulti<T> implements Processor
      * @param sub the subscriber to add
      * @return {@code true} if successful, {@code false} if this processor has terminated
      */
+    @SuppressWarnings("unchecked")
     private boolean addSubscription(BroadcastSubscription<T> sub) {
-        List<BroadcastSubscription<T>> current = subscribers.get();
-        if (current == TERMINATED) {
-            return false;
+        for (;;) {
+            BroadcastSubscription<T>[] current = subscribers.get();
+            if (current == TERMINATED) {
+                return false;
+            }
+            int length = current.length;
+            BroadcastSubscription<T>[] updated = new BroadcastSubscription[length + 1];
+            System.arraycopy(current, 0, updated, 0, length);
+            updated[length] = sub;
+            if (subscribers.compareAndSet(current, updated)) {
+                return true;
+            }
         }
-        return current.add(sub);
     }
 
     /**
@@ -94,17 +138,41 @@ public class BroadcastProcessor<T> extends AbstractMulti<T> implements Processor
      *
      * @param sub the subscription wrapping a subscriber to remove
      */
+    @SuppressWarnings("unchecked")
     void remove(BroadcastSubscription<T> sub) {
-        List<BroadcastSubscription<T>> current = subscribers.get();
-        if (current == TERMINATED || current.isEmpty()) {
-            return;
+        for (;;) {
+            BroadcastSubscription<T>[] current = subscribers.get();
+            if (current == TERMINATED || current == EMPTY) {
+                return;
+            }
+            int length = current.length;
+            int index = -1;
+            for (int i = 0; i < length; i++) {
+                if (current[i] == sub) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return;
+            }
+            BroadcastSubscription<T>[] updated;
+            if (length == 1) {
+                updated = EMPTY;
+            } else {
+                updated = new BroadcastSubscription[length - 1];
+                System.arraycopy(current, 0, updated, 0, index);
+                System.arraycopy(current, index + 1, updated, index, length - index - 1);
+            }
+            if (subscribers.compareAndSet(current, updated)) {
+                return;
+            }
         }
-        current.remove(sub);
     }
 
     @Override
     public void subscribe(MultiSubscriber<? super T> downstream) {
-        BroadcastSubscription<T> subscription = new BroadcastSubscription<>(downstream, this);
+        BroadcastSubscription<T> subscription = new BroadcastSubscription<>(downstream, this, bufferSize);
         downstream.onSubscribe(subscription);
         if (addSubscription(subscription)) {
             // if cancellation happened while a successful add, the remove() didn't work so we need to do it again
@@ -138,7 +206,7 @@ public class BroadcastProcessor<T> extends AbstractMulti<T> implements Processor
         }
     }
 
-    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @SuppressWarnings("unchecked")
     @Override
     public void onError(Throwable failure) {
         ParameterValidation.nonNullNpe(failure, "failure");
@@ -146,20 +214,20 @@ public class BroadcastProcessor<T> extends AbstractMulti<T> implements Processor
             return;
         }
         this.failure = failure;
-        List<BroadcastSubscription<?>> andSet = subscribers.getAndSet((List) TERMINATED);
-        for (BroadcastSubscription<?> s : andSet) {
+        BroadcastSubscription<T>[] andSet = subscribers.getAndSet(TERMINATED);
+        for (BroadcastSubscription<T> s : andSet) {
             s.onError(failure);
         }
     }
 
-    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @SuppressWarnings("unchecked")
     @Override
     public void onComplete() {
         if (subscribers.get() == TERMINATED) {
             return;
         }
-        List<BroadcastSubscription<?>> andSet = subscribers.getAndSet((List) TERMINATED);
-        for (BroadcastSubscription<?> s : andSet) {
+        BroadcastSubscription<T>[] andSet = subscribers.getAndSet(TERMINATED);
+        for (BroadcastSubscription<T> s : andSet) {
             s.onComplete();
         }
     }
@@ -188,18 +256,41 @@ public class BroadcastProcessor<T> extends AbstractMulti<T> implements Processor
          */
         private final AtomicLong requests = new AtomicLong();
 
+        /**
+         * The buffer, {@code null} if the subscriber is not buffered.
+         * Written by the processor events, and read by the drain loop.
+         */
+        private final Queue<T> queue;
+        private final int bufferSize;
+        private final AtomicInteger wip;
+
+        /**
+         * Whether the processor has terminated (or the buffer has overflowed), written before {@code done}.
+         */
+        private Throwable failure;
+        private boolean overflowed;
+        private volatile boolean done;
+
         /**
          * Constructs a BroadcastSubscription, wraps the actual subscriber and the state.
          *
          * @param actual the actual subscriber
          * @param parent the parent PublishProcessor
+         * @param bufferSize the size of the buffer, {@code 0} for no buffer
          */
-        BroadcastSubscription(Subscriber<? super T> actual, BroadcastProcessor<T> parent) {
+        BroadcastSubscription(Subscriber<? super T> actual, BroadcastProcessor<T> parent, int bufferSize) {
             this.downstream = actual;
             this.parent = parent;
+            this.bufferSize = bufferSize;
+            this.queue = bufferSize == 0 ? null : new SpscArrayQueue<>(bufferSize);
+            this.wip = bufferSize == 0 ? null : new AtomicInteger();
         }
 
         public void onNext(T t) {
+            if (queue != null) {
+                onNextBuffered(t);
+                return;
+            }
             long r = requests.get();
             if (r == Long.MIN_VALUE) {
                 return;
@@ -213,13 +304,125 @@ public class BroadcastProcessor<T> extends AbstractMulti<T> implements Processor
             }
         }
 
+        private void onNextBuffered(T t) {
+            if (done) {
+                return;
+            }
+            if (wip.get() == 0 && wip.compareAndSet(0, 1)) {
+                // Fast path: nothing is buffered, and the subscriber is ready
+                long r = requests.get();
+                if (r == Long.MIN_VALUE) {
+                    return;
+                }
+                if (r != 0L && queue.isEmpty()) {
+                    downstream.onNext(t);
+                    Subscriptions.producedAndHandleAlreadyCancelled(requests, 1);
+                    if (wip.decrementAndGet() == 0) {
+                        return;
+                    }
+                } else {
+                    enqueue(t);
+                }
+            } else {
+                enqueue(t);
+                if (wip.getAndIncrement() != 0) {
+                    return;
+                }
+            }
+            drainLoop();
+        }
+
+        private void enqueue(T t) {
+            // The consumer can only make room concurrently, so the check never lets the buffer exceed its size
+            if (queue.size() >= bufferSize) {
+                parent.remove(this);
+                failure = new BackPressureFailure(
+                        "Could not emit item downstream due to lack of requests, the buffer is full");
+                overflowed = true;
+                done = true;
+            } else {
+                queue.offer(t);
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() == 0) {
+                drainLoop();
+            }
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            for (;;) {
+                long r = requests.get();
+                long emitted = 0L;
+                while (emitted != r) {
+                    boolean d = done;
+                    T item = queue.poll();
+                    boolean empty = item == null;
+                    if (isTerminated(d, empty)) {
+                        return;
+                    }
+                    if (empty) {
+                        break;
+                    }
+                    downstream.onNext(item);
+                    emitted++;
+                }
+                if (emitted == r && isTerminated(done, queue.isEmpty())) {
+                    return;
+                }
+                if (emitted != 0L) {
+                    Subscriptions.producedAndHandleAlreadyCancelled(requests, emitted);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private boolean isTerminated(boolean d, boolean empty) {
+            if (isCancelled()) {
+                queue.clear();
+                return true;
+            }
+            if (d && (empty || overflowed)) {
+                // An overflow is reported immediately, the other terminal events once the buffer has been drained
+                queue.clear();
+                requests.set(Long.MIN_VALUE);
+                if (failure != null) {
+                    downstream.onError(failure);
+                } else {
+                    downstream.onComplete();
+                }
+                return true;
+            }
+            return false;
+        }
+
         public void onError(Throwable t) {
+            if (queue != null) {
+                if (!done) {
+                    failure = t;
+                    done = true;
+                    drain();
+                }
+                return;
+            }
             if (requests.get() != Long.MIN_VALUE) {
                 downstream.onError(t);
             }
         }
 
         public void onComplete() {
+            if (queue != null) {
+                if (!done) {
+                    done = true;
+                    drain();
+                }
+                return;
+            }
             if (requests.get() != Long.MIN_VALUE) {
                 downstream.onComplete();
             }
@@ -229,6 +432,9 @@ public class BroadcastProcessor<T> extends AbstractMulti<T> implements Processor
         public void request(long n) {
             if (n > 0) {
                 Subscriptions.addAndHandledAlreadyCancelled(requests, n);
+                if (queue != null) {
+                    drain();
+                }
             }
         }
 
@@ -16,6 +16,7 @@ import io.smallrye.mutiny.operators.AbstractMulti;
 import io.smallrye.mutiny.subscription.BackPressureFailure;
 import io.smallrye.mutiny.subscription.BackPressureStrategy;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.QueueSubscription;
 
 /**
  * Implementation of a processor using a queue to store items and allows a single subscriber to receive
@@ -24,6 +25,9 @@ import io.smallrye.mutiny.subscription.MultiSubscriber;
  * The back pressure model is not using the request protocol but the queue used to store the items. If the queue
  * gets full, an {@link io.smallrye.mutiny.subscription.BackPressureFailure} exception is propagated downstream.
  * <p>
+ * The subscription supports the {@link QueueSubscription#ASYNC} fusion mode, letting a fusion-aware subscriber poll
+ * the items directly from the queue of this processor.
+ * <p>
  * <strong>This processor must not be re-subscribed: it expects exactly 1 subscriber.</strong>
  * If you expect multiple subscribers then you should look at creating a {@link io.smallrye.mutiny.Multi} from an
  * emitter, see {@link io.smallrye.mutiny.groups.MultiCreate#emitter(Consumer, BackPressureStrategy)}.
@@ -48,6 +52,11 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
 
     private volatile boolean hasUpstream;
 
+    /**
+     * {@code true} if the downstream polls the items from the queue.
+     */
+    private volatile boolean outputFused;
+
     /**
      * Creates a new {@link UnicastProcessor} using a new unbounded queue.
      *
@@ -126,6 +135,36 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
         }
     }
 
+    void drainFused(Flow.Subscriber<? super T> actual) {
+        int missed = 1;
+
+        for (;;) {
+            if (cancelled) {
+                return;
+            }
+
+            boolean isDone = done;
+
+            // Signal that items are available, the downstream polls them.
+            actual.onNext(null);
+
+            if (isDone) {
+                Throwable failed = failure;
+                if (failed != null) {
+                    actual.onError(failed);
+                } else {
+                    actual.onComplete();
+                }
+                return;
+            }
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
     private void drain() {
         if (wip.getAndIncrement() != 0) {
             return;
@@ -135,7 +174,11 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
         for (;;) {
             Flow.Subscriber<? super T> actual = downstream;
             if (actual != null) {
-                drainWithDownstream(actual);
+                if (outputFused) {
+                    drainFused(actual);
+                } else {
+                    drainWithDownstream(actual);
+                }
                 return;
             }
             missed = wip.addAndGet(-missed);
@@ -182,7 +225,7 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
     public void subscribe(MultiSubscriber<? super T> downstream) {
         ParameterValidation.nonNull(downstream, "downstream");
         if (DOWNSTREAM_UPDATER.compareAndSet(this, null, downstream)) {
-            downstream.onSubscribe(this);
+            downstream.onSubscribe(new UnicastSubscription());
             if (!cancelled) {
                 drain();
             }
@@ -267,4 +310,49 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
     public SerializedProcessor<T, T> serialized() {
         return new SerializedProcessor<>(this);
     }
+
+    /**
+     * The subscription passed to the downstream, supporting the {@link QueueSubscription#ASYNC} fusion mode.
+     */
+    private final class UnicastSubscription implements QueueSubscription<T> {
+
+        @Override
+        public void request(long n) {
+            UnicastProcessor.this.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            UnicastProcessor.this.cancel();
+        }
+
+        @Override
+        public int requestFusion(Flow.Subscriber<?> requester, int mode) {
+            if (requester == downstream && (mode & ASYNC) != 0) {
+                outputFused = true;
+                return ASYNC;
+            }
+            return NONE;
+        }
+
+        @Override
+        public T poll() {
+            return queue.poll();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return queue.isEmpty();
+        }
+
+        @Override
+        public int size() {
+            return queue.size();
+        }
+
+        @Override
+        public void clear() {
+            queue.clear();
+        }
+    }
 }
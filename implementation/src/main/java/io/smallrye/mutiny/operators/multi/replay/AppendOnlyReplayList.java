@@ -2,42 +2,102 @@ package io.smallrye.mutiny.operators.multi.replay;
 
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 
+import java.time.Duration;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.ToLongFunction;
+
+import io.smallrye.mutiny.helpers.queues.SpscArrayQueue;
+
 /*
- * Replay is being captured using a custom linked list, while consumers can make progress using cursors.
+ * Replay is being captured using a custom linked list of array chunks, while consumers can make progress using cursors.
  *
  * The "start" depends on the replay semantics:
  * - zero for unbounded replays,
- * - the last n elements before the tail for bounded replays.
+ * - the last n elements before the tail for bounded replays,
+ * - the elements that are not older than the maximum age, and whose cumulated weight does not exceed the maximum
+ * weight, for replays bounded by age and / or by weight. The most recent item is always kept.
  *
- * From there each cursor (1 per subscriber) can make progress at its own pace.
+ * The eviction is done incrementally by the appending thread when an item is pushed. As the history is not evicted
+ * when no item is pushed, a new cursor also skips the items that have expired since the last push.
+ *
+ * From there each cursor (1 per subscriber) can make progress at its own pace, scanning the chunk arrays.
  *
  * The code assumes reactive streams semantics, especially that there are no concurrent appends because of
- * serial events.
+ * serial events. The appended elements are published to the cursors by the (ordered) write of the size, and the head
+ * is moved forward without locking, as only the appending thread writes it.
+ *
+ * Chunks are small at first, and double in size up to MAX_CHUNK_SIZE, so that short replays do not pre-allocate
+ * large arrays. For bounded replays, the chunk size is also capped by the number of elements to replay.
  *
- * Bounded replays shall have earlier cells before the head be eventually garbage collected as there are only forward
- * references.
+ * Bounded replays shall have earlier chunks before the head be eventually garbage collected as there are only forward
+ * references. The evicted slots of the head chunk are cleared by the appending thread once every cursor has moved past
+ * them: the cursors of bounded replays are registered, and publish their position until they are released.
  */
 public class AppendOnlyReplayList {
 
     public class Cursor {
 
-        private Cell current = SENTINEL_EMPTY;
+        private Chunk chunk;
+        private int offset;
         private boolean start = true;
         private boolean currentHasBeenRead = false;
 
+        // Index of the element the cursor reads, see clearEvictedSlots()
+        private volatile long position = Long.MAX_VALUE;
+
         public boolean hasNext() {
-            if (current == SENTINEL_EMPTY) {
-                Cell currentHead = head;
-                if (currentHead != SENTINEL_EMPTY) {
-                    current = currentHead;
-                    return true;
-                } else {
+            if (chunk == null) {
+                position = POSITIONING;
+                // The head chunk must be read before the head index, see trimHead()
+                Chunk currentChunk = headChunk;
+                long currentHead = headIndex;
+                if (size == 0L) {
+                    POSITION.lazySet(this, Long.MAX_VALUE);
                     return false;
                 }
+                POSITION.lazySet(this, currentHead);
+                while (currentHead >= currentChunk.base + currentChunk.slots.length) {
+                    currentChunk = currentChunk.next;
+                }
+                chunk = currentChunk;
+                offset = (int) (currentHead - currentChunk.base);
+                if (maxAgeNanos != Long.MAX_VALUE) {
+                    return skipExpiredItems();
+                }
+                return true;
             } else if (!currentHasBeenRead) {
                 return true;
             } else {
-                return current.next != SENTINEL_END;
+                return chunk.base + offset + 1 < size;
+            }
+        }
+
+        /**
+         * Moves the cursor past the items that have expired, as the head of the replay may lag behind.
+         *
+         * @return whether there is an element to read
+         */
+        private boolean skipExpiredItems() {
+            long now = System.nanoTime();
+            long available = size;
+            for (;;) {
+                long[] timestamps = chunk.timestamps;
+                if (chunk.slots[offset] instanceof Terminal || now - timestamps[offset] <= maxAgeNanos) {
+                    return true;
+                }
+                if (chunk.base + offset + 1 >= available) {
+                    // Everything has expired, so the cursor waits for the next element as if it had read the last one
+                    start = false;
+                    currentHasBeenRead = true;
+                    return false;
+                }
+                offset++;
+                if (offset == chunk.slots.length) {
+                    chunk = chunk.next;
+                    offset = 0;
+                }
+                POSITION.lazySet(this, chunk.base + offset);
             }
         }
 
@@ -46,32 +106,52 @@ public class AppendOnlyReplayList {
                 start = false;
                 return;
             }
-            assert current.next != SENTINEL_END;
-            current = current.next;
+            assert chunk.base + offset + 1 < size;
+            offset++;
+            if (offset == chunk.slots.length) {
+                chunk = chunk.next;
+                offset = 0;
+            }
+            POSITION.lazySet(this, chunk.base + offset);
             currentHasBeenRead = false;
         }
 
+        /**
+         * Reads the current element.
+         *
+         * @return the element, {@code null} only if the cursor has been released concurrently
+         */
         public Object read() {
             currentHasBeenRead = true;
-            return current.value;
+            return chunk.slots[offset];
         }
 
         public boolean hasReachedCompletion() {
-            return current.value instanceof Completion;
+            return chunk.slots[offset] == COMPLETION;
         }
 
         public boolean hasReachedFailure() {
-            return current.value instanceof Failure;
+            return chunk.slots[offset] instanceof Failure;
         }
 
         public Throwable readFailure() {
             currentHasBeenRead = true;
-            return ((Failure) current.value).failure;
+            return ((Failure) chunk.slots[offset]).failure;
         }
 
         public void readCompletion() {
             currentHasBeenRead = true;
         }
+
+        /**
+         * Releases the cursor, so it does not retain the evicted elements anymore. The cursor must not be used
+         * afterwards, a concurrent read may return {@code null}.
+         */
+        public void release() {
+            if (bounded) {
+                cursors.remove(this);
+            }
+        }
     }
 
     private static abstract class Terminal {
@@ -90,64 +170,221 @@ public class AppendOnlyReplayList {
         }
     }
 
-    private static class Cell {
-        final Object value;
-        volatile Cell next;
+    private static final class Chunk {
+        // Index of the first slot, from the beginning of the replay
+        final long base;
+        final Object[] slots;
+        // The time at which the elements have been appended, only for replays bounded by age
+        final long[] timestamps;
+        // The weight of the items, only for replays bounded by weight
+        final long[] weights;
+        volatile Chunk next;
 
-        Cell(Object value, Cell next) {
-            this.value = value;
-            this.next = next;
+        Chunk(long base, int capacity, boolean timed, boolean weighted) {
+            this.base = base;
+            this.slots = new Object[capacity];
+            this.timestamps = timed ? new long[capacity] : null;
+            this.weights = weighted ? new long[capacity] : null;
         }
     }
 
-    private static final Cell SENTINEL_END = new Cell(null, null);
-    private static final Cell SENTINEL_EMPTY = new Cell(null, SENTINEL_END);
+    private static final Completion COMPLETION = new Completion();
+
+    private static final int INITIAL_CHUNK_SIZE = 16;
+    private static final int MAX_CHUNK_SIZE = 1024;
+
+    private static final AtomicLongFieldUpdater<AppendOnlyReplayList> SIZE = AtomicLongFieldUpdater
+            .newUpdater(AppendOnlyReplayList.class, "size");
+    private static final AtomicLongFieldUpdater<Cursor> POSITION = AtomicLongFieldUpdater
+            .newUpdater(Cursor.class, "position");
+
+    // The position of a cursor reading the head, which must not be cleared
+    private static final long POSITIONING = Long.MIN_VALUE;
 
     private final long itemsToReplay;
+    private final long maxAgeNanos;
+    private final long maxWeight;
+    private final ToLongFunction<Object> weigher;
+    private final boolean bounded;
+    private final int maxChunkSize;
     private long numberOfItemsRecorded = 0L;
-    private volatile Cell head = SENTINEL_EMPTY;
-    private volatile Cell tail = SENTINEL_EMPTY;
+    private long retainedWeight = 0L;
+
+    // Number of elements (items and terminal event) visible to the cursors
+    private volatile long size = 0L;
+
+    // Index of the first element to replay, and the chunk holding it (or an earlier one)
+    private volatile long headIndex = 0L;
+    private volatile Chunk headChunk;
+
+    // The cursors of bounded replays, which may still read the evicted elements
+    private final CopyOnWriteArrayList<Cursor> cursors = new CopyOnWriteArrayList<>();
+
+    // Only accessed by the appending thread
+    private Chunk tailChunk;
+    private int tailOffset;
+    private Object last;
+    // Index of the first evicted slot which has not been cleared, and the chunk holding it
+    private long clearedIndex = 0L;
+    private Chunk clearedChunk;
 
     public AppendOnlyReplayList(long numberOfItemsToReplay) {
         this(numberOfItemsToReplay, null);
     }
 
     public AppendOnlyReplayList(long numberOfItemsToReplay, Iterable<?> seed) {
+        this(numberOfItemsToReplay, null, Long.MAX_VALUE, null, seed);
+    }
+
+    /**
+     * Creates a new replay list.
+     *
+     * @param numberOfItemsToReplay the maximum number of items to replay, {@code Long.MAX_VALUE} for no limit
+     * @param maxAge the maximum age of the items to replay, {@code null} for no limit
+     * @param maxWeight the maximum cumulated weight of the items to replay, {@code Long.MAX_VALUE} for no limit
+     * @param weigher the function computing the weight of an item, must be set when {@code maxWeight} is set
+     * @param seed the items to prepend, can be {@code null}
+     */
+    public AppendOnlyReplayList(long numberOfItemsToReplay, Duration maxAge, long maxWeight,
+            ToLongFunction<Object> weigher, Iterable<?> seed) {
         assert numberOfItemsToReplay > 0;
+        assert maxWeight > 0;
+        assert maxWeight == Long.MAX_VALUE || weigher != null;
         this.itemsToReplay = numberOfItemsToReplay;
+        this.maxAgeNanos = maxAge == null ? Long.MAX_VALUE : maxAge.toNanos();
+        this.maxWeight = maxWeight;
+        this.weigher = maxWeight == Long.MAX_VALUE ? null : weigher;
+        this.bounded = itemsToReplay != Long.MAX_VALUE || maxAgeNanos != Long.MAX_VALUE || this.weigher != null;
+        this.maxChunkSize = SpscArrayQueue.roundToPowerOfTwo((int) Math.min(numberOfItemsToReplay, MAX_CHUNK_SIZE));
+        Chunk first = newChunk(0L, Math.min(INITIAL_CHUNK_SIZE, maxChunkSize));
+        this.tailChunk = first;
+        this.headChunk = first;
+        this.clearedChunk = first;
         if (seed != null) {
             seed.forEach(this::push);
         }
     }
 
+    private Chunk newChunk(long base, int capacity) {
+        return new Chunk(base, capacity, maxAgeNanos != Long.MAX_VALUE, weigher != null);
+    }
+
+    /**
+     * Appends an item.
+     *
+     * @param item the item, must not be {@code null}
+     * @throws IllegalArgumentException if the item is {@code null}, or if its weight is negative
+     */
     public void push(Object item) {
-        assert !(tail.value instanceof Terminal);
-        Cell newCell = new Cell(nonNull(item, "item"), SENTINEL_END);
-        if (head == SENTINEL_EMPTY) {
-            head = newCell;
-        } else {
-            tail.next = newCell;
-        }
-        tail = newCell;
-        if (itemsToReplay != Long.MAX_VALUE && !(item instanceof Terminal)) {
+        assert !(last instanceof Terminal);
+        nonNull(item, "item");
+        boolean terminal = item instanceof Terminal;
+        long weight = 0L;
+        if (weigher != null && !terminal) {
+            // Computed before any modification, so the list stays consistent if the weigher fails
+            weight = weigher.applyAsLong(item);
+            if (weight < 0) {
+                throw new IllegalArgumentException("The weight of an item must be positive or zero, got " + weight);
+            }
+        }
+        last = item;
+        Chunk chunk = tailChunk;
+        if (tailOffset == chunk.slots.length) {
+            Chunk next = newChunk(chunk.base + tailOffset, Math.min(tailOffset * 2, maxChunkSize));
+            chunk.next = next;
+            tailChunk = chunk = next;
+            tailOffset = 0;
+        }
+        if (chunk.timestamps != null) {
+            chunk.timestamps[tailOffset] = System.nanoTime();
+        }
+        if (chunk.weights != null) {
+            chunk.weights[tailOffset] = weight;
+        }
+        chunk.slots[tailOffset++] = item;
+        SIZE.lazySet(this, chunk.base + tailOffset);
+        if (bounded && !terminal) {
             numberOfItemsRecorded++;
-            if (numberOfItemsRecorded > itemsToReplay) {
-                synchronized (this) {
-                    head = head.next;
-                }
+            retainedWeight += weight;
+            evict();
+        }
+    }
+
+    private void evict() {
+        long now = maxAgeNanos != Long.MAX_VALUE ? System.nanoTime() : 0L;
+        for (;;) {
+            long head = headIndex;
+            long retained = numberOfItemsRecorded - head;
+            if (retained <= 1) {
+                // The most recent item is always kept
+                return;
+            }
+            // The head chunk always holds the head element, see trimHead()
+            Chunk chunk = headChunk;
+            int offset = (int) (head - chunk.base);
+            boolean evict = retained > itemsToReplay
+                    || (chunk.weights != null && retainedWeight > maxWeight)
+                    || (chunk.timestamps != null && now - chunk.timestamps[offset] > maxAgeNanos);
+            if (!evict) {
+                return;
+            }
+            if (chunk.weights != null) {
+                retainedWeight -= chunk.weights[offset];
             }
+            trimHead();
+            clearEvictedSlots();
+        }
+    }
+
+    private void trimHead() {
+        long index = headIndex + 1;
+        // The head index must be written before the head chunk, so a cursor reading the new chunk also reads an index
+        // located in this chunk. It must also be written before reading the cursor positions, see clearEvictedSlots().
+        headIndex = index;
+        Chunk chunk = headChunk;
+        if (index == chunk.base + chunk.slots.length) {
+            headChunk = chunk.next;
         }
     }
 
+    /**
+     * Clears the evicted slots that no cursor can read anymore, so the evicted items can be garbage collected.
+     * <p>
+     * A cursor publishes {@link #POSITIONING} before reading the head index, and the index of the head before reading
+     * the head element: so either the cursor reads the new head index, or its position (or {@link #POSITIONING}) is
+     * seen here.
+     */
+    private void clearEvictedSlots() {
+        long limit = headIndex;
+        for (Cursor cursor : cursors) {
+            limit = Math.min(limit, cursor.position);
+        }
+        Chunk chunk = clearedChunk;
+        long index = clearedIndex;
+        while (index < limit) {
+            if (index == chunk.base + chunk.slots.length) {
+                chunk = chunk.next;
+            }
+            chunk.slots[(int) (index - chunk.base)] = null;
+            index++;
+        }
+        clearedChunk = chunk;
+        clearedIndex = index;
+    }
+
     public void pushFailure(Throwable failure) {
         push(new Failure(failure));
     }
 
     public void pushCompletion() {
-        push(new Completion());
+        push(COMPLETION);
     }
 
     public Cursor newCursor() {
-        return new Cursor();
+        Cursor cursor = new Cursor();
+        if (bounded) {
+            cursors.add(cursor);
+        }
+        return cursor;
     }
 }
@@ -24,13 +24,16 @@ public class ReplayOperator<T> extends AbstractMulti<T> {
     private final CopyOnWriteArrayList<ReplaySubscription> subscriptions = new CopyOnWriteArrayList<>();
 
     public ReplayOperator(Multi<T> upstream, long numberOfItemsToReplay) {
-        this.upstream = upstream;
-        this.replayList = new AppendOnlyReplayList(numberOfItemsToReplay);
+        this(upstream, new AppendOnlyReplayList(numberOfItemsToReplay));
     }
 
     public ReplayOperator(Multi<T> upstream, long numberOfItemsToReplay, Iterable<T> seed) {
+        this(upstream, new AppendOnlyReplayList(numberOfItemsToReplay, seed));
+    }
+
+    public ReplayOperator(Multi<T> upstream, AppendOnlyReplayList replayList) {
         this.upstream = upstream;
-        this.replayList = new AppendOnlyReplayList(numberOfItemsToReplay, seed);
+        this.replayList = replayList;
     }
 
     @Override
@@ -76,6 +79,7 @@ public class ReplayOperator<T> extends AbstractMulti<T> {
         public void cancel() {
             done = true;
             subscriptions.remove(this);
+            cursor.release();
         }
 
         private final AtomicInteger wip = new AtomicInteger();
@@ -111,7 +115,10 @@ public class ReplayOperator<T> extends AbstractMulti<T> {
                         return;
                     }
                     T item = (T) cursor.read();
-                    assert item != null; // Invariant enforced by AppendOnlyReplayList
+                    if (item == null) {
+                        // The cursor has been released by a concurrent cancellation
+                        return;
+                    }
                     downstream.onItem(item);
                     emitted++;
                 }
@@ -133,12 +140,25 @@ public class ReplayOperator<T> extends AbstractMulti<T> {
 
         @Override
         public void onItem(T item) {
-            replayList.push(item);
+            if (upstreamSubscription == Subscriptions.CANCELLED) {
+                return;
+            }
+            try {
+                replayList.push(item);
+            } catch (Throwable failure) {
+                // The weigher failed, the upstream is cancelled and the failure is replayed
+                upstreamSubscription.cancel();
+                onFailure(failure);
+                return;
+            }
             triggerDrainLoops();
         }
 
         @Override
         public void onFailure(Throwable failure) {
+            if (upstreamSubscription == Subscriptions.CANCELLED) {
+                return;
+            }
             replayList.pushFailure(failure);
             markAsDone();
             triggerDrainLoops();
@@ -146,6 +166,9 @@ public class ReplayOperator<T> extends AbstractMulti<T> {
 
         @Override
         public void onCompletion() {
+            if (upstreamSubscription == Subscriptions.CANCELLED) {
+                return;
+            }
             replayList.pushCompletion();
             markAsDone();
             triggerDrainLoops();
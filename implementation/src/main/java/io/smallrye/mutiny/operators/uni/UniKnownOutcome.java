@@ -0,0 +1,57 @@
+package io.smallrye.mutiny.operators.uni;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.EmptyUniSubscription;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.AbstractUni;
+import io.smallrye.mutiny.operators.uni.builders.UniCreateFromKnownFailure;
+import io.smallrye.mutiny.operators.uni.builders.UniCreateFromKnownItem;
+import io.smallrye.mutiny.subscription.UniSubscriber;
+
+/**
+ * Scalar fast path for the operators subscribing to a {@link Uni} whose outcome is already known, such as
+ * {@code Uni.createFrom().item(...)} and {@code Uni.createFrom().failure(...)}.
+ * <p>
+ * Instead of subscribing to such a {@link Uni}, which creates a subscription forwarding the outcome, the outcome is
+ * passed directly to the operator processor. The processor receives {@link EmptyUniSubscription#DONE} as
+ * subscription, and handles the cancellation from its downstream itself.
+ * <p>
+ * The {@link io.smallrye.mutiny.infrastructure.UniInterceptor interceptors} are still called. If one of them
+ * decorates the subscriber, the regular subscription is used.
+ */
+final class UniKnownOutcome {
+
+    private UniKnownOutcome() {
+        // avoid direct instantiation
+    }
+
+    /**
+     * Subscribes the processor to the given {@link Uni}, as done by {@link AbstractUni#subscribe(Uni, UniSubscriber)}.
+     * It can be used to subscribe to the upstream, or to an inner {@link Uni} returned by a mapper.
+     *
+     * @param uni the uni
+     * @param processor the processor
+     * @param <I> the type of item
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static <I> void subscribe(Uni<? extends I> uni, UniOperatorProcessor<I, ?> processor) {
+        if (uni instanceof UniCreateFromKnownItem || uni instanceof UniCreateFromKnownFailure) {
+            UniSubscriber actual = Infrastructure.onUniSubscription((Uni) uni, processor);
+            if (actual != processor) {
+                ((AbstractUni) uni).subscribe(actual);
+                return;
+            }
+            processor.onSubscribe(EmptyUniSubscription.DONE);
+            if (processor.isCancelled()) {
+                return;
+            }
+            if (uni instanceof UniCreateFromKnownItem) {
+                processor.onItem(((UniCreateFromKnownItem<I>) uni).getItem());
+            } else {
+                processor.onFailure(((UniCreateFromKnownFailure<I>) uni).getFailure());
+            }
+        } else {
+            AbstractUni.subscribe(uni, processor);
+        }
+    }
+}
@@ -1,21 +1,36 @@
 package io.smallrye.mutiny.operators.uni;
 
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
-import static java.util.Collections.synchronizedList;
 
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BooleanSupplier;
 
 import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.AbstractUni;
 import io.smallrye.mutiny.operators.UniOperator;
+import io.smallrye.mutiny.subscription.ContextSupport;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 import io.smallrye.mutiny.subscription.UniSubscription;
 
+/**
+ * Memoizes the item or failure of the upstream.
+ * <p>
+ * The subscribers arriving before the outcome is known are pushed to a lock-free stack of waiters, which the
+ * (serialized) drain loop moves to its own list before notifying them.
+ * <p>
+ * With refresh-ahead, a memoized item older than the refresh delay is still served immediately, while a single
+ * background subscription to the upstream refreshes it. A failed refresh keeps the memoized item. A memoized failure
+ * is not served once stale: the subscribers wait for a new upstream subscription instead.
+ *
+ * @param <I> the type of item
+ */
 public class UniMemoizeOp<I> extends UniOperator<I, I> implements UniSubscriber<I> {
 
     private enum State {
@@ -30,7 +45,23 @@ public class UniMemoizeOp<I> extends UniOperator<I, I> implements UniSubscriber<
     private final AtomicReference<State> state = new AtomicReference<>(State.INIT);
 
     private final AtomicInteger wip = new AtomicInteger();
-    private final List<UniSubscriberWrapper<? super I>> subscribers = synchronizedList(new ArrayList<>());
+
+    /**
+     * The waiters added since the last drain, most recent first.
+     */
+    private final AtomicReference<UniSubscriberWrapper<? super I>> pending = new AtomicReference<>();
+
+    /**
+     * The waiters moved from the pending stack, in subscription order, only accessed by the drain loop.
+     */
+    private final ArrayList<UniSubscriberWrapper<? super I>> subscribers = new ArrayList<>();
+
+    /**
+     * The refresh-ahead delay in nanoseconds, {@code -1} without refresh-ahead.
+     */
+    private final long refreshAfterNanos;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile long memoizedAt;
 
     private volatile UniSubscription upstreamSubscription;
     private volatile I item;
@@ -44,6 +75,29 @@ public class UniMemoizeOp<I> extends UniOperator<I, I> implements UniSubscriber<
     public UniMemoizeOp(Uni<? extends I> upstream, BooleanSupplier invalidationRequested) {
         super(nonNull(upstream, "upstream"));
         this.invalidationRequested = invalidationRequested;
+        this.refreshAfterNanos = -1L;
+    }
+
+    /**
+     * Creates a memoizing operator refreshing the memoized item in the background once older than
+     * {@code refreshAfter}.
+     *
+     * @param upstream the upstream
+     * @param refreshAfter the age of the memoized item after which it is refreshed, must not be {@code null}
+     */
+    public UniMemoizeOp(Uni<? extends I> upstream, Duration refreshAfter) {
+        super(nonNull(upstream, "upstream"));
+        this.invalidationRequested = () -> false;
+        this.refreshAfterNanos = toNanos(nonNull(refreshAfter, "refreshAfter"));
+    }
+
+    private static long toNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            // Too long to be ever reached
+            return Long.MAX_VALUE;
+        }
     }
 
     @Override
@@ -60,23 +114,40 @@ public class UniMemoizeOp<I> extends UniOperator<I, I> implements UniSubscriber<
             }
         }
 
+        boolean refreshNeeded = false;
+        if (refreshAfterNanos >= 0 && state.get() == State.CACHING && isStale()) {
+            if (failure != null) {
+                // A failure is not served once stale, the subscribers wait for a new upstream subscription
+                state.compareAndSet(State.CACHING, State.INIT);
+            } else {
+                refreshNeeded = true;
+            }
+        }
+
         // Wrap the subscriber
         UniSubscriberWrapper<? super I> wrapper = new UniSubscriberWrapper<>(subscriber);
 
         // Early exit with cached data
         if (state.get() == State.CACHING) {
+            // Read the failure first, a refresh only replaces the item when there is no memoized failure
+            Throwable currentFailure = failure;
+            I currentItem = item;
             subscriber.onSubscribe(wrapper::markCancelled);
             if (!wrapper.isCancelled()) {
-                if (failure != null) {
-                    subscriber.onFailure(failure);
+                if (currentFailure != null) {
+                    subscriber.onFailure(currentFailure);
                 } else {
-                    subscriber.onItem(item);
+                    subscriber.onItem(currentItem);
                 }
             }
+            if (refreshNeeded) {
+                // Once the stale item has been served
+                refresh();
+            }
             return;
         }
 
-        subscribers.add(wrapper);
+        push(wrapper);
 
         if (state.compareAndSet(State.INIT, State.SUBSCRIBING)) {
             // This thread is performing the upstream subscription
@@ -96,6 +167,48 @@ public class UniMemoizeOp<I> extends UniOperator<I, I> implements UniSubscriber<
         }
     }
 
+    private boolean isStale() {
+        return System.nanoTime() - memoizedAt > refreshAfterNanos;
+    }
+
+    private void refresh() {
+        if (refreshing.compareAndSet(false, true)) {
+            AbstractUni.subscribe(upstream(), new RefreshSubscriber());
+        }
+    }
+
+    private void push(UniSubscriberWrapper<? super I> wrapper) {
+        for (;;) {
+            UniSubscriberWrapper<? super I> head = pending.get();
+            wrapper.next = head;
+            if (pending.compareAndSet(head, wrapper)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Moves the pending waiters to the list of subscribers, in subscription order.
+     */
+    @SuppressWarnings("unchecked")
+    private void collectPendingSubscribers() {
+        UniSubscriberWrapper<? super I> head = pending.getAndSet(null);
+        if (head == null) {
+            return;
+        }
+        int start = subscribers.size();
+        while (head != null) {
+            subscribers.add(head);
+            UniSubscriberWrapper<? super I> next = (UniSubscriberWrapper<? super I>) head.next;
+            head.next = null;
+            head = next;
+        }
+        // The stack is most recent first
+        for (int i = start, j = subscribers.size() - 1; i < j; i++, j--) {
+            subscribers.set(i, subscribers.set(j, subscribers.get(i)));
+        }
+    }
+
     private void drain() {
         // Check if another thread is working
         if (wip.getAndIncrement() != 0) {
@@ -105,20 +218,17 @@ public class UniMemoizeOp<I> extends UniOperator<I, I> implements UniSubscriber<
         // Big loop
         int missed = 1;
         for (;;) {
-            ArrayList<UniSubscriberWrapper<? super I>> wrappers;
             I currentItem;
             Throwable currentFailure;
 
+            collectPendingSubscribers();
             if (!subscribers.isEmpty()) {
-                // Thread-safe copy
-                synchronized (subscribers) {
-                    wrappers = new ArrayList<>(subscribers);
-                }
-
                 // Handle subscribers
-                for (UniSubscriberWrapper<? super I> wrapper : wrappers) {
+                Iterator<UniSubscriberWrapper<? super I>> iterator = subscribers.iterator();
+                while (iterator.hasNext()) {
+                    UniSubscriberWrapper<? super I> wrapper = iterator.next();
                     if (wrapper.isCancelled()) {
-                        subscribers.remove(wrapper);
+                        iterator.remove();
                         continue;
                     }
 
@@ -147,7 +257,7 @@ public class UniMemoizeOp<I> extends UniOperator<I, I> implements UniSubscriber<
                                         }
                                     }
                                 } finally {
-                                    subscribers.remove(wrapper);
+                                    iterator.remove();
                                 }
                                 break;
                             default:
@@ -159,7 +269,7 @@ public class UniMemoizeOp<I> extends UniOperator<I, I> implements UniSubscriber<
                         } else {
                             wrapper.subscriber.onItem(currentItem);
                         }
-                        subscribers.remove(wrapper);
+                        iterator.remove();
                     }
                 }
             }
@@ -176,6 +286,7 @@ public class UniMemoizeOp<I> extends UniOperator<I, I> implements UniSubscriber<
         if (state.get() == State.SUBSCRIBED) {
             this.item = item;
             this.failure = null;
+            this.memoizedAt = System.nanoTime();
             state.set(State.CACHING);
             drain();
         }
@@ -186,11 +297,42 @@ public class UniMemoizeOp<I> extends UniOperator<I, I> implements UniSubscriber<
         if (state.get() == State.SUBSCRIBED) {
             this.item = null;
             this.failure = failure;
+            this.memoizedAt = System.nanoTime();
             state.set(State.CACHING);
             drain();
         }
     }
 
+    /**
+     * Receives the outcome of a background refresh.
+     */
+    private class RefreshSubscriber implements UniSubscriber<I>, ContextSupport {
+
+        @Override
+        public Context context() {
+            return lastContextInUse;
+        }
+
+        @Override
+        public void onSubscribe(UniSubscription subscription) {
+            // Not cancellable, the refresh completes even if the subscriber triggering it cancels
+        }
+
+        @Override
+        public void onItem(I refreshed) {
+            item = refreshed;
+            memoizedAt = System.nanoTime();
+            refreshing.set(false);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            // Keep serving the memoized item, the next subscriber retries the refresh
+            refreshing.set(false);
+            Infrastructure.handleDroppedException(failure);
+        }
+    }
+
     private static class UniSubscriberWrapper<I> {
 
         enum Status {
@@ -202,6 +344,9 @@ public class UniMemoizeOp<I> extends UniOperator<I, I> implements UniSubscriber<
         final UniSubscriber<? super I> subscriber;
         final AtomicReference<Status> status = new AtomicReference<>(Status.AWAITING_SUBSCRIPTION);
 
+        // Link in the stack of pending waiters
+        UniSubscriberWrapper<?> next;
+
         UniSubscriberWrapper(UniSubscriber<? super I> subscriber) {
             this.subscriber = subscriber;
         }
@@ -9,7 +9,6 @@ import java.util.function.Predicate;
 import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
-import io.smallrye.mutiny.operators.AbstractUni;
 import io.smallrye.mutiny.operators.UniOperator;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 import io.smallrye.mutiny.subscription.UniSubscription;
@@ -28,7 +27,7 @@ public class UniOnFailureFlatMap<I> extends UniOperator<I, I> {
     }
 
     public void subscribe(UniSubscriber<? super I> subscriber) {
-        AbstractUni.subscribe(upstream(), new UniOnFailureFlatMapProcessor(subscriber));
+        UniKnownOutcome.subscribe(upstream(), new UniOnFailureFlatMapProcessor(subscriber));
     }
 
     private class UniOnFailureFlatMapProcessor extends UniOperatorProcessor<I, I> {
@@ -98,7 +97,7 @@ public class UniOnFailureFlatMap<I> extends UniOperator<I, I> {
                 downstream.onFailure(new NullPointerException(MAPPER_RETURNED_NULL));
                 return;
             }
-            AbstractUni.subscribe(uni, this);
+            UniKnownOutcome.subscribe(uni, this);
         }
     }
 }
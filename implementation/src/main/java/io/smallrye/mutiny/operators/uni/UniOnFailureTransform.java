@@ -9,7 +9,6 @@ import java.util.function.Predicate;
 import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
-import io.smallrye.mutiny.operators.AbstractUni;
 import io.smallrye.mutiny.operators.UniOperator;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 
@@ -28,7 +27,7 @@ public class UniOnFailureTransform<I, O> extends UniOperator<I, O> {
 
     @Override
     public void subscribe(UniSubscriber<? super O> subscriber) {
-        AbstractUni.subscribe(upstream(), new UniOnFailureTransformProcessor(subscriber));
+        UniKnownOutcome.subscribe(upstream(), new UniOnFailureTransformProcessor(subscriber));
     }
 
     private class UniOnFailureTransformProcessor extends UniOperatorProcessor<I, O> {
@@ -6,7 +6,6 @@ import java.util.function.Predicate;
 import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
-import io.smallrye.mutiny.operators.AbstractUni;
 import io.smallrye.mutiny.operators.UniOperator;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 
@@ -27,7 +26,7 @@ public class UniOnItemConsume<T> extends UniOperator<T, T> {
 
     @Override
     public void subscribe(UniSubscriber<? super T> subscriber) {
-        AbstractUni.subscribe(upstream(), new UniOnItemComsumeProcessor(subscriber));
+        UniKnownOutcome.subscribe(upstream(), new UniOnItemComsumeProcessor(subscriber));
     }
 
     private class UniOnItemComsumeProcessor extends UniOperatorProcessor<T, T> {
@@ -4,7 +4,6 @@ import java.util.function.Function;
 
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.ParameterValidation;
-import io.smallrye.mutiny.operators.AbstractUni;
 import io.smallrye.mutiny.operators.UniOperator;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 
@@ -19,7 +18,7 @@ public class UniOnItemTransform<I, O> extends UniOperator<I, O> {
 
     @Override
     public void subscribe(UniSubscriber<? super O> subscriber) {
-        AbstractUni.subscribe(upstream(), new UniOnItemTransformProcessor(subscriber));
+        UniKnownOutcome.subscribe(upstream(), new UniOnItemTransformProcessor(subscriber));
     }
 
     private class UniOnItemTransformProcessor extends UniOperatorProcessor<I, O> {
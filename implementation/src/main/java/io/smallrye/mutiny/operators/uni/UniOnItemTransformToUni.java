@@ -6,7 +6,6 @@ import java.util.function.Function;
 
 import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Uni;
-import io.smallrye.mutiny.operators.AbstractUni;
 import io.smallrye.mutiny.operators.UniOperator;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 import io.smallrye.mutiny.subscription.UniSubscription;
@@ -22,7 +21,7 @@ public class UniOnItemTransformToUni<I, O> extends UniOperator<I, O> {
 
     @Override
     public void subscribe(UniSubscriber<? super O> subscriber) {
-        AbstractUni.subscribe(upstream(), new UniOnItemTransformToUniProcessor(subscriber));
+        UniKnownOutcome.subscribe(upstream(), new UniOnItemTransformToUniProcessor(subscriber));
     }
 
     // Note: serves as a subscription/subscriber for both the upstream and the Uni.
@@ -61,7 +60,7 @@ public class UniOnItemTransformToUni<I, O> extends UniOperator<I, O> {
             }
         }
 
-        @SuppressWarnings("unchecked")
+        @SuppressWarnings({ "unchecked", "rawtypes" })
         private void performInnerSubscription(I item) {
             Uni<? extends O> uni;
             try {
@@ -78,7 +77,7 @@ public class UniOnItemTransformToUni<I, O> extends UniOperator<I, O> {
                 downstream.onFailure(new NullPointerException(MAPPER_RETURNED_NULL));
                 return;
             }
-            AbstractUni.subscribe(uni, (UniSubscriber) this); // not a pretty cast
+            UniKnownOutcome.subscribe((Uni) uni, this); // not a pretty cast
         }
 
         @Override
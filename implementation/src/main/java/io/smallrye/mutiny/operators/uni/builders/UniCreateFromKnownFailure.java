@@ -18,6 +18,13 @@ public class UniCreateFromKnownFailure<T> extends AbstractUni<T> {
         this.failure = failure;
     }
 
+    /**
+     * @return the failure
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
     @Override
     public void subscribe(UniSubscriber<? super T> subscriber) {
         new KnownFailureSubscription(subscriber).forward();
@@ -18,6 +18,13 @@ public class UniCreateFromKnownItem<T> extends AbstractUni<T> {
         this.item = item;
     }
 
+    /**
+     * @return the item, can be {@code null}
+     */
+    public T getItem() {
+        return item;
+    }
+
     @Override
     public void subscribe(UniSubscriber<? super T> subscriber) {
         new KnownItemSubscription(subscriber).forward();
@@ -1,8 +1,11 @@
 package io.smallrye.mutiny.subscription;
 
+import java.util.Collection;
+import java.util.Objects;
 import java.util.concurrent.Flow.Subscription;
 
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
 
 /**
  * An object allowing to send signals to the downstream {@link Multi}.
@@ -25,6 +28,57 @@ public interface MultiEmitter<T> extends ContextSupport {
      */
     MultiEmitter<T> emit(T item);
 
+    /**
+     * Emits a batch of {@code item} events downstream, in iteration order.
+     * <p>
+     * This is equivalent to calling {@link #emit(Object)} for each item, but the buffering emitters enqueue the whole
+     * batch and dispatch it in a single pass, instead of synchronizing for every item.
+     * If the batch contains a {@code null} item, the items preceding it are emitted and the stream fails.
+     * <p>
+     * Calling this method after a failure or a completion events has no effect.
+     *
+     * @param items the items, must not be {@code null}
+     * @return this emitter, so firing item events can be chained.
+     */
+    default MultiEmitter<T> emitAll(Collection<? extends T> items) {
+        ParameterValidation.nonNull(items, "items");
+        for (T item : items) {
+            if (isCancelled()) {
+                break;
+            }
+            emit(item);
+        }
+        return this;
+    }
+
+    /**
+     * Emits the {@code length} items of the given array starting at {@code offset} as a batch of {@code item} events
+     * downstream.
+     * <p>
+     * This is equivalent to calling {@link #emit(Object)} for each item, but the buffering emitters enqueue the whole
+     * batch and dispatch it in a single pass, instead of synchronizing for every item.
+     * If the batch contains a {@code null} item, the items preceding it are emitted and the stream fails.
+     * <p>
+     * Calling this method after a failure or a completion events has no effect.
+     *
+     * @param items the array containing the items, must not be {@code null}
+     * @param offset the index of the first item to emit
+     * @param length the number of items to emit
+     * @return this emitter, so firing item events can be chained.
+     * @throws IndexOutOfBoundsException if {@code offset} and {@code length} do not denote a range of {@code items}
+     */
+    default MultiEmitter<T> emit(T[] items, int offset, int length) {
+        ParameterValidation.nonNull(items, "items");
+        Objects.checkFromIndexSize(offset, length, items.length);
+        for (int i = offset; i < offset + length; i++) {
+            if (isCancelled()) {
+                break;
+            }
+            emit(items[i]);
+        }
+        return this;
+    }
+
     /**
      * Emits a {@code failure} event downstream with the given exception.
      * <p>
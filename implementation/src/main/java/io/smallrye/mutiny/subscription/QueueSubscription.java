@@ -0,0 +1,153 @@
+package io.smallrye.mutiny.subscription;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Flow.Subscription;
+
+/**
+ * A {@link Subscription} that also exposes the items of the source as a {@link Queue}, so that operators with an
+ * internal queue (such as {@code emitOn} or {@code flatMap}) can poll the source directly instead of receiving the
+ * items through {@code onItem} and storing them in a queue of their own.
+ * <p>
+ * The fusion is negotiated in {@link Flow.Subscriber#onSubscribe(Subscription)}: the subscriber calls
+ * {@link #requestFusion(Flow.Subscriber, int)} with the modes it supports, and the source returns the granted mode:
+ * <ul>
+ * <li>{@link #NONE}: no fusion, the regular Reactive Streams protocol applies;</li>
+ * <li>{@link #SYNC}: the source is synchronous and bounded. The subscriber pulls the items using {@link #poll()},
+ * a {@code null} value indicating the completion, and a thrown exception indicating a failure. The source does not
+ * emit any signal and ignores requests;</li>
+ * <li>{@link #ASYNC}: the source emits items asynchronously. It calls {@code onItem(null)} to indicate that items are
+ * available, and the subscriber drains them with {@link #poll()}. Failure and completion are signalled as usual, once
+ * the last items have been made available.</li>
+ * </ul>
+ * Fusion is only granted to the subscriber the source is directly emitting to. If any intermediate subscriber sits
+ * between them, the source returns {@link #NONE}, so the intermediate subscriber callbacks are never bypassed.
+ * <p>
+ * Only the {@link Queue} methods required by the consumers are implemented, the other ones throw
+ * {@link UnsupportedOperationException}.
+ *
+ * @param <T> the type of item
+ */
+public interface QueueSubscription<T> extends Queue<T>, Subscription {
+
+    /**
+     * No fusion.
+     */
+    int NONE = 0;
+
+    /**
+     * Synchronous fusion: the items are pulled from the source, {@code null} indicating the completion.
+     */
+    int SYNC = 1;
+
+    /**
+     * Asynchronous fusion: the source signals when items are available, and the items are pulled from the source.
+     */
+    int ASYNC = 2;
+
+    /**
+     * Any fusion mode.
+     */
+    int ANY = SYNC | ASYNC;
+
+    /**
+     * Requests a fusion mode.
+     * This method must be called at most once, from {@link Flow.Subscriber#onSubscribe(Subscription)}, and before any
+     * call to {@link #request(long)}.
+     *
+     * @param requester the subscriber requesting the fusion, must be the subscriber that received this subscription
+     * @param mode the accepted modes, a combination of {@link #SYNC} and {@link #ASYNC}
+     * @return the granted mode, {@link #NONE} if the fusion is refused
+     */
+    int requestFusion(Flow.Subscriber<?> requester, int mode);
+
+    /**
+     * Retrieves the next item.
+     *
+     * @return the next item, {@code null} if no items are available, or in {@link #SYNC} mode, if the source has
+     *         no more items.
+     */
+    @Override
+    T poll();
+
+    @Override
+    boolean isEmpty();
+
+    @Override
+    void clear();
+
+    @Override
+    int size();
+
+    @Override
+    default boolean offer(T t) {
+        throw new UnsupportedOperationException("Not supported by fused subscriptions");
+    }
+
+    @Override
+    default boolean add(T t) {
+        throw new UnsupportedOperationException("Not supported by fused subscriptions");
+    }
+
+    @Override
+    default T remove() {
+        throw new UnsupportedOperationException("Not supported by fused subscriptions");
+    }
+
+    @Override
+    default T element() {
+        throw new UnsupportedOperationException("Not supported by fused subscriptions");
+    }
+
+    @Override
+    default T peek() {
+        throw new UnsupportedOperationException("Not supported by fused subscriptions");
+    }
+
+    @Override
+    default boolean contains(Object o) {
+        throw new UnsupportedOperationException("Not supported by fused subscriptions");
+    }
+
+    @Override
+    default Iterator<T> iterator() {
+        throw new UnsupportedOperationException("Not supported by fused subscriptions");
+    }
+
+    @Override
+    default Object[] toArray() {
+        throw new UnsupportedOperationException("Not supported by fused subscriptions");
+    }
+
+    @Override
+    default <E> E[] toArray(E[] a) {
+        throw new UnsupportedOperationException("Not supported by fused subscriptions");
+    }
+
+    @Override
+    default boolean remove(Object o) {
+        throw new UnsupportedOperationException("Not supported by fused subscriptions");
+    }
+
+    @Override
+    default boolean containsAll(Collection<?> c) {
+        throw new UnsupportedOperationException("Not supported by fused subscriptions");
+    }
+
+    @Override
+    default boolean addAll(Collection<? extends T> c) {
+        throw new UnsupportedOperationException("Not supported by fused subscriptions");
+    }
+
+    @Override
+    default boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException("Not supported by fused subscriptions");
+    }
+
+    @Override
+    default boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException("Not supported by fused subscriptions");
+    }
+}
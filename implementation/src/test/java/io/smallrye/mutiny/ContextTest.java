@@ -159,6 +159,107 @@ class ContextTest {
                     .hasMessage("The context does not have a value for key yolo");
         }
 
+        @Test
+        void largeContexts() {
+            Context context = Context.empty();
+            for (int i = 0; i < 20; i++) {
+                context.put("key-" + i, i);
+                assertThat(context.keys()).hasSize(i + 1);
+            }
+            for (int i = 0; i < 20; i++) {
+                assertThat(context.<Integer> get("key-" + i)).isEqualTo(i);
+            }
+            context.put("key-3", "updated");
+            assertThat(context.<String> get("key-3")).isEqualTo("updated");
+            for (int i = 0; i < 20; i = i + 2) {
+                context.delete("key-" + i);
+            }
+            assertThat(context.keys()).hasSize(10);
+            context.delete("key-1").delete("key-5");
+            assertThat(context.keys()).hasSize(8)
+                    .containsExactlyInAnyOrder("key-3", "key-7", "key-9", "key-11", "key-13", "key-15", "key-17", "key-19");
+            assertThat(context.<String> get("key-3")).isEqualTo("updated");
+            assertThat(context.contains("key-1")).isFalse();
+            assertThat(context.getOrElse("key-5", () -> 5)).isEqualTo(5);
+        }
+
+        @Test
+        void fromLargeMap() {
+            HashMap<String, Object> map = new HashMap<>();
+            for (int i = 0; i < 20; i++) {
+                map.put("key-" + i, i);
+            }
+            Context context = Context.from(map);
+            map.clear();
+            assertThat(context.keys()).hasSize(20);
+            assertThat(context.<Integer> get("key-19")).isEqualTo(19);
+        }
+
+        @Test
+        void fromMapWithNullValue() {
+            HashMap<String, Object> map = new HashMap<>();
+            map.put("foo", null);
+            assertThatThrownBy(() -> Context.from(map)).isInstanceOf(NullPointerException.class);
+        }
+
+        @Test
+        void ofWithDuplicatedKeys() {
+            Context context = Context.of("foo", "bar", "foo", "baz");
+            assertThat(context.keys()).containsExactly("foo");
+            assertThat(context.<String> get("foo")).isEqualTo("baz");
+        }
+
+        @Test
+        void equalsDoesNotDependOnTheRepresentation() {
+            Context small = Context.of("a", 1, "b", 2);
+            Context reordered = Context.of("b", 2, "a", 1);
+            Context large = Context.empty();
+            for (int i = 0; i < 20; i++) {
+                large.put("key-" + i, i);
+            }
+            for (int i = 0; i < 20; i++) {
+                large.delete("key-" + i);
+            }
+            large.put("a", 1).put("b", 2);
+
+            assertThat(small).isEqualTo(reordered).isEqualTo(large);
+            assertThat(small.hashCode()).isEqualTo(reordered.hashCode()).isEqualTo(large.hashCode());
+            assertThat(small).isNotEqualTo(Context.of("a", 1, "b", 3));
+            assertThat(small).isNotEqualTo(Context.of("a", 1, "c", 2));
+            assertThat(small.toString()).isEqualTo("Context{entries={a=1, b=2}}");
+        }
+
+        @Test
+        void concurrentUpdates() throws InterruptedException {
+            Context context = Context.empty();
+            int threads = 4;
+            int keys = 50;
+            List<Thread> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int id = t;
+                Thread thread = new Thread(() -> {
+                    for (int i = 0; i < keys; i++) {
+                        context.put(id + "-" + i, i);
+                        context.put("shared", i);
+                        if (i % 2 == 0) {
+                            context.delete(id + "-" + i);
+                        }
+                    }
+                });
+                workers.add(thread);
+                thread.start();
+            }
+            for (Thread thread : workers) {
+                thread.join();
+            }
+            assertThat(context.keys()).hasSize(threads * keys / 2 + 1);
+            for (int t = 0; t < threads; t++) {
+                for (int i = 1; i < keys; i = i + 2) {
+                    assertThat(context.<Integer> get(t + "-" + i)).isEqualTo(i);
+                }
+            }
+        }
+
         @Test
         void keysetIsACopy() {
             Context context = Context.of("foo", "bar", "123", 456);
@@ -1,12 +1,15 @@
 package io.smallrye.mutiny.groups;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 
 import java.io.IOException;
 import java.time.Duration;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.ResourceAccessMode;
 import org.junit.jupiter.api.parallel.ResourceLock;
@@ -14,6 +17,9 @@ import org.junit.jupiter.api.parallel.ResourceLock;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.MultiEmitterProcessor;
 import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.subscription.BackPressureStrategy;
 import junit5.support.InfrastructureResource;
 
 @ResourceLock(value = InfrastructureResource.NAME, mode = ResourceAccessMode.READ)
@@ -307,4 +313,210 @@ public class MultiBroadcastTest {
         subscriber2.awaitCompletion();
         assertThat(subscriber2.getItems()).hasSize(1000);
     }
+
+    @Test
+    public void testPerSubscriberBackPressureValidation() {
+        Multi<Integer> multi = Multi.createFrom().range(0, 10);
+        assertThatThrownBy(() -> multi.broadcast().withPerSubscriberBackPressure(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("strategy");
+        assertThatThrownBy(() -> multi.broadcast().withPerSubscriberBackPressure(BackPressureStrategy.BUFFER, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("bufferSize");
+        assertThatThrownBy(() -> multi.broadcast().withPerSubscriberBackPressure(BackPressureStrategy.IGNORE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("IGNORE");
+    }
+
+    @Test
+    public void testPerSubscriberBuffer() {
+        MultiEmitterProcessor<Integer> processor = MultiEmitterProcessor.create();
+        Multi<Integer> multi = processor.toMulti().broadcast()
+                .withPerSubscriberBackPressure(BackPressureStrategy.BUFFER, 3)
+                .toAtLeast(2);
+
+        AssertSubscriber<Integer> fast = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        AssertSubscriber<Integer> slow = multi.subscribe().withSubscriber(AssertSubscriber.create(1));
+
+        processor.emit(1).emit(2).emit(3);
+        // The fast subscriber is not throttled by the slow one
+        fast.assertItems(1, 2, 3);
+        slow.assertItems(1).assertNotTerminated();
+
+        slow.request(1);
+        slow.assertItems(1, 2);
+        processor.emit(4).emit(5);
+        fast.assertItems(1, 2, 3, 4, 5);
+        slow.request(10).assertItems(1, 2, 3, 4, 5);
+
+        processor.emit(6).complete();
+        fast.assertItems(1, 2, 3, 4, 5, 6).assertCompleted();
+        slow.assertItems(1, 2, 3, 4, 5, 6).assertCompleted();
+    }
+
+    @Test
+    public void testPerSubscriberBufferOverflow() {
+        MultiEmitterProcessor<Integer> processor = MultiEmitterProcessor.create();
+        Multi<Integer> multi = processor.toMulti().broadcast()
+                .withPerSubscriberBackPressure(BackPressureStrategy.BUFFER, 2)
+                .toAtLeast(2);
+
+        AssertSubscriber<Integer> fast = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        AssertSubscriber<Integer> slow = multi.subscribe().withSubscriber(AssertSubscriber.create(1));
+
+        processor.emit(1).emit(2).emit(3);
+        slow.assertItems(1).assertNotTerminated();
+        processor.emit(4);
+        slow.assertItems(1).assertFailedWith(BackPressureFailure.class, "buffer is full");
+
+        processor.emit(5).complete();
+        fast.assertItems(1, 2, 3, 4, 5).assertCompleted();
+    }
+
+    @Test
+    public void testPerSubscriberDrop() {
+        MultiEmitterProcessor<Integer> processor = MultiEmitterProcessor.create();
+        Multi<Integer> multi = processor.toMulti().broadcast()
+                .withPerSubscriberBackPressure(BackPressureStrategy.DROP, 2)
+                .toAtLeast(2);
+
+        AssertSubscriber<Integer> fast = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        AssertSubscriber<Integer> slow = multi.subscribe().withSubscriber(AssertSubscriber.create(0));
+
+        processor.emit(1).emit(2).emit(3).emit(4).complete();
+        fast.assertItems(1, 2, 3, 4).assertCompleted();
+        slow.assertHasNotReceivedAnyItem().assertNotTerminated();
+        slow.request(10);
+        slow.assertItems(1, 2).assertCompleted();
+    }
+
+    @Test
+    public void testPerSubscriberLatest() {
+        MultiEmitterProcessor<Integer> processor = MultiEmitterProcessor.create();
+        Multi<Integer> multi = processor.toMulti().broadcast()
+                .withPerSubscriberBackPressure(BackPressureStrategy.LATEST, 2)
+                .toAtLeast(2);
+
+        AssertSubscriber<Integer> fast = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        AssertSubscriber<Integer> slow = multi.subscribe().withSubscriber(AssertSubscriber.create(0));
+
+        processor.emit(1).emit(2).emit(3).emit(4).complete();
+        fast.assertItems(1, 2, 3, 4).assertCompleted();
+        slow.assertHasNotReceivedAnyItem().assertNotTerminated();
+        slow.request(1);
+        slow.assertItems(3).assertNotTerminated();
+        slow.request(1);
+        slow.assertItems(3, 4).assertCompleted();
+    }
+
+    @Test
+    public void testPerSubscriberDisconnection() {
+        MultiEmitterProcessor<Integer> processor = MultiEmitterProcessor.create();
+        Multi<Integer> multi = processor.toMulti().broadcast()
+                .withPerSubscriberBackPressure(BackPressureStrategy.ERROR)
+                .toAtLeast(2);
+
+        AssertSubscriber<Integer> fast = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        AssertSubscriber<Integer> slow = multi.subscribe().withSubscriber(AssertSubscriber.create(1));
+
+        processor.emit(1).emit(2);
+        slow.assertItems(1).assertFailedWith(BackPressureFailure.class, "lack of requests");
+        processor.emit(3).complete();
+        fast.assertItems(1, 2, 3).assertCompleted();
+    }
+
+    @Test
+    public void testPerSubscriberFailureIsDeliveredAfterTheBufferedItems() {
+        MultiEmitterProcessor<Integer> processor = MultiEmitterProcessor.create();
+        Multi<Integer> multi = processor.toMulti().broadcast()
+                .withPerSubscriberBackPressure(BackPressureStrategy.BUFFER)
+                .toAtLeast(2);
+
+        AssertSubscriber<Integer> fast = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        AssertSubscriber<Integer> slow = multi.subscribe().withSubscriber(AssertSubscriber.create(0));
+
+        processor.emit(1).emit(2).fail(new IOException("boom"));
+        fast.assertItems(1, 2).assertFailedWith(IOException.class, "boom");
+        slow.assertHasNotReceivedAnyItem().assertNotTerminated();
+        slow.request(2);
+        slow.assertItems(1, 2).assertFailedWith(IOException.class, "boom");
+    }
+
+    @Test
+    public void testPerSubscriberUpstreamBackPressure() {
+        AtomicInteger requested = new AtomicInteger();
+        Multi<Integer> multi = Multi.createFrom().range(0, 1000)
+                .onRequest().invoke(n -> requested.addAndGet((int) Math.min(n, Integer.MAX_VALUE)))
+                .broadcast()
+                .withPerSubscriberBackPressure(BackPressureStrategy.DROP, 10)
+                .toAtLeast(2);
+
+        AssertSubscriber<Integer> s1 = multi.subscribe().withSubscriber(AssertSubscriber.create(5));
+        AssertSubscriber<Integer> s2 = multi.subscribe().withSubscriber(AssertSubscriber.create(20));
+
+        // The items are dispatched at the pace of the fastest subscriber, nothing is dropped when everyone is slow
+        s1.assertItems(0, 1, 2, 3, 4);
+        assertThat(s2.getItems()).hasSize(20);
+        s1.request(10);
+        assertThat(s1.getItems()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14);
+        assertThat(requested.get()).isLessThan(1000);
+
+        s1.cancel();
+        s2.request(Long.MAX_VALUE);
+        s2.awaitCompletion();
+        assertThat(s2.getItems()).hasSize(1000);
+    }
+
+    @RepeatedTest(10)
+    public void testPerSubscriberConcurrentRequests() throws InterruptedException {
+        Multi<Integer> multi = Multi.createFrom().range(0, 10_000)
+                .emitOn(Infrastructure.getDefaultExecutor())
+                .broadcast()
+                .withPerSubscriberBackPressure(BackPressureStrategy.BUFFER, 10_000)
+                .toAtLeast(2);
+
+        AssertSubscriber<Integer> fast = new AssertSubscriber<>(Long.MAX_VALUE);
+        AssertSubscriber<Integer> slow = new AssertSubscriber<>(0);
+        multi.subscribe().withSubscriber(fast);
+        multi.subscribe().withSubscriber(slow);
+        Thread requester = new Thread(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                slow.request(1);
+            }
+        });
+        requester.start();
+        requester.join();
+
+        fast.awaitCompletion();
+        slow.awaitCompletion();
+        assertThat(fast.getItems()).hasSize(10_000).isSorted();
+        assertThat(slow.getItems()).hasSize(10_000).isSorted();
+    }
+
+    @RepeatedTest(10)
+    public void testPerSubscriberErrorWithConcurrentRequests() throws InterruptedException {
+        Multi<Integer> multi = Multi.createFrom().range(0, 100_000)
+                .emitOn(Infrastructure.getDefaultExecutor())
+                .broadcast()
+                .withPerSubscriberBackPressure(BackPressureStrategy.ERROR)
+                .toAtLeast(2);
+
+        AssertSubscriber<Integer> fast = new AssertSubscriber<>(Long.MAX_VALUE);
+        // Enough requests for all the items, the concurrent requests must not disconnect the subscriber
+        AssertSubscriber<Integer> slow = new AssertSubscriber<>(100_000);
+        multi.subscribe().withSubscriber(fast);
+        multi.subscribe().withSubscriber(slow);
+        Thread requester = new Thread(() -> {
+            for (int i = 0; i < 10_000_000 && !fast.hasCompleted(); i++) {
+                slow.request(1);
+            }
+        });
+        requester.start();
+        requester.join();
+
+        fast.awaitCompletion();
+        slow.awaitCompletion();
+        assertThat(fast.getItems()).hasSize(100_000).isSorted();
+        assertThat(slow.getItems()).hasSize(100_000).isSorted();
+    }
 }
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
 
 class MultiReplayTest {
@@ -115,6 +117,140 @@ class MultiReplayTest {
         sub.assertItems(7, 8, 9);
     }
 
+    @Test
+    void rejectBadWindowArguments() {
+        assertThatThrownBy(() -> Multi.createBy().replaying().upTo(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maxAge");
+
+        assertThatThrownBy(() -> Multi.createBy().replaying().upTo(Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maxAge");
+
+        assertThatThrownBy(() -> Multi.createBy().replaying().upToWeight(0, item -> 1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maxWeight");
+
+        assertThatThrownBy(() -> Multi.createBy().replaying().upToWeight(10, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("weigher");
+    }
+
+    @Test
+    void replayUpToAge() {
+        BroadcastProcessor<Integer> processor = BroadcastProcessor.create();
+        Multi<Integer> replay = Multi.createBy().replaying().upTo(Duration.ofMillis(200)).ofMulti(processor);
+
+        AssertSubscriber<Integer> first = replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        processor.onNext(1);
+        processor.onNext(2);
+        AssertSubscriber<Integer> sub = replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        sub.assertItems(1, 2);
+
+        // The items expire even if no new item is received
+        await().pollDelay(Duration.ofMillis(300)).until(() -> true);
+        sub = replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        sub.assertHasNotReceivedAnyItem();
+
+        processor.onNext(3);
+        processor.onNext(4);
+        sub.assertItems(3, 4);
+        processor.onComplete();
+        sub.assertCompleted();
+
+        sub = replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        sub.assertItems(3, 4).assertCompleted();
+        first.assertItems(1, 2, 3, 4).assertCompleted();
+
+        await().pollDelay(Duration.ofMillis(300)).until(() -> true);
+        sub = replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        sub.assertHasNotReceivedAnyItem().assertCompleted();
+    }
+
+    @Test
+    void replayUpToWeight() {
+        Multi<String> upstream = Multi.createFrom().items("a", "bb", "ccc", "dddd", "e");
+        Multi<String> replay = Multi.createBy().replaying().upToWeight(6, String::length).ofMulti(upstream);
+
+        // The upstream emits all its items at the first subscription
+        AssertSubscriber<String> sub = replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        sub.assertItems("dddd", "e").assertCompleted();
+
+        sub = replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        sub.assertItems("dddd", "e").assertCompleted();
+    }
+
+    @Test
+    void replayUpToWeightKeepsTheLatestItem() {
+        Multi<String> upstream = Multi.createFrom().items("a", "bbbbbbbbbbbb");
+        Multi<String> replay = Multi.createBy().replaying().upToWeight(4, String::length).ofMulti(upstream);
+
+        replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE)).assertCompleted();
+        replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertItems("bbbbbbbbbbbb")
+                .assertCompleted();
+    }
+
+    @Test
+    void replayWithCombinedLimits() {
+        Multi<String> upstream = Multi.createFrom().items("a", "b", "c", "dddddd", "e", "f");
+        Multi<String> replay = Multi.createBy().replaying()
+                .upTo(3)
+                .upToWeight(8, String::length)
+                .upTo(Duration.ofMinutes(1))
+                .ofMulti(upstream);
+
+        replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE)).assertCompleted();
+        replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertItems("dddddd", "e", "f")
+                .assertCompleted();
+
+        upstream = Multi.createFrom().items("a", "b", "c", "ddddddd", "e", "f");
+        replay = Multi.createBy().replaying()
+                .upTo(3)
+                .upToWeight(8, String::length)
+                .ofMulti(upstream);
+
+        replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE)).assertCompleted();
+        replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertItems("e", "f")
+                .assertCompleted();
+    }
+
+    @Test
+    void failingWeigher() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Multi<Integer> upstream = Multi.createFrom().range(0, 10)
+                .onCancellation().invoke(() -> cancelled.set(true));
+        Multi<Integer> replay = Multi.createBy().replaying()
+                .upToWeight(100, (Integer item) -> {
+                    if (item == 3) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return 1;
+                })
+                .ofMulti(upstream);
+
+        AssertSubscriber<Integer> sub = replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        sub.assertItems(0, 1, 2).assertFailedWith(IllegalStateException.class, "boom");
+        assertThat(cancelled).isTrue();
+
+        replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertItems(0, 1, 2)
+                .assertFailedWith(IllegalStateException.class, "boom");
+    }
+
+    @Test
+    void negativeWeight() {
+        Multi<Integer> replay = Multi.createBy().replaying()
+                .upToWeight(100, (Integer item) -> -1L)
+                .ofMulti(Multi.createFrom().range(0, 10));
+
+        replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertHasNotReceivedAnyItem()
+                .assertFailedWith(IllegalArgumentException.class, "weight");
+    }
+
     @Test
     void replayWithSeed() {
         List<Integer> seed = Arrays.asList(-100, -10, -1);
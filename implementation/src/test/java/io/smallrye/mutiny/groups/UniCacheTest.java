@@ -0,0 +1,365 @@
+package io.smallrye.mutiny.groups;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+class UniCacheTest {
+
+    @Test
+    void testValidation() {
+        assertThatThrownBy(() -> UniCache.builder().maximumSize(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maximumSize");
+        assertThatThrownBy(() -> UniCache.builder().maximumWeight(10, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("weigher");
+        assertThatThrownBy(() -> UniCache.builder().expireAfterWrite(Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("duration");
+        assertThatThrownBy(() -> UniCache.builder().refreshAfterWrite(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("duration");
+        assertThatThrownBy(() -> UniCache.builder().build(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("loader");
+        assertThatThrownBy(() -> UniCache.<String, String> builder().build(k -> Uni.createFrom().item(k)).get(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("key");
+    }
+
+    @Test
+    void testValuesAreCached() {
+        AtomicInteger calls = new AtomicInteger();
+        UniCache<String, String> cache = UniCache.<String, String> builder()
+                .build(k -> Uni.createFrom().item(() -> k + "-" + calls.incrementAndGet()));
+
+        Uni<String> uni = cache.get("a");
+        // Lazy until subscribed
+        assertThat(calls).hasValue(0);
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem("a-1");
+        cache.get("a").subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem("a-1");
+        cache.get("b").subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem("b-2");
+        cache.get("a").subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem("a-1");
+        assertThat(calls).hasValue(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void testInFlightLoadsAreCoalesced() {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicReference<UniEmitter<? super String>> emitter = new AtomicReference<>();
+        UniCache<String, String> cache = UniCache.<String, String> builder()
+                .build(k -> Uni.createFrom().emitter(e -> {
+                    calls.incrementAndGet();
+                    emitter.set(e);
+                }));
+
+        UniAssertSubscriber<String> first = cache.get("a").subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<String> second = cache.get("a").subscribe().withSubscriber(UniAssertSubscriber.create());
+        first.assertNotTerminated();
+        second.assertNotTerminated();
+        assertThat(calls).hasValue(1);
+
+        emitter.get().complete("hello");
+        first.assertItem("hello");
+        second.assertItem("hello");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void testConcurrentGets() throws InterruptedException {
+        ConcurrentHashMap<Integer, AtomicInteger> calls = new ConcurrentHashMap<>();
+        UniCache<Integer, Integer> cache = UniCache.<Integer, Integer> builder()
+                .build(k -> Uni.createFrom().item(() -> {
+                    calls.computeIfAbsent(k, x -> new AtomicInteger()).incrementAndGet();
+                    return k * 2;
+                }));
+
+        int threads = 4;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<UniAssertSubscriber<Integer>> subscribers = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                pool.submit(() -> {
+                    try {
+                        start.await();
+                        for (int i = 0; i < 1000; i++) {
+                            UniAssertSubscriber<Integer> subscriber = cache.get(i % 100)
+                                    .subscribe().withSubscriber(UniAssertSubscriber.create());
+                            synchronized (subscribers) {
+                                subscribers.add(subscriber);
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            start.countDown();
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(subscribers).hasSize(4000);
+        for (UniAssertSubscriber<Integer> subscriber : subscribers) {
+            subscriber.assertCompleted();
+        }
+        assertThat(calls).hasSize(100);
+        assertThat(calls.values()).allSatisfy(count -> assertThat(count).hasValue(1));
+    }
+
+    @Test
+    void testFailuresAreNotCached() {
+        AtomicInteger calls = new AtomicInteger();
+        UniCache<String, String> cache = UniCache.<String, String> builder()
+                .build(k -> Uni.createFrom().item(calls::incrementAndGet)
+                        .onItem().transform(i -> {
+                            if (i == 1) {
+                                throw new IllegalStateException("boom");
+                            }
+                            return k + "-" + i;
+                        }));
+
+        cache.get("a").subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IllegalStateException.class, "boom");
+        assertThat(cache.size()).isEqualTo(0);
+        cache.get("a").subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem("a-2");
+        cache.get("a").subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem("a-2");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void testRetryAfterFailure() {
+        AtomicInteger calls = new AtomicInteger();
+        UniCache<String, String> cache = UniCache.<String, String> builder()
+                .build(k -> Uni.createFrom().item(calls::incrementAndGet)
+                        .onItem().transform(i -> {
+                            if (i < 3) {
+                                throw new IllegalStateException("boom");
+                            }
+                            return k + "-" + i;
+                        }));
+
+        cache.get("a").onFailure().retry().atMost(3)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertItem("a-3");
+        assertThat(calls).hasValue(3);
+        assertThat(cache.get("a").await().indefinitely()).isEqualTo("a-3");
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void testLoaderFailure() {
+        UniCache<String, String> cache = UniCache.<String, String> builder()
+                .build(k -> {
+                    throw new IllegalStateException("boom");
+                });
+        cache.get("a").subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IllegalStateException.class, "boom");
+        assertThat(cache.size()).isEqualTo(0);
+
+        UniCache<String, String> nullCache = UniCache.<String, String> builder().build(k -> null);
+        nullCache.get("a").subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(NullPointerException.class);
+        assertThat(nullCache.size()).isEqualTo(0);
+    }
+
+    @Test
+    void testLeastRecentlyUsedEviction() {
+        AtomicInteger calls = new AtomicInteger();
+        UniCache<String, String> cache = UniCache.<String, String> builder()
+                .maximumSize(2)
+                .build(k -> Uni.createFrom().item(() -> k + "-" + calls.incrementAndGet()));
+
+        cache.get("a").await().indefinitely();
+        cache.get("b").await().indefinitely();
+        // Access "a", so "b" is the least recently used entry
+        assertThat(cache.get("a").await().indefinitely()).isEqualTo("a-1");
+        cache.get("c").await().indefinitely();
+        assertThat(cache.size()).isEqualTo(2);
+
+        assertThat(cache.get("a").await().indefinitely()).isEqualTo("a-1");
+        assertThat(cache.get("c").await().indefinitely()).isEqualTo("c-3");
+        assertThat(cache.get("b").await().indefinitely()).isEqualTo("b-4");
+        assertThat(calls).hasValue(4);
+    }
+
+    @Test
+    void testSizeIsBoundedWithManyKeys() {
+        UniCache<Integer, Integer> cache = UniCache.<Integer, Integer> builder()
+                .maximumSize(1000)
+                .build(k -> Uni.createFrom().item(k));
+        for (int i = 0; i < 100_000; i++) {
+            assertThat(cache.get(i).await().indefinitely()).isEqualTo(i);
+        }
+        assertThat(cache.size()).isLessThanOrEqualTo(1000).isGreaterThan(0);
+    }
+
+    @Test
+    void testWeightEviction() {
+        AtomicInteger calls = new AtomicInteger();
+        UniCache<String, String> cache = UniCache.<String, String> builder()
+                .maximumWeight(10, (k, v) -> v.length())
+                .build(k -> {
+                    calls.incrementAndGet();
+                    return Uni.createFrom().item(k);
+                });
+
+        cache.get("aaaa").await().indefinitely();
+        cache.get("bbbb").await().indefinitely();
+        assertThat(cache.size()).isEqualTo(2);
+        // 4 + 4 + 5 > 10, "aaaa" is evicted
+        cache.get("ccccc").await().indefinitely();
+        assertThat(cache.size()).isEqualTo(2);
+        cache.get("bbbb").await().indefinitely();
+        cache.get("ccccc").await().indefinitely();
+        assertThat(calls).hasValue(3);
+        cache.get("aaaa").await().indefinitely();
+        assertThat(calls).hasValue(4);
+
+        // An entry heavier than the maximum weight is kept alone
+        cache.get("dddddddddddd").await().indefinitely();
+        assertThat(cache.size()).isEqualTo(1);
+        cache.get("dddddddddddd").await().indefinitely();
+        assertThat(calls).hasValue(5);
+    }
+
+    @Test
+    void testNegativeWeight() {
+        UniCache<String, String> cache = UniCache.<String, String> builder()
+                .maximumWeight(10, (k, v) -> -1L)
+                .build(k -> Uni.createFrom().item(k));
+        cache.get("a").subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IllegalArgumentException.class, "weight");
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    void testExpireAfterWrite() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        UniCache<String, String> cache = UniCache.<String, String> builder()
+                .expireAfterWrite(Duration.ofMillis(500))
+                .build(k -> Uni.createFrom().item(() -> k + "-" + calls.incrementAndGet()));
+
+        // Read both values before asserting, so the assertions do not delay the second read
+        String first = cache.get("a").await().indefinitely();
+        String second = cache.get("a").await().indefinitely();
+        assertThat(first).isEqualTo("a-1");
+        assertThat(second).isEqualTo("a-1");
+        Thread.sleep(600);
+        assertThat(cache.get("a").await().indefinitely()).isEqualTo("a-2");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void testResubscribingAfterExpiration() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        UniCache<String, String> cache = UniCache.<String, String> builder()
+                .expireAfterWrite(Duration.ofMillis(100))
+                .build(k -> Uni.createFrom().item(() -> k + "-" + calls.incrementAndGet()));
+
+        Uni<String> uni = cache.get("a");
+        assertThat(uni.await().indefinitely()).isEqualTo("a-1");
+        assertThat(uni.await().indefinitely()).isEqualTo("a-1");
+        Thread.sleep(200);
+        assertThat(uni.await().indefinitely()).isEqualTo("a-2");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void testVeryLongExpiration() {
+        AtomicInteger calls = new AtomicInteger();
+        UniCache<String, String> cache = UniCache.<String, String> builder()
+                .expireAfterWrite(ChronoUnit.FOREVER.getDuration())
+                .build(k -> Uni.createFrom().item(() -> k + "-" + calls.incrementAndGet()));
+
+        assertThat(cache.get("a").await().indefinitely()).isEqualTo("a-1");
+        assertThat(cache.get("a").await().indefinitely()).isEqualTo("a-1");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void testRefreshAfterWrite() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        UniCache<String, String> cache = UniCache.<String, String> builder()
+                .refreshAfterWrite(Duration.ofMillis(50))
+                .build(k -> Uni.createFrom().item(() -> k + "-" + calls.incrementAndGet()));
+
+        assertThat(cache.get("a").await().indefinitely()).isEqualTo("a-1");
+        Thread.sleep(100);
+        // The stale value is served while refreshing
+        assertThat(cache.get("a").await().indefinitely()).isEqualTo("a-1");
+        assertThat(cache.get("a").await().indefinitely()).isEqualTo("a-2");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void testInvalidation() {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicReference<UniEmitter<? super String>> emitter = new AtomicReference<>();
+        UniCache<String, String> cache = UniCache.<String, String> builder()
+                .build(k -> {
+                    int call = calls.incrementAndGet();
+                    if (k.equals("pending")) {
+                        return Uni.createFrom().<String> emitter(emitter::set);
+                    }
+                    return Uni.createFrom().item(k + "-" + call);
+                });
+
+        assertThat(cache.get("a").await().indefinitely()).isEqualTo("a-1");
+        assertThat(cache.get("b").await().indefinitely()).isEqualTo("b-2");
+        cache.invalidate("a");
+        cache.invalidate("missing");
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("a").await().indefinitely()).isEqualTo("a-3");
+
+        // Waiters of an invalidated entry still get the value
+        UniAssertSubscriber<String> subscriber = cache.get("pending").subscribe()
+                .withSubscriber(UniAssertSubscriber.create());
+        cache.invalidateAll();
+        assertThat(cache.size()).isEqualTo(0);
+        emitter.get().complete("done");
+        subscriber.assertItem("done");
+        assertThat(cache.size()).isEqualTo(0);
+
+        assertThat(cache.get("b").await().indefinitely()).isEqualTo("b-5");
+    }
+
+    @Test
+    void testFailureOfWaitersIsPropagated() {
+        AtomicReference<UniEmitter<? super String>> emitter = new AtomicReference<>();
+        UniCache<String, String> cache = UniCache.<String, String> builder()
+                .build(k -> Uni.createFrom().<String> emitter(emitter::set));
+
+        UniAssertSubscriber<String> first = cache.get("a").subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<String> second = cache.get("a").subscribe().withSubscriber(UniAssertSubscriber.create());
+        emitter.get().fail(new IOException("boom"));
+        first.assertFailedWith(IOException.class, "boom");
+        second.assertFailedWith(IOException.class, "boom");
+        assertThat(cache.size()).isEqualTo(0);
+    }
+}
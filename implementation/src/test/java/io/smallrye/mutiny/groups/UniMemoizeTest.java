@@ -1,6 +1,7 @@
 package io.smallrye.mutiny.groups;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.Duration;
@@ -30,6 +31,7 @@ import io.smallrye.mutiny.helpers.spies.UniOnSubscribeSpy;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
 import io.smallrye.mutiny.operators.uni.UniMemoizeOp;
 import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.UniEmitter;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 import io.smallrye.mutiny.subscription.UniSubscription;
 import junit5.support.InfrastructureResource;
@@ -519,4 +521,142 @@ class UniMemoizeTest {
         subscriber2.awaitItem().assertItem("hello-1");
     }
 
+
+    @Test
+    @DisplayName("memoize().refreshAfter(null / 0) is forbidden")
+    void testRefreshAfterValidation() {
+        assertThrows(IllegalArgumentException.class, () -> Uni.createFrom().item(1).memoize().refreshAfter(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> Uni.createFrom().item(1).memoize().refreshAfter(Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("Test that uni.memoize().refreshAfter(duration) serves the stale item while refreshing it")
+    void testRefreshAhead() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        UniOnSubscribeSpy<Integer> onSubscribeSpy = Spy.onSubscribe(Uni.createFrom().item(counter::getAndIncrement));
+        Uni<Integer> cachingUni = onSubscribeSpy.memoize().refreshAfter(Duration.ofMillis(100));
+
+        cachingUni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(0);
+        cachingUni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(0);
+        assertThat(onSubscribeSpy.invocationCount()).isEqualTo(1);
+
+        Thread.sleep(200);
+
+        // The stale item is served, and the refresh happens in the background (synchronously here)
+        cachingUni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(0);
+        assertThat(onSubscribeSpy.invocationCount()).isEqualTo(2);
+        cachingUni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(1);
+        assertThat(onSubscribeSpy.invocationCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Test that uni.memoize().refreshAfter(duration) only refreshes once at a time")
+    void testRefreshAheadWithSlowUpstream() {
+        AtomicInteger counter = new AtomicInteger();
+        UniOnSubscribeSpy<Integer> onSubscribeSpy = Spy.onSubscribe(Uni.createFrom().item(counter::getAndIncrement)
+                .onItem().delayIt().by(Duration.ofMillis(100)));
+        Uni<Integer> cachingUni = onSubscribeSpy.memoize().refreshAfter(Duration.ofMillis(50));
+
+        cachingUni.subscribe().withSubscriber(UniAssertSubscriber.create()).awaitItem().assertItem(0);
+        await().pollDelay(Duration.ofMillis(100)).until(() -> true);
+
+        // The subscribers do not wait for the refresh
+        for (int i = 0; i < 10; i++) {
+            cachingUni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(0);
+        }
+        assertThat(onSubscribeSpy.invocationCount()).isEqualTo(2);
+
+        await().untilAsserted(() -> cachingUni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(1));
+    }
+
+    @Test
+    @DisplayName("Test that uni.memoize().refreshAfter(duration) keeps the item when the refresh fails")
+    void testRefreshAheadFailure() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        Uni<Integer> cachingUni = Uni.createFrom().item(() -> {
+            int i = counter.getAndIncrement();
+            if (i == 1) {
+                throw new IllegalStateException("boom");
+            }
+            return i;
+        }).memoize().refreshAfter(Duration.ofMillis(50));
+
+        cachingUni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(0);
+        Thread.sleep(100);
+        // Triggers a failing refresh
+        cachingUni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(0);
+        assertThat(counter).hasValue(2);
+
+        // Still stale, the next subscriber triggers a new refresh
+        cachingUni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(0);
+        assertThat(counter).hasValue(3);
+        cachingUni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(2);
+        assertThat(counter).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Test that uni.memoize().refreshAfter(duration) does not serve stale failures")
+    void testRefreshAheadWithMemoizedFailure() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        Uni<Integer> cachingUni = Uni.createFrom().item(() -> {
+            int i = counter.getAndIncrement();
+            if (i == 0) {
+                throw new IllegalStateException("boom");
+            }
+            return i;
+        }).memoize().refreshAfter(Duration.ofMillis(50));
+
+        cachingUni.subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IllegalStateException.class, "boom");
+        cachingUni.subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IllegalStateException.class, "boom");
+        Thread.sleep(100);
+        cachingUni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(1);
+        cachingUni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(1);
+        assertThat(counter).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Test that uni.memoize() notifies the waiting subscribers in subscription order")
+    void testWaitersOrder() {
+        UniEmitter<? super Integer>[] emitter = new UniEmitter[1];
+        Uni<Integer> cachingUni = Uni.createFrom().<Integer> emitter(e -> emitter[0] = e).memoize().indefinitely();
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            int index = i;
+            cachingUni.subscribe().with(x -> order.add(index));
+        }
+        UniAssertSubscriber<Integer> cancelled = cachingUni.subscribe().withSubscriber(UniAssertSubscriber.create());
+        cancelled.cancel();
+        emitter[0].complete(42);
+        assertThat(order).hasSize(100).isSorted();
+        cancelled.assertNotTerminated();
+    }
+
+    @RepeatedTest(10)
+    @DisplayName("Test that concurrent subscribers all receive the memoized item")
+    void testConcurrentWaiters() throws InterruptedException {
+        UniEmitter<? super Integer>[] emitter = new UniEmitter[1];
+        Uni<Integer> cachingUni = Uni.createFrom().<Integer> emitter(e -> emitter[0] = e).memoize().indefinitely();
+        AtomicInteger received = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            CountDownLatch done = new CountDownLatch(4);
+            for (int t = 0; t < 4; t++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        cachingUni.subscribe().with(x -> received.incrementAndGet());
+                    }
+                    done.countDown();
+                });
+            }
+            await().until(() -> emitter[0] != null);
+            emitter[0].complete(1);
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+            await().untilAsserted(() -> assertThat(received).hasValue(4000));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
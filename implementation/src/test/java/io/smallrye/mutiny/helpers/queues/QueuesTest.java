@@ -496,4 +496,157 @@ public class QueuesTest {
                 .isInstanceOf(UnsupportedOperationException.class);
     }
 
+    @Test
+    public void testMpscQueueCreation() {
+        assertThat(Queues.createMpscQueue()).isInstanceOf(MpscLinkedArrayQueue.class);
+        assertThat(Queues.createMpscLinkedQueue()).isInstanceOf(MpscLinkedQueue.class);
+        assertThat(Queues.createMpscLinkedArrayQueue(16)).isInstanceOf(MpscLinkedArrayQueue.class);
+        assertThat(Queues.createMpscArrayQueue(16)).isInstanceOf(MpscArrayQueue.class);
+    }
+
+    @Test
+    public void testThatMpscArrayQueuesCannotReceiveNull() {
+        assertThrows(NullPointerException.class, () -> new MpscArrayQueue<>(8).offer(null));
+        assertThrows(NullPointerException.class, () -> new MpscLinkedArrayQueue<>(8).offer(null));
+    }
+
+    @Test
+    public void testMpscArrayQueueCapacity() {
+        MpscArrayQueue<Integer> q = new MpscArrayQueue<>(5);
+        assertThat(q.capacity()).isEqualTo(8);
+        assertThat(q.isEmpty()).isTrue();
+        for (int i = 0; i < 8; i++) {
+            assertThat(q.offer(i)).isTrue();
+        }
+        assertThat(q.offer(8)).isFalse();
+        assertThat(q.size()).isEqualTo(8);
+        assertThat(q.isEmpty()).isFalse();
+
+        assertThat(q.peek()).isEqualTo(0);
+        assertThat(q.poll()).isEqualTo(0);
+        assertThat(q.offer(8)).isTrue();
+        assertThat(q.offer(9)).isFalse();
+
+        for (int i = 1; i <= 8; i++) {
+            assertThat(q.poll()).isEqualTo(i);
+        }
+        assertThat(q.poll()).isNull();
+        assertThat(q.peek()).isNull();
+        assertThat(q.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testMpscLinkedArrayQueueOfferAcrossChunks() {
+        MpscLinkedArrayQueue<Integer> q = new MpscLinkedArrayQueue<>(8);
+        assertThat(q.isEmpty()).isTrue();
+        for (int i = 0; i < 100; i++) {
+            assertThat(q.offer(i)).isTrue();
+        }
+        assertThat(q.size()).isEqualTo(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(q.peek()).isEqualTo(i);
+            assertThat(q.poll()).isEqualTo(i);
+        }
+        assertThat(q.poll()).isNull();
+        assertThat(q.isEmpty()).isTrue();
+
+        // Interleave offers and polls, so the chunks are reused and linked at various offsets
+        int next = 0;
+        int expected = 0;
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < round % 13; i++) {
+                q.offer(next++);
+            }
+            for (int i = 0; i < round % 7 && !q.isEmpty(); i++) {
+                assertThat(q.poll()).isEqualTo(expected++);
+            }
+        }
+        while (!q.isEmpty()) {
+            assertThat(q.poll()).isEqualTo(expected++);
+        }
+        assertThat(expected).isEqualTo(next);
+
+        q.offer(1);
+        q.offer(2);
+        q.clear();
+        assertThat(q.isEmpty()).isTrue();
+        assertThat(q.poll()).isNull();
+    }
+
+    @Test
+    public void testMpscArrayQueuesOfferPollRace() throws Exception {
+        checkMultiProducerSingleConsumer(new MpscLinkedArrayQueue<>(8), false);
+        checkMultiProducerSingleConsumer(new MpscArrayQueue<>(64), true);
+    }
+
+    private void checkMultiProducerSingleConsumer(Queue<Integer> q, boolean bounded) throws InterruptedException {
+        int producers = 4;
+        int perProducer = 50_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    while (!q.offer(base + i)) {
+                        assertThat(bounded).isTrue();
+                        Thread.yield();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+
+        int[] last = new int[producers];
+        Arrays.fill(last, -1);
+        int received = 0;
+        while (received < producers * perProducer) {
+            Integer item = q.poll();
+            if (item == null) {
+                Thread.yield();
+                continue;
+            }
+            int producer = item / perProducer;
+            // Items offered by a given producer are received in order
+            assertThat(item % perProducer).isEqualTo(last[producer] + 1);
+            last[producer] = item % perProducer;
+            received++;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(q.poll()).isNull();
+        assertThat(q.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testUnsupportedAPIFromMpscArrayQueues() {
+        for (Queue<Integer> q : Arrays.<Queue<Integer>> asList(new MpscArrayQueue<>(8), new MpscLinkedArrayQueue<>(8))) {
+            q.offer(1);
+            assertThatThrownBy(() -> q.add(3))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(() -> q.remove(2))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(q::remove)
+                    .isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(() -> q.addAll(Arrays.asList(4, 5, 6)))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(() -> q.contains(1))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(q::element)
+                    .isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(q::iterator)
+                    .isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(q::toArray)
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
 }
@@ -0,0 +1,285 @@
+package io.smallrye.mutiny.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import junit5.support.InfrastructureResource;
+
+@ResourceLock(value = InfrastructureResource.NAME, mode = ResourceAccessMode.READ_WRITE)
+public class HashedWheelSchedulerTest {
+
+    private ExecutorService executor;
+    private HashedWheelScheduler scheduler;
+
+    @BeforeEach
+    public void init() {
+        AtomicInteger count = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(4, r -> new Thread(r, "wheel-worker-" + count.getAndIncrement()));
+        scheduler = new HashedWheelScheduler(executor);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+        Infrastructure.setDefaultExecutor();
+    }
+
+    @Test
+    public void testInvalidParameters() {
+        assertThatThrownBy(() -> new HashedWheelScheduler(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("executor");
+        assertThatThrownBy(() -> new HashedWheelScheduler(executor, Duration.ZERO, 16))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("tick");
+        assertThatThrownBy(() -> new HashedWheelScheduler(executor, Duration.ofMillis(1), 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("wheelSize");
+        assertThatThrownBy(() -> scheduler.scheduleAtFixedRate(() -> {
+        }, 1, 0, TimeUnit.MILLISECONDS))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("period");
+    }
+
+    @Test
+    public void testSchedulingARunnable() throws Exception {
+        AtomicReference<String> thread = new AtomicReference<>();
+        long begin = System.nanoTime();
+        ScheduledFuture<?> future = scheduler.schedule(() -> thread.set(Thread.currentThread().getName()), 50,
+                TimeUnit.MILLISECONDS);
+
+        assertThat(future.get(5, TimeUnit.SECONDS)).isNull();
+        assertThat(System.nanoTime() - begin).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(thread.get()).startsWith("wheel-worker-");
+        assertThat(future.isDone()).isTrue();
+        assertThat(future.isCancelled()).isFalse();
+        assertThat(((RunnableScheduledFuture<?>) future).isPeriodic()).isFalse();
+        assertThat(future.getDelay(TimeUnit.MILLISECONDS)).isLessThanOrEqualTo(0);
+    }
+
+    @Test
+    public void testSchedulingACallable() throws Exception {
+        ScheduledFuture<Integer> future = scheduler.schedule(() -> 42, 10, TimeUnit.MILLISECONDS);
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+    }
+
+    @Test
+    public void testSchedulingWithoutDelay() throws Exception {
+        ScheduledFuture<Integer> future = scheduler.schedule(() -> 42, 0, TimeUnit.MILLISECONDS);
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        future = scheduler.schedule(() -> 43, -10, TimeUnit.MILLISECONDS);
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(43);
+    }
+
+    @Test
+    public void testFailingCallable() {
+        ScheduledFuture<Integer> future = scheduler.schedule(() -> {
+            throw new IllegalStateException("boom");
+        }, 5, TimeUnit.MILLISECONDS);
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testTasksRunInDeadlineOrder() {
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        for (int i = 5; i > 0; i--) {
+            int index = i;
+            scheduler.schedule(() -> order.add(index), i * 20L, TimeUnit.MILLISECONDS);
+        }
+        await().until(() -> order.size() == 5);
+        assertThat(order).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    public void testDelaysLongerThanARound() throws Exception {
+        HashedWheelScheduler small = new HashedWheelScheduler(executor, Duration.ofMillis(1), 4);
+        try {
+            long begin = System.nanoTime();
+            ScheduledFuture<?> future = small.schedule(() -> {
+            }, 30, TimeUnit.MILLISECONDS);
+            future.get(5, TimeUnit.SECONDS);
+            assertThat(System.nanoTime() - begin).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(30));
+        } finally {
+            small.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testVeryLongDelays() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        ScheduledFuture<?> nanos = scheduler.schedule(counter::incrementAndGet, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        ScheduledFuture<?> days = scheduler.schedule(counter::incrementAndGet, Long.MAX_VALUE, TimeUnit.DAYS);
+        ScheduledFuture<?> rate = scheduler.scheduleAtFixedRate(counter::incrementAndGet, 0, Long.MAX_VALUE,
+                TimeUnit.DAYS);
+        await().until(() -> counter.get() == 1);
+        ScheduledFuture<?> last = scheduler.schedule(() -> {
+        }, 50, TimeUnit.MILLISECONDS);
+        await().until(last::isDone);
+
+        assertThat(counter).hasValue(1);
+        assertThat(nanos.getDelay(TimeUnit.DAYS)).isPositive();
+        assertThat(days.getDelay(TimeUnit.DAYS)).isPositive();
+        assertThat(rate.getDelay(TimeUnit.DAYS)).isPositive();
+        assertThat(nanos.isDone()).isFalse();
+        assertThat(days.isDone()).isFalse();
+        assertThat(days.cancel(false)).isTrue();
+    }
+
+    @Test
+    public void testCancellation() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        List<ScheduledFuture<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            futures.add(scheduler.schedule(counter::incrementAndGet, 50, TimeUnit.MILLISECONDS));
+        }
+        for (ScheduledFuture<?> future : futures) {
+            assertThat(future.cancel(false)).isTrue();
+            assertThat(future.isCancelled()).isTrue();
+        }
+        ScheduledFuture<?> last = scheduler.schedule(counter::incrementAndGet, 100, TimeUnit.MILLISECONDS);
+        await().until(last::isDone);
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    public void testFixedRate() {
+        AtomicInteger counter = new AtomicInteger();
+        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(counter::incrementAndGet, 5, 5,
+                TimeUnit.MILLISECONDS);
+        assertThat(((RunnableScheduledFuture<?>) future).isPeriodic()).isTrue();
+        await().until(() -> counter.get() >= 5);
+        future.cancel(false);
+        int count = counter.get();
+        await().pollDelay(Duration.ofMillis(50)).until(() -> true);
+        assertThat(counter.get()).isLessThanOrEqualTo(count + 1);
+        assertThat(future.isCancelled()).isTrue();
+    }
+
+    @Test
+    public void testFixedDelay() {
+        AtomicInteger counter = new AtomicInteger();
+        ScheduledFuture<?> future = scheduler.scheduleWithFixedDelay(counter::incrementAndGet, 0, 5,
+                TimeUnit.MILLISECONDS);
+        await().until(() -> counter.get() >= 5);
+        future.cancel(false);
+        assertThat(future.isCancelled()).isTrue();
+    }
+
+    @Test
+    public void testFailingPeriodicTaskIsNotRescheduled() {
+        AtomicInteger counter = new AtomicInteger();
+        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(() -> {
+            counter.incrementAndGet();
+            throw new IllegalStateException("boom");
+        }, 1, 1, TimeUnit.MILLISECONDS);
+        await().until(future::isDone);
+        assertThatThrownBy(future::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    public void testShutdownNow() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        ScheduledFuture<?> pending = scheduler.schedule(counter::incrementAndGet, 10, TimeUnit.SECONDS);
+        ScheduledFuture<?> cancelled = scheduler.schedule(counter::incrementAndGet, 10, TimeUnit.SECONDS);
+        cancelled.cancel(false);
+
+        List<Runnable> remaining = scheduler.shutdownNow();
+        assertThat(remaining).containsExactly((Runnable) pending);
+        assertThat(pending.isCancelled()).isTrue();
+        assertThat(scheduler.isShutdown()).isTrue();
+        assertThat(scheduler.isTerminated()).isTrue();
+        assertThat(scheduler.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(counter).hasValue(0);
+        // The executor is not owned by the scheduler
+        assertThat(executor.isShutdown()).isFalse();
+
+        assertThatThrownBy(() -> scheduler.schedule(counter::incrementAndGet, 1, TimeUnit.MILLISECONDS))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThatThrownBy(() -> scheduler.execute(counter::incrementAndGet))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    public void testConcurrentScheduling() throws InterruptedException {
+        int threads = 4;
+        int tasks = 2_000;
+        AtomicInteger counter = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < tasks; i++) {
+                    ScheduledFuture<?> future = scheduler.schedule(counter::incrementAndGet, 1 + (i % 20),
+                            TimeUnit.MILLISECONDS);
+                    if (i % 2 == 0) {
+                        future.cancel(false);
+                    }
+                }
+            });
+            thread.start();
+            producers.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : producers) {
+            thread.join();
+        }
+        await().until(() -> counter.get() >= threads * tasks / 2);
+        await().pollDelay(Duration.ofMillis(50)).until(() -> true);
+        assertThat(counter).hasValue(threads * tasks / 2);
+    }
+
+    @Test
+    public void testAsDefaultWorkerPool() {
+        Infrastructure.setDefaultExecutor(scheduler);
+        assertThat(Infrastructure.getDefaultWorkerPool()).isSameAs(scheduler);
+
+        AtomicReference<String> thread = new AtomicReference<>();
+        String res = Uni.createFrom().emitter(e -> {
+            // do nothing
+        })
+                .ifNoItem().after(Duration.ofMillis(10)).recoverWithItem("hello")
+                .onItem().invoke(() -> thread.set(Thread.currentThread().getName()))
+                .onItem().transform(Object::toString)
+                .await().atMost(Duration.ofSeconds(5));
+        assertThat(res).isEqualTo("hello");
+        assertThat(thread.get()).startsWith("wheel-worker-");
+
+        res = Uni.createFrom().item("hello")
+                .onItem().delayIt().by(Duration.ofMillis(10))
+                .await().atMost(Duration.ofSeconds(5));
+        assertThat(res).isEqualTo("hello");
+
+        List<Long> ticks = Multi.createFrom().ticks().every(Duration.ofMillis(5))
+                .select().first(5)
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(5));
+        assertThat(ticks).containsExactly(0L, 1L, 2L, 3L, 4L);
+    }
+}
@@ -2,6 +2,8 @@ package io.smallrye.mutiny.infrastructure;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.ResourceAccessMode;
@@ -146,6 +148,24 @@ public class UniInterceptorTest {
         assertThat(result).isEqualTo(23 * 2 + 1 + 1 + 1); // 3 subscribers: item, map and the subscriber
     }
 
+    @Test
+    public void testSubscriptionInterceptionWithKnownItems() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        InfrastructureHelper.registerUniInterceptor(new UniInterceptor() {
+            @Override
+            public <T> UniSubscriber<? super T> onSubscription(Uni<T> instance, UniSubscriber<? super T> subscriber) {
+                subscriptions.incrementAndGet();
+                return subscriber;
+            }
+        });
+
+        int result = Uni.createFrom().item(23)
+                .chain(i -> Uni.createFrom().item(i * 2))
+                .await().indefinitely();
+        assertThat(result).isEqualTo(46);
+        assertThat(subscriptions).hasValue(3); // item, chain and the inner item
+    }
+
     @Test
     public void testDefaultOrdinal() {
         UniInterceptor itcp = new UniInterceptor() {
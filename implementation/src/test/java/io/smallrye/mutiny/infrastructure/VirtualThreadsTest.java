@@ -0,0 +1,143 @@
+package io.smallrye.mutiny.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import junit5.support.InfrastructureResource;
+
+@ResourceLock(InfrastructureResource.NAME)
+class VirtualThreadsTest {
+
+    @AfterEach
+    void reset() {
+        Infrastructure.resetCanCallerThreadBeBlockedSupplier();
+        Infrastructure.setDefaultExecutor();
+    }
+
+    @Test
+    void runSubscriptionOnUsingExecutor() {
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "my-executor"));
+        try {
+            AtomicReference<String> thread = new AtomicReference<>();
+            Uni.createFrom().item(() -> {
+                thread.set(Thread.currentThread().getName());
+                return 1;
+            })
+                    .runSubscriptionOn().using(executor)
+                    .subscribe().withSubscriber(UniAssertSubscriber.create())
+                    .awaitItem()
+                    .assertItem(1);
+            assertThat(thread.get()).isEqualTo("my-executor");
+
+            Multi.createFrom().items(() -> {
+                thread.set(Thread.currentThread().getName());
+                return List.of(1, 2).stream();
+            })
+                    .runSubscriptionOn().using(executor)
+                    .subscribe().withSubscriber(AssertSubscriber.create(2))
+                    .awaitCompletion()
+                    .assertItems(1, 2);
+            assertThat(thread.get()).isEqualTo("my-executor");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void virtualThreadsNotSupported() {
+        assumeFalse(Infrastructure.areVirtualThreadsSupported());
+
+        assertThrows(UnsupportedOperationException.class, Infrastructure::getVirtualThreadExecutor);
+        assertThrows(UnsupportedOperationException.class, Infrastructure::setDefaultExecutorUsingVirtualThreads);
+        assertThrows(UnsupportedOperationException.class,
+                () -> Uni.createFrom().item(1).runSubscriptionOn().usingVirtualThreads());
+        assertThrows(UnsupportedOperationException.class,
+                () -> Multi.createFrom().item(1).runSubscriptionOn().usingVirtualThreads());
+    }
+
+    @Test
+    void runSubscriptionOnUsingVirtualThreads() {
+        assumeTrue(Infrastructure.areVirtualThreadsSupported());
+
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        Uni.createFrom().item(() -> {
+            thread.set(Thread.currentThread());
+            return 1;
+        })
+                .runSubscriptionOn().usingVirtualThreads()
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .awaitItem()
+                .assertItem(1);
+        assertThat(VirtualThreads.isVirtual(thread.get())).isTrue();
+        assertThat(thread.get().getName()).startsWith("mutiny-virtual-thread-");
+
+        Multi.createFrom().items(() -> {
+            thread.set(Thread.currentThread());
+            return List.of(1, 2).stream();
+        })
+                .runSubscriptionOn().usingVirtualThreads()
+                .subscribe().withSubscriber(AssertSubscriber.create(2))
+                .awaitCompletion()
+                .assertItems(1, 2);
+        assertThat(VirtualThreads.isVirtual(thread.get())).isTrue();
+    }
+
+    @Test
+    void defaultExecutorUsingVirtualThreads() {
+        assumeTrue(Infrastructure.areVirtualThreadsSupported());
+        Infrastructure.setDefaultExecutorUsingVirtualThreads();
+
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        Uni.createFrom().item(1)
+                .onItem().delayIt().by(Duration.ofMillis(10))
+                .invoke(() -> thread.set(Thread.currentThread()))
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .awaitItem()
+                .assertItem(1);
+        assertThat(VirtualThreads.isVirtual(thread.get())).isTrue();
+    }
+
+    @Test
+    void virtualThreadsCanAlwaysBeBlocked() throws InterruptedException {
+        assumeTrue(Infrastructure.areVirtualThreadsSupported());
+        Infrastructure.setCanCallerThreadBeBlockedSupplier(() -> false);
+        assertThat(Infrastructure.canCallerThreadBeBlocked()).isFalse();
+
+        AtomicReference<Object> result = new AtomicReference<>();
+        Infrastructure.getVirtualThreadExecutor().execute(() -> {
+            try {
+                Integer item = Uni.createFrom().item(1)
+                        .onItem().delayIt().by(Duration.ofMillis(10))
+                        .await().indefinitely();
+                List<Integer> items = Multi.createFrom().range(0, 3)
+                        .subscribe().asIterable().stream().collect(Collectors.toList());
+                result.set(List.of(item, items));
+            } catch (Throwable failure) {
+                result.set(failure);
+            }
+        });
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (result.get() == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(result.get()).isEqualTo(List.of(1, List.of(0, 1, 2)));
+    }
+}
@@ -1,8 +1,15 @@
 package io.smallrye.mutiny.operators;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -67,4 +74,81 @@ public class MultiCacheTest {
         s1.assertItems(1, 2).request(1).assertItems(1, 2, 3).assertCompleted();
         s2.assertItems(1, 2, 3).assertCompleted();
     }
+
+    @Test
+    public void testCachingManyItems() {
+        Multi<Integer> multi = Multi.createFrom().range(0, 10_000).cache();
+        List<Integer> expected = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted()
+                .assertItems(expected.toArray(new Integer[0]));
+
+        AssertSubscriber<Integer> subscriber = multi.subscribe().withSubscriber(AssertSubscriber.create(15));
+        assertThat(subscriber.getItems()).containsExactlyElementsOf(expected.subList(0, 15));
+        subscriber.request(2000);
+        assertThat(subscriber.getItems()).containsExactlyElementsOf(expected.subList(0, 2015));
+        subscriber.assertNotTerminated()
+                .request(Long.MAX_VALUE)
+                .assertCompleted();
+        assertThat(subscriber.getItems()).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    public void testCachingWhileSubscribersJoin() {
+        AtomicReference<MultiEmitter<? super Integer>> reference = new AtomicReference<>();
+        Multi<Integer> multi = Multi.createFrom().<Integer> emitter(reference::set).cache();
+        List<AssertSubscriber<Integer>> subscribers = new ArrayList<>();
+        subscribers.add(multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE)));
+        for (int i = 0; i < 5000; i++) {
+            reference.get().emit(i);
+            if (i % 1000 == 0) {
+                subscribers.add(multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE)));
+            }
+        }
+        reference.get().complete();
+        subscribers.add(multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE)));
+
+        List<Integer> expected = IntStream.range(0, 5000).boxed().collect(Collectors.toList());
+        for (AssertSubscriber<Integer> subscriber : subscribers) {
+            subscriber.assertCompleted();
+            assertThat(subscriber.getItems()).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    public void testConcurrentReplay() throws InterruptedException {
+        AtomicReference<MultiEmitter<? super Integer>> reference = new AtomicReference<>();
+        Multi<Integer> multi = Multi.createFrom().<Integer> emitter(reference::set).cache();
+        AssertSubscriber<Integer> first = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        Thread emitter = new Thread(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                reference.get().emit(i);
+            }
+            reference.get().complete();
+        });
+        List<AssertSubscriber<Integer>> subscribers = new CopyOnWriteArrayList<>();
+        Thread requester = new Thread(() -> {
+            for (int i = 0; i < 4; i++) {
+                AssertSubscriber<Integer> subscriber = multi.subscribe().withSubscriber(AssertSubscriber.create());
+                subscribers.add(subscriber);
+                for (int j = 0; j < 20_000; j += 100) {
+                    subscriber.request(100);
+                }
+            }
+        });
+        emitter.start();
+        requester.start();
+        emitter.join();
+        requester.join();
+
+        List<Integer> expected = IntStream.range(0, 20_000).boxed().collect(Collectors.toList());
+        first.assertCompleted();
+        assertThat(first.getItems()).containsExactlyElementsOf(expected);
+        for (AssertSubscriber<Integer> subscriber : subscribers) {
+            subscriber.awaitCompletion();
+            assertThat(subscriber.getItems()).containsExactlyElementsOf(expected);
+        }
+    }
 }
@@ -6,6 +6,7 @@ import static org.mockito.Mockito.mock;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -348,6 +349,119 @@ public class MultiDistinctTest {
                 .assertItems(1, 3);
     }
 
+    @Test
+    public void testDistinctBy() {
+        Multi.createFrom().items("a", "bb", "cc", "d", "eee", "ff")
+                .select().distinctBy(String::length)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems("a", "bb", "eee");
+    }
+
+    @Test
+    public void testDistinctByWithInvalidParameters() {
+        Multi<Integer> multi = Multi.createFrom().items(1, 2, 3);
+        assertThrows(IllegalArgumentException.class, () -> multi.select().distinctBy(null));
+        assertThrows(IllegalArgumentException.class, () -> multi.select().distinctBy(i -> i, 0));
+        assertThrows(IllegalArgumentException.class, () -> multi.select().distinctBy(i -> i, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> multi.select().distinctBy(i -> i, (Duration) null));
+    }
+
+    @Test
+    public void testDistinctByWithKeyExtractorFailure() {
+        Multi.createFrom().items(1, 2, 3)
+                .select().distinctBy(i -> {
+                    if (i == 2) {
+                        throw new TestException("boom");
+                    }
+                    return i;
+                })
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(TestException.class, "boom")
+                .assertItems(1);
+
+        Multi.createFrom().items(1, 2, 3)
+                .select().distinctBy(i -> i == 2 ? null : i, 10)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(NullPointerException.class, "key extractor")
+                .assertItems(1);
+
+        Multi.createFrom().items(1, 2)
+                .select().distinctBy(i -> new BadlyComparableStuffOnHashCode())
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(TestException.class, "boom");
+    }
+
+    @Test
+    public void testDistinctByWithUpstreamFailure() {
+        Multi.createBy().concatenating().streams(
+                Multi.createFrom().items(1, 1, 2),
+                Multi.createFrom().<Integer> failure(new IOException("boom")))
+                .select().distinctBy(i -> i, Duration.ofMinutes(1))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(IOException.class, "boom")
+                .assertItems(1, 2);
+    }
+
+    @Test
+    public void testDistinctByWithMaxKeys() {
+        Multi.createFrom().items(1, 2, 1, 3, 2, 4, 1, 4, 2)
+                .select().distinctBy(i -> i, 2)
+                .subscribe().withSubscriber(AssertSubscriber.create(20))
+                .assertCompleted()
+                // 1, 2, (1 is used again), 3 evicts 2, 2 evicts 1, 4 evicts 3, 1 evicts 2, (4), 2 evicts 4
+                .assertItems(1, 2, 3, 2, 4, 1, 2);
+    }
+
+    @Test
+    public void testDistinctByWithMaxKeysOnLongStream() {
+        // Redeliveries close to the original item are dropped, with a bounded number of keys
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 100_000)
+                .onItem().transformToMultiAndConcatenate(i -> i > 0 ? Multi.createFrom().items(i, i - 1)
+                        : Multi.createFrom().item(i))
+                .select().distinctBy(i -> i, 10)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(100_000);
+    }
+
+    @Test
+    public void testDistinctByWithWindow() throws InterruptedException {
+        AtomicReference<MultiEmitter<? super String>> emitter = new AtomicReference<>();
+        AssertSubscriber<String> subscriber = Multi.createFrom().<String> emitter(emitter::set)
+                .select().distinctBy(s -> s, Duration.ofMillis(200))
+                .subscribe().withSubscriber(AssertSubscriber.create(20));
+
+        emitter.get().emit("a").emit("b").emit("a");
+        subscriber.assertItems("a", "b");
+        Thread.sleep(300);
+        emitter.get().emit("a").emit("c").emit("a").emit("c").complete();
+        subscriber.assertCompleted().assertItems("a", "b", "a", "c");
+    }
+
+    @Test
+    public void testDistinctByWithVeryLongWindow() {
+        Multi.createFrom().items(1, 2, 1, 3, 2)
+                .select().distinctBy(i -> i, ChronoUnit.FOREVER.getDuration())
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(1, 2, 3);
+    }
+
+    @Test
+    public void testDistinctByRequestsReplacementsForDuplicates() {
+        AtomicLong requests = new AtomicLong();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().items(1, 1, 1, 2, 2, 3)
+                .onRequest().invoke(requests::addAndGet)
+                .select().distinctBy(i -> i, 5)
+                .subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        subscriber.assertItems(1, 2).assertNotTerminated();
+        // 2 requested, plus 1 for each of the 2 duplicates
+        assertThat(requests.get()).isEqualTo(4L);
+        subscriber.request(1).assertCompleted().assertItems(1, 2, 3);
+    }
+
     private static class BadlyComparableStuffOnHashCode {
 
         @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
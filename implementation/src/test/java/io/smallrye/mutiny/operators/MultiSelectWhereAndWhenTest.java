@@ -7,7 +7,10 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
@@ -21,6 +24,7 @@ import io.smallrye.mutiny.helpers.spies.Spy;
 import io.smallrye.mutiny.helpers.test.AssertSubscriber;
 import io.smallrye.mutiny.operators.multi.MultiSelectWhereOp;
 import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import io.smallrye.mutiny.subscription.UniEmitter;
 import io.smallrye.mutiny.test.Mocks;
 
 public class MultiSelectWhereAndWhenTest {
@@ -205,4 +209,124 @@ public class MultiSelectWhereAndWhenTest {
         subscriber.assertItems(2)
                 .assertFailedWith(IllegalArgumentException.class, "boom");
     }
+
+    @Test
+    public void testThatConcurrencyMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> Multi.createFrom().range(1, 4)
+                .select().when(x -> Uni.createFrom().item(true), 0));
+    }
+
+    @Test
+    public void testConcurrentFilteringWithUniPreservesOrder() {
+        // The outcomes of the last items are known first
+        assertThat(Multi.createFrom().range(1, 11)
+                .select().when(x -> Uni.createFrom().item(x % 2 == 0)
+                        .onItem().delayIt().by(Duration.ofMillis(5L * (11 - x))), 4)
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(5))).containsExactly(2, 4, 6, 8, 10);
+    }
+
+    @Test
+    public void testConcurrentFilteringWithUniIsBounded() {
+        List<UniEmitter<? super Boolean>> emitters = new CopyOnWriteArrayList<>();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(1, 8)
+                .select().when(x -> Uni.createFrom().<Boolean> emitter(emitters::add), 3)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        assertThat(emitters).hasSize(3);
+        emitters.get(2).complete(true);
+        emitters.get(1).complete(false);
+        subscriber.assertHasNotReceivedAnyItem();
+        assertThat(emitters).hasSize(3);
+
+        emitters.get(0).complete(true);
+        subscriber.assertItems(1, 3);
+        assertThat(emitters).hasSize(6);
+
+        for (int i = 3; i < 7; i++) {
+            emitters.get(i).complete(i % 2 == 0);
+        }
+        subscriber.assertCompleted().assertItems(1, 3, 5, 7);
+    }
+
+    @Test
+    public void testConcurrentFilteringWithUniRespectsDownstreamRequests() {
+        LongAdder evaluations = new LongAdder();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(1, 11)
+                .select().when(x -> {
+                    evaluations.increment();
+                    return Uni.createFrom().item(true);
+                }, 4)
+                .subscribe().withSubscriber(AssertSubscriber.create(1));
+
+        subscriber.assertItems(1);
+        // The selected items waiting for requests count in the concurrency
+        assertThat(evaluations.longValue()).isEqualTo(5L);
+
+        subscriber.request(3);
+        subscriber.assertItems(1, 2, 3, 4);
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.assertCompleted().assertItems(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        assertThat(evaluations.longValue()).isEqualTo(10L);
+    }
+
+    @Test
+    public void testConcurrentFilteringWithFailingUni() {
+        List<UniEmitter<? super Boolean>> emitters = new CopyOnWriteArrayList<>();
+        LongAdder cancellations = new LongAdder();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(1, 8)
+                .select().when(x -> Uni.createFrom().<Boolean> emitter(emitters::add)
+                        .onCancellation().invoke(cancellations::increment), 3)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        emitters.get(0).complete(true);
+        subscriber.assertItems(1);
+        emitters.get(2).fail(new IOException("boom"));
+        subscriber.assertFailedWith(IOException.class, "boom");
+        // The evaluations of the items 2 and 4 are cancelled
+        assertThat(cancellations.longValue()).isEqualTo(2L);
+        assertThat(emitters).hasSize(4);
+    }
+
+    @Test
+    public void testConcurrentFilteringWithUniEmittingNull() {
+        Multi.createFrom().range(1, 4)
+                .select().when(x -> Uni.createFrom().item(x == 2 ? null : true), 2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(NullPointerException.class, "null")
+                .assertItems(1);
+    }
+
+    @Test
+    public void testConcurrentFilteringWithFunctionReturningNull() {
+        Multi.createFrom().range(1, 4)
+                .select().when(x -> x == 2 ? null : Uni.createFrom().item(true), 2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(NullPointerException.class, "`null`");
+    }
+
+    @Test
+    public void testConcurrentFilteringCancellation() {
+        List<UniEmitter<? super Boolean>> emitters = new CopyOnWriteArrayList<>();
+        LongAdder cancellations = new LongAdder();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(1, 8)
+                .select().when(x -> Uni.createFrom().<Boolean> emitter(emitters::add)
+                        .onCancellation().invoke(cancellations::increment), 3)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.cancel();
+        assertThat(cancellations.longValue()).isEqualTo(3L);
+        emitters.forEach(e -> e.complete(true));
+        subscriber.assertNotTerminated().assertHasNotReceivedAnyItem();
+    }
+
+    @Test
+    public void testConcurrentFilteringWithUpstreamFailure() {
+        Multi.createFrom().range(1, 4)
+                .onCompletion().failWith(new IOException("boom"))
+                .select().when(x -> Uni.createFrom().item(x != 2), 2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IOException.class, "boom")
+                .assertItems(1, 3);
+    }
 }
@@ -3,6 +3,7 @@ package io.smallrye.mutiny.operators;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
@@ -54,6 +55,15 @@ public class MultiSkipWhereAndWhenTest {
                 .await().indefinitely()).containsExactly(2);
     }
 
+    @Test
+    public void testConcurrentFilteringWithUni() {
+        assertThat(Multi.createFrom().range(1, 11)
+                .skip().when(x -> Uni.createFrom().item(x % 2 == 0)
+                        .onItem().delayIt().by(Duration.ofMillis(5L * (11 - x))), 4)
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(5))).containsExactly(1, 3, 5, 7, 9);
+    }
+
     @Test
     public void testFilteringWithDownstreamRequestingMax() {
         Predicate<Integer> test = x -> x % 2 != 0;
@@ -0,0 +1,124 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+
+/**
+ * Checks the operators taking the scalar fast path when subscribing to a {@link Uni} with a known outcome behave as
+ * the regular subscription.
+ */
+public class UniKnownOutcomeTest {
+
+    @Test
+    public void testTransformKnownItem() {
+        Uni<Integer> uni = Uni.createFrom().item(1).onItem().transform(i -> i + 1);
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(2);
+        // The mapper is called for each subscription
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(2);
+    }
+
+    @Test
+    public void testTransformKnownNullItem() {
+        Uni.createFrom().nullItem()
+                .onItem().transform(i -> i == null ? "null" : "not null")
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertItem("null");
+    }
+
+    @Test
+    public void testTransformKnownFailure() {
+        AtomicInteger called = new AtomicInteger();
+        Uni.createFrom().<Integer> failure(new IOException("boom"))
+                .onItem().transform(i -> called.incrementAndGet())
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IOException.class, "boom");
+        assertThat(called).hasValue(0);
+    }
+
+    @Test
+    public void testMapperFailure() {
+        Uni.createFrom().item(1)
+                .onItem().<Integer> transform(i -> {
+                    throw new IllegalStateException("boom");
+                })
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IllegalStateException.class, "boom");
+    }
+
+    @Test
+    public void testCancellationOnSubscription() {
+        AtomicInteger called = new AtomicInteger();
+        UniAssertSubscriber<Integer> subscriber = Uni.createFrom().item(1)
+                .onItem().transform(i -> called.incrementAndGet())
+                .subscribe().withSubscriber(new UniAssertSubscriber<>(true));
+        subscriber.assertNotTerminated();
+        assertThat(called).hasValue(0);
+
+        subscriber = Uni.createFrom().<Integer> failure(new IOException("boom"))
+                .onItem().transform(i -> called.incrementAndGet())
+                .subscribe().withSubscriber(new UniAssertSubscriber<>(true));
+        subscriber.assertNotTerminated();
+    }
+
+    @Test
+    public void testChainToKnownItem() {
+        Uni.createFrom().item(1)
+                .chain(i -> Uni.createFrom().item(i + 1))
+                .chain(i -> Uni.createFrom().item(i * 10))
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertItem(20);
+    }
+
+    @Test
+    public void testChainToKnownFailure() {
+        Uni.createFrom().item(1)
+                .chain(i -> Uni.createFrom().<Integer> failure(new IOException("boom")))
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IOException.class, "boom");
+    }
+
+    @Test
+    public void testCancellationBeforeTheInnerUni() {
+        UniAssertSubscriber<Integer> subscriber = new UniAssertSubscriber<>();
+        Uni.createFrom().item(1)
+                .onItem().invoke(subscriber::cancel)
+                .chain(i -> Uni.createFrom().item(i + 1))
+                .subscribe().withSubscriber(subscriber);
+        subscriber.assertNotTerminated();
+    }
+
+    @Test
+    public void testInvokeOnKnownItem() {
+        AtomicInteger called = new AtomicInteger();
+        Uni.createFrom().item(1)
+                .onItem().invoke(called::incrementAndGet)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertItem(1);
+        assertThat(called).hasValue(1);
+    }
+
+    @Test
+    public void testRecoveryFromKnownFailure() {
+        Uni.createFrom().<Integer> failure(new IOException("boom"))
+                .onFailure().recoverWithItem(42)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertItem(42);
+
+        Uni.createFrom().<Integer> failure(new IOException("boom"))
+                .onFailure().recoverWithUni(Uni.createFrom().failure(new IllegalStateException("boom again")))
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IllegalStateException.class, "boom again");
+
+        Uni.createFrom().<Integer> failure(new IOException("boom"))
+                .onFailure().transform(IllegalArgumentException::new)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IllegalArgumentException.class, "boom");
+    }
+}
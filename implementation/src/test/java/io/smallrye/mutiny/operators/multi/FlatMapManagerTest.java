@@ -0,0 +1,150 @@
+package io.smallrye.mutiny.operators.multi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+
+class FlatMapManagerTest {
+
+    static final class Entry {
+        volatile boolean cancelled;
+    }
+
+    static final class Manager extends FlatMapManager<Entry> {
+
+        static final Entry[] EMPTY = new Entry[0];
+        static final Entry[] TERMINATED = new Entry[0];
+
+        @Override
+        Entry[] empty() {
+            return EMPTY;
+        }
+
+        @Override
+        Entry[] terminated() {
+            return TERMINATED;
+        }
+
+        @Override
+        Entry[] newArray(int size) {
+            return new Entry[size];
+        }
+
+        @Override
+        void unsubscribeEntry(Entry entry, boolean fromOnError) {
+            entry.cancelled = true;
+        }
+    }
+
+    @Test
+    void addAndRemove() {
+        Manager manager = new Manager();
+        assertThat(manager.isEmpty()).isTrue();
+
+        Entry a = new Entry();
+        Entry b = new Entry();
+        Entry c = new Entry();
+        assertThat(manager.add(a)).isTrue();
+        assertThat(manager.add(b)).isTrue();
+        assertThat(manager.add(c)).isTrue();
+        assertThat(manager.get()).containsExactly(a, b, c);
+
+        assertThat(manager.remove(b)).isTrue();
+        assertThat(manager.remove(b)).isFalse();
+        assertThat(manager.get()).containsExactly(a, c);
+
+        assertThat(manager.remove(a)).isTrue();
+        assertThat(manager.remove(c)).isTrue();
+        assertThat(manager.isEmpty()).isTrue();
+        assertThat(manager.get()).isSameAs(Manager.EMPTY);
+    }
+
+    @Test
+    void unsubscribeCancelsTheEntriesAndRejectsNewOnes() {
+        Manager manager = new Manager();
+        Entry a = new Entry();
+        Entry b = new Entry();
+        manager.add(a);
+        manager.add(b);
+
+        manager.unsubscribe();
+        assertThat(a.cancelled).isTrue();
+        assertThat(b.cancelled).isTrue();
+        assertThat(manager.isEmpty()).isTrue();
+        assertThat(manager.get()).isSameAs(Manager.TERMINATED);
+
+        Entry c = new Entry();
+        assertThat(manager.add(c)).isFalse();
+        assertThat(manager.remove(a)).isFalse();
+        manager.unsubscribe();
+        assertThat(c.cancelled).isFalse();
+    }
+
+    @RepeatedTest(10)
+    void concurrentAddAndRemove() throws InterruptedException {
+        Manager manager = new Manager();
+        int threads = 4;
+        int perThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicInteger removed = new AtomicInteger();
+        List<Entry> kept = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Entry keep = new Entry();
+            kept.add(keep);
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    manager.add(keep);
+                    for (int i = 0; i < perThread; i++) {
+                        Entry entry = new Entry();
+                        manager.add(entry);
+                        if (manager.remove(entry)) {
+                            removed.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdownNow();
+
+        assertThat(removed.get()).isEqualTo(threads * perThread);
+        assertThat(manager.get()).containsExactlyInAnyOrderElementsOf(kept);
+    }
+
+    @RepeatedTest(10)
+    void mergeOfInnersEmittingFromManyThreads() {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 200)
+                    .onItem().transformToMulti(i -> Multi.createFrom().range(0, 50).runSubscriptionOn(executor))
+                    .merge(32)
+                    .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+            subscriber.awaitCompletion(Duration.ofSeconds(10));
+            assertThat(subscriber.getItems()).hasSize(200 * 50);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
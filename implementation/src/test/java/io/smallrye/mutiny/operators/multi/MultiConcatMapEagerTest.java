@@ -0,0 +1,218 @@
+package io.smallrye.mutiny.operators.multi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.CompositeException;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+class MultiConcatMapEagerTest {
+
+    @Test
+    void testThatConcurrencyMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> Multi.createFrom().range(1, 4)
+                .onItem().transformToMulti(i -> Uni.createFrom().item(i).toMulti())
+                .concatenate(0));
+    }
+
+    @Test
+    void testPreservesTheOrder() {
+        // The last streams complete first
+        List<Integer> list = Multi.createFrom().range(1, 11)
+                .onItem().transformToMulti(i -> Uni.createFrom().item(i * 10)
+                        .onItem().delayIt().by(Duration.ofMillis(5L * (11 - i)))
+                        .toMulti())
+                .concatenate(4)
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(5));
+        assertThat(list).containsExactly(10, 20, 30, 40, 50, 60, 70, 80, 90, 100);
+    }
+
+    @Test
+    void testSubscribesEagerly() {
+        List<UniEmitter<? super Integer>> emitters = new CopyOnWriteArrayList<>();
+        AtomicInteger upstreamRequests = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 6)
+                .onRequest().invoke(n -> upstreamRequests.addAndGet((int) n))
+                .onItem().transformToMulti(i -> Uni.createFrom().<Integer> emitter(emitters::add).toMulti())
+                .concatenate(3)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        assertThat(emitters).hasSize(3);
+        assertThat(upstreamRequests).hasValue(3);
+
+        emitters.get(2).complete(2);
+        emitters.get(1).complete(1);
+        subscriber.assertHasNotReceivedAnyItem();
+        assertThat(emitters).hasSize(3);
+
+        emitters.get(0).complete(0);
+        subscriber.assertItems(0, 1, 2);
+        assertThat(emitters).hasSize(6);
+        assertThat(upstreamRequests).hasValue(6);
+
+        for (int i = 3; i < 6; i++) {
+            emitters.get(i).complete(i);
+        }
+        subscriber.assertCompleted().assertItems(0, 1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void testRespectsDownstreamRequests() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(1, 11)
+                .onItem().transformToMulti(i -> Uni.createFrom().item(i)
+                        .onSubscription().invoke(subscriptions::incrementAndGet)
+                        .toMulti())
+                .concatenate(4)
+                .subscribe().withSubscriber(AssertSubscriber.create(1));
+
+        subscriber.assertItems(1);
+        // The streams whose items wait for requests count in the concurrency
+        assertThat(subscriptions).hasValue(5);
+
+        subscriber.request(2);
+        subscriber.assertItems(1, 2, 3);
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.assertCompleted().assertItems(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+
+    @Test
+    void testWithEmptyStreams() {
+        Multi.createFrom().range(1, 7)
+                .onItem().transformToMulti(i -> (i % 2 == 0 ? Uni.createFrom().<Integer> nullItem() : Uni.createFrom().item(i)).toMulti())
+                .concatenate(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted()
+                .assertItems(1, 3, 5);
+    }
+
+    @Test
+    void testFailureCancelsTheOtherStreams() {
+        List<UniEmitter<? super Integer>> emitters = new CopyOnWriteArrayList<>();
+        AtomicInteger cancellations = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().transformToMulti(i -> Uni.createFrom().<Integer> emitter(emitters::add)
+                        .onCancellation().invoke(cancellations::incrementAndGet)
+                        .toMulti())
+                .concatenate(3)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        emitters.get(0).complete(0);
+        emitters.get(2).fail(new IOException("boom"));
+        subscriber.assertFailedWith(IOException.class, "boom").assertItems(0);
+        assertThat(cancellations).hasValue(2);
+        assertThat(emitters).hasSize(4);
+    }
+
+    @Test
+    void testWithCollectedFailures() {
+        Multi.createFrom().range(1, 7)
+                .onItem().transformToMulti(i -> (i % 3 == 0
+                        ? Uni.createFrom().<Integer> failure(new IOException("boom " + i))
+                        : Uni.createFrom().item(i)).toMulti())
+                .collectFailures()
+                .concatenate(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(CompositeException.class, "boom 3")
+                .assertItems(1, 2, 4, 5);
+    }
+
+    @Test
+    void testMapperThrowingException() {
+        Multi.createFrom().range(1, 7)
+                .onItem().transformToMulti(i -> {
+                    if (i == 3) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return Uni.createFrom().item(i).toMulti();
+                })
+                .concatenate(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IllegalStateException.class, "boom")
+                .assertItems(1, 2);
+    }
+
+    @Test
+    void testMapperReturningNull() {
+        Multi.createFrom().range(1, 7)
+                .onItem().<Integer> transformToMulti(i -> null)
+                .concatenate(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(NullPointerException.class);
+    }
+
+    @Test
+    void testUpstreamFailure() {
+        Multi.createFrom().range(1, 4)
+                .onCompletion().failWith(new IOException("boom"))
+                .onItem().transformToMulti(i -> Uni.createFrom().item(i).toMulti())
+                .concatenate(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IOException.class, "boom")
+                .assertItems(1, 2, 3);
+    }
+
+    @Test
+    void testCancellation() {
+        List<UniEmitter<? super Integer>> emitters = new CopyOnWriteArrayList<>();
+        AtomicInteger cancellations = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().transformToMulti(i -> Uni.createFrom().<Integer> emitter(emitters::add)
+                        .onCancellation().invoke(cancellations::incrementAndGet)
+                        .toMulti())
+                .concatenate(3)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.cancel();
+        assertThat(cancellations).hasValue(3);
+        emitters.forEach(e -> e.complete(1));
+        subscriber.assertNotTerminated().assertHasNotReceivedAnyItem();
+    }
+
+    @Test
+    void testTransformToMultiBuffersTheNextStreams() {
+        AtomicInteger emitted = new AtomicInteger();
+        AssertSubscriber<String> subscriber = Multi.createFrom().items("a", "b", "c")
+                .onItem().transformToMulti(s -> Multi.createFrom().range(0, 5)
+                        .onItem().invoke(emitted::incrementAndGet)
+                        .onItem().transform(i -> s + i))
+                .withRequests(2)
+                .concatenate(3)
+                .subscribe().withSubscriber(AssertSubscriber.create(1));
+
+        subscriber.assertItems("a0");
+        // The streams of b and c have been subscribed, and got up to 2 items in advance
+        assertThat(emitted).hasValue(6);
+
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.assertCompleted().assertItems("a0", "a1", "a2", "a3", "a4", "b0", "b1", "b2", "b3", "b4",
+                "c0", "c1", "c2", "c3", "c4");
+    }
+
+    @Test
+    void testTransformToMultiWithUnboundedStreams() {
+        AssertSubscriber<Long> subscriber = Multi.createFrom().items(1L, 2L)
+                .onItem().transformToMulti(i -> Multi.createFrom().<Long, Long> generator(() -> 0L, (n, emitter) -> {
+                    emitter.emit(i * 1000 + n);
+                    return n + 1;
+                }))
+                .concatenate(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(5));
+
+        // The first stream never completes, and the second one only gets the items it has requested
+        subscriber.assertItems(1000L, 1001L, 1002L, 1003L, 1004L).assertNotTerminated();
+        subscriber.cancel();
+    }
+}
@@ -0,0 +1,265 @@
+package io.smallrye.mutiny.operators.multi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.CompositeException;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.processors.UnicastProcessor;
+
+class MultiConcatMapPrefetchTest {
+
+    @Test
+    void testThatPrefetchMustNotBeNegative() {
+        assertThrows(IllegalArgumentException.class, () -> new MultiConcatMapOp<>(Multi.createFrom().range(1, 4),
+                i -> Multi.createFrom().item(i), false, -1));
+    }
+
+    @Test
+    void testPrefetchRequestsTheUpstreamInAdvance() {
+        AtomicInteger upstreamRequests = new AtomicInteger();
+        Multi<Integer> upstream = Multi.createFrom().range(0, 20)
+                .onRequest().invoke(n -> upstreamRequests.addAndGet((int) n));
+        AssertSubscriber<Integer> subscriber = new MultiConcatMapOp<>(upstream, i -> Multi.createFrom().items(i, i),
+                false, 4)
+                .subscribe().withSubscriber(AssertSubscriber.create());
+
+        // Requested before the downstream requests
+        assertThat(upstreamRequests).hasValue(4);
+        subscriber.assertHasNotReceivedAnyItem();
+
+        subscriber.request(6);
+        subscriber.assertItems(0, 0, 1, 1, 2, 2);
+        // 3 items consumed, so 3 more items have been requested
+        assertThat(upstreamRequests).hasValue(7);
+
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(40);
+    }
+
+    @Test
+    void testWithoutPrefetchRequestsTheUpstreamLazily() {
+        AtomicInteger upstreamRequests = new AtomicInteger();
+        Multi<Integer> upstream = Multi.createFrom().range(0, 20)
+                .onRequest().invoke(n -> upstreamRequests.addAndGet((int) n));
+        AssertSubscriber<Integer> subscriber = new MultiConcatMapOp<>(upstream, i -> Multi.createFrom().items(i, i),
+                false, 0)
+                .subscribe().withSubscriber(AssertSubscriber.create());
+
+        assertThat(upstreamRequests).hasValue(0);
+        subscriber.request(3);
+        subscriber.assertItems(0, 0, 1);
+        assertThat(upstreamRequests).hasValue(2);
+        subscriber.request(1);
+        subscriber.assertItems(0, 0, 1, 1);
+        // The requests have been consumed, nothing is requested until the next downstream request
+        assertThat(upstreamRequests).hasValue(2);
+        subscriber.request(1);
+        subscriber.assertItems(0, 0, 1, 1, 2);
+        assertThat(upstreamRequests).hasValue(3);
+    }
+
+    @Test
+    void testManySynchronousInners() {
+        AssertSubscriber<Integer> subscriber = new MultiConcatMapOp<>(Multi.createFrom().range(0, 100_000),
+                i -> (i % 2 == 0) ? Multi.createFrom().<Integer> empty() : Multi.createFrom().item(i), false, 16)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(50_000);
+    }
+
+    @Test
+    void testUpstreamFailureWhileAnInnerIsActive() {
+        UnicastProcessor<Integer> processor = UnicastProcessor.create();
+        UnicastProcessor<Integer> inner = UnicastProcessor.create();
+        AtomicBoolean innerCancelled = new AtomicBoolean();
+        AssertSubscriber<Integer> subscriber = new MultiConcatMapOp<>(processor,
+                i -> inner.onCancellation().invoke(() -> innerCancelled.set(true)), false, 4)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        processor.onNext(1);
+        inner.onNext(10);
+        processor.onError(new IOException("boom"));
+        subscriber.assertFailedWith(IOException.class, "boom").assertItems(10);
+        assertThat(innerCancelled).isTrue();
+
+        // Ignored, the inner has been cancelled
+        inner.onNext(11);
+        subscriber.assertItems(10);
+    }
+
+    @RepeatedTest(100)
+    void testUpstreamFailureRacingWithTheRequests() {
+        for (boolean collectFailures : new boolean[] { false, true }) {
+            AssertSubscriber<Integer> subscriber = new MultiConcatMapOp<>(Multi.createBy().concatenating().streams(
+                    Multi.createFrom().range(0, 10), Multi.createFrom().<Integer> failure(new IOException("boom")))
+                    .runSubscriptionOn(Infrastructure.getDefaultExecutor()),
+                    i -> Multi.createFrom().item(i), collectFailures, 0)
+                    .subscribe().withSubscriber(AssertSubscriber.create(3));
+
+            subscriber.awaitItems(3)
+                    .request(10)
+                    .awaitFailure()
+                    .assertFailedWith(IOException.class, "boom");
+            if (collectFailures) {
+                assertThat(subscriber.getItems()).hasSize(10);
+            }
+        }
+    }
+
+    @Test
+    void testPostponedUpstreamFailureWaitsForTheInners() {
+        UnicastProcessor<Integer> processor = UnicastProcessor.create();
+        UnicastProcessor<Integer> inner = UnicastProcessor.create();
+        AssertSubscriber<Integer> subscriber = new MultiConcatMapOp<>(processor, i -> inner, true, 4)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        processor.onNext(1);
+        processor.onError(new IOException("boom"));
+        subscriber.assertNotTerminated();
+        inner.onNext(10);
+        inner.onComplete();
+        subscriber.assertFailedWith(IOException.class, "boom").assertItems(10);
+    }
+
+    @Test
+    void testPostponedInnerFailures() {
+        AssertSubscriber<Integer> subscriber = new MultiConcatMapOp<>(Multi.createFrom().range(0, 4),
+                i -> (i % 2 == 0) ? Multi.createFrom().items(i, i)
+                        : Multi.createFrom().<Integer> failure(new IOException("boom " + i)),
+                true, 2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertFailedWith(CompositeException.class, "boom 1").assertItems(0, 0, 2, 2);
+    }
+
+    @Test
+    void testInnerFailure() {
+        AtomicBoolean upstreamCancelled = new AtomicBoolean();
+        AssertSubscriber<Integer> subscriber = new MultiConcatMapOp<>(Multi.createFrom().range(0, 4)
+                .onCancellation().invoke(() -> upstreamCancelled.set(true)),
+                i -> (i == 1) ? Multi.createFrom().<Integer> failure(new IOException("boom"))
+                        : Multi.createFrom().items(i, i),
+                false, 2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertFailedWith(IOException.class, "boom").assertItems(0, 0);
+        assertThat(upstreamCancelled).isTrue();
+    }
+
+    @Test
+    void testCancellation() {
+        UnicastProcessor<Integer> inner = UnicastProcessor.create();
+        AtomicBoolean upstreamCancelled = new AtomicBoolean();
+        AtomicBoolean innerCancelled = new AtomicBoolean();
+        AssertSubscriber<Integer> subscriber = new MultiConcatMapOp<>(Multi.createFrom().range(0, 4)
+                .onCancellation().invoke(() -> upstreamCancelled.set(true)),
+                i -> inner.onCancellation().invoke(() -> innerCancelled.set(true)), false, 2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        inner.onNext(1);
+        subscriber.cancel();
+        assertThat(upstreamCancelled).isTrue();
+        assertThat(innerCancelled).isTrue();
+        subscriber.assertItems(1).assertNotTerminated();
+    }
+
+    @Test
+    void testInvalidRequest() {
+        AssertSubscriber<Integer> subscriber = new MultiConcatMapOp<>(Multi.createFrom().range(0, 4),
+                i -> Multi.createFrom().item(i), false, 2)
+                .subscribe().withSubscriber(AssertSubscriber.create());
+
+        subscriber.request(-1);
+        subscriber.assertFailedWith(IllegalArgumentException.class, "request");
+    }
+
+    @RepeatedTest(10)
+    void testInnersEmittingOnOtherThreads() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Integer> list = Multi.createFrom().range(0, 100)
+                    .onItem().transformToMulti(i -> Multi.createFrom().range(i * 10, i * 10 + 10)
+                            .runSubscriptionOn(executor))
+                    .concatenate()
+                    .collect().asList()
+                    .await().atMost(Duration.ofSeconds(10));
+            assertThat(list).containsExactlyElementsOf(IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testInnersReceiveTheRemainingRequests() {
+        List<Long> innerRequests = new CopyOnWriteArrayList<>();
+        AssertSubscriber<Integer> subscriber = new MultiConcatMapOp<>(Multi.createFrom().range(0, 3),
+                i -> Multi.createFrom().items(i, i, i).onRequest().invoke(innerRequests::add), false, 0)
+                .subscribe().withSubscriber(AssertSubscriber.create(5));
+
+        subscriber.assertItems(0, 0, 0, 1, 1);
+        assertThat(innerRequests).containsExactly(5L, 2L);
+    }
+
+    @Test
+    void testConcatenateWithPrefetch() {
+        AtomicInteger upstreamRequests = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 20)
+                .onRequest().invoke(n -> upstreamRequests.addAndGet((int) n))
+                .onItem().transformToMulti(i -> Multi.createFrom().items(i, i)).concatenateWithPrefetch(4)
+                .subscribe().withSubscriber(AssertSubscriber.create());
+
+        assertThat(upstreamRequests).hasValue(4);
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(40);
+    }
+
+    @Test
+    void testConcatenateUnisWithPrefetch() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 5)
+                .onItem().transformToUni(i -> Uni.createFrom().item(i * 2))
+                .collectFailures().concatenateWithPrefetch(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertCompleted().assertItems(0, 2, 4, 6, 8);
+    }
+
+    @Test
+    void testThatConcatenatePrefetchMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> Multi.createFrom().range(1, 4)
+                .onItem().transformToMulti(i -> Multi.createFrom().item(i)).concatenateWithPrefetch(0));
+    }
+
+    @Test
+    void testInvalidRequestWhileCollectingFailures() {
+        UnicastProcessor<Integer> inner = UnicastProcessor.create();
+        AssertSubscriber<Integer> subscriber = new MultiConcatMapOp<>(Multi.createFrom().item(1), i -> inner, true, 0)
+                .subscribe().withSubscriber(AssertSubscriber.create(1));
+
+        inner.onNext(1);
+        subscriber.request(-1);
+        inner.onNext(2);
+        subscriber.assertFailedWith(IllegalArgumentException.class, "request");
+        subscriber.assertItems(1);
+    }
+}
@@ -0,0 +1,398 @@
+package io.smallrye.mutiny.operators.multi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.CompositeException;
+import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+class MultiFlatMapUniTest {
+
+    @Test
+    void testThatConcurrencyMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> Multi.createFrom().range(1, 4)
+                .onItem().transformToUni(i -> Uni.createFrom().item(i))
+                .merge(0));
+    }
+
+    @Test
+    void testMergeEmitsTheResultsAsTheyCome() {
+        List<UniEmitter<? super Integer>> emitters = new CopyOnWriteArrayList<>();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 4)
+                .onItem().transformToUni(i -> Uni.createFrom().<Integer> emitter(emitters::add))
+                .merge(4)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        assertThat(emitters).hasSize(4);
+        emitters.get(3).complete(3);
+        emitters.get(1).complete(1);
+        subscriber.assertItems(3, 1).assertNotTerminated();
+        emitters.get(0).complete(0);
+        emitters.get(2).complete(2);
+        subscriber.assertCompleted().assertItems(3, 1, 0, 2);
+    }
+
+    @Test
+    void testMergeRespectsTheConcurrency() {
+        List<UniEmitter<? super Integer>> emitters = new CopyOnWriteArrayList<>();
+        AtomicInteger upstreamRequests = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onRequest().invoke(n -> upstreamRequests.addAndGet((int) n))
+                .onItem().transformToUni(i -> Uni.createFrom().<Integer> emitter(emitters::add))
+                .merge(3)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        assertThat(emitters).hasSize(3);
+        assertThat(upstreamRequests).hasValue(3);
+
+        emitters.get(1).complete(1);
+        assertThat(emitters).hasSize(4);
+        assertThat(upstreamRequests).hasValue(4);
+
+        for (int i = 0; i < 10; i++) {
+            if (i != 1) {
+                emitters.get(i).complete(i);
+            }
+        }
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems()).containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    void testMergeRespectsDownstreamRequests() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(1, 11)
+                .onItem().transformToUni(i -> Uni.createFrom().item(i)
+                        .onSubscription().invoke(subscriptions::incrementAndGet))
+                .merge(4)
+                .subscribe().withSubscriber(AssertSubscriber.create(1));
+
+        subscriber.assertItems(1);
+        // The Unis whose items wait for requests count in the concurrency
+        assertThat(subscriptions).hasValue(5);
+
+        subscriber.request(2);
+        subscriber.assertItems(1, 2, 3);
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.assertCompleted().assertItems(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+
+    @Test
+    void testMergeWithManyPendingUnis() {
+        List<UniEmitter<? super Integer>> emitters = new CopyOnWriteArrayList<>();
+        AtomicInteger cancellations = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 100)
+                .onItem().transformToUni(i -> Uni.createFrom().<Integer> emitter(emitters::add)
+                        .onCancellation().invoke(cancellations::incrementAndGet))
+                .merge(64)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        assertThat(emitters).hasSize(64);
+        for (int i = 0; i < 64; i += 2) {
+            emitters.get(i).complete(i);
+        }
+        assertThat(emitters).hasSize(96);
+
+        subscriber.cancel();
+        assertThat(cancellations).hasValue(64);
+        assertThat(subscriber.getItems()).hasSize(32);
+    }
+
+    @Test
+    void testMergeWithNullItems() {
+        Multi.createFrom().range(1, 7)
+                .onItem().transformToUni(i -> i % 2 == 0 ? Uni.createFrom().nullItem() : Uni.createFrom().item(i))
+                .merge(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted()
+                .assertItems(1, 3, 5);
+    }
+
+    @Test
+    void testMergeWithFailureCancelsTheOtherUnis() {
+        List<UniEmitter<? super Integer>> emitters = new CopyOnWriteArrayList<>();
+        AtomicInteger cancellations = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().transformToUni(i -> Uni.createFrom().<Integer> emitter(emitters::add)
+                        .onCancellation().invoke(cancellations::incrementAndGet))
+                .merge(3)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        emitters.get(0).complete(0);
+        emitters.get(2).fail(new IOException("boom"));
+        subscriber.assertFailedWith(IOException.class, "boom").assertItems(0);
+        assertThat(cancellations).hasValue(2);
+        assertThat(emitters).hasSize(4);
+    }
+
+    @Test
+    void testMergeWithCollectedFailures() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(1, 7)
+                .onItem().transformToUni(i -> i % 3 == 0
+                        ? Uni.createFrom().<Integer> failure(new IOException("boom " + i))
+                        : Uni.createFrom().item(i))
+                .collectFailures()
+                .merge(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertFailedWith(CompositeException.class, "boom 3").assertItems(1, 2, 4, 5);
+        assertThat(((CompositeException) subscriber.getFailure()).getCauses()).hasSize(2);
+    }
+
+    @Test
+    void testMergeWithMapperReturningNull() {
+        Multi.createFrom().range(1, 7)
+                .onItem().<Integer> transformToUni(i -> null)
+                .merge(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(NullPointerException.class, "mapper");
+    }
+
+    @Test
+    void testMergeWithMapperFailureWhenCollectingFailures() {
+        // The mapper failures are not collected, as done by transformToMulti
+        Multi.createFrom().range(1, 5)
+                .onItem().transformToUni(i -> {
+                    if (i % 2 == 0) {
+                        throw new IllegalStateException("boom " + i);
+                    }
+                    return Uni.createFrom().item(i);
+                })
+                .collectFailures()
+                .merge(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IllegalStateException.class, "boom 2")
+                .assertItems(1);
+    }
+
+    @Test
+    void testConcatenateWithCollectedMapperFailures() {
+        Multi.createFrom().range(1, 5)
+                .onItem().transformToUni(i -> {
+                    if (i % 2 == 0) {
+                        throw new IllegalStateException("boom " + i);
+                    }
+                    return Uni.createFrom().item(i);
+                })
+                .collectFailures()
+                .concatenate()
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(CompositeException.class, "boom 2")
+                .assertItems(1, 3);
+    }
+
+    @Test
+    void testMergeWithUpstreamFailure() {
+        Multi.createFrom().range(1, 4)
+                .onCompletion().failWith(new IOException("boom"))
+                .onItem().transformToUni(i -> Uni.createFrom().item(i))
+                .merge(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IOException.class, "boom")
+                .assertItems(1, 2, 3);
+    }
+
+    @Test
+    void testMergeWithInvalidRequest() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(1, 4)
+                .onItem().transformToUni(i -> Uni.createFrom().item(i))
+                .merge(2)
+                .subscribe().withSubscriber(AssertSubscriber.create());
+
+        subscriber.request(0);
+        subscriber.assertFailedWith(IllegalArgumentException.class, "request");
+    }
+
+    @Test
+    void testMergePropagatesTheContext() {
+        Multi.createFrom().range(1, 4)
+                .onItem().transformToUni(i -> Uni.createFrom().context(ctx -> Uni.createFrom().item(ctx.<String> get("k") + i)))
+                .merge(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Context.of("k", "v"), Long.MAX_VALUE))
+                .assertCompleted()
+                .assertItems("v1", "v2", "v3");
+    }
+
+    @RepeatedTest(10)
+    void testMergeWithUnisCompletingOnOtherThreads() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Integer> list = Multi.createFrom().range(0, 1000)
+                    .onItem().transformToUni(i -> Uni.createFrom().item(i).emitOn(executor))
+                    .merge(16)
+                    .collect().asList()
+                    .await().atMost(Duration.ofSeconds(10));
+            assertThat(list).containsExactlyInAnyOrderElementsOf(
+                    IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testConcatenateWithoutPrefetchRequestsLazily() {
+        AtomicInteger upstreamRequests = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onRequest().invoke(n -> upstreamRequests.addAndGet((int) n))
+                .onItem().transformToUni(i -> Uni.createFrom().item(i))
+                .concatenate()
+                .subscribe().withSubscriber(AssertSubscriber.create());
+
+        assertThat(upstreamRequests).hasValue(0);
+        subscriber.request(3);
+        subscriber.assertItems(0, 1, 2);
+        assertThat(upstreamRequests).hasValue(3);
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.assertCompleted();
+        assertThat(upstreamRequests).hasValue(10);
+    }
+
+    @Test
+    void testConcatenateWithPrefetch() {
+        AtomicInteger upstreamRequests = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onRequest().invoke(n -> upstreamRequests.addAndGet((int) n))
+                .onItem().transformToUni(i -> Uni.createFrom().item(i))
+                .concatenate(true)
+                .subscribe().withSubscriber(AssertSubscriber.create());
+
+        assertThat(upstreamRequests).hasValue(1);
+        subscriber.request(3);
+        subscriber.assertItems(0, 1, 2);
+        assertThat(upstreamRequests).hasValue(4);
+    }
+
+    @Test
+    void testThatRequestsMustNotBeLowerThanTheConcurrency() {
+        assertThrows(IllegalArgumentException.class, () -> new MultiFlatMapUniOp<>(Multi.createFrom().range(1, 4),
+                i -> Uni.createFrom().item(i), false, 2, true, true, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MultiFlatMapUniOp<>(Multi.createFrom().range(1, 4),
+                i -> Uni.createFrom().item(i), false, 2, true, true, 4));
+        assertThrows(IllegalArgumentException.class, () -> new MultiFlatMapUniOp<>(Multi.createFrom().range(1, 4),
+                i -> Uni.createFrom().item(i), false, 1, false, true, 4));
+        assertThrows(IllegalArgumentException.class, () -> Multi.createFrom().range(1, 4)
+                .onItem().transformToUni(i -> Uni.createFrom().item(i))
+                .concatenateWithPrefetch(0));
+    }
+
+    @Test
+    void testConcatenateWithPrefetchCount() {
+        AtomicInteger upstreamRequests = new AtomicInteger();
+        List<UniEmitter<? super Integer>> emitters = new CopyOnWriteArrayList<>();
+        Multi<Integer> multi = Multi.createFrom().range(0, 10)
+                .onRequest().invoke(n -> upstreamRequests.addAndGet((int) n))
+                .onItem().transformToUni(i -> Uni.createFrom().<Integer> emitter(emitters::add))
+                .concatenateWithPrefetch(4);
+        assertThat(multi).isInstanceOf(MultiFlatMapUniOp.class);
+        AssertSubscriber<Integer> subscriber = multi.subscribe().withSubscriber(AssertSubscriber.create());
+
+        // Requested in advance, but the Unis are subscribed one at a time
+        assertThat(upstreamRequests).hasValue(4);
+        assertThat(emitters).hasSize(1);
+        subscriber.request(2);
+        emitters.get(0).complete(0);
+        assertThat(emitters).hasSize(2);
+        emitters.get(1).complete(1);
+        subscriber.assertItems(0, 1);
+        assertThat(upstreamRequests).hasValue(6);
+
+        // The result waits for the downstream requests before subscribing to the next Uni
+        emitters.get(2).complete(2);
+        assertThat(emitters).hasSize(3);
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.assertItems(0, 1, 2);
+        for (int i = 3; i < 10; i++) {
+            emitters.get(i).complete(i);
+        }
+        subscriber.assertCompleted().assertItems(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    void testConcatenateWithPrefetchCountAndFailures() {
+        AtomicInteger cancellations = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onCancellation().invoke(cancellations::incrementAndGet)
+                .onItem().transformToUni(i -> i == 3 ? Uni.createFrom().<Integer> failure(new IOException("boom"))
+                        : Uni.createFrom().item(i))
+                .concatenateWithPrefetch(4)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        subscriber.assertFailedWith(IOException.class, "boom").assertItems(0, 1, 2);
+        assertThat(cancellations).hasValue(1);
+
+        Multi.createFrom().range(0, 10)
+                .onItem().transformToUni(i -> i % 3 == 0 ? Uni.createFrom().<Integer> failure(new IOException("boom"))
+                        : Uni.createFrom().item(i))
+                .collectFailures().concatenateWithPrefetch(4)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(CompositeException.class, "boom")
+                .assertItems(1, 2, 4, 5, 7, 8);
+    }
+
+    @Test
+    void testConcatenateWaitsForEachUni() {
+        List<UniEmitter<? super Integer>> emitters = new CopyOnWriteArrayList<>();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 3)
+                .onItem().transformToUni(i -> Uni.createFrom().<Integer> emitter(emitters::add))
+                .concatenate()
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        assertThat(emitters).hasSize(1);
+        emitters.get(0).complete(0);
+        assertThat(emitters).hasSize(2);
+        emitters.get(1).complete(1);
+        emitters.get(2).complete(2);
+        subscriber.assertCompleted().assertItems(0, 1, 2);
+    }
+
+    @Test
+    void testConcatenateEagerlyPreservesTheOrder() {
+        // The last Unis complete first
+        List<Integer> list = Multi.createFrom().range(1, 11)
+                .onItem().transformToUni(i -> Uni.createFrom().item(i * 10)
+                        .onItem().delayIt().by(Duration.ofMillis(5L * (11 - i))))
+                .concatenate(4)
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(5));
+        assertThat(list).containsExactly(10, 20, 30, 40, 50, 60, 70, 80, 90, 100);
+    }
+
+    @Test
+    void testConcatenateEagerlySubscribesToTheNextUnis() {
+        List<UniEmitter<? super Integer>> emitters = new CopyOnWriteArrayList<>();
+        AtomicInteger cancellations = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().transformToUni(i -> Uni.createFrom().<Integer> emitter(emitters::add)
+                        .onCancellation().invoke(cancellations::incrementAndGet))
+                .concatenate(3)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        assertThat(emitters).hasSize(3);
+        emitters.get(2).complete(2);
+        emitters.get(1).complete(1);
+        subscriber.assertHasNotReceivedAnyItem();
+        emitters.get(0).complete(0);
+        subscriber.assertItems(0, 1, 2);
+        assertThat(emitters).hasSize(6);
+
+        emitters.get(4).fail(new IOException("boom"));
+        subscriber.assertFailedWith(IOException.class, "boom").assertItems(0, 1, 2);
+        assertThat(cancellations).hasValue(2);
+    }
+}
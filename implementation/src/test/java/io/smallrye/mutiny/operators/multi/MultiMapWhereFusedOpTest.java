@@ -0,0 +1,142 @@
+package io.smallrye.mutiny.operators.multi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+
+class MultiMapWhereFusedOpTest {
+
+    @Test
+    void singleStagesAreNotFused() {
+        Multi<Integer> upstream = Multi.createFrom().range(0, 10);
+        assertThat(upstream.onItem().transform(i -> i + 1)).isInstanceOf(MultiMapOp.class);
+        assertThat(upstream.select().where(i -> i > 1)).isInstanceOf(MultiSelectWhereOp.class);
+    }
+
+    @Test
+    void consecutiveStagesAreFused() {
+        Multi<Integer> multi = Multi.createFrom().range(0, 10)
+                .onItem().transform(i -> i + 1)
+                .select().where(i -> i % 2 == 0)
+                .onItem().transform(i -> i * 10)
+                .select().where(i -> i > 20);
+
+        assertThat(multi).isInstanceOf(MultiMapWhereFusedOp.class);
+        assertThat(((MultiMapWhereFusedOp<?, ?>) multi).stages()).isEqualTo(4);
+
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted()
+                .assertItems(40, 60, 80, 100);
+    }
+
+    @Test
+    void fusionDoesNotAlterTheUpstreamOperators() {
+        Multi<Integer> first = Multi.createFrom().range(0, 5).onItem().transform(i -> i + 1);
+        Multi<Integer> second = first.select().where(i -> i % 2 == 0);
+        Multi<String> third = second.onItem().transform(i -> "v" + i);
+
+        first.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted()
+                .assertItems(1, 2, 3, 4, 5);
+        second.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted()
+                .assertItems(2, 4);
+        third.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted()
+                .assertItems("v2", "v4");
+    }
+
+    @Test
+    void rejectedItemsAreReplenished() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 100)
+                .onItem().transform(i -> i + 1)
+                .select().where(i -> i % 10 == 0)
+                .subscribe().withSubscriber(AssertSubscriber.create(3));
+
+        subscriber.assertNotTerminated().assertItems(10, 20, 30);
+        subscriber.request(100);
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(10);
+    }
+
+    @Test
+    void mapperReturningNullFailsTheStream() {
+        Multi.createFrom().items(1, 2, 3)
+                .select().where(i -> i > 0)
+                .onItem().transform(i -> i == 2 ? null : i)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(NullPointerException.class, "")
+                .assertItems(1);
+    }
+
+    @Test
+    void failingCallbacksFailTheStreamAndCancelTheUpstream() {
+        AtomicInteger cancellations = new AtomicInteger();
+        Predicate<Integer> failing = i -> {
+            if (i == 3) {
+                throw new IllegalStateException("boom");
+            }
+            return true;
+        };
+        Multi.createFrom().items(1, 2, 3, 4)
+                .onCancellation().invoke(cancellations::incrementAndGet)
+                .onItem().transform(i -> i)
+                .select().where(failing)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(IllegalStateException.class, "boom")
+                .assertItems(1, 2);
+        assertThat(cancellations).hasValue(1);
+
+        Multi.createFrom().items(1, 2, 3, 4)
+                .select().where(i -> true)
+                .onItem().transform(i -> {
+                    if (i == 2) {
+                        throw new RuntimeException(new IOException("boom"));
+                    }
+                    return i;
+                })
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(RuntimeException.class, "boom")
+                .assertItems(1);
+    }
+
+    @Test
+    void upstreamFailuresArePropagated() {
+        Multi.createFrom().<Integer> failure(new IOException("boom"))
+                .onItem().transform(i -> i + 1)
+                .select().where(i -> true)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(IOException.class, "boom");
+    }
+
+    @Test
+    void invalidRequestsFailTheStream() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().transform(i -> i + 1)
+                .select().where(i -> true)
+                .subscribe().withSubscriber(AssertSubscriber.create());
+        subscriber.request(-1);
+        subscriber.assertFailedWith(IllegalArgumentException.class, "");
+    }
+
+    @Test
+    void cancellationStopsTheEmissions() {
+        AssertSubscriber<List<Integer>> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().transform(i -> i + 1)
+                .select().where(i -> true)
+                .onItem().transform(List::of)
+                .subscribe().withSubscriber(AssertSubscriber.create(2));
+        subscriber.cancel();
+        subscriber.request(10);
+        subscriber.assertNotTerminated();
+        assertThat(subscriber.getItems()).hasSize(2);
+    }
+}
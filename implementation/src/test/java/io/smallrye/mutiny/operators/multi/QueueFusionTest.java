@@ -0,0 +1,333 @@
+package io.smallrye.mutiny.operators.multi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.operators.multi.processors.UnicastProcessor;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.QueueSubscription;
+
+class QueueFusionTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void init() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void collectionSubscriptionGrantsSyncFusionToItsSubscriber() {
+        FusingSubscriber<Integer> subscriber = new FusingSubscriber<>(QueueSubscription.ANY);
+        Multi.createFrom().items(1, 2, 3).subscribe().withSubscriber(subscriber);
+
+        assertThat(subscriber.mode).isEqualTo(QueueSubscription.SYNC);
+        assertThat(subscriber.subscription.isEmpty()).isFalse();
+        assertThat(subscriber.subscription.size()).isEqualTo(3);
+        assertThat(subscriber.subscription.poll()).isEqualTo(1);
+        assertThat(subscriber.subscription.poll()).isEqualTo(2);
+        assertThat(subscriber.subscription.poll()).isEqualTo(3);
+        assertThat(subscriber.subscription.poll()).isNull();
+        assertThat(subscriber.subscription.isEmpty()).isTrue();
+
+        // Requests are ignored once fused
+        subscriber.subscription.request(10);
+        assertThat(subscriber.items).isEmpty();
+    }
+
+    @Test
+    void iterableSubscriptionGrantsSyncFusionToItsSubscriber() {
+        FusingSubscriber<Integer> subscriber = new FusingSubscriber<>(QueueSubscription.SYNC);
+        Multi.createFrom().range(0, 3).subscribe().withSubscriber(subscriber);
+
+        assertThat(subscriber.mode).isEqualTo(QueueSubscription.SYNC);
+        assertThat(subscriber.subscription.poll()).isEqualTo(0);
+        assertThat(subscriber.subscription.isEmpty()).isFalse();
+        assertThat(subscriber.subscription.poll()).isEqualTo(1);
+        assertThat(subscriber.subscription.poll()).isEqualTo(2);
+        assertThat(subscriber.subscription.isEmpty()).isTrue();
+        assertThat(subscriber.subscription.poll()).isNull();
+    }
+
+    @Test
+    void fusionIsRefusedForUnsupportedModes() {
+        FusingSubscriber<Integer> subscriber = new FusingSubscriber<>(QueueSubscription.ASYNC);
+        Multi.createFrom().items(1, 2, 3).subscribe().withSubscriber(subscriber);
+
+        assertThat(subscriber.mode).isEqualTo(QueueSubscription.NONE);
+        subscriber.subscription.request(10);
+        assertThat(subscriber.items).containsExactly(1, 2, 3);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void fusionIsRefusedToIntermediateSubscribers() {
+        FusingSubscriber<Integer> subscriber = new FusingSubscriber<>(QueueSubscription.ANY);
+        AtomicReference<Integer> mode = new AtomicReference<>();
+        Multi.createFrom().items(1, 2, 3).subscribe().withSubscriber(new MultiSubscriber<Integer>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                mode.set(((QueueSubscription<?>) subscription).requestFusion(subscriber, QueueSubscription.ANY));
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onItem(Integer item) {
+                // ignored
+            }
+
+            @Override
+            public void onFailure(Throwable failure) {
+                // ignored
+            }
+
+            @Override
+            public void onCompletion() {
+                // ignored
+            }
+        });
+        assertThat(mode).hasValue(QueueSubscription.NONE);
+    }
+
+    @RepeatedTest(10)
+    void emitOnWithFusedCollection() {
+        List<Integer> items = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().iterable(items)
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(5));
+
+        subscriber.awaitItems(5).assertNotTerminated();
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.awaitCompletion();
+        assertThat(subscriber.getItems()).containsExactlyElementsOf(items);
+    }
+
+    @RepeatedTest(10)
+    void emitOnWithFusedItems() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().items(1, 2, 3, 4, 5)
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.awaitCompletion().assertItems(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void emitOnWithFailingFusedIterator() {
+        Iterable<Integer> iterable = () -> new Iterator<>() {
+            int count;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                if (count == 3) {
+                    throw new IllegalStateException("boom");
+                }
+                return count++;
+            }
+        };
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().iterable(iterable)
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.awaitFailure().assertFailedWith(IllegalStateException.class, "boom").assertItems(0, 1, 2);
+    }
+
+    @Test
+    void emitOnWithFailingHasNextOnFusedIterator() {
+        AtomicInteger count = new AtomicInteger();
+        Iterable<Integer> iterable = () -> new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                if (count.get() == 2) {
+                    throw new IllegalStateException("boom");
+                }
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return count.getAndIncrement();
+            }
+        };
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().iterable(iterable)
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        subscriber.awaitItems(2);
+        subscriber.request(10);
+        subscriber.awaitFailure().assertFailedWith(IllegalStateException.class, "boom").assertItems(0, 1);
+    }
+
+    @Test
+    void emitOnCancellationWithFusedSource() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 100)
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.awaitItems(10);
+        subscriber.cancel();
+        subscriber.request(10);
+        assertThat(subscriber.getItems()).hasSize(10);
+        subscriber.assertNotTerminated();
+    }
+
+    @RepeatedTest(10)
+    void emitOnWithAsyncFusedUnicastProcessor() {
+        UnicastProcessor<Integer> processor = UnicastProcessor.create();
+        AssertSubscriber<Integer> subscriber = processor
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        executor.submit(() -> {
+            for (int i = 0; i < 1000; i++) {
+                processor.onNext(i);
+            }
+            processor.onComplete();
+        });
+
+        subscriber.awaitCompletion();
+        assertThat(subscriber.getItems()).hasSize(1000).startsWith(0, 1, 2).endsWith(998, 999);
+    }
+
+    @Test
+    void emitOnWithAsyncFusedUnicastProcessorFailure() {
+        UnicastProcessor<Integer> processor = UnicastProcessor.create();
+        AssertSubscriber<Integer> subscriber = processor
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        processor.onNext(1);
+        subscriber.awaitItems(1);
+        processor.onError(new IllegalStateException("boom"));
+
+        subscriber.awaitFailure().assertFailedWith(IllegalStateException.class, "boom").assertItems(1);
+    }
+
+    @Test
+    void flatMapWithFusedInners() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 100)
+                .onItem().transformToMultiAndMerge(i -> Multi.createFrom().items(i, i))
+                .subscribe().withSubscriber(AssertSubscriber.create(7));
+
+        subscriber.assertNotTerminated();
+        assertThat(subscriber.getItems()).containsExactly(0, 0, 1, 1, 2, 2, 3);
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(200);
+    }
+
+    @Test
+    void flatMapWithFailingFusedInner() {
+        Iterable<Integer> failing = () -> new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                throw new IllegalStateException("boom");
+            }
+        };
+        Multi.createFrom().items(1, 2)
+                .onItem().transformToMultiAndMerge(i -> i == 2 ? Multi.createFrom().iterable(failing)
+                        : Multi.createFrom().items(i))
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IllegalStateException.class, "boom")
+                .assertItems(1);
+    }
+
+    @Test
+    void publishWithFusedSource() {
+        Multi<Integer> multi = Multi.createFrom().range(0, 500)
+                .broadcast().toAtLeast(2);
+
+        AssertSubscriber<Integer> first = AssertSubscriber.create(Long.MAX_VALUE);
+        AssertSubscriber<Integer> second = AssertSubscriber.create(Long.MAX_VALUE);
+        multi.subscribe().withSubscriber(first);
+        first.assertHasNotReceivedAnyItem();
+        multi.subscribe().withSubscriber(second);
+
+        first.assertCompleted();
+        second.assertCompleted();
+        assertThat(first.getItems()).hasSize(500).containsExactlyElementsOf(second.getItems());
+    }
+
+    @Test
+    void publishWithFusedSourceAndSlowSubscriber() {
+        Multi<Integer> multi = Multi.createFrom().items(1, 2, 3, 4)
+                .broadcast().toAtLeast(2);
+
+        AssertSubscriber<Integer> first = AssertSubscriber.create(Long.MAX_VALUE);
+        AssertSubscriber<Integer> second = AssertSubscriber.create(1);
+        multi.subscribe().withSubscriber(first);
+        multi.subscribe().withSubscriber(second);
+
+        first.assertNotTerminated().assertItems(1);
+        second.assertNotTerminated().assertItems(1);
+        second.request(10);
+        first.assertCompleted().assertItems(1, 2, 3, 4);
+        second.assertCompleted().assertItems(1, 2, 3, 4);
+    }
+
+    private static class FusingSubscriber<T> implements MultiSubscriber<T> {
+
+        private final int requestedMode;
+        private final List<T> items = new ArrayList<>();
+        private QueueSubscription<T> subscription;
+        private int mode;
+        private boolean completed;
+
+        FusingSubscriber(int requestedMode) {
+            this.requestedMode = requestedMode;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = (QueueSubscription<T>) subscription;
+            this.mode = this.subscription.requestFusion(this, requestedMode);
+        }
+
+        @Override
+        public void onItem(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            // ignored
+        }
+
+        @Override
+        public void onCompletion() {
+            completed = true;
+        }
+    }
+}
@@ -5,11 +5,13 @@ import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -516,4 +518,151 @@ public class EmitterBasedMultiTest {
         subscriber.assertFailedWith(IllegalArgumentException.class, "onTermination");
 
     }
+
+    @Test
+    public void testEmitAll() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(e -> {
+            e.emitAll(List.of(1, 2, 3)).emit(4).emitAll(List.of(5, 6)).complete();
+        }).subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.assertItems(1, 2, 3, 4, 5, 6).assertCompleted();
+    }
+
+    @Test
+    public void testEmitArrayRange() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(e -> {
+            e.emit(new Integer[] { 1, 2, 3, 4, 5 }, 1, 3).emit(new Integer[] { 6 }, 0, 1).emit(new Integer[0], 0, 0)
+                    .complete();
+        }).subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.assertItems(2, 3, 4, 6).assertCompleted();
+    }
+
+    @Test
+    public void testEmitArrayWithInvalidRange() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(e -> {
+            e.emit(new Integer[] { 1, 2, 3 }, 2, 2);
+        }).subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.assertFailedWith(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void testThatEmitAllRejectsNullCollection() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(e -> {
+            e.emitAll(null);
+        }).subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.assertFailedWith(IllegalArgumentException.class, "items");
+    }
+
+    @Test
+    public void testEmitAllIsBufferedUntilRequested() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(e -> {
+            e.emitAll(List.of(1, 2, 3, 4, 5)).complete();
+        }).subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        subscriber.assertItems(1, 2).assertNotTerminated();
+        subscriber.request(3);
+        subscriber.assertItems(1, 2, 3, 4, 5).assertCompleted();
+    }
+
+    @Test
+    public void testEmitAllOverflowingTheBuffer() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(e -> {
+            e.emitAll(List.of(1, 2, 3, 4, 5));
+        }, 3).subscribe().withSubscriber(AssertSubscriber.create(1));
+
+        subscriber.assertItems(1).assertNotTerminated();
+        subscriber.request(10);
+        subscriber.assertItems(1, 2, 3)
+                .assertFailedWith(BufferItemMultiEmitter.EmitterBufferOverflowException.class);
+    }
+
+    @Test
+    public void testEmitAllWithNullItem() {
+        for (BackPressureStrategy strategy : BackPressureStrategy.values()) {
+            AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(e -> {
+                e.emitAll(Arrays.asList(1, 2, null, 4));
+            }, strategy).subscribe().withSubscriber(AssertSubscriber.create(10));
+
+            subscriber.assertItems(1, 2).assertFailedWith(NullPointerException.class, "null");
+        }
+    }
+
+    @Test
+    public void testEmitAllWithNullItemWhileEmitting() {
+        AtomicReference<MultiEmitter<? super Integer>> reference = new AtomicReference<>();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(reference::set)
+                .onItem().invoke(i -> {
+                    if (i == 0) {
+                        // The emitter is busy emitting 0, so the batch is queued
+                        reference.get().emitAll(Arrays.asList(1, 2, null, 4));
+                    }
+                })
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        reference.get().emit(0);
+        subscriber.assertItems(0, 1, 2).assertFailedWith(NullPointerException.class, "null");
+    }
+
+    @Test
+    public void testEmitAllWithOtherStrategies() {
+        for (BackPressureStrategy strategy : BackPressureStrategy.values()) {
+            AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(e -> {
+                e.emitAll(List.of(1, 2, 3)).emit(new Integer[] { 4, 5 }, 0, 2).complete();
+            }, strategy).subscribe().withSubscriber(AssertSubscriber.create(10));
+
+            subscriber.assertItems(1, 2, 3, 4, 5).assertCompleted();
+        }
+    }
+
+    @RepeatedTest(20)
+    public void testConcurrentBatches() throws InterruptedException {
+        AtomicReference<MultiEmitter<? super Integer>> reference = new AtomicReference<>();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(reference::set)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        int threads = 4;
+        int batches = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int base = t * 100_000;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int b = 0; b < batches; b++) {
+                        Integer[] batch = new Integer[10];
+                        for (int i = 0; i < batch.length; i++) {
+                            batch[i] = base + b * batch.length + i;
+                        }
+                        if ((b & 1) == 0) {
+                            reference.get().emitAll(Arrays.asList(batch));
+                        } else {
+                            reference.get().emit(batch, 0, batch.length);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        reference.get().complete();
+        executor.shutdownNow();
+
+        subscriber.awaitCompletion();
+        List<Integer> items = subscriber.getItems();
+        assertThat(items).hasSize(threads * batches * 10).doesNotHaveDuplicates();
+        for (int t = 0; t < threads; t++) {
+            int base = t * 100_000;
+            // Items emitted by a given thread are received in order
+            assertThat(items.stream().filter(i -> i >= base && i < base + 100_000)).isSorted();
+        }
+    }
 }
@@ -1,9 +1,11 @@
 package io.smallrye.mutiny.operators.multi.processors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -471,4 +473,162 @@ public class BroadcastProcessorTest {
         List<Long> items = subscriber.getItems();
         assertThat(items).isNotEmpty().doesNotContain(0L, 1L, 2L, 3L, 4L);
     }
+
+    @Test
+    public void testInvalidBufferSize() {
+        assertThatThrownBy(() -> BroadcastProcessor.create(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("bufferSize");
+    }
+
+    @Test
+    public void testSubscriberRegistry() {
+        BroadcastProcessor<Integer> processor = BroadcastProcessor.create();
+        List<AssertSubscriber<Integer>> subscribers = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            subscribers.add(processor.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE)));
+        }
+        assertThat(processor.subscribers.get()).hasSize(100);
+
+        // Cancel every other subscriber, in the middle, at the beginning and at the end of the registry
+        for (int i = 0; i < 100; i += 2) {
+            subscribers.get(i).cancel();
+        }
+        subscribers.get(99).cancel();
+        assertThat(processor.subscribers.get()).hasSize(49);
+
+        processor.onNext(1);
+        processor.onComplete();
+        for (int i = 0; i < 100; i++) {
+            AssertSubscriber<Integer> subscriber = subscribers.get(i);
+            if (i % 2 == 0 || i == 99) {
+                subscriber.assertHasNotReceivedAnyItem().assertNotTerminated();
+            } else {
+                subscriber.assertItems(1).assertCompleted();
+            }
+        }
+        assertThat(processor.subscribers.get()).isSameAs(BroadcastProcessor.TERMINATED);
+    }
+
+    @RepeatedTest(10)
+    public void testConcurrentSubscriptionsAndCancellations() throws InterruptedException {
+        BroadcastProcessor<Integer> processor = BroadcastProcessor.create();
+        AssertSubscriber<Integer> witness = processor.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        CountDownLatch done = new CountDownLatch(4);
+        for (int t = 0; t < 4; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    processor.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE)).cancel();
+                }
+                done.countDown();
+            });
+        }
+        for (int i = 0; i < 1000; i++) {
+            processor.onNext(i);
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(processor.subscribers.get()).hasSize(1);
+        processor.onComplete();
+        witness.assertCompleted();
+        assertThat(witness.getItems()).hasSize(1000);
+    }
+
+    @Test
+    public void testBufferedSubscriber() {
+        BroadcastProcessor<Integer> processor = BroadcastProcessor.create(4);
+        AssertSubscriber<Integer> fast = processor.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        AssertSubscriber<Integer> slow = processor.subscribe().withSubscriber(AssertSubscriber.create(1));
+
+        processor.onNext(1);
+        processor.onNext(2);
+        processor.onNext(3);
+        slow.assertItems(1).assertNotTerminated();
+
+        slow.request(1);
+        slow.assertItems(1, 2);
+        processor.onNext(4);
+        processor.onNext(5);
+        slow.request(10);
+        slow.assertItems(1, 2, 3, 4, 5);
+
+        processor.onNext(6);
+        processor.onComplete();
+        fast.assertItems(1, 2, 3, 4, 5, 6).assertCompleted();
+        slow.assertItems(1, 2, 3, 4, 5, 6).assertCompleted();
+    }
+
+    @Test
+    public void testBufferedItemsAreDeliveredBeforeTheTerminalEvent() {
+        BroadcastProcessor<Integer> processor = BroadcastProcessor.create(4);
+        AssertSubscriber<Integer> completed = processor.subscribe().withSubscriber(AssertSubscriber.create(0));
+        processor.onNext(1);
+        processor.onNext(2);
+        processor.onComplete();
+        completed.assertHasNotReceivedAnyItem().assertNotTerminated();
+        completed.request(1);
+        completed.assertItems(1).assertNotTerminated();
+        completed.request(1);
+        completed.assertItems(1, 2).assertCompleted();
+
+        processor = BroadcastProcessor.create(4);
+        AssertSubscriber<Integer> failed = processor.subscribe().withSubscriber(AssertSubscriber.create(0));
+        processor.onNext(1);
+        processor.onError(new IOException("boom"));
+        failed.assertNotTerminated();
+        failed.request(1);
+        failed.assertItems(1).assertFailedWith(IOException.class, "boom");
+    }
+
+    @Test
+    public void testBufferOverflowOnlyFailsTheSlowSubscriber() {
+        BroadcastProcessor<Integer> processor = BroadcastProcessor.create(2);
+        AssertSubscriber<Integer> fast = processor.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        AssertSubscriber<Integer> slow = processor.subscribe().withSubscriber(AssertSubscriber.create(1));
+
+        processor.onNext(1);
+        processor.onNext(2);
+        processor.onNext(3);
+        slow.assertItems(1).assertNotTerminated();
+        processor.onNext(4);
+        slow.assertItems(1).assertFailedWith(BackPressureFailure.class, "buffer is full");
+        assertThat(processor.subscribers.get()).hasSize(1);
+
+        processor.onNext(5);
+        processor.onComplete();
+        fast.assertItems(1, 2, 3, 4, 5).assertCompleted();
+        slow.assertItems(1);
+    }
+
+    @Test
+    public void testCancellingABufferedSubscriber() {
+        BroadcastProcessor<Integer> processor = BroadcastProcessor.create(2);
+        AssertSubscriber<Integer> subscriber = processor.subscribe().withSubscriber(AssertSubscriber.create(0));
+        processor.onNext(1);
+        subscriber.cancel();
+        assertThat(processor.subscribers.get()).isEmpty();
+        subscriber.request(1);
+        processor.onNext(2);
+        processor.onComplete();
+        subscriber.assertHasNotReceivedAnyItem().assertNotTerminated();
+    }
+
+    @RepeatedTest(10)
+    public void testBufferedSubscriberRequestingFromAnotherThread() throws InterruptedException {
+        BroadcastProcessor<Integer> processor = BroadcastProcessor.create(10_000);
+        AssertSubscriber<Integer> subscriber = processor.subscribe().withSubscriber(AssertSubscriber.create(0));
+        CountDownLatch done = new CountDownLatch(1);
+        executor.submit(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                subscriber.request(1);
+            }
+            done.countDown();
+        });
+        for (int i = 0; i < 10_000; i++) {
+            processor.onNext(i);
+        }
+        processor.onComplete();
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        subscriber.awaitCompletion();
+        assertThat(subscriber.getItems()).hasSize(10_000).isSorted();
+    }
 }
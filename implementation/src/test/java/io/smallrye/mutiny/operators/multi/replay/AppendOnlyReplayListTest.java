@@ -5,6 +5,8 @@ import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assumptions.assumeFalse;
 
 import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -166,6 +168,158 @@ class AppendOnlyReplayListTest {
         assertThat(lateCursor.hasNext()).isFalse();
     }
 
+    @Test
+    void unboundedReplayAcrossChunks() {
+        AppendOnlyReplayList replayList = new AppendOnlyReplayList(Long.MAX_VALUE);
+        ArrayList<Integer> reference = new ArrayList<>();
+        AppendOnlyReplayList.Cursor earlyCursor = replayList.newCursor();
+        for (int i = 0; i < 10_000; i++) {
+            replayList.push(i);
+            reference.add(i);
+        }
+        replayList.pushCompletion();
+
+        checkCompletedWithAllItems(reference, earlyCursor);
+        checkCompletedWithAllItems(reference, replayList.newCursor());
+    }
+
+    @Test
+    void boundedReplayAcrossChunks() {
+        AppendOnlyReplayList replayList = new AppendOnlyReplayList(100);
+        AppendOnlyReplayList.Cursor laggingCursor = replayList.newCursor();
+        replayList.push(0);
+        assertThat(laggingCursor.hasNext()).isTrue();
+        laggingCursor.moveToNext();
+        assertThat(laggingCursor.read()).isEqualTo(0);
+
+        for (int i = 1; i < 5_000; i++) {
+            replayList.push(i);
+        }
+
+        // A cursor behind the head keeps reading the elements it has not read yet
+        for (int i = 1; i < 5_000; i++) {
+            assertThat(laggingCursor.hasNext()).isTrue();
+            laggingCursor.moveToNext();
+            assertThat(laggingCursor.read()).isEqualTo(i);
+        }
+        assertThat(laggingCursor.hasNext()).isFalse();
+
+        replayList.pushCompletion();
+        ArrayList<Integer> reference = new ArrayList<>();
+        for (int i = 4_900; i < 5_000; i++) {
+            reference.add(i);
+        }
+        checkCompletedWithAllItems(reference, replayList.newCursor());
+    }
+
+    @Test
+    void boundedReplayOfASingleItem() {
+        AppendOnlyReplayList replayList = new AppendOnlyReplayList(1);
+        for (int i = 0; i < 100; i++) {
+            replayList.push(i);
+            AppendOnlyReplayList.Cursor cursor = replayList.newCursor();
+            assertThat(cursor.hasNext()).isTrue();
+            cursor.moveToNext();
+            assertThat(cursor.read()).isEqualTo(i);
+            assertThat(cursor.hasNext()).isFalse();
+        }
+    }
+
+    @Test
+    void weightBoundedReplayAcrossChunks() {
+        AppendOnlyReplayList replayList = new AppendOnlyReplayList(Long.MAX_VALUE, null, 100L,
+                item -> ((Integer) item) % 2 == 0 ? 1L : 3L, null);
+        for (int i = 0; i < 5_000; i++) {
+            replayList.push(i);
+        }
+        replayList.pushCompletion();
+
+        // The last 50 items weigh 100
+        ArrayList<Integer> reference = new ArrayList<>();
+        for (int i = 4_950; i < 5_000; i++) {
+            reference.add(i);
+        }
+        checkCompletedWithAllItems(reference, replayList.newCursor());
+    }
+
+    @Test
+    void evictedItemsAreNotRetained() {
+        AppendOnlyReplayList replayList = new AppendOnlyReplayList(Long.MAX_VALUE, null, 10L, item -> 1L, null);
+        AppendOnlyReplayList.Cursor cursor = replayList.newCursor();
+        WeakReference<Object> first = pushNewItem(replayList);
+        for (int i = 0; i < 20; i++) {
+            pushNewItem(replayList);
+        }
+        // The chunk holding the first item is still referenced, but its slot has been cleared
+        while (cursor.hasNext()) {
+            cursor.moveToNext();
+            assertThat(cursor.read()).isNotNull();
+        }
+        pushNewItem(replayList);
+        await().untilAsserted(() -> {
+            System.gc();
+            assertThat(first.get()).isNull();
+        });
+    }
+
+    @Test
+    void evictedItemsAreRetainedUntilTheLaggingCursorsAreReleased() {
+        AppendOnlyReplayList replayList = new AppendOnlyReplayList(Long.MAX_VALUE, null, 10L, item -> 1L, null);
+        WeakReference<Object> first = pushNewItem(replayList);
+        AppendOnlyReplayList.Cursor laggingCursor = replayList.newCursor();
+        assertThat(laggingCursor.hasNext()).isTrue();
+        for (int i = 0; i < 20; i++) {
+            pushNewItem(replayList);
+        }
+        System.gc();
+        assertThat(first.get()).isNotNull();
+
+        laggingCursor.release();
+        pushNewItem(replayList);
+        await().untilAsserted(() -> {
+            System.gc();
+            assertThat(first.get()).isNull();
+        });
+    }
+
+    private WeakReference<Object> pushNewItem(AppendOnlyReplayList replayList) {
+        Object item = new Object();
+        replayList.push(item);
+        return new WeakReference<>(item);
+    }
+
+    @Test
+    void ageBoundedReplay() throws InterruptedException {
+        AppendOnlyReplayList replayList = new AppendOnlyReplayList(Long.MAX_VALUE, Duration.ofMillis(100), Long.MAX_VALUE,
+                null, Arrays.asList(1, 2, 3));
+        AppendOnlyReplayList.Cursor laggingCursor = replayList.newCursor();
+        assertThat(laggingCursor.hasNext()).isTrue();
+
+        Thread.sleep(200);
+        // A new cursor skips the expired items, even if they have not been evicted yet
+        AppendOnlyReplayList.Cursor cursor = replayList.newCursor();
+        assertThat(cursor.hasNext()).isFalse();
+
+        replayList.push(4);
+        assertThat(cursor.hasNext()).isTrue();
+        cursor.moveToNext();
+        assertThat(cursor.read()).isEqualTo(4);
+        assertThat(cursor.hasNext()).isFalse();
+
+        // The expired items have been evicted
+        cursor = replayList.newCursor();
+        assertThat(cursor.hasNext()).isTrue();
+        cursor.moveToNext();
+        assertThat(cursor.read()).isEqualTo(4);
+
+        // A cursor created before the expiration still reads all the items
+        for (int i = 1; i <= 4; i++) {
+            assertThat(laggingCursor.hasNext()).isTrue();
+            laggingCursor.moveToNext();
+            assertThat(laggingCursor.read()).isEqualTo(i);
+        }
+    }
+
     @Test
     void concurrencySanityChecks() {
         final int N_CONSUMERS = 4;
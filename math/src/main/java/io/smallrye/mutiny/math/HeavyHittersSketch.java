@@ -0,0 +1,183 @@
+package io.smallrye.mutiny.math;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A sketch tracking the most frequent items of a stream, using a bounded amount of memory.
+ * <p>
+ * The sketch implements the Space-Saving algorithm (Metwally, Agrawal and El Abbadi): it keeps {@code capacity}
+ * counters. An item that is already tracked increments its counter. Otherwise, if all the counters are in use, the
+ * item replaces the item having the smallest count, and inherits its count plus one. So the count of a tracked item
+ * overestimates its frequency by at most the count it inherited, and every item whose frequency is larger than
+ * {@code n / capacity} is tracked, {@code n} being the number of items.
+ * <p>
+ * The counters are kept in a min-heap, so adding an item takes {@code O(log(capacity))} and does not allocate once
+ * all the counters are in use.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <T> the type of item, must be a valid {@link HashMap} key
+ */
+public class HeavyHittersSketch<T> {
+
+    private static final class Counter<T> {
+        T item;
+        long count;
+        int index;
+
+        Counter(T item, int index) {
+            this.item = item;
+            this.index = index;
+        }
+    }
+
+    private final int capacity;
+    private final Map<T, Counter<T>> counters;
+    // Min-heap of the counters, on their count
+    private final Counter<T>[] heap;
+    private int size;
+    private long count;
+
+    /**
+     * Creates a new sketch.
+     *
+     * @param capacity the number of counters, must be strictly positive, larger values are more accurate but use more
+     *        memory
+     */
+    @SuppressWarnings("unchecked")
+    public HeavyHittersSketch(int capacity) {
+        this.capacity = positive(capacity, "capacity");
+        this.counters = new HashMap<>();
+        this.heap = new Counter[capacity];
+    }
+
+    /**
+     * Adds an item.
+     *
+     * @param item the item, must not be {@code null}
+     * @return this sketch
+     */
+    public HeavyHittersSketch<T> add(T item) {
+        nonNull(item, "item");
+        count++;
+        Counter<T> counter = counters.get(item);
+        if (counter != null) {
+            counter.count++;
+            siftDown(counter.index);
+        } else if (size < capacity) {
+            counter = new Counter<>(item, size);
+            counter.count = 1L;
+            heap[size++] = counter;
+            counters.put(item, counter);
+            siftUp(counter.index);
+        } else {
+            // Replaces the least frequent item, reusing its counter
+            counter = heap[0];
+            counters.remove(counter.item);
+            counter.item = item;
+            counter.count++;
+            counters.put(item, counter);
+            siftDown(0);
+        }
+        return this;
+    }
+
+    /**
+     * Gets the most frequent items, with their estimated counts.
+     *
+     * @param limit the maximum number of items, must be strictly positive
+     * @return a new map from the items to their estimated counts, iterating from the most frequent item
+     */
+    public Map<T, Long> top(int limit) {
+        positive(limit, "limit");
+        Counter<T>[] sorted = Arrays.copyOf(heap, size);
+        Arrays.sort(sorted, Comparator.comparingLong((Counter<T> c) -> c.count).reversed());
+        int length = java.lang.Math.min(limit, sorted.length);
+        Map<T, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < length; i++) {
+            result.put(sorted[i].item, sorted[i].count);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the estimated count of the given item. The estimation is an upper bound of the actual count.
+     *
+     * @param item the item
+     * @return the estimated count, 0 if the item has never been added
+     */
+    public long estimateCount(T item) {
+        Counter<T> counter = counters.get(item);
+        if (counter != null) {
+            return counter.count;
+        }
+        // An untracked item has been seen at most as many times as the least frequent tracked item
+        return size == capacity ? heap[0].count : 0L;
+    }
+
+    /**
+     * @return the number of items added to this sketch, including the duplicates
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the number of counters
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private void siftUp(int index) {
+        Counter<T> counter = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent].count <= counter.count) {
+                break;
+            }
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(counter, index);
+    }
+
+    private void siftDown(int index) {
+        Counter<T> counter = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && heap[right].count < heap[child].count) {
+                child = right;
+            }
+            if (counter.count <= heap[child].count) {
+                break;
+            }
+            place(heap[child], index);
+            index = child;
+        }
+        place(counter, index);
+    }
+
+    private void place(Counter<T> counter, int index) {
+        heap[index] = counter;
+        counter.index = index;
+    }
+
+    @Override
+    public String toString() {
+        return "HeavyHittersSketch{" +
+                "count=" + count +
+                ", capacity=" + capacity +
+                ", top=" + (size == 0 ? "{}" : top(java.lang.Math.min(size, 10))) +
+                '}';
+    }
+}
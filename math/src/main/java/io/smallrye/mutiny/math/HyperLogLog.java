@@ -0,0 +1,236 @@
+package io.smallrye.mutiny.math;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * A mergeable sketch estimating the number of distinct items of a stream, using a fixed amount of memory.
+ * <p>
+ * The sketch is a HyperLogLog (Flajolet, Fusy, Gandouet and Meunier): each item is hashed, the first {@code precision}
+ * bits of the hash select a register, and the register keeps the largest position of the first set bit among the
+ * remaining bits. The registers use {@code 2^precision} bytes, and the relative standard error of the estimation is
+ * about {@code 1.04 / sqrt(2^precision)}: 0.8% for the default precision of {@value #DEFAULT_PRECISION}, using 16 KiB.
+ * Small cardinalities are estimated with linear counting.
+ * <p>
+ * The items are hashed on 64 bits: numbers, {@link CharSequence} and {@link UUID} items from their value, other items
+ * from their {@link Object#hashCode()}. As the hash codes only have 32 bits, distinct items with equal hash codes are
+ * counted once, which makes the estimation of such items drift below the actual count beyond a hundred million
+ * distinct items.
+ * <p>
+ * Two sketches with the same precision can be merged, for example to count the distinct items of several streams.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class HyperLogLog {
+
+    /**
+     * The default precision.
+     */
+    public static final int DEFAULT_PRECISION = 14;
+
+    /**
+     * The smallest precision.
+     */
+    public static final int MIN_PRECISION = 4;
+
+    /**
+     * The largest precision.
+     */
+    public static final int MAX_PRECISION = 18;
+
+    private final int precision;
+    private final byte[] registers;
+    private long count;
+
+    /**
+     * Creates a new sketch with the default precision.
+     */
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    /**
+     * Creates a new sketch.
+     *
+     * @param precision the number of bits selecting the registers, between {@value #MIN_PRECISION} and
+     *        {@value #MAX_PRECISION}
+     */
+    public HyperLogLog(int precision) {
+        this.precision = validatePrecision(precision);
+        this.registers = new byte[1 << precision];
+    }
+
+    private HyperLogLog(HyperLogLog other) {
+        this.precision = other.precision;
+        this.registers = other.registers.clone();
+        this.count = other.count;
+    }
+
+    static int validatePrecision(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("`precision` must be between " + MIN_PRECISION + " and "
+                    + MAX_PRECISION + ", got " + precision);
+        }
+        return precision;
+    }
+
+    /**
+     * Adds an item.
+     *
+     * @param item the item, must not be {@code null}
+     * @return this sketch
+     */
+    public HyperLogLog add(Object item) {
+        nonNull(item, "item");
+        long hash = mix(hash(item));
+        int index = (int) (hash >>> (Long.SIZE - precision));
+        // The guard bit bounds the position when the remaining bits are all zeros
+        long remaining = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+        count++;
+        return this;
+    }
+
+    /**
+     * Merges the given sketch into this sketch. The given sketch is not modified.
+     *
+     * @param other the other sketch, must not be {@code null}, must have the same precision
+     * @return this sketch
+     */
+    public HyperLogLog merge(HyperLogLog other) {
+        nonNull(other, "other");
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge sketches with different precisions: " + precision
+                    + " and " + other.precision);
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+        count += other.count;
+        return this;
+    }
+
+    /**
+     * @return the estimated number of distinct items
+     */
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0.0d;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0d / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5d * m && zeros > 0) {
+            // Linear counting is more accurate for small cardinalities
+            estimate = m * java.lang.Math.log((double) m / zeros);
+        }
+        return java.lang.Math.round(estimate);
+    }
+
+    private static double alpha(int m) {
+        switch (m) {
+            case 16:
+                return 0.673d;
+            case 32:
+                return 0.697d;
+            case 64:
+                return 0.709d;
+            default:
+                return 0.7213d / (1.0d + 1.079d / m);
+        }
+    }
+
+    private static long hash(Object item) {
+        if (item instanceof Long || item instanceof Integer || item instanceof Short || item instanceof Byte) {
+            return ((Number) item).longValue();
+        }
+        if (item instanceof Double || item instanceof Float) {
+            return Double.doubleToLongBits(((Number) item).doubleValue());
+        }
+        if (item instanceof CharSequence) {
+            CharSequence chars = (CharSequence) item;
+            // Unlike String.hashCode(), the 64-bit odd multiplier does not collide on short strings
+            long h = chars.length();
+            for (int i = 0; i < chars.length(); i++) {
+                h = (h + chars.charAt(i)) * 0x9e3779b97f4a7c15L;
+            }
+            return h;
+        }
+        if (item instanceof UUID) {
+            UUID uuid = (UUID) item;
+            return uuid.getMostSignificantBits() ^ mix(uuid.getLeastSignificantBits());
+        }
+        return item.hashCode();
+    }
+
+    /**
+     * Spreads the bits of the value (finalizer of MurmurHash3).
+     */
+    private static long mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * @return the number of items added to this sketch, including the merged ones and the duplicates
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the precision of this sketch
+     */
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * @return a copy of this sketch, that can be modified independently
+     */
+    public HyperLogLog copy() {
+        return new HyperLogLog(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        HyperLogLog that = (HyperLogLog) o;
+        return precision == that.precision && count == that.count && Arrays.equals(registers, that.registers);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(registers) + precision;
+    }
+
+    @Override
+    public String toString() {
+        return "HyperLogLog{" +
+                "estimate=" + estimate() +
+                ", count=" + count +
+                ", precision=" + precision +
+                '}';
+    }
+}
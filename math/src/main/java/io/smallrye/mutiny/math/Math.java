@@ -3,6 +3,8 @@ package io.smallrye.mutiny.math;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.tuples.Tuple2;
@@ -111,6 +113,94 @@ public class Math {
         return new MedianOperator<>();
     }
 
+    /**
+     * Emits an estimation of the median of the items previously emitted by the upstream.
+     * On each received item, the new estimated median is emitted downstream.
+     * <p>
+     * Unlike {@link #median()}, the items are not retained: they are summarized in a {@link QuantileSketch}, using a
+     * bounded amount of memory, so this operator can be used on unbounded streams. The estimated median is the value
+     * whose rank is close to the rank of the median, within about 1.5% of the number of items.
+     * <p>
+     * If the upstream emits a failure, the failure is propagated downstream.
+     * If the upstream completes without having emitted any item, the completion event is sent without any item emitted
+     * before.
+     *
+     * @param <T> the type of item emitted by the upstream
+     * @return a multi emitting the estimated median of the items emitted by the upstream
+     */
+    public static <T extends Number> Function<Multi<T>, Multi<Double>> approximateMedian() {
+        return new QuantileOperator<>(0.5d, QuantileSketch.DEFAULT_K);
+    }
+
+    /**
+     * Emits an estimation of a quantile of the items previously emitted by the upstream.
+     * On each received item, the new estimated quantile is emitted downstream.
+     * <p>
+     * The items are summarized in a {@link QuantileSketch} using the default accuracy, see
+     * {@link #approximateMedian()}.
+     *
+     * @param quantile the quantile, between 0 and 1, for example 0.99 for the 99th percentile
+     * @param <T> the type of item emitted by the upstream
+     * @return a multi emitting the estimated quantile of the items emitted by the upstream
+     */
+    public static <T extends Number> Function<Multi<T>, Multi<Double>> approximateQuantile(double quantile) {
+        return new QuantileOperator<>(quantile, QuantileSketch.DEFAULT_K);
+    }
+
+    /**
+     * Emits an estimation of a quantile of the items previously emitted by the upstream.
+     * On each received item, the new estimated quantile is emitted downstream.
+     * <p>
+     * The items are summarized in a {@link QuantileSketch} created with the given accuracy parameter, see
+     * {@link QuantileSketch#QuantileSketch(int)}.
+     *
+     * @param quantile the quantile, between 0 and 1, for example 0.99 for the 99th percentile
+     * @param k the accuracy parameter, larger values are more accurate but use more memory
+     * @param <T> the type of item emitted by the upstream
+     * @return a multi emitting the estimated quantile of the items emitted by the upstream
+     */
+    public static <T extends Number> Function<Multi<T>, Multi<Double>> approximateQuantile(double quantile, int k) {
+        return new QuantileOperator<>(quantile, k);
+    }
+
+    /**
+     * Emits a {@link QuantileSketch} summarizing the {@code double} values extracted from the items emitted by the
+     * upstream, every {@code every} items.
+     * <p>
+     * Each emitted sketch is a snapshot, that can be queried for any quantile, or merged with the sketches of other
+     * streams. The final sketch is emitted when the upstream completes, unless it has just been emitted. Use
+     * {@link Long#MAX_VALUE} to only emit the final sketch.
+     * <p>
+     * If the upstream emits a failure, the failure is propagated downstream.
+     * If the upstream completes without having emitted any item, an empty sketch is emitted, followed by the
+     * completion event.
+     *
+     * @param mapper the function extracting the value from each item, must not be {@code null}
+     * @param every the number of items between two emissions, must be strictly positive
+     * @param <T> the type of item emitted by the upstream
+     * @return a multi emitting the sketches
+     */
+    public static <T> Function<Multi<T>, Multi<QuantileSketch>> quantileSketch(ToDoubleFunction<? super T> mapper,
+            long every) {
+        return PrimitiveAggregationOperator.quantileSketch(mapper, QuantileSketch.DEFAULT_K, every);
+    }
+
+    /**
+     * Emits a {@link QuantileSketch} summarizing the {@code double} values extracted from the items emitted by the
+     * upstream, every {@code every} items.
+     *
+     * @param mapper the function extracting the value from each item, must not be {@code null}
+     * @param k the accuracy parameter of the sketch, see {@link QuantileSketch#QuantileSketch(int)}
+     * @param every the number of items between two emissions, must be strictly positive
+     * @param <T> the type of item emitted by the upstream
+     * @return a multi emitting the sketches
+     * @see #quantileSketch(ToDoubleFunction, long)
+     */
+    public static <T> Function<Multi<T>, Multi<QuantileSketch>> quantileSketch(ToDoubleFunction<? super T> mapper,
+            int k, long every) {
+        return PrimitiveAggregationOperator.quantileSketch(mapper, k, every);
+    }
+
     /**
      * Emits statistics (average, variance, standard deviation, min, max, count, skewness and kurtosis) of the items
      * previously emitted by the upstream. On each received item, a new statistic object is emitted downstream.
@@ -128,6 +218,187 @@ public class Math {
         return new StatisticsOperator<>();
     }
 
+    /**
+     * Emits the sum of the {@code long} values extracted from the items emitted by the upstream.
+     * On each received item, the new sum is emitted downstream.
+     * <p>
+     * Unlike {@link #sum()}, the sum is kept as a primitive {@code long}, so only the emitted sums are boxed.
+     * <p>
+     * If the upstream emits a failure, the failure is propagated downstream.
+     * If the sum overflows, an {@link ArithmeticException} is propagated downstream.
+     * If the upstream completes without having emitted any item, 0 is emitted, followed by the completion event.
+     *
+     * @param mapper the function extracting the value to sum from each item, must not be {@code null}
+     * @param <T> the type of item emitted by the upstream
+     * @return a multi emitting the sum of the values extracted from the items emitted by the upstream
+     */
+    public static <T> Function<Multi<T>, Multi<Long>> sumAsLong(ToLongFunction<? super T> mapper) {
+        return PrimitiveAggregationOperator.sumAsLong(mapper, 1L);
+    }
+
+    /**
+     * Emits the sum of the {@code long} values extracted from the items emitted by the upstream, every {@code every}
+     * items.
+     * <p>
+     * The final sum is emitted when the upstream completes, unless it has just been emitted. Use
+     * {@link Long#MAX_VALUE} to only emit the final sum.
+     *
+     * @param mapper the function extracting the value to sum from each item, must not be {@code null}
+     * @param every the number of items between two emissions, must be strictly positive
+     * @param <T> the type of item emitted by the upstream
+     * @return a multi emitting the sum of the values extracted from the items emitted by the upstream
+     * @see #sumAsLong(ToLongFunction)
+     */
+    public static <T> Function<Multi<T>, Multi<Long>> sumAsLong(ToLongFunction<? super T> mapper, long every) {
+        return PrimitiveAggregationOperator.sumAsLong(mapper, every);
+    }
+
+    /**
+     * Emits the sum of the {@code double} values extracted from the items emitted by the upstream.
+     * On each received item, the new sum is emitted downstream.
+     * <p>
+     * Unlike {@link #sum()}, the sum is kept as a primitive {@code double}, so only the emitted sums are boxed.
+     * <p>
+     * If the upstream emits a failure, the failure is propagated downstream.
+     * If the upstream completes without having emitted any item, 0 is emitted, followed by the completion event.
+     *
+     * @param mapper the function extracting the value to sum from each item, must not be {@code null}
+     * @param <T> the type of item emitted by the upstream
+     * @return a multi emitting the sum of the values extracted from the items emitted by the upstream
+     */
+    public static <T> Function<Multi<T>, Multi<Double>> sumAsDouble(ToDoubleFunction<? super T> mapper) {
+        return PrimitiveAggregationOperator.sumAsDouble(mapper, 1L);
+    }
+
+    /**
+     * Emits the sum of the {@code double} values extracted from the items emitted by the upstream, every
+     * {@code every} items.
+     * <p>
+     * The final sum is emitted when the upstream completes, unless it has just been emitted. Use
+     * {@link Long#MAX_VALUE} to only emit the final sum.
+     *
+     * @param mapper the function extracting the value to sum from each item, must not be {@code null}
+     * @param every the number of items between two emissions, must be strictly positive
+     * @param <T> the type of item emitted by the upstream
+     * @return a multi emitting the sum of the values extracted from the items emitted by the upstream
+     * @see #sumAsDouble(ToDoubleFunction)
+     */
+    public static <T> Function<Multi<T>, Multi<Double>> sumAsDouble(ToDoubleFunction<? super T> mapper, long every) {
+        return PrimitiveAggregationOperator.sumAsDouble(mapper, every);
+    }
+
+    /**
+     * Emits the average of the {@code double} values extracted from the items emitted by the upstream.
+     * On each received item, the new average is emitted downstream.
+     * <p>
+     * Unlike {@link #average()}, the state is kept in primitive fields, so only the emitted averages are boxed.
+     * <p>
+     * If the upstream emits a failure, the failure is propagated downstream.
+     * If the upstream completes without having emitted any item, 0.0 is emitted, followed by the completion event.
+     *
+     * @param mapper the function extracting the value to average from each item, must not be {@code null}
+     * @param <T> the type of item emitted by the upstream
+     * @return a multi emitting the average of the values extracted from the items emitted by the upstream
+     */
+    public static <T> Function<Multi<T>, Multi<Double>> averageAsDouble(ToDoubleFunction<? super T> mapper) {
+        return PrimitiveAggregationOperator.averageAsDouble(mapper, 1L);
+    }
+
+    /**
+     * Emits the average of the {@code double} values extracted from the items emitted by the upstream, every
+     * {@code every} items.
+     * <p>
+     * The final average is emitted when the upstream completes, unless it has just been emitted. Use
+     * {@link Long#MAX_VALUE} to only emit the final average.
+     *
+     * @param mapper the function extracting the value to average from each item, must not be {@code null}
+     * @param every the number of items between two emissions, must be strictly positive
+     * @param <T> the type of item emitted by the upstream
+     * @return a multi emitting the average of the values extracted from the items emitted by the upstream
+     * @see #averageAsDouble(ToDoubleFunction)
+     */
+    public static <T> Function<Multi<T>, Multi<Double>> averageAsDouble(ToDoubleFunction<? super T> mapper,
+            long every) {
+        return PrimitiveAggregationOperator.averageAsDouble(mapper, every);
+    }
+
+    /**
+     * Emits statistics (average, variance, standard deviation, min, max, count, skewness and kurtosis) of the
+     * {@code long} values extracted from the items emitted by the upstream. On each received item, a new statistic
+     * object is emitted downstream.
+     * <p>
+     * Unlike {@link #statistics()}, the state is kept in primitive fields, so only the emitted statistics are
+     * allocated.
+     * <p>
+     * If the upstream emits a failure, the failure is propagated downstream.
+     * If the upstream completes without having emitted any item, an empty statistic object is emitted, followed by the
+     * completion event.
+     *
+     * @param mapper the function extracting the value from each item, must not be {@code null}
+     * @param <T> the type of item emitted by the upstream
+     * @return a multi emitting the statistics of the values extracted from the items emitted by the upstream
+     */
+    public static <T> Function<Multi<T>, Multi<Statistic<Long>>> statisticsAsLong(ToLongFunction<? super T> mapper) {
+        return PrimitiveAggregationOperator.statisticsAsLong(mapper, 1L);
+    }
+
+    /**
+     * Emits statistics of the {@code long} values extracted from the items emitted by the upstream, every
+     * {@code every} items.
+     * <p>
+     * The final statistics are emitted when the upstream completes, unless they have just been emitted. Use
+     * {@link Long#MAX_VALUE} to only emit the final statistics.
+     *
+     * @param mapper the function extracting the value from each item, must not be {@code null}
+     * @param every the number of items between two emissions, must be strictly positive
+     * @param <T> the type of item emitted by the upstream
+     * @return a multi emitting the statistics of the values extracted from the items emitted by the upstream
+     * @see #statisticsAsLong(ToLongFunction)
+     */
+    public static <T> Function<Multi<T>, Multi<Statistic<Long>>> statisticsAsLong(ToLongFunction<? super T> mapper,
+            long every) {
+        return PrimitiveAggregationOperator.statisticsAsLong(mapper, every);
+    }
+
+    /**
+     * Emits statistics (average, variance, standard deviation, min, max, count, skewness and kurtosis) of the
+     * {@code double} values extracted from the items emitted by the upstream. On each received item, a new statistic
+     * object is emitted downstream.
+     * <p>
+     * Unlike {@link #statistics()}, the state is kept in primitive fields, so only the emitted statistics are
+     * allocated.
+     * <p>
+     * If the upstream emits a failure, the failure is propagated downstream.
+     * If the upstream completes without having emitted any item, an empty statistic object is emitted, followed by the
+     * completion event.
+     *
+     * @param mapper the function extracting the value from each item, must not be {@code null}
+     * @param <T> the type of item emitted by the upstream
+     * @return a multi emitting the statistics of the values extracted from the items emitted by the upstream
+     */
+    public static <T> Function<Multi<T>, Multi<Statistic<Double>>> statisticsAsDouble(
+            ToDoubleFunction<? super T> mapper) {
+        return PrimitiveAggregationOperator.statisticsAsDouble(mapper, 1L);
+    }
+
+    /**
+     * Emits statistics of the {@code double} values extracted from the items emitted by the upstream, every
+     * {@code every} items.
+     * <p>
+     * The final statistics are emitted when the upstream completes, unless they have just been emitted. Use
+     * {@link Long#MAX_VALUE} to only emit the final statistics.
+     *
+     * @param mapper the function extracting the value from each item, must not be {@code null}
+     * @param every the number of items between two emissions, must be strictly positive
+     * @param <T> the type of item emitted by the upstream
+     * @return a multi emitting the statistics of the values extracted from the items emitted by the upstream
+     * @see #statisticsAsDouble(ToDoubleFunction)
+     */
+    public static <T> Function<Multi<T>, Multi<Statistic<Double>>> statisticsAsDouble(
+            ToDoubleFunction<? super T> mapper, long every) {
+        return PrimitiveAggregationOperator.statisticsAsDouble(mapper, every);
+    }
+
     /**
      * Emits the minimum of the item emitted by the upstream.
      * Each time that the upstream emits an item, this operator check if this item is <em>smaller</em> than the
@@ -198,6 +469,95 @@ public class Math {
         return new TopOperator<>(count);
     }
 
+    /**
+     * Emits the most frequent items emitted by the upstream, with their estimated number of occurrences, every
+     * {@code every} items.
+     * <p>
+     * Unlike {@link #occurrence()}, this operator uses a bounded amount of memory, so it can be used on streams with
+     * many distinct items: it tracks the items with a {@link HeavyHittersSketch} of {@code 10 * count} counters. The
+     * estimated number of occurrences of an item is an upper bound of its actual number of occurrences.
+     * <p>
+     * The emitted {@link Map Map&lt;T, Long&gt;} contains at most {@code count} items and iterates from the most
+     * frequent item. The final map is emitted when the upstream completes, unless it has just been emitted. Use
+     * {@link Long#MAX_VALUE} to only emit the final map.
+     * <p>
+     * If the upstream completes without having emitted any item, an empty map is emitted, followed by the completion
+     * event. If the upstream emits a failure, the failure is propagated downstream.
+     *
+     * @param count the number of items to emit, must be strictly positive
+     * @param every the number of items between two emissions, must be strictly positive
+     * @param <T> the type of item, must be a valid {@link java.util.HashMap} key
+     * @return the multi emitting the most frequent items
+     */
+    public static <T> Function<Multi<T>, Multi<Map<T, Long>>> heavyHitters(int count, long every) {
+        return PrimitiveAggregationOperator.heavyHitters(count, java.lang.Math.multiplyExact(count, 10), every);
+    }
+
+    /**
+     * Emits the most frequent items emitted by the upstream, with their estimated number of occurrences, every
+     * {@code every} items.
+     *
+     * @param count the number of items to emit, must be strictly positive
+     * @param capacity the number of counters of the {@link HeavyHittersSketch}, must be strictly positive, every item
+     *        whose frequency is larger than {@code 1 / capacity} is tracked
+     * @param every the number of items between two emissions, must be strictly positive
+     * @param <T> the type of item, must be a valid {@link java.util.HashMap} key
+     * @return the multi emitting the most frequent items
+     * @see #heavyHitters(int, long)
+     */
+    public static <T> Function<Multi<T>, Multi<Map<T, Long>>> heavyHitters(int count, int capacity, long every) {
+        return PrimitiveAggregationOperator.heavyHitters(count, capacity, every);
+    }
+
+    /**
+     * Emits the estimated number of distinct items emitted by the upstream, every {@code every} items.
+     * <p>
+     * The items are counted with a {@link HyperLogLog} sketch of default precision, using 16 KiB, with a relative
+     * error of about 0.8%.
+     * <p>
+     * The final count is emitted when the upstream completes, unless it has just been emitted. Use
+     * {@link Long#MAX_VALUE} to only emit the final count.
+     * <p>
+     * If the upstream completes without having emitted any item, 0 is emitted, followed by the completion event.
+     * If the upstream emits a failure, the failure is propagated downstream.
+     *
+     * @param every the number of items between two emissions, must be strictly positive
+     * @param <T> the type of item emitted by the upstream
+     * @return the multi emitting the estimated number of distinct items
+     */
+    public static <T> Function<Multi<T>, Multi<Long>> distinctCount(long every) {
+        return PrimitiveAggregationOperator.distinctCount(HyperLogLog.DEFAULT_PRECISION, every);
+    }
+
+    /**
+     * Emits the estimated number of distinct items emitted by the upstream, every {@code every} items.
+     *
+     * @param precision the precision of the {@link HyperLogLog} sketch, see {@link HyperLogLog#HyperLogLog(int)}
+     * @param every the number of items between two emissions, must be strictly positive
+     * @param <T> the type of item emitted by the upstream
+     * @return the multi emitting the estimated number of distinct items
+     * @see #distinctCount(long)
+     */
+    public static <T> Function<Multi<T>, Multi<Long>> distinctCount(int precision, long every) {
+        return PrimitiveAggregationOperator.distinctCount(precision, every);
+    }
+
+    /**
+     * Emits {@link HyperLogLog} sketches counting the distinct items emitted by the upstream, every {@code every}
+     * items.
+     * <p>
+     * Each emitted sketch is a snapshot, that can be merged with the sketches of other streams. The final sketch is
+     * emitted when the upstream completes, unless it has just been emitted.
+     *
+     * @param precision the precision of the sketch, see {@link HyperLogLog#HyperLogLog(int)}
+     * @param every the number of items between two emissions, must be strictly positive
+     * @param <T> the type of item emitted by the upstream
+     * @return the multi emitting the sketches
+     */
+    public static <T> Function<Multi<T>, Multi<HyperLogLog>> distinctCountSketch(int precision, long every) {
+        return PrimitiveAggregationOperator.distinctCountSketch(precision, every);
+    }
+
     /**
      * Emits the number of occurrences of each item emitted by the upstream.
      * <p>
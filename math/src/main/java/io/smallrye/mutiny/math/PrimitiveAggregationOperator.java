@@ -0,0 +1,361 @@
+package io.smallrye.mutiny.math;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Aggregation operator keeping a mutable accumulator, made of primitive fields or of a sketch, and creating the
+ * aggregated value only when it is emitted.
+ * <p>
+ * The aggregated value is emitted every {@code every} items, and on completion if the last items have not been
+ * emitted yet, or if the upstream has not emitted any item. With {@code every} set to {@link Long#MAX_VALUE}, only
+ * the final value is emitted.
+ * <p>
+ * Unlike the other operators of this module, the accumulator is created for each subscription.
+ * If the upstream emits a failure, the failure is propagated.
+ *
+ * @param <T> the type of the incoming items
+ * @param <R> the type of the aggregated value
+ */
+class PrimitiveAggregationOperator<T, R> implements Function<Multi<T>, Multi<R>> {
+
+    private final Supplier<Accumulator<T, R>> accumulators;
+    private final long every;
+
+    PrimitiveAggregationOperator(Supplier<Accumulator<T, R>> accumulators, long every) {
+        this.accumulators = accumulators;
+        this.every = positive(every, "every");
+    }
+
+    static <T> PrimitiveAggregationOperator<T, Long> sumAsLong(ToLongFunction<? super T> mapper, long every) {
+        nonNull(mapper, "mapper");
+        return new PrimitiveAggregationOperator<>(() -> new LongSum<>(mapper), every);
+    }
+
+    static <T> PrimitiveAggregationOperator<T, Double> sumAsDouble(ToDoubleFunction<? super T> mapper, long every) {
+        nonNull(mapper, "mapper");
+        return new PrimitiveAggregationOperator<>(() -> new DoubleSum<>(mapper), every);
+    }
+
+    static <T> PrimitiveAggregationOperator<T, Double> averageAsDouble(ToDoubleFunction<? super T> mapper, long every) {
+        nonNull(mapper, "mapper");
+        return new PrimitiveAggregationOperator<>(() -> new DoubleAverage<>(mapper), every);
+    }
+
+    static <T> PrimitiveAggregationOperator<T, Statistic<Long>> statisticsAsLong(ToLongFunction<? super T> mapper,
+            long every) {
+        nonNull(mapper, "mapper");
+        return new PrimitiveAggregationOperator<>(() -> new LongStatistics<>(mapper), every);
+    }
+
+    static <T> PrimitiveAggregationOperator<T, Statistic<Double>> statisticsAsDouble(ToDoubleFunction<? super T> mapper,
+            long every) {
+        nonNull(mapper, "mapper");
+        return new PrimitiveAggregationOperator<>(() -> new DoubleStatistics<>(mapper), every);
+    }
+
+    static <T> PrimitiveAggregationOperator<T, QuantileSketch> quantileSketch(ToDoubleFunction<? super T> mapper,
+            int k, long every) {
+        nonNull(mapper, "mapper");
+        QuantileSketch.validateK(k);
+        return new PrimitiveAggregationOperator<>(() -> new Sketch<>(mapper, k), every);
+    }
+
+    static <T> PrimitiveAggregationOperator<T, Map<T, Long>> heavyHitters(int limit, int capacity, long every) {
+        positive(limit, "count");
+        positive(capacity, "capacity");
+        return new PrimitiveAggregationOperator<>(() -> new HeavyHitters<>(limit, capacity), every);
+    }
+
+    static <T> PrimitiveAggregationOperator<T, Long> distinctCount(int precision, long every) {
+        HyperLogLog.validatePrecision(precision);
+        return new PrimitiveAggregationOperator<>(() -> new DistinctCount<>(precision), every);
+    }
+
+    static <T> PrimitiveAggregationOperator<T, HyperLogLog> distinctCountSketch(int precision, long every) {
+        HyperLogLog.validatePrecision(precision);
+        return new PrimitiveAggregationOperator<>(() -> new DistinctCountSketch<>(precision), every);
+    }
+
+    @Override
+    public Multi<R> apply(Multi<T> multi) {
+        return Multi.createFrom().deferred(() -> {
+            Accumulator<T, R> accumulator = accumulators.get();
+            Multi<R> results;
+            if (every == 1L) {
+                results = multi.onItem().transform(item -> {
+                    accumulator.push(item);
+                    return accumulator.result();
+                });
+            } else {
+                // The skipped items are replaced by requesting more items from the upstream
+                results = multi
+                        .select().where(item -> {
+                            accumulator.push(item);
+                            return accumulator.count % every == 0L;
+                        })
+                        .onItem().transform(ignored -> accumulator.result());
+            }
+            return results.onCompletion().continueWith(() -> {
+                if (accumulator.count == 0L || accumulator.count % every != 0L) {
+                    return Collections.singletonList(accumulator.result());
+                }
+                return Collections.<R> emptyList();
+            });
+        });
+    }
+
+    /**
+     * Mutable state of the aggregation, only accessed serially.
+     *
+     * @param <T> the type of the incoming items
+     * @param <R> the type of the aggregated value
+     */
+    abstract static class Accumulator<T, R> {
+
+        long count;
+
+        final void push(T item) {
+            accumulate(item);
+            count++;
+        }
+
+        abstract void accumulate(T item);
+
+        abstract R result();
+    }
+
+    private static final class LongSum<T> extends Accumulator<T, Long> {
+
+        private final ToLongFunction<? super T> mapper;
+        private long sum;
+
+        LongSum(ToLongFunction<? super T> mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        void accumulate(T item) {
+            // Fails with an ArithmeticException rather than silently wrapping around
+            sum = java.lang.Math.addExact(sum, mapper.applyAsLong(item));
+        }
+
+        @Override
+        Long result() {
+            return sum;
+        }
+    }
+
+    private static final class DoubleSum<T> extends Accumulator<T, Double> {
+
+        private final ToDoubleFunction<? super T> mapper;
+        private double sum;
+
+        DoubleSum(ToDoubleFunction<? super T> mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        void accumulate(T item) {
+            sum += mapper.applyAsDouble(item);
+        }
+
+        @Override
+        Double result() {
+            return sum;
+        }
+    }
+
+    private static final class DoubleAverage<T> extends Accumulator<T, Double> {
+
+        private final ToDoubleFunction<? super T> mapper;
+        private double sum;
+
+        DoubleAverage(ToDoubleFunction<? super T> mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        void accumulate(T item) {
+            sum += mapper.applyAsDouble(item);
+        }
+
+        @Override
+        Double result() {
+            return count == 0L ? 0.0d : sum / (double) count;
+        }
+    }
+
+    /**
+     * Computation of the moments, see {@link StatisticsOperator}.
+     */
+    private abstract static class Moments<T, N> extends Accumulator<T, Statistic<N>> {
+
+        double m1;
+        double m2;
+        double m3;
+        double m4;
+
+        void update(double value) {
+            long n = count + 1;
+            double delta = value - m1;
+            double delta_n = delta / n;
+            double delta_n2 = delta_n * delta_n;
+            double term1 = delta * delta_n * count;
+            m1 += delta_n;
+            m4 += term1 * delta_n2 * (n * n - 3 * n + 3) + 6 * delta_n2 * m2 - 4 * delta_n * m3;
+            m3 += term1 * delta_n * (n - 2) - 3 * delta_n * m2;
+            m2 += term1;
+        }
+    }
+
+    private static final class LongStatistics<T> extends Moments<T, Long> {
+
+        private final ToLongFunction<? super T> mapper;
+        private long min = Long.MAX_VALUE;
+        private long max = Long.MIN_VALUE;
+
+        LongStatistics(ToLongFunction<? super T> mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        void accumulate(T item) {
+            long value = mapper.applyAsLong(item);
+            update(value);
+            min = java.lang.Math.min(min, value);
+            max = java.lang.Math.max(max, value);
+        }
+
+        @Override
+        Statistic<Long> result() {
+            if (count == 0L) {
+                return new Statistic<>(0L, 0.0d, 0.0d, 0.0d, 0.0d, null, null);
+            }
+            return new Statistic<>(count, m1, m2, m3, m4, min, max);
+        }
+    }
+
+    private static final class DoubleStatistics<T> extends Moments<T, Double> {
+
+        private final ToDoubleFunction<? super T> mapper;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+
+        DoubleStatistics(ToDoubleFunction<? super T> mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        void accumulate(T item) {
+            double value = mapper.applyAsDouble(item);
+            update(value);
+            // Same ordering as Double.compareTo, as used by the boxed statistics
+            if (Double.compare(value, min) < 0) {
+                min = value;
+            }
+            if (Double.compare(value, max) > 0) {
+                max = value;
+            }
+        }
+
+        @Override
+        Statistic<Double> result() {
+            if (count == 0L) {
+                return new Statistic<>(0L, 0.0d, 0.0d, 0.0d, 0.0d, null, null);
+            }
+            return new Statistic<>(count, m1, m2, m3, m4, min, max);
+        }
+    }
+
+    private static final class Sketch<T> extends Accumulator<T, QuantileSketch> {
+
+        private final ToDoubleFunction<? super T> mapper;
+        private final QuantileSketch sketch;
+
+        Sketch(ToDoubleFunction<? super T> mapper, int k) {
+            this.mapper = mapper;
+            this.sketch = new QuantileSketch(k);
+        }
+
+        @Override
+        void accumulate(T item) {
+            sketch.add(mapper.applyAsDouble(item));
+        }
+
+        @Override
+        QuantileSketch result() {
+            // The emitted sketches must not be modified by the next items
+            return sketch.copy();
+        }
+    }
+
+    private static final class HeavyHitters<T> extends Accumulator<T, Map<T, Long>> {
+
+        private final int limit;
+        private final HeavyHittersSketch<T> sketch;
+
+        HeavyHitters(int limit, int capacity) {
+            this.limit = limit;
+            this.sketch = new HeavyHittersSketch<>(capacity);
+        }
+
+        @Override
+        void accumulate(T item) {
+            sketch.add(item);
+        }
+
+        @Override
+        Map<T, Long> result() {
+            return sketch.top(limit);
+        }
+    }
+
+    private static final class DistinctCount<T> extends Accumulator<T, Long> {
+
+        private final HyperLogLog sketch;
+
+        DistinctCount(int precision) {
+            this.sketch = new HyperLogLog(precision);
+        }
+
+        @Override
+        void accumulate(T item) {
+            sketch.add(item);
+        }
+
+        @Override
+        Long result() {
+            return sketch.estimate();
+        }
+    }
+
+    private static final class DistinctCountSketch<T> extends Accumulator<T, HyperLogLog> {
+
+        private final HyperLogLog sketch;
+
+        DistinctCountSketch(int precision) {
+            this.sketch = new HyperLogLog(precision);
+        }
+
+        @Override
+        void accumulate(T item) {
+            sketch.add(item);
+        }
+
+        @Override
+        HyperLogLog result() {
+            // The emitted sketches must not be modified by the next items
+            return sketch.copy();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.smallrye.mutiny.math;
+
+import java.util.function.Function;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Quantile operator emitting an estimation of a quantile of the items emitted by the upstream.
+ * <p>
+ * Everytime it gets an item from upstream, it emits the estimated <em>quantile</em> of the already received items.
+ * Unlike {@link MedianOperator}, the items are not retained: they are summarized in a {@link QuantileSketch}, so the
+ * memory used by the operator stays bounded.
+ * If the stream emits the completion event without having emitting any item before, the completion event is emitted.
+ * If the upstream emits a failure, then, the failure is propagated.
+ *
+ * @param <T> type of the incoming items, must be a {@link Number}.
+ */
+public class QuantileOperator<T extends Number> implements Function<Multi<T>, Multi<Double>> {
+
+    private final double quantile;
+    private final int k;
+
+    /**
+     * Creates a new quantile operator.
+     *
+     * @param quantile the quantile, between 0 and 1, 0.5 for the median
+     * @param k the accuracy of the sketch, see {@link QuantileSketch#QuantileSketch(int)}
+     */
+    public QuantileOperator(double quantile, int k) {
+        this.quantile = QuantileSketch.validateQuantile(quantile);
+        this.k = QuantileSketch.validateK(k);
+    }
+
+    @Override
+    public Multi<Double> apply(Multi<T> multi) {
+        return Multi.createFrom().deferred(() -> {
+            QuantileSketch sketch = new QuantileSketch(k);
+            return multi
+                    .onItem().transform(x -> sketch.add(x.doubleValue()).quantile(quantile));
+        });
+    }
+}
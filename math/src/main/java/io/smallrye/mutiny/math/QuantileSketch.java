@@ -0,0 +1,364 @@
+package io.smallrye.mutiny.math;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A mergeable sketch estimating the quantiles of a stream of {@code double} values, using a bounded amount of memory.
+ * <p>
+ * The sketch is a KLL sketch (Karnin, Lang and Liberty, <em>Optimal Quantile Approximation in Streams</em>): the
+ * values are kept in a hierarchy of compactors. When a compactor is full, its values are sorted, and one value out
+ * of two (randomly the odd or even ones) is promoted to the next compactor with a doubled weight, the other ones are
+ * discarded. The capacities of the compactors decrease geometrically from the top one, so the number of retained
+ * values only grows logarithmically with the number of values.
+ * <p>
+ * The accuracy is controlled by {@code k}, the capacity of the top compactor: the error on the rank of an estimated
+ * quantile is roughly proportional to {@code 1 / k} (about 1.5% of the count for the default {@code k} of
+ * {@value #DEFAULT_K}), while the number of retained values is roughly {@code 3 * k}.
+ * <p>
+ * Two sketches can be merged, for example to combine the sketches computed on different streams or partitions.
+ * The minimum and maximum values are tracked exactly.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class QuantileSketch {
+
+    /**
+     * The default value of {@code k}.
+     */
+    public static final int DEFAULT_K = 200;
+
+    /**
+     * The smallest value of {@code k}.
+     */
+    public static final int MIN_K = 8;
+
+    private static final double CAPACITY_DECAY = 2.0d / 3.0d;
+    private static final int MIN_CAPACITY = 2;
+
+    private final int k;
+
+    // The compactors, from the one holding the values of weight 1
+    private double[][] levels = new double[4][];
+    private int[] sizes = new int[4];
+    private int numberOfLevels;
+    private int retained;
+    private int maxRetained;
+
+    private long count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+
+    // The retained values sorted with their weights, rebuilt lazily after a compaction or a merge
+    private double[] sortedValues = new double[0];
+    private long[] sortedWeights = new long[0];
+    private int sortedSize;
+    private boolean sorted = true;
+
+    /**
+     * Creates a new sketch with the default {@code k}.
+     */
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * Creates a new sketch.
+     *
+     * @param k the accuracy parameter, must be at least {@value #MIN_K}, larger values are more accurate but retain
+     *        more values
+     */
+    public QuantileSketch(int k) {
+        this.k = validateK(k);
+        grow();
+    }
+
+    static int validateK(int k) {
+        if (k < MIN_K) {
+            throw new IllegalArgumentException("`k` must be greater than or equal to " + MIN_K + ", got " + k);
+        }
+        return k;
+    }
+
+    static double validateQuantile(double quantile) {
+        if (!(quantile >= 0.0d && quantile <= 1.0d)) {
+            throw new IllegalArgumentException("`quantile` must be between 0 and 1, got " + quantile);
+        }
+        return quantile;
+    }
+
+    private QuantileSketch(QuantileSketch other) {
+        this.k = other.k;
+        this.levels = new double[other.levels.length][];
+        for (int h = 0; h < other.numberOfLevels; h++) {
+            this.levels[h] = Arrays.copyOf(other.levels[h], java.lang.Math.max(other.sizes[h], 1));
+        }
+        this.sizes = other.sizes.clone();
+        this.numberOfLevels = other.numberOfLevels;
+        this.retained = other.retained;
+        this.maxRetained = other.maxRetained;
+        this.count = other.count;
+        this.min = other.min;
+        this.max = other.max;
+        this.sorted = false;
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value the value, must not be {@code NaN}
+     * @return this sketch
+     */
+    public QuantileSketch add(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("`value` must not be `NaN`");
+        }
+        if (count == 0L || value < min) {
+            min = value;
+        }
+        if (count == 0L || value > max) {
+            max = value;
+        }
+        count++;
+        append(0, value);
+        if (retained >= maxRetained) {
+            compress();
+        } else if (sorted) {
+            insertIntoSortedView(value);
+        }
+        return this;
+    }
+
+    /**
+     * Merges the values of the given sketch into this sketch. The given sketch is not modified.
+     *
+     * @param other the other sketch, must not be {@code null}
+     * @return this sketch
+     */
+    public QuantileSketch merge(QuantileSketch other) {
+        nonNull(other, "other");
+        if (other.count == 0L) {
+            return this;
+        }
+        if (other == this) {
+            return merge(copy());
+        }
+        while (numberOfLevels < other.numberOfLevels) {
+            grow();
+        }
+        for (int h = 0; h < other.numberOfLevels; h++) {
+            double[] values = other.levels[h];
+            for (int i = 0; i < other.sizes[h]; i++) {
+                append(h, values[i]);
+            }
+        }
+        if (count == 0L || other.min < min) {
+            min = other.min;
+        }
+        if (count == 0L || other.max > max) {
+            max = other.max;
+        }
+        count += other.count;
+        while (retained >= maxRetained) {
+            compress();
+        }
+        sorted = false;
+        return this;
+    }
+
+    /**
+     * Estimates a quantile.
+     *
+     * @param quantile the quantile, between 0 (the minimum) and 1 (the maximum), 0.5 for the median
+     * @return the estimated value, {@code NaN} if the sketch is empty
+     */
+    public double quantile(double quantile) {
+        validateQuantile(quantile);
+        if (count == 0L) {
+            return Double.NaN;
+        }
+        if (quantile == 0.0d) {
+            return min;
+        }
+        if (quantile == 1.0d) {
+            return max;
+        }
+        if (!sorted) {
+            buildSortedView();
+        }
+        // The total weight of the retained values is the count
+        double target = quantile * count;
+        long cumulated = 0L;
+        for (int i = 0; i < sortedSize; i++) {
+            cumulated += sortedWeights[i];
+            if (cumulated >= target) {
+                return sortedValues[i];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * @return the estimated median, {@code NaN} if the sketch is empty
+     */
+    public double median() {
+        return quantile(0.5d);
+    }
+
+    /**
+     * @return the number of values added to this sketch, including the merged ones
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the smallest value, {@code NaN} if the sketch is empty
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * @return the largest value, {@code NaN} if the sketch is empty
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * @return the accuracy parameter of this sketch
+     */
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * @return a copy of this sketch, that can be modified independently
+     */
+    public QuantileSketch copy() {
+        return new QuantileSketch(this);
+    }
+
+    int getRetained() {
+        return retained;
+    }
+
+    private int capacity(int level) {
+        int depth = numberOfLevels - level - 1;
+        int capacity = (int) java.lang.Math.ceil(k * java.lang.Math.pow(CAPACITY_DECAY, depth));
+        return java.lang.Math.max(MIN_CAPACITY, capacity);
+    }
+
+    private void grow() {
+        if (numberOfLevels == levels.length) {
+            levels = Arrays.copyOf(levels, numberOfLevels * 2);
+            sizes = Arrays.copyOf(sizes, numberOfLevels * 2);
+        }
+        levels[numberOfLevels] = new double[numberOfLevels == 0 ? java.lang.Math.min(k, 32) : MIN_CAPACITY * 4];
+        numberOfLevels++;
+        int total = 0;
+        for (int h = 0; h < numberOfLevels; h++) {
+            total += capacity(h);
+        }
+        maxRetained = total;
+    }
+
+    private void append(int level, double value) {
+        double[] values = levels[level];
+        int size = sizes[level];
+        if (size == values.length) {
+            values = levels[level] = Arrays.copyOf(values, size * 2);
+        }
+        values[size] = value;
+        sizes[level] = size + 1;
+        retained++;
+    }
+
+    private void compress() {
+        for (int h = 0; h < numberOfLevels; h++) {
+            if (sizes[h] >= capacity(h)) {
+                if (h + 1 >= numberOfLevels) {
+                    grow();
+                }
+                compact(h);
+                if (retained < maxRetained) {
+                    break;
+                }
+            }
+        }
+        sorted = false;
+    }
+
+    /**
+     * Promotes one value out of two of the given level to the next level. With an odd number of values, the smallest
+     * value stays in the level.
+     */
+    private void compact(int level) {
+        double[] values = levels[level];
+        int size = sizes[level];
+        Arrays.sort(values, 0, size);
+        int start = size & 1;
+        int offset = ThreadLocalRandom.current().nextBoolean() ? 1 : 0;
+        for (int i = start + offset; i < size; i += 2) {
+            append(level + 1, values[i]);
+        }
+        retained -= size - start;
+        sizes[level] = start;
+    }
+
+    private void buildSortedView() {
+        if (sortedValues.length < retained) {
+            sortedValues = new double[maxRetained];
+            sortedWeights = new long[maxRetained];
+        }
+        int[] positions = new int[numberOfLevels];
+        for (int h = 0; h < numberOfLevels; h++) {
+            Arrays.sort(levels[h], 0, sizes[h]);
+        }
+        // Merges the sorted levels
+        for (int i = 0; i < retained; i++) {
+            int selected = -1;
+            for (int h = 0; h < numberOfLevels; h++) {
+                if (positions[h] < sizes[h]
+                        && (selected == -1 || levels[h][positions[h]] < levels[selected][positions[selected]])) {
+                    selected = h;
+                }
+            }
+            sortedValues[i] = levels[selected][positions[selected]++];
+            sortedWeights[i] = 1L << selected;
+        }
+        sortedSize = retained;
+        sorted = true;
+    }
+
+    private void insertIntoSortedView(double value) {
+        if (sortedSize == sortedValues.length) {
+            int capacity = java.lang.Math.max(maxRetained, sortedSize + 1);
+            sortedValues = Arrays.copyOf(sortedValues, capacity);
+            sortedWeights = Arrays.copyOf(sortedWeights, capacity);
+        }
+        int index = Arrays.binarySearch(sortedValues, 0, sortedSize, value);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        System.arraycopy(sortedValues, index, sortedValues, index + 1, sortedSize - index);
+        System.arraycopy(sortedWeights, index, sortedWeights, index + 1, sortedSize - index);
+        sortedValues[index] = value;
+        sortedWeights[index] = 1L;
+        sortedSize++;
+    }
+
+    @Override
+    public String toString() {
+        return "QuantileSketch{" +
+                "count=" + count +
+                ", min=" + min +
+                ", max=" + max +
+                ", median=" + median() +
+                ", k=" + k +
+                '}';
+    }
+}
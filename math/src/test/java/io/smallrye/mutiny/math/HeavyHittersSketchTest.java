@@ -0,0 +1,105 @@
+package io.smallrye.mutiny.math;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+
+public class HeavyHittersSketchTest {
+
+    @Test
+    public void testValidation() {
+        assertThatThrownBy(() -> new HeavyHittersSketch<String>(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("capacity");
+        assertThatThrownBy(() -> new HeavyHittersSketch<String>(10).add(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("item");
+        assertThatThrownBy(() -> new HeavyHittersSketch<String>(10).top(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("limit");
+        assertThatThrownBy(() -> Math.heavyHitters(0, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("count");
+        assertThatThrownBy(() -> Math.heavyHitters(3, 10, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("every");
+    }
+
+    @Test
+    public void testExactWithinCapacity() {
+        HeavyHittersSketch<String> sketch = new HeavyHittersSketch<>(10);
+        for (String item : "a b c a b a d a c a".split(" ")) {
+            sketch.add(item);
+        }
+        assertThat(sketch.top(1)).containsExactly(entry("a", 5L));
+        // Ties are in no particular order
+        assertThat(sketch.top(3)).containsOnly(entry("a", 5L), entry("b", 2L), entry("c", 2L));
+        assertThat(sketch.top(10)).hasSize(4);
+        assertThat(sketch.estimateCount("d")).isEqualTo(1L);
+        assertThat(sketch.estimateCount("e")).isZero();
+        assertThat(sketch.getCount()).isEqualTo(10L);
+    }
+
+    @Test
+    public void testHeavyHittersAreFoundInLongTail() {
+        HeavyHittersSketch<Integer> sketch = new HeavyHittersSketch<>(100);
+        Random random = new Random(1);
+        int n = 1_000_000;
+        for (int i = 0; i < n; i++) {
+            int item;
+            double p = random.nextDouble();
+            if (p < 0.1) {
+                item = -1;
+            } else if (p < 0.15) {
+                item = -2;
+            } else if (p < 0.18) {
+                item = -3;
+            } else {
+                // Long tail of mostly unique items
+                item = random.nextInt(500_000);
+            }
+            sketch.add(item);
+        }
+        Map<Integer, Long> top = sketch.top(3);
+        assertThat(top.keySet()).containsExactly(-1, -2, -3);
+        // The counts are upper bounds, overestimated by at most n / capacity
+        assertThat(top.get(-1)).isBetween(90_000L, 110_000L + n / 100);
+        assertThat(sketch.estimateCount(-2)).isBetween(45_000L, 55_000L + n / 100);
+        // An untracked item is bounded by the smallest count
+        assertThat(sketch.estimateCount(1_000_000)).isLessThanOrEqualTo(n / 100);
+    }
+
+    @Test
+    public void testHeavyHittersOperator() {
+        AssertSubscriber<Map<String, Long>> subscriber = Multi.createFrom().range(0, 1000)
+                .map(i -> i % 2 == 0 ? "even" : (i % 3 == 0 ? "three" : "other-" + i))
+                .plug(Math.heavyHitters(2, 400))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted();
+
+        List<Map<String, Long>> maps = subscriber.getItems();
+        assertThat(maps).hasSize(3);
+        assertThat(maps.get(0)).hasSize(2).containsEntry("even", 200L);
+        assertThat(maps.get(2).keySet()).containsExactly("even", "three");
+        assertThat(maps.get(2)).containsEntry("even", 500L);
+        assertThat(maps.get(2).get("three")).isGreaterThanOrEqualTo(167L);
+    }
+
+    @Test
+    public void testHeavyHittersOperatorWithEmpty() {
+        Multi.createFrom().<String> empty()
+                .plug(Math.heavyHitters(2, Long.MAX_VALUE))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(Map.of());
+    }
+}
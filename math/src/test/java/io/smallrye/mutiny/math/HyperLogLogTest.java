@@ -0,0 +1,132 @@
+package io.smallrye.mutiny.math;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+
+public class HyperLogLogTest {
+
+    @Test
+    public void testValidation() {
+        assertThatThrownBy(() -> new HyperLogLog(3))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("precision");
+        assertThatThrownBy(() -> new HyperLogLog(19))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("precision");
+        assertThatThrownBy(() -> new HyperLogLog().add(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("item");
+        assertThatThrownBy(() -> new HyperLogLog(10).merge(new HyperLogLog(12)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("precision");
+        assertThatThrownBy(() -> Math.distinctCount(2, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("precision");
+    }
+
+    @Test
+    public void testSmallCardinalities() {
+        HyperLogLog sketch = new HyperLogLog();
+        assertThat(sketch.estimate()).isZero();
+        for (int i = 0; i < 100; i++) {
+            sketch.add("item-" + (i % 10));
+        }
+        assertThat(sketch.estimate()).isEqualTo(10L);
+        assertThat(sketch.getCount()).isEqualTo(100L);
+    }
+
+    @Test
+    public void testLargeCardinalities() {
+        for (long distinct : new long[] { 1_000L, 50_000L, 2_000_000L }) {
+            HyperLogLog sketch = new HyperLogLog();
+            for (long i = 0; i < distinct; i++) {
+                sketch.add(i * 31L);
+                // Duplicates
+                sketch.add(i * 31L);
+            }
+            assertThat((double) sketch.estimate()).isCloseTo(distinct, within(distinct * 0.03));
+        }
+    }
+
+    @Test
+    public void testItemsWithEqualHashCodes() {
+        // "Aa" and "BB" have the same hash code, so do the 4096 strings concatenating 12 of them
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 4096; i++) {
+            StringBuilder builder = new StringBuilder();
+            for (int bit = 0; bit < 12; bit++) {
+                builder.append((i & (1 << bit)) == 0 ? "Aa" : "BB");
+            }
+            sketch.add(builder.toString());
+        }
+        assertThat((double) sketch.estimate()).isCloseTo(4096, within(4096 * 0.03));
+    }
+
+    @Test
+    public void testNumbersAndUuids() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 100_000; i++) {
+            sketch.add(i);
+            sketch.add((double) i + 0.5d);
+            sketch.add(new UUID(i, -i));
+        }
+        assertThat((double) sketch.estimate()).isCloseTo(300_000, within(300_000 * 0.03));
+    }
+
+    @Test
+    public void testMerge() {
+        HyperLogLog first = new HyperLogLog(12);
+        HyperLogLog second = new HyperLogLog(12);
+        for (long i = 0; i < 100_000; i++) {
+            first.add(i);
+            // Overlapping half
+            second.add(i + 50_000);
+        }
+        HyperLogLog merged = first.copy().merge(second);
+        assertThat((double) merged.estimate()).isCloseTo(150_000, within(150_000 * 0.06));
+        assertThat(merged.getCount()).isEqualTo(200_000L);
+        assertThat(first.getCount()).isEqualTo(100_000L);
+        assertThat(merged).isNotEqualTo(first);
+        assertThat(first.copy()).isEqualTo(first);
+    }
+
+    @Test
+    public void testDistinctCountOperator() {
+        List<Long> counts = Multi.createFrom().range(0, 10_000)
+                .map(i -> "user-" + (i % 1_000))
+                .plug(Math.distinctCount(2_500))
+                .collect().asList()
+                .await().indefinitely();
+        assertThat(counts).hasSize(4);
+        assertThat((double) counts.get(3)).isCloseTo(1_000, within(30.0));
+
+        Multi.createFrom().<String> empty()
+                .plug(Math.distinctCount(10))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(0L);
+    }
+
+    @Test
+    public void testDistinctCountSketches() {
+        HyperLogLog merged = Multi.createFrom().range(0, 3)
+                .onItem().transformToUniAndMerge(partition -> Multi.createFrom().range(0, 20_000)
+                        .map(i -> "user-" + (partition * 10_000 + i))
+                        .plug(Math.distinctCountSketch(HyperLogLog.DEFAULT_PRECISION, Long.MAX_VALUE))
+                        .toUni())
+                .collect().with(java.util.stream.Collector.of(HyperLogLog::new, HyperLogLog::merge,
+                        HyperLogLog::merge))
+                .await().indefinitely();
+        // Partitions overlap, there are 40 000 distinct users
+        assertThat((double) merged.estimate()).isCloseTo(40_000, within(40_000 * 0.03));
+    }
+}
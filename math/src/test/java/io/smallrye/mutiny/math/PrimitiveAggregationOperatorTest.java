@@ -0,0 +1,231 @@
+package io.smallrye.mutiny.math;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+public class PrimitiveAggregationOperatorTest {
+
+    @Test
+    public void testValidation() {
+        assertThatThrownBy(() -> Math.sumAsLong(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("mapper");
+        assertThatThrownBy(() -> Math.sumAsDouble(Integer::doubleValue, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("every");
+        assertThatThrownBy(() -> Math.statisticsAsDouble(null, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("mapper");
+    }
+
+    @Test
+    public void testSumAsLong() {
+        AssertSubscriber<Long> subscriber = Multi.createFrom().items("a", "bb", "ccc", "dddd")
+                .plug(Math.sumAsLong(String::length))
+                .subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        subscriber.assertItems(1L, 3L)
+                .request(10)
+                .assertCompleted()
+                .assertItems(1L, 3L, 6L, 10L);
+    }
+
+    @Test
+    public void testSumAsLongWithEmpty() {
+        Multi.createFrom().<Integer> empty()
+                .plug(Math.sumAsLong(Integer::longValue))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(0L);
+
+        Multi.createFrom().<Integer> empty()
+                .plug(Math.sumAsLong(Integer::longValue, 10))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(0L);
+    }
+
+    @Test
+    public void testSumAsLongOverflow() {
+        Multi.createFrom().items(Long.MAX_VALUE, 1L)
+                .plug(Math.sumAsLong(Long::longValue))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(ArithmeticException.class)
+                .assertItems(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void testSumAsLongEveryNItems() {
+        Multi.createFrom().range(1, 11)
+                .plug(Math.sumAsLong(Integer::longValue, 3))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(6L, 21L, 45L, 55L);
+
+        // No duplicate when the last item has just been emitted
+        Multi.createFrom().range(1, 10)
+                .plug(Math.sumAsLong(Integer::longValue, 3))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(6L, 21L, 45L);
+    }
+
+    @Test
+    public void testOnlyOnCompletion() {
+        List<Long> sums = Multi.createFrom().range(0, 100_000)
+                .plug(Math.sumAsLong(Integer::longValue, Long.MAX_VALUE))
+                .collect().asList()
+                .await().indefinitely();
+        assertThat(sums).containsExactly(LongStream.range(0, 100_000).sum());
+    }
+
+    @Test
+    public void testEveryNItemsRespectsBackPressure() {
+        AssertSubscriber<Long> subscriber = Multi.createFrom().range(1, 101)
+                .plug(Math.sumAsLong(Integer::longValue, 10))
+                .subscribe().withSubscriber(AssertSubscriber.create(1));
+
+        subscriber.assertItems(55L)
+                .assertNotTerminated()
+                .request(1)
+                .assertItems(55L, 210L)
+                .request(Long.MAX_VALUE)
+                .assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(10).endsWith(5050L);
+    }
+
+    @Test
+    public void testSumAsDouble() {
+        AssertSubscriber<Double> subscriber = Multi.createFrom().items(1.1, 2.0, 3.5, 4.0, 5.0, 6.0)
+                .runSubscriptionOn(Infrastructure.getDefaultExecutor())
+                .plug(Math.sumAsDouble(Double::doubleValue))
+                .subscribe().withSubscriber(AssertSubscriber.create(3));
+
+        subscriber.awaitItems(3)
+                .assertItems(1.1, 3.1, 6.6)
+                .request(10)
+                .awaitCompletion()
+                .assertItems(1.1, 3.1, 6.6, 10.6, 15.6, 21.6);
+    }
+
+    @Test
+    public void testAverageAsDouble() {
+        Multi.createFrom().items(1, 2, 3, 4, 5, 6)
+                .plug(Math.averageAsDouble(Integer::doubleValue))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(1.0, 1.5, 2.0, 2.5, 3.0, 3.5);
+
+        Multi.createFrom().items(1, 2, 3, 4, 5, 6)
+                .plug(Math.averageAsDouble(Integer::doubleValue, 4))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(2.5, 3.5);
+
+        Multi.createFrom().<Integer> empty()
+                .plug(Math.averageAsDouble(Integer::doubleValue))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(0.0);
+    }
+
+    @Test
+    public void testFailuresArePropagated() {
+        Multi.createBy().concatenating().streams(
+                Multi.createFrom().items(1, 2, 3),
+                Multi.createFrom().<Integer> failure(new Exception("boom")))
+                .plug(Math.sumAsLong(Integer::longValue, 2))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(Exception.class, "boom")
+                .assertItems(3L);
+
+        Multi.createFrom().items(1, 2, 3)
+                .plug(Math.sumAsDouble(i -> {
+                    if (i == 2) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return i;
+                }))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(IllegalStateException.class, "boom")
+                .assertItems(1.0);
+    }
+
+    @Test
+    public void testEachSubscriptionHasItsOwnState() {
+        Multi<Long> multi = Multi.createFrom().items(1, 2, 3)
+                .plug(Math.sumAsLong(Integer::longValue));
+        multi.subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(1L, 3L, 6L);
+        multi.subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(1L, 3L, 6L);
+    }
+
+    @Test
+    public void testStatisticsAsLongMatchesBoxedStatistics() {
+        List<Long> items = LongStream.of(5, 1, 9, 3, 3, 12, 7, 0, 4).boxed().collect(Collectors.toList());
+        Statistic<Long> expected = Multi.createFrom().iterable(items)
+                .plug(Math.statistics())
+                .collect().last()
+                .await().indefinitely();
+        Statistic<Long> actual = Multi.createFrom().iterable(items)
+                .plug(Math.statisticsAsLong(Long::longValue, Long.MAX_VALUE))
+                .collect().last()
+                .await().indefinitely();
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.getCount()).isEqualTo(9L);
+        assertThat(actual.getMin()).isEqualTo(0L);
+        assertThat(actual.getMax()).isEqualTo(12L);
+        assertThat(actual.getAverage()).isCloseTo(44.0 / 9, within(1e-9));
+    }
+
+    @Test
+    public void testStatisticsAsDouble() {
+        AssertSubscriber<Statistic<Double>> subscriber = Multi.createFrom().items(2.0, -1.5, 4.0, 0.5)
+                .plug(Math.statisticsAsDouble(Double::doubleValue, 2))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted();
+
+        List<Statistic<Double>> statistics = subscriber.getItems();
+        assertThat(statistics).hasSize(2);
+        assertThat(statistics.get(0).getCount()).isEqualTo(2L);
+        assertThat(statistics.get(0).getMin()).isEqualTo(-1.5);
+        assertThat(statistics.get(0).getMax()).isEqualTo(2.0);
+        assertThat(statistics.get(1).getCount()).isEqualTo(4L);
+        assertThat(statistics.get(1).getMin()).isEqualTo(-1.5);
+        assertThat(statistics.get(1).getMax()).isEqualTo(4.0);
+        assertThat(statistics.get(1).getAverage()).isEqualTo(1.25);
+
+        Statistic<Double> expected = Multi.createFrom().items(2.0, -1.5, 4.0, 0.5)
+                .plug(Math.statistics())
+                .collect().last()
+                .await().indefinitely();
+        assertThat(statistics.get(1)).isEqualTo(expected);
+    }
+
+    @Test
+    public void testStatisticsWithEmpty() {
+        Statistic<Long> statistic = Multi.createFrom().<Integer> empty()
+                .plug(Math.statisticsAsLong(Integer::longValue))
+                .collect().last()
+                .await().indefinitely();
+        assertThat(statistic.getCount()).isEqualTo(0L);
+        assertThat(statistic.getAverage()).isEqualTo(0.0);
+        assertThat(statistic.getMin()).isNull();
+        assertThat(statistic.getMax()).isNull();
+    }
+}
@@ -0,0 +1,121 @@
+package io.smallrye.mutiny.math;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+public class QuantileOperatorTest {
+
+    @Test
+    public void testValidation() {
+        assertThatThrownBy(() -> Math.approximateQuantile(-0.1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("quantile");
+        assertThatThrownBy(() -> Math.approximateQuantile(0.5, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("k");
+        assertThatThrownBy(() -> Math.quantileSketch(null, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("mapper");
+        assertThatThrownBy(() -> Math.quantileSketch(Integer::doubleValue, 2, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("k");
+    }
+
+    @Test
+    public void testWithEmpty() {
+        AssertSubscriber<Double> subscriber = Multi.createFrom().<Integer> empty()
+                .plug(Math.approximateMedian())
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber
+                .awaitCompletion()
+                .assertHasNotReceivedAnyItem();
+    }
+
+    @Test
+    public void testWithNever() {
+        AssertSubscriber<Double> subscriber = Multi.createFrom().<Long> nothing()
+                .plug(Math.approximateMedian())
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.cancel();
+        subscriber.assertNotTerminated();
+        Assertions.assertEquals(0, subscriber.getItems().size());
+    }
+
+    @Test
+    public void testWithFewItems() {
+        AssertSubscriber<Double> subscriber = Multi.createFrom().items(5, 1, 9, 3, 7)
+                .runSubscriptionOn(Infrastructure.getDefaultExecutor())
+                .plug(Math.approximateMedian())
+                .subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        subscriber.awaitItems(2)
+                .request(10)
+                .awaitCompletion()
+                .assertItems(5.0, 1.0, 5.0, 3.0, 5.0);
+    }
+
+    @Test
+    public void testWithItemsAndFailure() {
+        Multi.createBy().concatenating().streams(
+                Multi.createFrom().items(1, 2, 3),
+                Multi.createFrom().<Integer> failure(new Exception("boom")))
+                .plug(Math.approximateQuantile(0.9))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(Exception.class, "boom")
+                .assertItems(1.0, 2.0, 3.0);
+    }
+
+    @Test
+    public void testLargeStream() {
+        double p99 = Multi.createFrom().range(0, 1_000_000)
+                .plug(Math.approximateQuantile(0.99))
+                .collect().last()
+                .await().indefinitely();
+        assertThat(p99).isCloseTo(990_000.0, within(20_000.0));
+    }
+
+    @Test
+    public void testSketches() {
+        AssertSubscriber<QuantileSketch> subscriber = Multi.createFrom().range(0, 2500)
+                .plug(Math.quantileSketch(Integer::doubleValue, 1000))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted();
+
+        List<QuantileSketch> sketches = subscriber.getItems();
+        assertThat(sketches).hasSize(3);
+        assertThat(sketches.get(0).getCount()).isEqualTo(1000L);
+        assertThat(sketches.get(0).getMax()).isEqualTo(999.0);
+        assertThat(sketches.get(1).getCount()).isEqualTo(2000L);
+        assertThat(sketches.get(2).getCount()).isEqualTo(2500L);
+        assertThat(sketches.get(2).median()).isCloseTo(1250.0, within(60.0));
+    }
+
+    @Test
+    public void testMergingSketchesOfSeveralStreams() {
+        QuantileSketch merged = Multi.createFrom().range(0, 4)
+                .onItem().transformToUniAndMerge(partition -> Multi.createFrom().range(0, 100_000)
+                        .map(i -> partition * 100_000 + i)
+                        .plug(Math.quantileSketch(Integer::doubleValue, 256, Long.MAX_VALUE))
+                        .toUni())
+                .collect().with(java.util.stream.Collector.of(QuantileSketch::new, QuantileSketch::merge,
+                        QuantileSketch::merge))
+                .await().indefinitely();
+
+        assertThat(merged.getCount()).isEqualTo(400_000L);
+        assertThat(merged.getMin()).isEqualTo(0.0);
+        assertThat(merged.getMax()).isEqualTo(399_999.0);
+        assertThat(merged.median()).isCloseTo(200_000.0, within(8_000.0));
+    }
+}
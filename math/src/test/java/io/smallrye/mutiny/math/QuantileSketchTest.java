@@ -0,0 +1,190 @@
+package io.smallrye.mutiny.math;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class QuantileSketchTest {
+
+    @Test
+    public void testValidation() {
+        assertThatThrownBy(() -> new QuantileSketch(4))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("k");
+        assertThatThrownBy(() -> new QuantileSketch().add(Double.NaN))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("value");
+        assertThatThrownBy(() -> new QuantileSketch().quantile(1.5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("quantile");
+        assertThatThrownBy(() -> new QuantileSketch().quantile(Double.NaN))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("quantile");
+        assertThatThrownBy(() -> new QuantileSketch().merge(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("other");
+    }
+
+    @Test
+    public void testEmpty() {
+        QuantileSketch sketch = new QuantileSketch();
+        assertThat(sketch.getCount()).isZero();
+        assertThat(sketch.median()).isNaN();
+        assertThat(sketch.getMin()).isNaN();
+        assertThat(sketch.getMax()).isNaN();
+    }
+
+    @Test
+    public void testExactWhileSmall() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 1; i <= 9; i++) {
+            sketch.add(10 - i);
+        }
+        assertThat(sketch.getCount()).isEqualTo(9L);
+        assertThat(sketch.median()).isEqualTo(5.0);
+        assertThat(sketch.quantile(0.0)).isEqualTo(1.0);
+        assertThat(sketch.quantile(0.25)).isEqualTo(3.0);
+        assertThat(sketch.quantile(1.0)).isEqualTo(9.0);
+        assertThat(sketch.getMin()).isEqualTo(1.0);
+        assertThat(sketch.getMax()).isEqualTo(9.0);
+    }
+
+    @Test
+    public void testAccuracyAndBoundedMemory() {
+        int n = 1_000_000;
+        double[] values = new double[n];
+        Random random = new Random(42);
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextGaussian() * 100.0;
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        assertThat(sketch.getCount()).isEqualTo(n);
+        assertThat(sketch.getMin()).isEqualTo(values[0]);
+        assertThat(sketch.getMax()).isEqualTo(values[n - 1]);
+        for (double q : new double[] { 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99 }) {
+            assertRankError(values, q, sketch.quantile(q), 0.02);
+        }
+        assertThat(sketch.getRetained()).isLessThan(4 * QuantileSketch.DEFAULT_K);
+    }
+
+    @Test
+    public void testAccuracyDependsOnK() {
+        int n = 200_000;
+        double[] values = new double[n];
+        QuantileSketch small = new QuantileSketch(QuantileSketch.MIN_K);
+        QuantileSketch large = new QuantileSketch(1000);
+        for (int i = 0; i < n; i++) {
+            // Increasing values, the worst case for compactors
+            values[i] = i;
+            small.add(i);
+            large.add(i);
+        }
+        assertThat(small.getRetained()).isLessThan(large.getRetained());
+        assertRankError(values, 0.5, large.median(), 0.005);
+        assertRankError(values, 0.5, small.median(), 0.25);
+    }
+
+    @Test
+    public void testMerge() {
+        int n = 300_000;
+        double[] values = new double[2 * n];
+        Random random = new Random(7);
+        QuantileSketch first = new QuantileSketch();
+        QuantileSketch second = new QuantileSketch();
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextDouble();
+            first.add(values[i]);
+            // Different distribution
+            values[n + i] = 1.0 + random.nextDouble() * 10;
+            second.add(values[n + i]);
+        }
+        Arrays.sort(values);
+
+        QuantileSketch merged = first.copy().merge(second);
+        assertThat(merged.getCount()).isEqualTo(2L * n);
+        assertThat(merged.getMin()).isEqualTo(values[0]);
+        assertThat(merged.getMax()).isEqualTo(values[2 * n - 1]);
+        for (double q : new double[] { 0.1, 0.25, 0.5, 0.75, 0.9 }) {
+            assertRankError(values, q, merged.quantile(q), 0.02);
+        }
+        assertThat(merged.getRetained()).isLessThan(4 * QuantileSketch.DEFAULT_K);
+
+        // The merged sketches are not modified
+        assertThat(first.getCount()).isEqualTo(n);
+        assertThat(second.getCount()).isEqualTo(n);
+        assertThat(second.getMin()).isGreaterThanOrEqualTo(1.0);
+    }
+
+    @Test
+    public void testMergeWithEmptyAndItself() {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.merge(new QuantileSketch());
+        assertThat(sketch.getCount()).isZero();
+
+        new QuantileSketch().add(3).add(4).merge(sketch);
+        sketch.merge(new QuantileSketch().add(3).add(4));
+        assertThat(sketch.getCount()).isEqualTo(2L);
+        assertThat(sketch.getMin()).isEqualTo(3.0);
+
+        sketch.merge(sketch);
+        assertThat(sketch.getCount()).isEqualTo(4L);
+        assertThat(sketch.getMax()).isEqualTo(4.0);
+    }
+
+    @Test
+    public void testCopyIsIndependent() {
+        QuantileSketch sketch = new QuantileSketch(QuantileSketch.MIN_K);
+        for (int i = 0; i < 1000; i++) {
+            sketch.add(i);
+        }
+        QuantileSketch copy = sketch.copy();
+        double median = sketch.median();
+        for (int i = 0; i < 1000; i++) {
+            copy.add(10_000 + i);
+        }
+        assertThat(sketch.getCount()).isEqualTo(1000L);
+        assertThat(sketch.median()).isEqualTo(median);
+        assertThat(copy.getCount()).isEqualTo(2000L);
+        assertThat(copy.getMax()).isEqualTo(10_999.0);
+    }
+
+    private static void assertRankError(double[] sortedValues, double quantile, double estimate, double maxError) {
+        int low = lowerBound(sortedValues, estimate);
+        int high = upperBound(sortedValues, estimate);
+        double target = quantile * sortedValues.length;
+        // Distance between the target rank and the ranks of the estimated value
+        double error = target < low ? low - target : (target > high ? target - high : 0);
+        assertThat(error / sortedValues.length)
+                .as("rank error of quantile %s", quantile)
+                .isLessThanOrEqualTo(maxError);
+    }
+
+    private static int lowerBound(double[] values, double value) {
+        int index = Arrays.binarySearch(values, value);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index > 0 && values[index - 1] == value) {
+            index--;
+        }
+        return index;
+    }
+
+    private static int upperBound(double[] values, double value) {
+        int index = Arrays.binarySearch(values, value);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index < values.length - 1 && values[index + 1] == value) {
+            index++;
+        }
+        return index + 1;
+    }
+}